@@ -0,0 +1,138 @@
+package com.speakit.speakit.repository.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 채팅 메시지 저장 처리량 비교 (초당 메시지 수)
+// - perMessageInsert: 기존 방식, IDENTITY 키로 메시지마다 INSERT 한 번 (JPA save와 같은 DB 왕복 수)
+// - batchedInsert: ChatMessageBatchRepository, MESSAGES개를 다중 행 INSERT로 저장
+// H2(MySQL 모드) 메모리 DB에 statement 실행마다 rttMicros만큼 지연을 넣어 DB 서버와의 네트워크 왕복을 흉내냄
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChatMessagePersistenceBenchmark {
+
+    private static final int MESSAGES = 500;
+
+    @Param({"0", "500"})
+    public long rttMicros;
+
+    private JdbcTemplate jdbcTemplate;
+    private ChatMessageBatchRepository batchRepository;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        // JMH jar는 의존성을 합치면서 java.sql.Driver 서비스 파일이 하나만 남으므로 드라이버 클래스를 직접 지정
+        DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:chat-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        h2.setDriverClassName("org.h2.Driver");
+        jdbcTemplate = new JdbcTemplate(withRoundTrip(h2, TimeUnit.MICROSECONDS.toNanos(rttMicros)));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS chat_messages");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS chat_messages_identity");
+        jdbcTemplate.execute("CREATE TABLE chat_messages (id BIGINT PRIMARY KEY, chat_room_id BIGINT, "
+                + "sender_id BIGINT, message VARCHAR(2000), `timestamp` TIMESTAMP(6))");
+        jdbcTemplate.execute("CREATE TABLE chat_messages_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, chat_room_id BIGINT, "
+                + "sender_id BIGINT, message VARCHAR(2000), `timestamp` TIMESTAMP(6))");
+        batchRepository = new ChatMessageBatchRepository(jdbcTemplate);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE chat_messages");
+        jdbcTemplate.execute("TRUNCATE TABLE chat_messages_identity");
+    }
+
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long perMessageInsert() {
+        long lastId = 0;
+        for (ChatMessageDTO chatMessage : messages()) {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO chat_messages_identity (chat_room_id, sender_id, message, `timestamp`) VALUES (?, ?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS);
+                statement.setLong(1, chatMessage.getRoomId());
+                statement.setLong(2, chatMessage.getSenderId());
+                statement.setString(3, chatMessage.getMessage());
+                statement.setTimestamp(4, Timestamp.valueOf(chatMessage.getTimestamp()));
+                return statement;
+            }, keyHolder);
+            lastId = keyHolder.getKey().longValue();
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int batchedInsert() {
+        return batchRepository.insertAll(messages());
+    }
+
+
+    private List<ChatMessageDTO> messages() {
+        List<ChatMessageDTO> messages = new ArrayList<>(MESSAGES);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < MESSAGES; i++) {
+            long id = ++nextId;
+            messages.add(ChatMessageDTO.builder()
+                    .id(id).roomId(id % 20).senderId(id % 1000).senderName("user")
+                    .message("안녕하세요, 오늘 토익 스피킹 연습 같이 하실 분 있나요? #" + id)
+                    .timestamp(now)
+                    .build());
+        }
+        return messages;
+    }
+
+
+    // statement 실행(execute*) 직전에 rttNanos만큼 대기하는 DataSource
+    private static DataSource withRoundTrip(DataSource target, long rttNanos) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    return result instanceof Connection connection ? delayingConnection(connection, rttNanos) : result;
+                });
+    }
+
+    private static Connection delayingConnection(Connection target, long rttNanos) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof PreparedStatement statement) {
+                        return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                                (statementProxy, statementMethod, statementArgs) -> {
+                                    if (rttNanos > 0 && statementMethod.getName().startsWith("execute")) {
+                                        LockSupport.parkNanos(rttNanos);
+                                    }
+                                    return invoke(statement, statementMethod, statementArgs);
+                                });
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.speakit.speakit.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 JWT 처리 비용 비교: 기존 방식(파서 2회 생성 + 서명 2회 검증) vs 공유 파서 1회 파싱 vs 클레임 캐시
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "speakit-benchmark-secret-key-which-is-long-enough-for-hs512-signing";
+
+    private SecretKey secretKey;
+    private JwtParser sharedParser;
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        sharedParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        tokenProvider = new JwtTokenProvider(SECRET, Duration.ofHours(1), Duration.ofDays(7), 10_000);
+        token = tokenProvider.generateAccessToken("bench@speakit.com", 1L, "ROLE_USER");
+    }
+
+
+    // 기존 경로: validateToken()과 getUsernameFromJWT()가 각각 파서를 생성하고 서명을 검증
+    @Benchmark
+    public String legacyValidateThenExtract() {
+        Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+
+    // 캐시 미스 경로: 미리 생성한 파서로 한 번만 파싱
+    @Benchmark
+    public String sharedParserSinglePass() {
+        return sharedParser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+
+    // 새 경로: resolveClaims() (동일 토큰 반복 요청 시 캐시 적중)
+    @Benchmark
+    public String resolveClaimsCached() {
+        return tokenProvider.resolveClaims(token).map(JwtClaims::getUsername).orElse(null);
+    }
+}
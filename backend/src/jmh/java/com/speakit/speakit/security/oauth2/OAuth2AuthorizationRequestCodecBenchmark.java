@@ -0,0 +1,89 @@
+package com.speakit.speakit.security.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// OAuth2 인가 요청 쿠키 인코딩/디코딩 비용 비교: 기존 방식(Java 직렬화 + Base64) vs 서명된 JSON vs 서명된 JSON + Deflate
+// 쿠키 크기는 @Setup에서 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OAuth2AuthorizationRequestCodecBenchmark {
+
+    private static final String SECRET = "speakit-benchmark-secret-key-which-is-long-enough-for-hs512-signing";
+
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private OAuth2AuthorizationRequestCodec plainCodec;
+    private OAuth2AuthorizationRequestCodec compressedCodec;
+    private String legacyCookie;
+    private String plainCookie;
+    private String compressedCookie;
+
+    @Setup
+    public void setUp() {
+        authorizationRequest = googleAuthorizationRequest();
+        plainCodec = new OAuth2AuthorizationRequestCodec(new ObjectMapper(), SECRET, false, 4096, Duration.ofMinutes(3));
+        compressedCodec = new OAuth2AuthorizationRequestCodec(new ObjectMapper(), SECRET, true, 4096, Duration.ofMinutes(3));
+
+        legacyCookie = legacyEncode();
+        plainCookie = plainCodec.encode(authorizationRequest);
+        compressedCookie = compressedCodec.encode(authorizationRequest);
+        System.out.printf("%ncookie size: legacy=%d signedJson=%d signedJsonDeflate=%d serverSideId=22%n",
+                legacyCookie.length(), plainCookie.length(), compressedCookie.length());
+    }
+
+
+    @Benchmark
+    public String legacyEncode() {
+        return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(authorizationRequest));
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public Object legacyDecode() {
+        return SerializationUtils.deserialize(Base64.getUrlDecoder().decode(legacyCookie));
+    }
+
+    @Benchmark
+    public String signedJsonEncode() {
+        return plainCodec.encode(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest signedJsonDecode() {
+        return plainCodec.decode(plainCookie);
+    }
+
+    @Benchmark
+    public String signedJsonDeflateEncode() {
+        return compressedCodec.encode(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest signedJsonDeflateDecode() {
+        return compressedCodec.decode(compressedCookie);
+    }
+
+
+    // Spring Security가 Google OIDC 로그인 시 생성하는 것과 같은 형태의 인가 요청
+    static OAuth2AuthorizationRequest googleAuthorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("123456789012-abcdefghijklmnopqrstuvwxyz123456.apps.googleusercontent.com")
+                .redirectUri("http://localhost:8080/login/oauth2/callback/google")
+                .scopes(Set.of("openid", "email", "profile"))
+                .state("Jx1uMaGz0vTOd3cMfOdSPyWJ6k2tb7bV9T8XfYpVJ2s=")
+                .additionalParameters(Map.of("nonce", "Ur1mzTwpmY8aZ4nHhK5x2VjHqXNyP4dCq0sE7bWgL3k"))
+                .attributes(Map.of("registration_id", "google",
+                        "nonce", "q2n8gOw5v0tP9Ykc3B4lZ7mRj1xHs6AeF-VdNu_TKiSoWJyELrXbM4aCfQ2Gh8Dp"))
+                .build();
+    }
+}
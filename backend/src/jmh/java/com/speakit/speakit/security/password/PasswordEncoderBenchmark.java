@@ -0,0 +1,50 @@
+package com.speakit.speakit.security.password;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// 비밀번호 알고리즘/비용 설정별 해시 비용 비교: matches()는 로그인 1회당 추가되는 지연 시간, encode()는 회원가입/재해시 비용
+// setting 형식: "알고리즘:비용" (bcrypt:strength, argon2:memoryKiB, pbkdf2:iterations)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "speakit-password-123";
+
+    @Param({"bcrypt:8", "bcrypt:10", "bcrypt:12", "argon2:19456", "argon2:65536", "pbkdf2:310000"})
+    public String setting;
+
+    private PasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        String[] parts = setting.split(":");
+        String algorithm = parts[0];
+        int cost = Integer.parseInt(parts[1]);
+
+        encoder = PasswordEncoderFactory.create(algorithm,
+                PasswordEncoderFactory.BCRYPT.equals(algorithm) ? cost : 10,
+                PasswordEncoderFactory.ARGON2.equals(algorithm) ? cost : 19456,
+                2,
+                PasswordEncoderFactory.PBKDF2.equals(algorithm) ? cost : 310000);
+        encodedPassword = encoder.encode(RAW_PASSWORD);
+    }
+
+
+    // 로그인 시 비밀번호 검증 비용
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+
+    // 회원가입, 비밀번호 변경, 로그인 시 재해시 비용
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+}
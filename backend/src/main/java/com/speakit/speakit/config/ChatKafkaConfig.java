@@ -0,0 +1,138 @@
+package com.speakit.speakit.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+// 채팅 메시지 Kafka 전파 설정 (chat.broadcast=kafka, 브로커 주소는 spring.kafka.bootstrap-servers)
+// - 토픽은 채팅방 ID를 키로 파티셔닝하여 같은 채팅방의 메시지 순서를 유지
+// - 모든 서버가 모든 채팅방 메시지를 받아야 하므로 서버마다 고유한 consumer group을 사용하며, 새로 시작한 서버는 최신 메시지부터 수신
+@Configuration
+@EnableKafka
+@ConditionalOnProperty(name = "chat.broadcast", havingValue = "kafka")
+public class ChatKafkaConfig {
+
+    private final KafkaProperties kafkaProperties;
+    private final SslBundles sslBundles;
+
+    public ChatKafkaConfig(KafkaProperties kafkaProperties, ObjectProvider<SslBundles> sslBundles) {
+        this.kafkaProperties = kafkaProperties;
+        this.sslBundles = sslBundles.getIfAvailable();
+    }
+
+
+    @Bean
+    public NewTopic chatMessagesTopic(@Value("${chat.kafka.topic:chat.messages}") String topic,
+                                      @Value("${chat.kafka.partitions:12}") int partitions,
+                                      @Value("${chat.kafka.replicas:1}") int replicas) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+
+    // 키: 채팅방 ID, 값: 채팅 메시지 JSON (수신 서버가 다시 직렬화하지 않고 그대로 전달)
+    @Bean
+    public ProducerFactory<String, byte[]> chatProducerFactory(
+            @Value("${chat.kafka.producer.linger:5ms}") Duration linger,
+            @Value("${chat.kafka.producer.maxBlock:2s}") Duration maxBlock) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(sslBundles);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        // 짧게 모아서 보내 요청 수를 줄이고, 브로커 장애 시 STOMP 처리 스레드가 오래 막히지 않도록 대기 시간 제한
+        props.put(ProducerConfig.LINGER_MS_CONFIG, (int) linger.toMillis());
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlock.toMillis());
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+
+    @Bean
+    public KafkaTemplate<String, byte[]> chatKafkaTemplate(ProducerFactory<String, byte[]> chatProducerFactory) {
+        return new KafkaTemplate<>(chatProducerFactory);
+    }
+
+
+    @Bean
+    public ConsumerFactory<String, byte[]> chatConsumerFactory(
+            @Value("${chat.kafka.groupIdPrefix:speakit-chat}") String groupIdPrefix) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(sslBundles);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupIdPrefix + "-" + UUID.randomUUID());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+
+    // 배치로 받아 이 서버에 구독자가 없는 채팅방 메시지는 payload를 읽지 않고 건너뜀
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> chatKafkaListenerContainerFactory(
+            @Qualifier("chatConsumerFactory") ConsumerFactory<String, byte[]> chatConsumerFactory,
+            @Value("${chat.kafka.listenerConcurrency:3}") int concurrency) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(chatConsumerFactory);
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+
+    // 저장용 consumer: 모든 서버가 같은 group을 공유하여 파티션을 나눠 읽고, 저장 전 메시지를 놓치지 않도록 earliest부터 읽음
+    // 한 번에 최대 batchSize개, 메시지가 적을 때는 flushInterval 동안 모아서 받아 다중 행 INSERT 한 번으로 저장
+    @Bean
+    public ConsumerFactory<String, byte[]> chatPersistenceConsumerFactory(
+            @Value("${chat.persistence.batchSize:500}") int batchSize,
+            @Value("${chat.persistence.flushInterval:200ms}") Duration flushInterval) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(sslBundles);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 64 * 1024);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) flushInterval.toMillis());
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+
+    // DB 장애로 저장에 실패하면 성공할 때까지 같은 배치를 재시도 (오프셋은 저장 성공 후 커밋, 데이터 오류 행은 리스너에서 dead-letter 처리)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> chatPersistenceListenerContainerFactory(
+            @Qualifier("chatPersistenceConsumerFactory") ConsumerFactory<String, byte[]> chatPersistenceConsumerFactory,
+            @Value("${chat.persistence.retryBackoff:1s}") Duration retryBackoff) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(chatPersistenceConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(retryBackoff.toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)));
+        return factory;
+    }
+}
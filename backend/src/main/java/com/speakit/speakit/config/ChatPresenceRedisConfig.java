@@ -0,0 +1,25 @@
+package com.speakit.speakit.config;
+
+import com.speakit.speakit.service.chat.RedisChatPresenceSync;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 채팅 접속 상태 Redis 동기화 설정 (chat.presence.sync=redis)
+// 모든 서버가 같은 채널을 구독하며, 연결이 끊기면 컨테이너가 재구독을 재시도
+@Configuration
+@ConditionalOnProperty(name = "chat.presence.sync", havingValue = "redis")
+public class ChatPresenceRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer chatPresenceListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       RedisChatPresenceSync redisChatPresenceSync) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisChatPresenceSync, new ChannelTopic(redisChatPresenceSync.getChannel()));
+        return container;
+    }
+}
@@ -1,11 +1,17 @@
 package com.speakit.speakit.config;
 
 import com.speakit.speakit.security.jwt.JwtAuthenticationFilter;
+import com.speakit.speakit.security.password.BoundedPasswordEncoder;
+import com.speakit.speakit.security.password.PasswordEncoderFactory;
 import com.speakit.speakit.service.user.CustomOAuth2UserService;
+import com.speakit.speakit.security.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.speakit.speakit.security.oauth2.OAuth2AuthenticationFailureHandler;
 import com.speakit.speakit.security.oauth2.OAuth2AuthenticationSuccessHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,7 +20,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
@@ -22,6 +27,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.*;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 import static com.speakit.speakit.util.Constants.MAIN_PAGE_URL;
@@ -31,13 +37,16 @@ import static com.speakit.speakit.util.Constants.MAIN_PAGE_URL;
 public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
+    private final HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
 
     public SecurityConfig(CustomOAuth2UserService customOAuth2UserService,
+                          HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository,
                           OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler,
                           OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler) {
         this.customOAuth2UserService = customOAuth2UserService;
+        this.authorizationRequestRepository = authorizationRequestRepository;
         this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
         this.oAuth2AuthenticationFailureHandler = oAuth2AuthenticationFailureHandler;
     }
@@ -55,18 +64,22 @@ public class SecurityConfig {
                 // 인증 실패 시 JSON 응답을 반환하도록 예외 처리 설정
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(customAuthenticationEntryPoint()))
 
-                // URL 접근 권한 설정: signUp, signIn, 그리고 OAuth2 관련 URL 은 누구나 접근 가능
+                // URL 접근 권한 설정: signUp, signIn, 토큰 재발급, 그리고 OAuth2 관련 URL 은 누구나 접근 가능
+                // SSE 등 비동기 응답의 재디스패치(ASYNC)는 최초 요청에서 이미 인증을 확인했으므로 허용
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/user/signUp", "/user/signIn", "/user/loginStatus", "/oauth2/**", "/login/oauth2/**", "/favicon.ico").permitAll()
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/user/signUp", "/user/signIn", "/user/loginStatus", "/user/token/refresh", "/oauth2/**", "/login/oauth2/**", "/favicon.ico").permitAll()
                         .anyRequest().authenticated()
                 )
 
                 // 필터를 UsernamePasswordAuthenticationFilter 이전에 추가하여 요청마다 JWT 토큰 검증 수행
                 .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
 
-                // OAuth2 로그인 설정: 사용자 정보 처리를 위해 CustomOAuth2UserService 를 사용하고,
+                // OAuth2 로그인 설정: 인가 요청은 세션 대신 쿠키(서명된 값 또는 서버 저장소 ID)에 보관하고,
+                // 사용자 정보 처리를 위해 CustomOAuth2UserService 를 사용하고,
                 // 로그인 성공 시 JWT 토큰을 발급하는 핸들러를 지정하고, 실패 시 에러 처리
                 .oauth2Login(oauth2 -> oauth2
+                        .authorizationEndpoint(authorization -> authorization.authorizationRequestRepository(authorizationRequestRepository))
                         .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
                         .successHandler(oAuth2AuthenticationSuccessHandler)
                         .failureHandler(oAuth2AuthenticationFailureHandler)
@@ -106,9 +119,23 @@ public class SecurityConfig {
     }
 
 
+    // 알고리즘과 비용은 환경별 설정값으로 조절하며, 이전 설정으로 저장된 해시는 로그인 성공 시 재해시
+    // (CustomUserDetailsService의 updatePassword 참고)
+    // 해시 연산은 전용 스레드 풀에서 제한된 동시성으로 실행 (concurrency가 0 이하이면 CPU 코어 수 사용)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password.encoder:bcrypt}") String encodingId,
+                                           @Value("${security.password.bcrypt.strength:10}") int bcryptStrength,
+                                           @Value("${security.password.argon2.memoryKiB:19456}") int argon2MemoryKiB,
+                                           @Value("${security.password.argon2.iterations:2}") int argon2Iterations,
+                                           @Value("${security.password.pbkdf2.iterations:310000}") int pbkdf2Iterations,
+                                           @Value("${security.password.hashing.concurrency:0}") int concurrency,
+                                           @Value("${security.password.hashing.queueCapacity:64}") int queueCapacity,
+                                           @Value("${security.password.hashing.timeout:5s}") Duration timeout) {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(encodingId, bcryptStrength,
+                argon2MemoryKiB, argon2Iterations, pbkdf2Iterations);
+        int poolSize = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(encoder, poolSize, queueCapacity, timeout, meterRegistry);
     }
 
 
@@ -0,0 +1,87 @@
+package com.speakit.speakit.config;
+
+import com.speakit.speakit.service.chat.ChatOutboundInterceptor;
+import com.speakit.speakit.service.chat.ChatPresenceService;
+import com.speakit.speakit.service.chat.ChatSessionRegistry;
+import com.speakit.speakit.service.chat.ChatStompInterceptor;
+import com.speakit.speakit.service.chat.ChatWebSocketHandlerDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
+
+import static com.speakit.speakit.util.Constants.MAIN_PAGE_URL;
+
+// 채팅용 웹소켓(STOMP) 설정
+// - 엔드포인트: /ws/chat (핸드셰이크는 SecurityFilterChain의 JwtAuthenticationFilter가 accessToken 쿠키로 인증)
+// - 메시지 브로커를 두지 않고, 채팅방 구독자 전달은 ChatSessionRegistry 인덱스 기반의 ChatFanout이 직접 처리
+// - 느린 클라이언트: 세션별 전송 시간/버퍼 한도를 넘으면 연결 종료 (팬아웃 측 대기 한도는 ChatFanout 참고)
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatStompInterceptor chatStompInterceptor;
+    private final ChatOutboundInterceptor chatOutboundInterceptor;
+    private final ChatPresenceService chatPresenceService;
+    private final Duration sendTimeLimit;
+    private final DataSize sendBufferSizeLimit;
+    private final DataSize messageSizeLimit;
+
+    public WebSocketConfig(ChatSessionRegistry chatSessionRegistry,
+                           ChatStompInterceptor chatStompInterceptor,
+                           ChatOutboundInterceptor chatOutboundInterceptor,
+                           ChatPresenceService chatPresenceService,
+                           @Value("${chat.websocket.sendTimeLimit:10s}") Duration sendTimeLimit,
+                           @Value("${chat.websocket.sendBufferSizeLimit:512KB}") DataSize sendBufferSizeLimit,
+                           @Value("${chat.websocket.messageSizeLimit:64KB}") DataSize messageSizeLimit) {
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.chatStompInterceptor = chatStompInterceptor;
+        this.chatOutboundInterceptor = chatOutboundInterceptor;
+        this.chatPresenceService = chatPresenceService;
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+    }
+
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws/chat")
+                .setAllowedOrigins(MAIN_PAGE_URL);
+    }
+
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatStompInterceptor);
+    }
+
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatOutboundInterceptor);
+    }
+
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setMessageSizeLimit((int) messageSizeLimit.toBytes())
+                .addDecoratorFactory(handler -> new ChatWebSocketHandlerDecorator(handler, chatSessionRegistry, chatPresenceService));
+    }
+}
@@ -0,0 +1,74 @@
+package com.speakit.speakit.controller.chat;
+
+import com.speakit.speakit.dto.chat.ChatSendRequestDTO;
+import com.speakit.speakit.dto.chat.ChatTypingRequestDTO;
+import com.speakit.speakit.dto.error.ErrorResponse;
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.service.chat.ChatFanout;
+import com.speakit.speakit.service.chat.ChatPresenceService;
+import com.speakit.speakit.service.chat.ChatService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.ObjectError;
+
+import java.util.stream.Collectors;
+
+// 채팅 STOMP 메시지 핸들러 (클라이언트는 /app 접두사로 전송, /topic/chat/rooms/{roomId}를 구독하여 수신)
+// 전송 오류는 /user/queue/chat/errors를 구독한 보낸 세션에만 ErrorResponse로 알림
+@Controller
+public class ChatController {
+
+    private final ChatService chatService;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatFanout chatFanout;
+
+    public ChatController(ChatService chatService, ChatPresenceService chatPresenceService, ChatFanout chatFanout) {
+        this.chatService = chatService;
+        this.chatPresenceService = chatPresenceService;
+        this.chatFanout = chatFanout;
+    }
+
+
+    // 채팅 메시지 전송: SEND /app/chat/rooms/{roomId}
+    @MessageMapping("/chat/rooms/{roomId}")
+    public void sendMessage(@DestinationVariable("roomId") Long roomId,
+                            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                            @Payload @Valid ChatSendRequestDTO chatSendRequestDTO) {
+        chatService.sendMessage(sessionId, roomId, chatSendRequestDTO.getMessage());
+    }
+
+
+    // 입력 중 상태 전송: SEND /app/chat/rooms/{roomId}/typing (입력 중에는 주기적으로, 멈추거나 전송하면 typing=false)
+    @MessageMapping("/chat/rooms/{roomId}/typing")
+    public void typing(@DestinationVariable("roomId") Long roomId,
+                       @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                       @Payload ChatTypingRequestDTO chatTypingRequestDTO) {
+        chatPresenceService.typing(sessionId, roomId, chatTypingRequestDTO.isTyping());
+    }
+
+
+    // 처리 용량 초과(저장 대기열 초과 등)는 503, 입력 검증 오류와 권한 오류는 400
+    @MessageExceptionHandler
+    public void handleException(RuntimeException e,
+                                @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        ErrorResponse errorResponse;
+        if (e instanceof ServiceOverloadedException) {
+            errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage());
+        } else if (e instanceof MethodArgumentNotValidException invalid && invalid.getBindingResult() != null) {
+            errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), invalid.getBindingResult().getAllErrors().stream()
+                    .map(ObjectError::getDefaultMessage)
+                    .collect(Collectors.joining(", ")));
+        } else {
+            errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+        }
+        chatFanout.deliverError(sessionId, errorResponse);
+    }
+}
@@ -0,0 +1,32 @@
+package com.speakit.speakit.controller.chat;
+
+import com.speakit.speakit.dto.chat.ChatHistoryResponseDTO;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.chat.ChatHistoryService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+// 채팅 기록 조회 API (실시간 메시지는 STOMP, 입장 시 최근 메시지와 이전 메시지는 REST로 조회)
+@RestController
+@RequestMapping("/chat")
+public class ChatHistoryController {
+
+    private final ChatHistoryService chatHistoryService;
+
+    public ChatHistoryController(ChatHistoryService chatHistoryService) {
+        this.chatHistoryService = chatHistoryService;
+    }
+
+
+    // 채팅 기록 조회 API: GET /chat/rooms/{roomId}/messages?before={메시지 ID}&size={개수}
+    @GetMapping("/rooms/{roomId}/messages")
+    public ResponseEntity<ChatHistoryResponseDTO> getMessages(@PathVariable("roomId") Long roomId,
+                                                              @RequestParam(value = "before", required = false) Long before,
+                                                              @RequestParam(value = "size", required = false) Integer size,
+                                                              @AuthenticationPrincipal JwtUserPrincipal jwtUser) {
+        ChatHistoryResponseDTO history = chatHistoryService.getMessages(jwtUser.getId(), roomId, before, size);
+        return new ResponseEntity<>(history, HttpStatus.OK);
+    }
+}
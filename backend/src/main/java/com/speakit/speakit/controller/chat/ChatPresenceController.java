@@ -0,0 +1,32 @@
+package com.speakit.speakit.controller.chat;
+
+import com.speakit.speakit.dto.chat.ChatPresenceDTO;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.chat.ChatPresenceService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 채팅방 접속 상태 조회 API (메모리 상태만 조회하므로 DB 접근 없음)
+@RestController
+@RequestMapping("/chat")
+public class ChatPresenceController {
+
+    private final ChatPresenceService chatPresenceService;
+
+    public ChatPresenceController(ChatPresenceService chatPresenceService) {
+        this.chatPresenceService = chatPresenceService;
+    }
+
+
+    // 접속 중인 사용자 조회 API: GET /chat/rooms/{roomId}/presence
+    @GetMapping("/rooms/{roomId}/presence")
+    public ResponseEntity<List<ChatPresenceDTO>> getPresence(@PathVariable("roomId") Long roomId,
+                                                             @AuthenticationPrincipal JwtUserPrincipal jwtUser) {
+        List<ChatPresenceDTO> presence = chatPresenceService.getPresence(jwtUser.getId(), roomId);
+        return new ResponseEntity<>(presence, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,32 @@
+package com.speakit.speakit.controller.chat;
+
+import com.speakit.speakit.dto.chat.ChatParticipantDTO;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.chat.ChatMembershipService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 채팅방 정보 조회 API
+@RestController
+@RequestMapping("/chat")
+public class ChatRoomController {
+
+    private final ChatMembershipService chatMembershipService;
+
+    public ChatRoomController(ChatMembershipService chatMembershipService) {
+        this.chatMembershipService = chatMembershipService;
+    }
+
+
+    // 채팅방 참여자 조회 API: GET /chat/rooms/{roomId}/participants
+    @GetMapping("/rooms/{roomId}/participants")
+    public ResponseEntity<List<ChatParticipantDTO>> getParticipants(@PathVariable("roomId") Long roomId,
+                                                                    @AuthenticationPrincipal JwtUserPrincipal jwtUser) {
+        List<ChatParticipantDTO> participants = chatMembershipService.getParticipants(jwtUser.getId(), roomId);
+        return new ResponseEntity<>(participants, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,55 @@
+package com.speakit.speakit.controller.community;
+
+import com.speakit.speakit.dto.community.CommentCreateRequestDTO;
+import com.speakit.speakit.dto.community.CommentDTO;
+import com.speakit.speakit.dto.community.CommentPageResponseDTO;
+import com.speakit.speakit.dto.community.PostCommentSummaryDTO;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.community.CommentService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 커뮤니티 댓글 API
+@RestController
+@RequestMapping("/community")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    public CommentController(CommentService commentService) {
+        this.commentService = commentService;
+    }
+
+
+    // 댓글 조회 API: GET /community/posts/{postId}/comments?before={댓글 ID}&size={개수}
+    @GetMapping("/posts/{postId}/comments")
+    public ResponseEntity<CommentPageResponseDTO> getComments(@PathVariable("postId") Long postId,
+                                                              @RequestParam(value = "before", required = false) Long before,
+                                                              @RequestParam(value = "size", required = false) Integer size) {
+        return new ResponseEntity<>(commentService.getComments(postId, before, size), HttpStatus.OK);
+    }
+
+
+    // 댓글 작성 API: POST /community/posts/{postId}/comments
+    @PostMapping("/posts/{postId}/comments")
+    public ResponseEntity<CommentDTO> createComment(@PathVariable("postId") Long postId,
+                                                    @Valid @RequestBody CommentCreateRequestDTO requestDTO,
+                                                    @AuthenticationPrincipal JwtUserPrincipal jwtUser) {
+        CommentDTO comment = commentService.createComment(jwtUser.getId(), jwtUser.getEmail(), postId, requestDTO.getContent());
+        return new ResponseEntity<>(comment, HttpStatus.CREATED);
+    }
+
+
+    // 피드 댓글 요약 API: GET /community/comments/summary?postIds=3,2,1
+    // 피드 페이지의 게시글 ID를 한 번에 전달하면 게시글별 댓글 수와 최신 댓글 미리보기를 반환
+    // 피드 자체는 타임라인 캐시에서 DB 없이 응답하므로, 자주 바뀌는 댓글 정보는 이 API로 따로 조회
+    @GetMapping("/comments/summary")
+    public ResponseEntity<List<PostCommentSummaryDTO>> getSummaries(@RequestParam("postIds") List<Long> postIds) {
+        return new ResponseEntity<>(commentService.getSummaries(postIds), HttpStatus.OK);
+    }
+}
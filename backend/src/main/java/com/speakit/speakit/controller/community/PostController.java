@@ -0,0 +1,42 @@
+package com.speakit.speakit.controller.community;
+
+import com.speakit.speakit.dto.community.PostCreateRequestDTO;
+import com.speakit.speakit.dto.community.PostDTO;
+import com.speakit.speakit.dto.community.PostFeedResponseDTO;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.community.PostService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+// 커뮤니티 게시글 API
+@RestController
+@RequestMapping("/community")
+public class PostController {
+
+    private final PostService postService;
+
+    public PostController(PostService postService) {
+        this.postService = postService;
+    }
+
+
+    // 피드 조회 API: GET /community/posts?before={게시글 ID}&size={개수}
+    // 응답의 nextCursor를 다음 요청의 before로 전달 (null이면 마지막 페이지)
+    @GetMapping("/posts")
+    public ResponseEntity<PostFeedResponseDTO> getFeed(@RequestParam(value = "before", required = false) Long before,
+                                                       @RequestParam(value = "size", required = false) Integer size) {
+        return new ResponseEntity<>(postService.getFeed(before, size), HttpStatus.OK);
+    }
+
+
+    // 게시글 작성 API: POST /community/posts
+    @PostMapping("/posts")
+    public ResponseEntity<PostDTO> createPost(@Valid @RequestBody PostCreateRequestDTO requestDTO,
+                                              @AuthenticationPrincipal JwtUserPrincipal jwtUser) {
+        PostDTO post = postService.createPost(jwtUser.getId(), jwtUser.getEmail(), requestDTO.getContent());
+        return new ResponseEntity<>(post, HttpStatus.CREATED);
+    }
+}
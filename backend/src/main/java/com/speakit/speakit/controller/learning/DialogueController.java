@@ -0,0 +1,108 @@
+package com.speakit.speakit.controller.learning;
+
+import com.speakit.speakit.dto.learning.DialogueDTO;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.learning.DialogueService;
+import com.speakit.speakit.service.learning.AudioStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+// 학습 세션 대화 기록 API
+@RestController
+@RequestMapping("/practice")
+public class DialogueController {
+
+    private final DialogueService dialogueService;
+    private final AudioStorage audioStorage;
+
+    public DialogueController(DialogueService dialogueService, AudioStorage audioStorage) {
+        this.dialogueService = dialogueService;
+        this.audioStorage = audioStorage;
+    }
+
+
+    // 음성 답변 업로드 API: POST /practice/sessions/{sessionId}/dialogues/audio
+    // 요청 본문은 음성 파일 그대로 (Content-Type: audio/webm 등), 음성 인식은 비동기로 처리하고 202와 대화 기록(PENDING)을 반환
+    @PostMapping("/sessions/{sessionId}/dialogues/audio")
+    public ResponseEntity<DialogueDTO> uploadAudio(@PathVariable("sessionId") Long sessionId,
+                                                   HttpServletRequest request,
+                                                   @AuthenticationPrincipal JwtUserPrincipal jwtUser) throws IOException {
+        DialogueDTO dialogue = dialogueService.uploadAudio(jwtUser.getId(), sessionId,
+                request.getInputStream(), request.getContentType());
+        return new ResponseEntity<>(dialogue, HttpStatus.ACCEPTED);
+    }
+
+
+    // 음성 인식 결과 구독 API (SSE): GET /practice/dialogues/{dialogueId}/transcription
+    // 음성 인식이 끝나면 transcription 이벤트(대화 기록, COMPLETED 또는 FAILED)를 보내고,
+    // 인식에 성공했으면 AI 피드백이 저장된 뒤 feedback 이벤트(피드백을 포함한 대화 기록)를 보낸 뒤 종료
+    @GetMapping(value = "/dialogues/{dialogueId}/transcription", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeTranscription(@PathVariable("dialogueId") Long dialogueId,
+                                                             @AuthenticationPrincipal JwtUserPrincipal jwtUser) {
+        return new ResponseEntity<>(dialogueService.subscribeTranscription(jwtUser.getId(), dialogueId), HttpStatus.OK);
+    }
+
+
+    // 음성 재생 API: GET /practice/dialogues/{dialogueId}/audio
+    // Range 요청(bytes=시작-끝, 구간 하나)은 206과 해당 구간만, 범위를 벗어나면 416, Range가 없거나 여러 구간이면 200과 전체 파일
+    // 파일 내용은 힙을 거치지 않고 AudioStorage가 파일에서 응답으로 바로 전송
+    @GetMapping("/dialogues/{dialogueId}/audio")
+    public void getAudio(@PathVariable("dialogueId") Long dialogueId,
+                         HttpServletRequest request,
+                         HttpServletResponse response,
+                         @AuthenticationPrincipal JwtUserPrincipal jwtUser) throws IOException {
+        AudioStorage.AudioFile audio = dialogueService.getAudio(jwtUser.getId(), dialogueId);
+
+        response.setContentType(audio.contentType());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, audio.etag());
+        // 파일 키가 내용 해시이므로 같은 대화 기록의 음성은 바뀌지 않음
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+        if (audio.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        List<HttpRange> ranges = parseRanges(request, audio.etag());
+        if (ranges.size() != 1) {
+            response.setStatus(HttpStatus.OK.value());
+            audioStorage.write(audio, 0, audio.size(), request, response);
+            return;
+        }
+        long start = ranges.get(0).getRangeStart(audio.size());
+        long end = ranges.get(0).getRangeEnd(audio.size());
+        if (start >= audio.size() || start > end) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + audio.size());
+            return;
+        }
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + audio.size());
+        audioStorage.write(audio, start, end - start + 1, request, response);
+    }
+
+
+    // Range 헤더 해석 (형식이 잘못되었거나 If-Range가 현재 ETag와 다르면 전체 파일을 보내도록 빈 목록 반환)
+    private static List<HttpRange> parseRanges(HttpServletRequest request, String etag) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
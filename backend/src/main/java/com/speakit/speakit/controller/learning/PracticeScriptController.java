@@ -0,0 +1,31 @@
+package com.speakit.speakit.controller.learning;
+
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.learning.ScriptGenerationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 학습 세션 대본 API
+@RestController
+@RequestMapping("/practice")
+public class PracticeScriptController {
+
+    private final ScriptGenerationService scriptGenerationService;
+
+    public PracticeScriptController(ScriptGenerationService scriptGenerationService) {
+        this.scriptGenerationService = scriptGenerationService;
+    }
+
+
+    // 대본 생성 API (SSE): POST /practice/sessions/{sessionId}/script
+    // token 이벤트로 대본 조각을 순서대로 보내고, 저장이 끝나면 done 이벤트(세션 ID), 실패하면 error 이벤트를 보낸 뒤 종료
+    @PostMapping(value = "/sessions/{sessionId}/script", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> generateScript(@PathVariable("sessionId") Long sessionId,
+                                                     @AuthenticationPrincipal JwtUserPrincipal jwtUser) {
+        return new ResponseEntity<>(scriptGenerationService.streamScript(jwtUser.getId(), sessionId), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,30 @@
+package com.speakit.speakit.controller.learning;
+
+import com.speakit.speakit.dto.learning.PracticeSessionHistoryResponseDTO;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.learning.PracticeSessionHistoryService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+// 학습 세션 API
+@RestController
+@RequestMapping("/practice")
+public class PracticeSessionController {
+
+    private final PracticeSessionHistoryService practiceSessionHistoryService;
+
+    public PracticeSessionController(PracticeSessionHistoryService practiceSessionHistoryService) {
+        this.practiceSessionHistoryService = practiceSessionHistoryService;
+    }
+
+
+    // 학습 기록 조회 API: GET /practice/sessions?before={세션 ID}&size={개수}
+    @GetMapping("/sessions")
+    public ResponseEntity<PracticeSessionHistoryResponseDTO> getHistory(@RequestParam(value = "before", required = false) Long before,
+                                                                        @RequestParam(value = "size", required = false) Integer size,
+                                                                        @AuthenticationPrincipal JwtUserPrincipal jwtUser) {
+        return new ResponseEntity<>(practiceSessionHistoryService.getHistory(jwtUser.getId(), before, size), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,30 @@
+package com.speakit.speakit.controller.search;
+
+import com.speakit.speakit.dto.search.SearchResponseDTO;
+import com.speakit.speakit.service.search.SearchService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// 전문 검색 API
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+
+    // 검색 API: GET /search?q={검색어}&type={post|comment|question}&page={0부터}&size={개수}
+    // 응답의 nextPage를 다음 요청의 page로 전달 (null이면 마지막 페이지)
+    @GetMapping
+    public ResponseEntity<SearchResponseDTO> search(@RequestParam("q") String query,
+                                                    @RequestParam(value = "type", required = false) String type,
+                                                    @RequestParam(value = "page", required = false) Integer page,
+                                                    @RequestParam(value = "size", required = false) Integer size) {
+        return new ResponseEntity<>(searchService.search(query, type, page, size), HttpStatus.OK);
+    }
+}
@@ -1,21 +1,22 @@
 package com.speakit.speakit.controller.user;
 
-import com.speakit.speakit.dto.user.SignInResponseDTO;
 import com.speakit.speakit.security.jwt.JwtTokenProvider;
 import com.speakit.speakit.service.user.SocialUserService;
 import com.speakit.speakit.util.CookieUtils;
-import com.speakit.speakit.util.OAuthUtils;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.IOException;
+import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static com.speakit.speakit.util.Constants.MAIN_PAGE_URL;
+import static com.speakit.speakit.util.Constants.SIGN_IN_URL;
 
 @RestController
 public class SocialLoginController {
@@ -29,54 +30,36 @@ public class SocialLoginController {
     }
 
 
-    @GetMapping("/login/oauth2/callback/google")
-    public void googleCallback(@RequestParam(value = "code", required = false) String code,
-                               @RequestParam(value = "error", required = false) String error,
-                               HttpServletResponse response) throws IOException {
-
-        // 사용자가 동의 취소 등의 이유로 error 파라미터가 전달된 경우 로그인 페이지로 리다이렉트
-        if (OAuthUtils.checkCancelled(error, response)) return;
-
-        // SocialUserService 메서드로 구글 인가 코드를 처리하여, 내부 JWT 토큰 정보를 포함한 SignInResponseDTO 반환
-        SignInResponseDTO signInResponseDTO = socialUserService.processGoogleSocialLogin(code);
-
-        // JwtTokenProvider에서 Duration 타입으로 만료 시간을 가져오고, CookieUtils.setAuthCookies 메서드에 직접 Duration을 전달합니다.
-        CookieUtils.setAuthCookies(response,
-                signInResponseDTO.getAccessToken(), signInResponseDTO.getRefreshToken(),
-                jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration());
-
-        // 메인 페이지로 리다이렉트합니다.
-        response.sendRedirect(MAIN_PAGE_URL);
+    // 소셜 로그인 콜백, 공급자는 경로의 등록 ID로 SocialProviderRegistry에서 조회
+    @GetMapping("/login/oauth2/callback/{provider}")
+    public CompletableFuture<ResponseEntity<Void>> socialCallback(@PathVariable("provider") String provider,
+                                                                  @RequestParam(value = "code", required = false) String code,
+                                                                  @RequestParam(value = "error", required = false) String error) {
+        return processCallback(provider, code, error);
     }
 
 
-    @GetMapping("/login/oauth2/callback/naver")
-    public void naverCallback(@RequestParam(value = "code", required = false) String code,
-                              @RequestParam(value = "error", required = false) String error,
-                              HttpServletResponse response) throws IOException {
+    // 소셜 로그인 콜백 공통 처리, 공급자 API 호출은 파이프라인에서 비동기로 처리되어 요청 스레드를 점유하지 않음
+    private CompletableFuture<ResponseEntity<Void>> processCallback(String provider, String code, String error) {
 
-        if (OAuthUtils.checkCancelled(error, response)) return;
+        // 사용자가 동의 취소 등의 이유로 error 파라미터가 전달된 경우 로그인 페이지로 리다이렉트
+        if (error != null) {
+            return CompletableFuture.completedFuture(redirect(SIGN_IN_URL).build());
+        }
 
-        SignInResponseDTO signInResponseDTO = socialUserService.processNaverSocialLogin(code);
-        CookieUtils.setAuthCookies(response,
-                signInResponseDTO.getAccessToken(), signInResponseDTO.getRefreshToken(),
-                jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration());
-        response.sendRedirect(MAIN_PAGE_URL);
+        // 인가 코드를 처리하여 발급된 JWT 토큰을 HttpOnly 쿠키에 저장하고 메인 페이지로 리다이렉트
+        return socialUserService.processSocialLoginAsync(provider, code)
+                .thenApply(signInResponseDTO -> redirect(MAIN_PAGE_URL)
+                        .header(HttpHeaders.SET_COOKIE, CookieUtils.authCookieHeaders(
+                                signInResponseDTO.getAccessToken(), signInResponseDTO.getRefreshToken(),
+                                jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration())
+                                .toArray(String[]::new))
+                        .build());
     }
 
 
-    @GetMapping("/login/oauth2/callback/kakao")
-    public void kakaoCallback(@RequestParam(value = "code", required = false) String code,
-                              @RequestParam(value = "error", required = false) String error,
-                              HttpServletResponse response) throws IOException {
-
-        if (OAuthUtils.checkCancelled(error, response)) return;
-
-        SignInResponseDTO signInResponseDTO = socialUserService.processKakaoSocialLogin(code);
-        CookieUtils.setAuthCookies(response,
-                signInResponseDTO.getAccessToken(), signInResponseDTO.getRefreshToken(),
-                jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration());
-        response.sendRedirect(MAIN_PAGE_URL);
+    private static ResponseEntity.HeadersBuilder<?> redirect(String url) {
+        return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(url));
     }
 
 
@@ -2,6 +2,7 @@ package com.speakit.speakit.controller.user;
 
 import com.speakit.speakit.dto.user.*;
 import com.speakit.speakit.security.jwt.JwtTokenProvider;
+import com.speakit.speakit.service.user.TokenService;
 import com.speakit.speakit.service.user.UserService;
 import com.speakit.speakit.util.CookieUtils;
 import jakarta.servlet.http.Cookie;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 import static com.speakit.speakit.util.Constants.MAIN_PAGE_URL;
 
@@ -24,10 +26,12 @@ public class UserController {
 
 
     private final UserService userService;
+    private final TokenService tokenService;
     private final JwtTokenProvider jwtTokenProvider;
 
-    public UserController(UserService userService, JwtTokenProvider jwtTokenProvider) {
+    public UserController(UserService userService, TokenService tokenService, JwtTokenProvider jwtTokenProvider) {
         this.userService = userService;
+        this.tokenService = tokenService;
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
@@ -86,6 +90,23 @@ public class UserController {
     }
 
 
+    // 토큰 재발급 API: POST /user/token/refresh
+    // refreshToken 쿠키를 교체(rotation)하여 새 access token과 refresh token을 쿠키로 발급
+    @PostMapping("/token/refresh")
+    public ResponseEntity<String> refreshToken(HttpServletRequest request, HttpServletResponse response) {
+        Optional<Cookie> refreshCookie = CookieUtils.getCookie(request, "refreshToken");
+        if (refreshCookie.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        TokenPairDTO tokens = tokenService.refreshTokens(refreshCookie.get().getValue());
+        CookieUtils.setAuthCookies(response,
+                tokens.getAccessToken(), tokens.getRefreshToken(),
+                jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration());
+        return new ResponseEntity<>("토큰 재발급 성공", HttpStatus.OK);
+    }
+
+
     // 로그인 상태 조회 API: GET /user/loginStatus
     @GetMapping("/loginStatus")
     public ResponseEntity<?> loginStatus(Authentication authentication) {
@@ -100,15 +121,16 @@ public class UserController {
 
     // 로그아웃 API: POST /user/logout
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletResponse response, Authentication authentication) {
+    public ResponseEntity<String> logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
         // 인증되지 않은 상태일 경우 401 UNAUTHORIZED 반환
         if (!userService.isAuthenticated(authentication)) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
-        // 사용자 서비스 레이어를 통해 로그아웃 처리
+        // 사용자 서비스 레이어를 통해 로그아웃 처리 (현재 기기의 refresh token 세션 폐기)
         String email = authentication.getName();
-        userService.logout(email);
+        String refreshToken = CookieUtils.getCookie(request, "refreshToken").map(Cookie::getValue).orElse(null);
+        userService.logout(email, refreshToken);
 
         // JSESSIONID, accessToken, refreshToken 쿠키 만료 처리
         CookieUtils.clearCookies(response, "JSESSIONID", "accessToken", "refreshToken");
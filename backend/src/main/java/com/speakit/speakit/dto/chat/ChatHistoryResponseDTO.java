@@ -0,0 +1,16 @@
+package com.speakit.speakit.dto.chat;
+
+import lombok.*;
+
+import java.util.List;
+
+// 채팅 기록 페이지 응답 DTO (messages는 최신순, 다음 페이지는 nextCursor를 before로 전달하며 null이면 마지막 페이지)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatHistoryResponseDTO {
+    private List<ChatMessageDTO> messages;
+    private Long nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.speakit.speakit.dto.chat;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 채팅방 구독자에게 전달되는 채팅 메시지 DTO (STOMP MESSAGE /topic/chat/rooms/{roomId})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageDTO {
+    private Long id;
+    private Long roomId;
+    private Long senderId;
+    private String senderName;
+    private String message;
+    private LocalDateTime timestamp;
+}
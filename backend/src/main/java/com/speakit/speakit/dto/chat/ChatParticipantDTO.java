@@ -0,0 +1,14 @@
+package com.speakit.speakit.dto.chat;
+
+import lombok.*;
+
+// 채팅방 참여자 DTO (User 엔티티 대신 ID와 이름만 조회)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatParticipantDTO {
+    private Long userId;
+    private String username;
+}
@@ -0,0 +1,16 @@
+package com.speakit.speakit.dto.chat;
+
+import lombok.*;
+
+// 채팅방 접속 상태 DTO (접속 중인 사용자와 입력 중 여부)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatPresenceDTO {
+    private Long roomId;
+    private Long userId;
+    private String username;
+    private boolean typing;
+}
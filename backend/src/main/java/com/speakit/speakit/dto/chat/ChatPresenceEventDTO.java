@@ -0,0 +1,20 @@
+package com.speakit.speakit.dto.chat;
+
+import lombok.*;
+
+import java.util.List;
+
+// 서버 간 접속 상태 동기화 이벤트 (Redis pub/sub)
+// type: ONLINE, OFFLINE, HEARTBEAT(발행 서버의 접속 목록 전체), TYPING
+// 만료 시각 대신 ttlMillis를 보내 받는 서버가 자기 시계 기준으로 만료 시각을 계산 (서버 간 시계 차이 영향 없음)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatPresenceEventDTO {
+    private String type;
+    private String nodeId;
+    private long ttlMillis;
+    private List<ChatPresenceDTO> entries;
+}
@@ -0,0 +1,18 @@
+package com.speakit.speakit.dto.chat;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+// 채팅 메시지 전송 요청 DTO (STOMP SEND /app/chat/rooms/{roomId})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSendRequestDTO {
+
+    @NotBlank(message = "메시지를 입력해 주세요.")
+    @Size(max = 2000, message = "메시지는 2000자 이하로 입력해 주세요.")
+    private String message;
+}
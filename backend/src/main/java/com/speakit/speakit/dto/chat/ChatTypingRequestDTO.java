@@ -0,0 +1,13 @@
+package com.speakit.speakit.dto.chat;
+
+import lombok.*;
+
+// 입력 중 상태 전송 요청 DTO (STOMP SEND /app/chat/rooms/{roomId}/typing)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatTypingRequestDTO {
+    private boolean typing;
+}
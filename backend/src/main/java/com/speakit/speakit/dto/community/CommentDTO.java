@@ -0,0 +1,20 @@
+package com.speakit.speakit.dto.community;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 댓글 DTO (작성자는 User 엔티티 대신 ID와 이름만 포함)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentDTO {
+    private Long id;
+    private Long postId;
+    private Long authorId;
+    private String authorName;
+    private String content;
+    private LocalDateTime createdAt;
+}
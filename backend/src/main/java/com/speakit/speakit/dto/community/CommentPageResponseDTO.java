@@ -0,0 +1,16 @@
+package com.speakit.speakit.dto.community;
+
+import lombok.*;
+
+import java.util.List;
+
+// 게시글 댓글 페이지 응답 DTO (comments는 최신순, 다음 페이지는 nextCursor를 before로 전달하며 null이면 마지막 페이지)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentPageResponseDTO {
+    private List<CommentDTO> comments;
+    private Long nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.speakit.speakit.dto.community;
+
+import lombok.*;
+
+import java.util.List;
+
+// 피드에 표시할 게시글별 댓글 요약 DTO (댓글 수와 최신 댓글 미리보기)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCommentSummaryDTO {
+    private Long postId;
+    private int commentCount;
+    private List<CommentDTO> recentComments;
+
+    // 댓글 수 조회용 (미리보기는 별도 쿼리로 채움)
+    public PostCommentSummaryDTO(Long postId, int commentCount) {
+        this.postId = postId;
+        this.commentCount = commentCount;
+    }
+}
@@ -0,0 +1,18 @@
+package com.speakit.speakit.dto.community;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+// 게시글 작성 요청 DTO
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCreateRequestDTO {
+
+    @NotBlank(message = "내용을 입력해 주세요.")
+    @Size(max = 2000, message = "내용은 2000자 이하로 입력해 주세요.")
+    private String content;
+}
@@ -0,0 +1,19 @@
+package com.speakit.speakit.dto.community;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 피드 게시글 DTO (작성자는 User 엔티티 대신 ID와 이름만 포함, 타임라인 캐시에도 이 형태로 저장)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostDTO {
+    private Long id;
+    private Long authorId;
+    private String authorName;
+    private String content;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package com.speakit.speakit.dto.learning;
+
+import lombok.*;
+
+// 대화 기록 음성 재생용 정보 (권한 확인용 사용자 ID와 저장소 키)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DialogueAudioDTO {
+    private Long ownerId;
+    private String audioPath;
+    private String audioContentType;
+}
@@ -0,0 +1,23 @@
+package com.speakit.speakit.dto.learning;
+
+import com.speakit.speakit.model.common.TranscriptionStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 학습 세션 대화 기록 DTO (음성 메시지는 transcriptionStatus로 음성 인식 진행 상태를 확인)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DialogueDTO {
+    private Long id;
+    private Long sessionId;
+    private String sender;
+    private String message;
+    private String transcription;
+    private String feedback;
+    private TranscriptionStatus transcriptionStatus;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,15 @@
+package com.speakit.speakit.dto.learning;
+
+import lombok.*;
+
+// 음성 인식 작업 복구용 정보 (대화 기록 ID와 음성 저장소 키)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingTranscriptionDTO {
+    private Long id;
+    private String audioPath;
+    private String audioContentType;
+}
@@ -0,0 +1,14 @@
+package com.speakit.speakit.dto.learning;
+
+import lombok.*;
+
+// 세션별 대화 기록 수 조회용 DTO
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PracticeSessionDialogueCountDTO {
+    private Long sessionId;
+    private long dialogueCount;
+}
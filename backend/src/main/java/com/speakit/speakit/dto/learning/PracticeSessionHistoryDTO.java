@@ -0,0 +1,38 @@
+package com.speakit.speakit.dto.learning;
+
+import com.speakit.speakit.model.common.DifficultyLevel;
+import com.speakit.speakit.model.common.ExamType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 학습 기록 목록의 세션 DTO (주제와 대화 수는 페이지 단위 별도 쿼리로 채움)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PracticeSessionHistoryDTO {
+    private Long id;
+    private ExamType examType;
+    private DifficultyLevel difficultyLevel;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Long toeicQuestionId;
+    private boolean hasScript;
+    private List<String> topics;
+    private long dialogueCount;
+
+    // 세션 페이지 조회용
+    public PracticeSessionHistoryDTO(Long id, ExamType examType, DifficultyLevel difficultyLevel,
+                                     LocalDateTime startTime, LocalDateTime endTime, Long toeicQuestionId, boolean hasScript) {
+        this.id = id;
+        this.examType = examType;
+        this.difficultyLevel = difficultyLevel;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.toeicQuestionId = toeicQuestionId;
+        this.hasScript = hasScript;
+    }
+}
@@ -0,0 +1,14 @@
+package com.speakit.speakit.dto.learning;
+
+import lombok.*;
+
+// 세션별 OPIc 주제 조회용 DTO (opic_topics 행 하나)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PracticeSessionTopicDTO {
+    private Long sessionId;
+    private String topic;
+}
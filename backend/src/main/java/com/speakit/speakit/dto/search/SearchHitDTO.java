@@ -0,0 +1,17 @@
+package com.speakit.speakit.dto.search;
+
+import lombok.*;
+
+// 검색 결과 한 건 (type: POST, COMMENT, QUESTION / postId는 댓글의 게시글 ID)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchHitDTO {
+    private String type;
+    private Long id;
+    private Long postId;
+    private String content;
+    private float score;
+}
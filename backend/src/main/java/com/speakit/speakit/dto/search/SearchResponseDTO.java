@@ -0,0 +1,17 @@
+package com.speakit.speakit.dto.search;
+
+import lombok.*;
+
+import java.util.List;
+
+// 검색 응답 DTO (hits는 관련도순, 다음 페이지는 nextPage를 page로 전달하며 null이면 마지막 페이지)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponseDTO {
+    private List<SearchHitDTO> hits;
+    private long totalHits;
+    private Integer nextPage;
+}
@@ -0,0 +1,21 @@
+package com.speakit.speakit.dto.search;
+
+import lombok.*;
+
+// 검색 색인 재구성 시 DB에서 읽는 원본 행 (ID, 상위 게시글 ID(댓글만), 본문)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchSourceDTO {
+    private Long id;
+    private Long parentId;
+    private String content;
+
+    // 상위 게시글이 없는 대상(게시글, 토익 문제)용
+    public SearchSourceDTO(Long id, String content) {
+        this.id = id;
+        this.content = content;
+    }
+}
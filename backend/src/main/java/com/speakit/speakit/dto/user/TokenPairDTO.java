@@ -0,0 +1,14 @@
+package com.speakit.speakit.dto.user;
+
+import lombok.*;
+
+// 발급된 JWT Access Token / Refresh Token 쌍 DTO
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenPairDTO {
+    private String accessToken;
+    private String refreshToken;
+}
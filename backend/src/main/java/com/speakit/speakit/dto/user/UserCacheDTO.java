@@ -0,0 +1,23 @@
+package com.speakit.speakit.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+import java.time.LocalDateTime;
+
+// 사용자 캐시(L1/L2)에 저장하는 읽기 전용 사용자 스냅샷 DTO
+// 비밀번호 해시는 Redis(L2)에 직렬화하지 않으며, DB에서 읽어 L1에만 보관 (UserCacheService.getCredentials)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCacheDTO {
+    private Long id;
+    private String username;
+    private String email;
+    @JsonIgnore
+    private String password;
+    private String role;
+    private String provider;
+    private LocalDateTime createdAt;
+}
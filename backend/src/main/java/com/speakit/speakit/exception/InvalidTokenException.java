@@ -0,0 +1,8 @@
+package com.speakit.speakit.exception;
+
+// 유효하지 않거나 폐기된 토큰 사용 에러
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.speakit.speakit.exception;
+
+// 서버 처리 용량 초과 에러 (요청을 대기열에 넣을 수 없을 때 503 응답)
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
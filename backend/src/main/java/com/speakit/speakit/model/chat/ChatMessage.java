@@ -3,14 +3,21 @@ package com.speakit.speakit.model.chat;
 import com.speakit.speakit.model.user.User;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import lombok.*;
 
 // 채팅 메시지 정보 (채팅방, 누가, 언제, 메시지 내용) 엔티티
 @Entity
-@Table(name = "chat_messages")
+// 채팅방별 최신순 키셋 페이지 조회용 복합 인덱스 (chat_room_id = ? and id < ? order by id desc)
+@Table(name = "chat_messages", indexes = @Index(name = "idx_chat_messages_room_id", columnList = "chat_room_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class ChatMessage {
 
+    // 서버에서 발급하는 시간순 ID (ChatMessageIdGenerator), 다중 행 INSERT로 저장
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -25,6 +32,4 @@ public class ChatMessage {
     private String message;
 
     private LocalDateTime timestamp;
-
-    // 기본 생성자, getter, setter 생략
 }
@@ -7,10 +7,16 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import lombok.*;
 
 // 채팅방 정보 (채팅방 이름, 타입, 시험종류, 참여자 목록) 엔티티
 @Entity
 @Table(name = "chat_rooms")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class ChatRoom {
 
     @Id
@@ -28,13 +34,13 @@ public class ChatRoom {
 
     private LocalDateTime createdAt;
 
-    @ManyToMany
+    // 참여 여부 확인과 참여자 목록은 ChatMembershipService(ID 비트맵, DTO 조회)를 사용하고 이 컬렉션은 로드하지 않음
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "chat_room_participants",
             joinColumns = @JoinColumn(name = "chat_room_id"),
             inverseJoinColumns = @JoinColumn(name = "user_id")
     )
+    @Builder.Default
     private Set<User> participants = new HashSet<>();
-
-    // 기본 생성자, getter, setter 생략
 }
@@ -0,0 +1,8 @@
+package com.speakit.speakit.model.common;
+
+// 음성 인식 처리 상태 열거형
+public enum TranscriptionStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
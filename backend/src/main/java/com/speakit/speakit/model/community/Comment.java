@@ -1,12 +1,20 @@
 package com.speakit.speakit.model.community;
 
 import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.service.search.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import lombok.*;
 
 // 댓글 엔티티
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_post_id", columnList = "post_id, id"))
+@EntityListeners(SearchIndexEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class Comment {
 
     @Id
@@ -25,6 +33,4 @@ public class Comment {
     private String content;
 
     private LocalDateTime createdAt;
-
-    // 기본 생성자, getter, setter 생략
 }
@@ -1,12 +1,20 @@
 package com.speakit.speakit.model.community;
 
 import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.service.search.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import lombok.*;
 
 // 게시글 엔티티
 @Entity
 @Table(name = "posts")
+@EntityListeners(SearchIndexEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class Post {
 
     @Id
@@ -22,5 +30,7 @@ public class Post {
 
     private LocalDateTime createdAt;
 
-    // 기본 생성자, getter, setter 생략
+    // 댓글 수 (댓글 작성과 같은 트랜잭션에서 UPDATE ... + 1로 증가시키는 비정규화 카운터)
+    @Column(nullable = false)
+    private int commentCount;
 }
@@ -1,11 +1,21 @@
 package com.speakit.speakit.model.learning;
 
+import com.speakit.speakit.model.common.TranscriptionStatus;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import lombok.*;
 
 // 학습 세션 내의 대화 기록 (사용자/AI 메시지, 음성 인식 결과, 피드백 등) 엔티티
 @Entity
-@Table(name = "dialogues")
+@Table(name = "dialogues", indexes = {
+        @Index(name = "idx_dialogues_audio_path", columnList = "audio_path"),
+        @Index(name = "idx_dialogues_transcription_status", columnList = "transcription_status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class Dialogue {
 
     @Id
@@ -29,5 +39,10 @@ public class Dialogue {
     @Column(length = 2000)
     private String feedback;       // AI 피드백 메시지
 
-    // 기본 생성자, getter, setter 생략
+    private String audioPath;         // 업로드된 음성 파일 경로 (음성 저장소 기준 상대 경로)
+
+    private String audioContentType;  // 음성 파일 형식 (audio/webm 등)
+
+    @Enumerated(EnumType.STRING)
+    private TranscriptionStatus transcriptionStatus;  // 음성 인식 처리 상태 (음성이 없는 메시지는 null)
 }
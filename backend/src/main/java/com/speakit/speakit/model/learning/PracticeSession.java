@@ -11,7 +11,7 @@ import java.util.List;
 
 // 학습 세션 정보 엔티티 (시험 종류, 시작/종료 시간, 주제, 난이도, 생성된 대본 등)
 @Entity
-@Table(name = "practice_sessions")
+@Table(name = "practice_sessions", indexes = @Index(name = "idx_practice_sessions_user_id", columnList = "user_id, id"))
 public class PracticeSession {
 
     @Id
@@ -1,10 +1,18 @@
 package com.speakit.speakit.model.learning;
 
+import com.speakit.speakit.service.search.SearchIndexEntityListener;
 import jakarta.persistence.*;
+import lombok.*;
 
 // 토익 스피킹 기출문제 엔티티
 @Entity
 @Table(name = "toeic_questions")
+@EntityListeners(SearchIndexEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class TOEICQuestion {
 
     @Id
@@ -15,6 +23,4 @@ public class TOEICQuestion {
     private String questionText;
 
     // 필요에 따라 카테고리나 파트 정보를 추가할 수 있음
-
-    // 기본 생성자, getter, setter 생략
 }
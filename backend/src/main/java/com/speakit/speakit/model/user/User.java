@@ -31,10 +31,6 @@ public class User {
     @Column(nullable = false)
     private String role;
 
-    // JWT Refresh Token 저장 (필요 시 갱신 및 만료 체크)
-    @Column(name = "refresh_token")
-    private String refreshToken;
-
     // 소셜 로그인 관련 정보 (연동 해제 시 null 가능)
     private String provider;
 
@@ -0,0 +1,71 @@
+package com.speakit.speakit.repository.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// 채팅 메시지 다건 저장소: 여러 메시지를 다중 행 INSERT 한 번으로 저장 (메시지마다 DB를 왕복하지 않음)
+// ID는 서버에서 발급하므로 재전송된 메시지는 ON DUPLICATE KEY UPDATE로 중복 저장 없이 무시
+// (INSERT IGNORE와 달리 없는 채팅방, 길이 초과 등 데이터 오류는 예외로 드러나 호출한 쪽에서 처리)
+@Repository
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_messages (id, chat_room_id, sender_id, message, timestamp) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final String ON_DUPLICATE_SUFFIX = " ON DUPLICATE KEY UPDATE id = id";
+    private static final int COLUMNS = 5;
+
+    // 한 번의 INSERT에 넣는 최대 행 수 (MySQL 바인드 변수 수와 패킷 크기 제한 고려)
+    static final int MAX_ROWS_PER_STATEMENT = 1000;
+    private static final String FULL_INSERT_SQL = insertSql(MAX_ROWS_PER_STATEMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChatMessageBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    // 드라이버가 보고한 영향 행 수 반환 (이미 저장된 ID를 0으로 셀지 1로 셀지는 드라이버 설정에 따라 다름)
+    public int insertAll(List<ChatMessageDTO> chatMessages) {
+        int inserted = 0;
+        for (int from = 0; from < chatMessages.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<ChatMessageDTO> rows = chatMessages.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, chatMessages.size()));
+            String sql = rows.size() == MAX_ROWS_PER_STATEMENT ? FULL_INSERT_SQL : insertSql(rows.size());
+            inserted += jdbcTemplate.update(sql, parameters(rows));
+        }
+        return inserted;
+    }
+
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2)
+                + ON_DUPLICATE_SUFFIX.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        sql.append(ON_DUPLICATE_SUFFIX);
+        return sql.toString();
+    }
+
+    private static Object[] parameters(List<ChatMessageDTO> rows) {
+        Object[] parameters = new Object[rows.size() * COLUMNS];
+        int i = 0;
+        for (ChatMessageDTO row : rows) {
+            parameters[i++] = row.getId();
+            parameters[i++] = row.getRoomId();
+            parameters[i++] = row.getSenderId();
+            parameters[i++] = row.getMessage();
+            parameters[i++] = Timestamp.valueOf(row.getTimestamp());
+        }
+        return parameters;
+    }
+}
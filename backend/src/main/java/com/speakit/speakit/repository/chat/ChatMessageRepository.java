@@ -0,0 +1,20 @@
+package com.speakit.speakit.repository.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.model.chat.ChatMessage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    // 채팅방의 beforeId 이전 메시지를 최신순으로 limit개 조회 (OFFSET 없이 (chat_room_id, id) 인덱스 범위 스캔)
+    // 엔티티 대신 DTO로 바로 조회하여 영속성 컨텍스트 적재와 보낸 사람 지연 로딩을 피함
+    @Query("select new com.speakit.speakit.dto.chat.ChatMessageDTO(m.id, m.chatRoom.id, s.id, s.username, m.message, m.timestamp) " +
+            "from ChatMessage m join m.sender s " +
+            "where m.chatRoom.id = :roomId and m.id < :beforeId order by m.id desc")
+    List<ChatMessageDTO> findPageBefore(@Param("roomId") Long roomId, @Param("beforeId") Long beforeId, Limit limit);
+}
@@ -0,0 +1,21 @@
+package com.speakit.speakit.repository.chat;
+
+import com.speakit.speakit.dto.chat.ChatParticipantDTO;
+import com.speakit.speakit.model.chat.ChatRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+// 참여자 확인/목록은 User 엔티티(비밀번호 해시, 토큰 등 포함)를 로드하지 않도록 ID/DTO 조회만 사용
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
+
+    // 참여자 ID만 연결 테이블에서 바로 조회 (users 테이블 조인 없음)
+    @Query(value = "select user_id from chat_room_participants where chat_room_id = :roomId", nativeQuery = true)
+    List<Long> findParticipantIds(@Param("roomId") Long roomId);
+
+    @Query("select new com.speakit.speakit.dto.chat.ChatParticipantDTO(u.id, u.username) " +
+            "from ChatRoom r join r.participants u where r.id = :roomId order by u.id")
+    List<ChatParticipantDTO> findParticipants(@Param("roomId") Long roomId);
+}
@@ -0,0 +1,36 @@
+package com.speakit.speakit.repository.community;
+
+import com.speakit.speakit.dto.community.CommentDTO;
+import com.speakit.speakit.dto.search.SearchSourceDTO;
+import com.speakit.speakit.model.community.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+// 댓글 조회는 작성자를 같은 쿼리에서 조인하여 DTO로 바로 조회 (Comment/User 엔티티를 로드하지 않음)
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 게시글의 beforeId 이전 댓글을 최신순으로 limit개 조회 ((post_id, id) 인덱스 범위 스캔)
+    @Query("select new com.speakit.speakit.dto.community.CommentDTO(c.id, c.post.id, a.id, a.username, c.content, c.createdAt) " +
+            "from Comment c join c.author a where c.post.id = :postId and c.id < :beforeId order by c.id desc")
+    List<CommentDTO> findPageBefore(@Param("postId") Long postId, @Param("beforeId") Long beforeId, Limit limit);
+
+    // 여러 게시글의 최신 댓글을 게시글마다 최대 perPost개씩 쿼리 한 번으로 조회 (게시글 ID, 댓글 ID 역순)
+    // 게시글별 순위는 row_number() 윈도 함수로 매겨 게시글 수나 댓글 수와 관계없이 쿼리 수가 일정
+    @Query("select new com.speakit.speakit.dto.community.CommentDTO(t.id, t.postId, t.authorId, t.authorName, t.content, t.createdAt) " +
+            "from (select c.id as id, c.post.id as postId, a.id as authorId, a.username as authorName, " +
+            "c.content as content, c.createdAt as createdAt, " +
+            "row_number() over (partition by c.post.id order by c.id desc) as rn " +
+            "from Comment c join c.author a where c.post.id in :postIds) t " +
+            "where t.rn <= :perPost order by t.postId, t.id desc")
+    List<CommentDTO> findRecentByPostIds(@Param("postIds") Collection<Long> postIds, @Param("perPost") int perPost);
+
+    // 검색 색인 재구성용: afterId 이후 댓글을 ID 순으로 limit개씩 조회
+    @Query("select new com.speakit.speakit.dto.search.SearchSourceDTO(c.id, c.post.id, c.content) " +
+            "from Comment c where c.id > :afterId order by c.id")
+    List<SearchSourceDTO> findSearchSources(@Param("afterId") Long afterId, Limit limit);
+}
@@ -0,0 +1,49 @@
+package com.speakit.speakit.repository.community;
+
+import com.speakit.speakit.dto.community.PostCommentSummaryDTO;
+import com.speakit.speakit.dto.community.PostDTO;
+import com.speakit.speakit.dto.search.SearchSourceDTO;
+import com.speakit.speakit.model.community.Post;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // beforeId 이전 게시글을 최신순으로 limit개 조회 (OFFSET 없이 PK 범위 스캔)
+    // 작성자를 같은 쿼리에서 조인하여 DTO로 바로 조회하므로 게시글마다 작성자를 따로 읽지 않음(N+1 없음)
+    @Query("select new com.speakit.speakit.dto.community.PostDTO(p.id, a.id, a.username, p.content, p.createdAt) " +
+            "from Post p join p.author a where p.id < :beforeId order by p.id desc")
+    List<PostDTO> findFeedPage(@Param("beforeId") Long beforeId, Limit limit);
+
+    // 댓글 수를 DB에서 원자적으로 증가 (읽고 쓰는 사이에 다른 댓글의 증가가 유실되지 않음), 게시글이 없으면 0 반환
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    // 댓글 수 카운터 보정: ID가 afterId 초과 upToId 이하인 게시글 중 카운터가 0인데 댓글이 있는 게시글의 카운터를 댓글을 세어 채움
+    // 카운터 컬럼이 추가되기 전에 작성된 게시글만 해당하므로, 한 번 채운 뒤에는 바뀌는 행이 없음
+    @Modifying
+    @Query("update Post p set p.commentCount = (select cast(count(c) as Integer) from Comment c where c.post.id = p.id) " +
+            "where p.id > :afterId and p.id <= :upToId and p.commentCount = 0 " +
+            "and exists (select c.id from Comment c where c.post.id = p.id)")
+    int backfillCommentCounts(@Param("afterId") Long afterId, @Param("upToId") Long upToId);
+
+    @Query("select max(p.id) from Post p")
+    Long findMaxId();
+
+    // 여러 게시글의 댓글 수를 쿼리 한 번으로 조회 (없는 게시글은 결과에서 빠짐)
+    @Query("select new com.speakit.speakit.dto.community.PostCommentSummaryDTO(p.id, p.commentCount) " +
+            "from Post p where p.id in :postIds")
+    List<PostCommentSummaryDTO> findCommentSummaries(@Param("postIds") Collection<Long> postIds);
+
+    // 검색 색인 재구성용: afterId 이후 게시글을 ID 순으로 limit개씩 조회
+    @Query("select new com.speakit.speakit.dto.search.SearchSourceDTO(p.id, p.content) " +
+            "from Post p where p.id > :afterId order by p.id")
+    List<SearchSourceDTO> findSearchSources(@Param("afterId") Long afterId, Limit limit);
+}
@@ -0,0 +1,65 @@
+package com.speakit.speakit.repository.learning;
+
+import com.speakit.speakit.dto.learning.DialogueAudioDTO;
+import com.speakit.speakit.dto.learning.DialogueDTO;
+import com.speakit.speakit.dto.learning.PendingTranscriptionDTO;
+import com.speakit.speakit.dto.learning.PracticeSessionDialogueCountDTO;
+import com.speakit.speakit.model.learning.Dialogue;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DialogueRepository extends JpaRepository<Dialogue, Long> {
+
+    @Query("select new com.speakit.speakit.dto.learning.DialogueDTO(d.id, d.practiceSession.id, d.sender, d.message, " +
+            "d.transcription, d.feedback, d.transcriptionStatus, d.timestamp) from Dialogue d where d.id = :dialogueId")
+    Optional<DialogueDTO> findDTOById(@Param("dialogueId") Long dialogueId);
+
+    // 대화 기록이 속한 학습 세션의 사용자 ID (권한 확인용)
+    @Query("select s.user.id from Dialogue d join d.practiceSession s where d.id = :dialogueId")
+    Optional<Long> findOwnerId(@Param("dialogueId") Long dialogueId);
+
+    @Query("select new com.speakit.speakit.dto.learning.DialogueAudioDTO(s.user.id, d.audioPath, d.audioContentType) " +
+            "from Dialogue d join d.practiceSession s where d.id = :dialogueId")
+    Optional<DialogueAudioDTO> findAudioById(@Param("dialogueId") Long dialogueId);
+
+    // 같은 음성 파일(내용 해시 키)을 참조하는 대화 기록이 있는지 (정리 작업이 파일 삭제 전 확인, audio_path 인덱스 사용)
+    boolean existsByAudioPath(String audioPath);
+
+    // 여러 세션의 대화 기록 수를 한 번에 조회 (대화가 없는 세션은 결과에 없음)
+    @Query("select new com.speakit.speakit.dto.learning.PracticeSessionDialogueCountDTO(d.practiceSession.id, count(d)) " +
+            "from Dialogue d where d.practiceSession.id in :sessionIds group by d.practiceSession.id")
+    List<PracticeSessionDialogueCountDTO> countBySessionIds(@Param("sessionIds") Collection<Long> sessionIds);
+
+    // before 이전에 만든 음성 인식 대기 기록 (afterId 이후 ID 키셋, 재시작 등으로 잃은 작업 복구용, transcription_status 인덱스 사용)
+    @Query("select new com.speakit.speakit.dto.learning.PendingTranscriptionDTO(d.id, d.audioPath, d.audioContentType) " +
+            "from Dialogue d where d.transcriptionStatus = com.speakit.speakit.model.common.TranscriptionStatus.PENDING " +
+            "and d.timestamp < :before and d.id > :afterId order by d.id")
+    List<PendingTranscriptionDTO> findPendingTranscriptions(@Param("before") LocalDateTime before,
+                                                            @Param("afterId") Long afterId, Limit limit);
+
+    // 음성 인식 결과 저장 (처리 중인 기록만 갱신, 메시지도 인식 결과로 채움), 갱신되면 1 반환
+    @Modifying
+    @Query("update Dialogue d set d.transcription = :transcription, d.message = :transcription, " +
+            "d.transcriptionStatus = com.speakit.speakit.model.common.TranscriptionStatus.COMPLETED " +
+            "where d.id = :dialogueId and d.transcriptionStatus = com.speakit.speakit.model.common.TranscriptionStatus.PENDING")
+    int completeTranscription(@Param("dialogueId") Long dialogueId, @Param("transcription") String transcription);
+
+    // 음성 인식 실패 기록 (처리 중인 기록만 갱신), 갱신되면 1 반환
+    @Modifying
+    @Query("update Dialogue d set d.transcriptionStatus = com.speakit.speakit.model.common.TranscriptionStatus.FAILED " +
+            "where d.id = :dialogueId and d.transcriptionStatus = com.speakit.speakit.model.common.TranscriptionStatus.PENDING")
+    int failTranscription(@Param("dialogueId") Long dialogueId);
+
+    // AI 피드백 저장 (이미 저장된 피드백은 덮어쓰지 않음), 저장되면 1 반환
+    @Modifying
+    @Query("update Dialogue d set d.feedback = :feedback where d.id = :dialogueId and d.feedback is null")
+    int saveFeedback(@Param("dialogueId") Long dialogueId, @Param("feedback") String feedback);
+}
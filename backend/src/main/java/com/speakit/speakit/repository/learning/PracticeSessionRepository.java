@@ -0,0 +1,44 @@
+package com.speakit.speakit.repository.learning;
+
+import com.speakit.speakit.dto.learning.PracticeSessionHistoryDTO;
+import com.speakit.speakit.dto.learning.PracticeSessionTopicDTO;
+import com.speakit.speakit.model.learning.PracticeSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PracticeSessionRepository extends JpaRepository<PracticeSession, Long> {
+
+    // 대본 생성 프롬프트에 필요한 주제와 기출문제를 함께 조회 (지연 로딩 없이 쿼리 한 번)
+    @Query("select s from PracticeSession s left join fetch s.topics left join fetch s.toeicQuestion where s.id = :sessionId")
+    Optional<PracticeSession> findForScript(@Param("sessionId") Long sessionId);
+
+    // 생성된 대본 저장 (이미 저장된 대본은 덮어쓰지 않음), 저장되면 1 반환
+    @Modifying
+    @Query("update PracticeSession s set s.generatedScript = :script where s.id = :sessionId and s.generatedScript is null")
+    int saveGeneratedScript(@Param("sessionId") Long sessionId, @Param("script") String script);
+
+    // 학습 세션의 사용자 ID (권한 확인용, 세션 엔티티를 로드하지 않음)
+    @Query("select s.user.id from PracticeSession s where s.id = :sessionId")
+    Optional<Long> findOwnerId(@Param("sessionId") Long sessionId);
+
+    // 사용자의 학습 기록 페이지 (beforeId 이전 세션을 최신순으로, 엔티티와 컬렉션을 로드하지 않음)
+    @Query("select new com.speakit.speakit.dto.learning.PracticeSessionHistoryDTO(s.id, s.examType, s.difficultyLevel, " +
+            "s.startTime, s.endTime, q.id, case when s.generatedScript is null then false else true end) " +
+            "from PracticeSession s left join s.toeicQuestion q " +
+            "where s.user.id = :userId and s.id < :beforeId order by s.id desc")
+    List<PracticeSessionHistoryDTO> findHistoryPage(@Param("userId") Long userId,
+                                                    @Param("beforeId") long beforeId,
+                                                    Limit limit);
+
+    // 여러 세션의 주제를 한 번에 조회 (opic_topics)
+    @Query("select new com.speakit.speakit.dto.learning.PracticeSessionTopicDTO(s.id, t) " +
+            "from PracticeSession s join s.topics t where s.id in :sessionIds")
+    List<PracticeSessionTopicDTO> findTopics(@Param("sessionIds") Collection<Long> sessionIds);
+}
@@ -0,0 +1,18 @@
+package com.speakit.speakit.repository.learning;
+
+import com.speakit.speakit.dto.search.SearchSourceDTO;
+import com.speakit.speakit.model.learning.TOEICQuestion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TOEICQuestionRepository extends JpaRepository<TOEICQuestion, Long> {
+
+    // 검색 색인 재구성용: afterId 이후 문제를 ID 순으로 limit개씩 조회
+    @Query("select new com.speakit.speakit.dto.search.SearchSourceDTO(q.id, q.questionText) " +
+            "from TOEICQuestion q where q.id > :afterId order by q.id")
+    List<SearchSourceDTO> findSearchSources(@Param("afterId") Long afterId, Limit limit);
+}
@@ -0,0 +1,115 @@
+package com.speakit.speakit.security.jwt;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 메모리 기반 refresh token 저장소 (테스트 및 단일 서버 로컬 실행용, jwt.refreshTokenStore=memory)
+// 만료된 세션은 조회 시점에 제거
+// 사용자별 세션 목록도 Redis 저장소처럼 만료 시각을 가지며, 저장과 교체 때마다 연장
+@Component
+@ConditionalOnProperty(name = "jwt.refreshTokenStore", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private record Entry(RefreshSession session, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return now.isAfter(expiresAt);
+        }
+    }
+
+    private record UserSessions(Set<String> sessionIds, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return now.isAfter(expiresAt);
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, UserSessions> sessionsByUser = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public InMemoryRefreshTokenStore() {
+        this(Clock.systemUTC());
+    }
+
+    InMemoryRefreshTokenStore(Clock clock) {
+        this.clock = clock;
+    }
+
+
+    @Override
+    public void save(RefreshSession session, Duration ttl) {
+        sessions.put(session.getSessionId(), new Entry(session, clock.instant().plus(ttl)));
+        addUserSession(session.getEmail(), session.getSessionId(), ttl);
+    }
+
+
+    @Override
+    public RefreshTokenRotation rotate(String sessionId, String email, String presentedTokenId, String newTokenId,
+                                       Duration ttl) {
+        RefreshTokenRotation[] result = new RefreshTokenRotation[1];
+
+        // compute()로 세션 단위 원자적 비교-교체 수행
+        sessions.compute(sessionId, (key, entry) -> {
+            Instant now = clock.instant();
+            if (entry == null || entry.isExpired(now)) {
+                result[0] = RefreshTokenRotation.of(RefreshTokenRotation.Status.NOT_FOUND);
+                removeUserSession(email, sessionId);
+                return null;
+            }
+            if (!entry.session().getTokenId().equals(presentedTokenId)) {
+                result[0] = RefreshTokenRotation.of(RefreshTokenRotation.Status.REUSED);
+                removeUserSession(email, sessionId);
+                return null;
+            }
+            RefreshSession current = entry.session();
+            RefreshSession rotated = new RefreshSession(current.getSessionId(), newTokenId,
+                    current.getUserId(), current.getEmail(), current.getRole());
+            result[0] = new RefreshTokenRotation(RefreshTokenRotation.Status.ROTATED, rotated);
+            addUserSession(email, sessionId, ttl);
+            return new Entry(rotated, now.plus(ttl));
+        });
+        return result[0];
+    }
+
+
+    @Override
+    public void revokeSession(String sessionId) {
+        Entry removed = sessions.remove(sessionId);
+        if (removed != null) {
+            removeUserSession(removed.session().getEmail(), sessionId);
+        }
+    }
+
+
+    @Override
+    public void revokeAllSessions(String email) {
+        UserSessions userSessions = sessionsByUser.remove(email);
+        if (userSessions != null && !userSessions.isExpired(clock.instant())) {
+            userSessions.sessionIds().forEach(sessions::remove);
+        }
+    }
+
+
+    // 세션 ID를 추가하고 목록 만료를 ttl 뒤로 연장 (만료된 목록은 새로 시작)
+    private void addUserSession(String email, String sessionId, Duration ttl) {
+        Instant now = clock.instant();
+        sessionsByUser.compute(email, (key, user) -> {
+            Set<String> sessionIds = user == null || user.isExpired(now) ? ConcurrentHashMap.newKeySet() : user.sessionIds();
+            sessionIds.add(sessionId);
+            return new UserSessions(sessionIds, now.plus(ttl));
+        });
+    }
+
+
+    private void removeUserSession(String email, String sessionId) {
+        UserSessions userSessions = sessionsByUser.get(email);
+        if (userSessions != null) {
+            userSessions.sessionIds().remove(sessionId);
+        }
+    }
+}
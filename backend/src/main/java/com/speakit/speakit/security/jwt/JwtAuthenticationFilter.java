@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -14,9 +15,11 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import com.speakit.speakit.service.user.CustomUserDetailsService;
 import java.io.IOException;
+import java.util.List;
 
 
 // 들어오는 HTTP 요청의 쿠키에서 "accessToken" 쿠키를 추출하여, 토큰이 유효하면 해당 사용자 정보를 SecurityContext에 설정
+// 사용자 ID와 권한은 토큰 클레임에서 복원하므로 요청마다 DB를 조회하지 않음
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
@@ -25,6 +28,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -33,12 +39,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = getJwtFromRequest(request);
 
         // 토큰이 존재하고 유효한 경우 해당 사용자 정보를 SecurityContextHolder에 설정
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-            String username = tokenProvider.getUsernameFromJWT(token);
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+        // (서명 검증과 클레임 추출을 한 번의 파싱으로 처리)
+        JwtClaims claims = StringUtils.hasText(token) ? tokenProvider.resolveClaims(token).orElse(null) : null;
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        // refresh token은 인증에 사용할 수 없으며, 폐기 목록이 활성화된 경우 로그아웃 등으로 폐기된 토큰도 인증하지 않음
+        if (claims != null && !claims.isRefreshToken() && !tokenRevocationList.isRevoked(claims)) {
+            UsernamePasswordAuthenticationToken authentication = createAuthentication(claims);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -49,6 +55,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
 
+    // 토큰 클레임으로 인증 객체를 생성
+    // role 클레임이 없는 이전 형식의 토큰은 만료 전까지 기존 방식(DB 조회)으로 처리
+    private UsernamePasswordAuthenticationToken createAuthentication(JwtClaims claims) {
+        if (claims.getRole() == null) {
+            UserDetails userDetails = customUserDetailsService.loadUserByUsername(claims.getUsername());
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        }
+
+        JwtUserPrincipal principal = new JwtUserPrincipal(claims.getUserId(), claims.getUsername(), claims.getRole());
+        return new UsernamePasswordAuthenticationToken(principal, null,
+                List.of(new SimpleGrantedAuthority(claims.getRole())));
+    }
+
+
     // accessToken 쿠키에서 JWT 토큰을 추출
     private String getJwtFromRequest(HttpServletRequest request) {
         if (request.getCookies() != null) {
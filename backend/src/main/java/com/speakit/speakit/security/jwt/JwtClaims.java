@@ -0,0 +1,24 @@
+package com.speakit.speakit.security.jwt;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 서명 검증이 끝난 JWT 토큰에서 추출한 클레임 정보 (요청 처리 중 재파싱 없이 사용)
+@Getter
+@Builder
+public class JwtClaims {
+    private final String username;
+    private final Long userId;
+    private final String role;
+    private final String tokenId;
+    private final String tokenType;   // "access" 또는 "refresh"
+    private final String sessionId;   // refresh token 전용: 로그인 세션(기기) 식별자
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public boolean isRefreshToken() {
+        return JwtTokenProvider.REFRESH_TOKEN_TYPE.equals(tokenType);
+    }
+}
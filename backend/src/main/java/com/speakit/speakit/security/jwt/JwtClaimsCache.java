@@ -0,0 +1,69 @@
+package com.speakit.speakit.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+// 검증된 토큰의 클레임을 토큰 해시(SHA-256) 기준으로 보관하는 크기 제한 캐시, 각 항목은 토큰 만료 시각에 함께 만료
+class JwtClaimsCache {
+
+    private final Cache<String, JwtClaims> cache;
+
+    JwtClaimsCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+
+    // 토큰 원문 대신 해시를 키로 사용하여 메모리에 토큰 문자열이 남지 않도록 함
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+
+    JwtClaims get(String tokenHash) {
+        return cache.getIfPresent(tokenHash);
+    }
+
+
+    void put(String tokenHash, JwtClaims claims) {
+        cache.put(tokenHash, claims);
+    }
+
+
+    // 토큰 만료 시각까지 남은 시간 (이미 만료된 경우 0)
+    private static long remainingNanos(JwtClaims claims) {
+        Duration remaining = Duration.between(Instant.now(), claims.getExpiresAt());
+        return remaining.isNegative() ? 0 : remaining.toNanos();
+    }
+}
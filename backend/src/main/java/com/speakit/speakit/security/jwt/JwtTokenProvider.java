@@ -5,19 +5,36 @@ import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.security.core.Authentication;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 // JWT 토큰을 생성 및 검증하는 기능을 제공하는 컴포넌트 클래스
 @Component
 public class JwtTokenProvider {
 
+    // 토큰 종류 구분 값 (typ 클레임), refresh token을 access token으로 사용하지 못하도록 구분
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    // 토큰에 포함하는 클레임 이름
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String SESSION_ID_CLAIM = "sid";
+
     private final SecretKey jwtSecretKey;
 
+    // 서명 키가 고정되어 있으므로 파서를 한 번만 생성하여 재사용 (JwtParser는 thread-safe)
+    private final JwtParser jwtParser;
+
+    private final JwtClaimsCache claimsCache;
+
     @Getter
     private final Duration accessTokenExpiration;
 
@@ -27,73 +44,111 @@ public class JwtTokenProvider {
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.accessTokenExpiration}") Duration accessTokenExpiration,
-            @Value("${jwt.refreshTokenExpiration}") Duration refreshTokenExpiration) {
+            @Value("${jwt.refreshTokenExpiration}") Duration refreshTokenExpiration,
+            @Value("${jwt.claimsCacheMaxSize:10000}") long claimsCacheMaxSize) {
 
         Assert.hasText(secret, "JWT secret must not be empty");
         this.jwtSecretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(jwtSecretKey)
+                .build();
+        this.claimsCache = new JwtClaimsCache(claimsCacheMaxSize);
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
 
 
-    // 인증 객체를 기반으로 Access Token을 생성
-    public String generateAccessToken(Authentication authentication) {
-        String username = authentication.getName();
+    // 사용자 ID와 권한(role)을 클레임에 포함한 Access Token을 생성하여, 요청 처리 시 DB 조회 없이 인증 정보를 복원할 수 있도록 함
+    public String generateAccessToken(String username, Long userId, String role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration.toMillis());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(username)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(jwtSecretKey)
-                .compact();
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+        if (userId != null) {
+            builder.claim(USER_ID_CLAIM, userId);
+        }
+        if (role != null) {
+            builder.claim(ROLE_CLAIM, role);
+        }
+        return builder.signWith(jwtSecretKey).compact();
     }
 
 
-    // 인증 객체를 기반으로 Refresh Token을 생성
-    public String generateRefreshToken(Authentication authentication) {
-        String username = authentication.getName();
+    // 로그인 세션(sessionId)과 토큰 ID(jti)를 포함한 Refresh Token을 생성, 유효 여부는 RefreshTokenStore에서 관리
+    public String generateRefreshToken(String username, String tokenId, String sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpiration.toMillis());
 
         return Jwts.builder()
                 .setSubject(username)
+                .setId(tokenId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(SESSION_ID_CLAIM, sessionId)
                 .signWith(jwtSecretKey)
                 .compact();
     }
 
 
+    // JWT 토큰을 한 번만 파싱하여 서명 검증과 클레임 추출을 함께 수행, 유효하지 않은 토큰이면 빈 Optional 반환
+    // 검증된 결과는 토큰 해시 기준으로 캐시되어 같은 토큰의 재요청 시 파싱과 서명 검증을 생략
+    public Optional<JwtClaims> resolveClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        String tokenHash = JwtClaimsCache.hash(token);
+        JwtClaims cached = claimsCache.get(tokenHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                // 이 서버가 발급한 토큰은 항상 만료 시각이 있으므로, 없는 토큰은 유효하지 않은 것으로 처리 (캐시 만료 기준도 없음)
+                return Optional.empty();
+            }
+            Number userId = claims.get(USER_ID_CLAIM, Number.class);
+            JwtClaims parsed = JwtClaims.builder()
+                    .username(claims.getSubject())
+                    .userId(userId != null ? userId.longValue() : null)
+                    .role(claims.get(ROLE_CLAIM, String.class))
+                    .tokenId(claims.getId())
+                    .tokenType(claims.get(TOKEN_TYPE_CLAIM, String.class))
+                    .sessionId(claims.get(SESSION_ID_CLAIM, String.class))
+                    .issuedAt(claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null)
+                    .expiresAt(claims.getExpiration().toInstant())
+                    .build();
+
+            // 유효한 토큰만 캐시하여 잘못된 토큰으로 캐시가 오염되지 않도록 함
+            claimsCache.put(tokenHash, parsed);
+            return Optional.of(parsed);
+        } catch (JwtException ex) {
+            // 서명 문제, 잘못된 형식, 만료, 지원되지 않는 토큰인 경우
+        } catch (IllegalArgumentException ex) {
+            // 토큰이 비어 있는 경우
+        }
+        return Optional.empty();
+    }
+
+
     // JWT 토큰에서 사용자 이름(이메일)을 추출
     public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtSecretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return resolveClaims(token)
+                .map(JwtClaims::getUsername)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
     }
 
 
     // JWT 토큰 유효성 검사
     public boolean validateToken(String authToken) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(jwtSecretKey)
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException | MalformedJwtException ex) {
-            // 서명 문제 또는 잘못된 형식
-        } catch (ExpiredJwtException ex) {
-            // 토큰이 만료된 경우
-        } catch (UnsupportedJwtException ex) {
-            // 지원되지 않는 토큰인 경우
-        } catch (IllegalArgumentException ex) {
-            // 토큰이 비어 있는 경우
-        }
-        return false;
+        return resolveClaims(authToken).isPresent();
     }
 }
@@ -0,0 +1,25 @@
+package com.speakit.speakit.security.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+// JWT 클레임만으로 구성한 인증 주체 (요청마다 DB에서 사용자를 조회하지 않기 위해 사용)
+// getName()은 이메일을 반환하므로 기존의 authentication.getName() 사용처와 호환
+@Getter
+@AllArgsConstructor
+public class JwtUserPrincipal implements AuthenticatedPrincipal {
+    private final Long id;
+    private final String email;
+    private final String role;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
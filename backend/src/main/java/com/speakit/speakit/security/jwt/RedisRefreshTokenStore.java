@@ -0,0 +1,123 @@
+package com.speakit.speakit.security.jwt;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Redis 기반 refresh token 저장소 (운영 기본값, jwt.refreshTokenStore=redis)
+// refresh:session:{sessionId} 해시에 현재 jti와 사용자 정보를, refresh:user:{email} 셋에 사용자의 세션 ID 목록을 저장
+// 교체(rotate)는 Lua 스크립트로 비교와 교체를 한 번에 수행하여 동시 요청 시에도 한 번만 성공
+// 사용자 셋의 만료는 저장과 교체 때마다 refresh token 만료로 다시 설정하므로 항상 그 사용자의 어떤 세션보다 늦게 만료됨
+@Component
+@ConditionalOnProperty(name = "jwt.refreshTokenStore", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String SESSION_KEY_PREFIX = "refresh:session:";
+    private static final String USER_KEY_PREFIX = "refresh:user:";
+
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'tid', ARGV[1], 'uid', ARGV[2], 'email', ARGV[3], 'role', ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "redis.call('SADD', KEYS[2], ARGV[6]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'tid') " +
+            "if not current then " +
+            "  redis.call('SREM', KEYS[2], ARGV[4]) " +
+            "  return {'NOT_FOUND'} " +
+            "end " +
+            "if current ~= ARGV[1] then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  redis.call('SREM', KEYS[2], ARGV[4]) " +
+            "  return {'REUSED'} " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'tid', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('SADD', KEYS[2], ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "return {'ROTATED', redis.call('HGET', KEYS[1], 'uid'), redis.call('HGET', KEYS[1], 'email'), " +
+            "redis.call('HGET', KEYS[1], 'role')}",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+
+    @Override
+    public void save(RefreshSession session, Duration ttl) {
+        redisTemplate.execute(SAVE_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + session.getSessionId(), USER_KEY_PREFIX + session.getEmail()),
+                session.getTokenId(),
+                session.getUserId() != null ? String.valueOf(session.getUserId()) : "",
+                session.getEmail(),
+                session.getRole(),
+                String.valueOf(ttl.toMillis()),
+                session.getSessionId());
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RefreshTokenRotation rotate(String sessionId, String email, String presentedTokenId, String newTokenId,
+                                       Duration ttl) {
+        List<Object> result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + sessionId, USER_KEY_PREFIX + email),
+                presentedTokenId, newTokenId, String.valueOf(ttl.toMillis()), sessionId);
+        if (result == null || result.isEmpty()) {
+            return RefreshTokenRotation.of(RefreshTokenRotation.Status.NOT_FOUND);
+        }
+
+        RefreshTokenRotation.Status status = RefreshTokenRotation.Status.valueOf((String) result.get(0));
+        if (status != RefreshTokenRotation.Status.ROTATED) {
+            return RefreshTokenRotation.of(status);
+        }
+
+        String userId = (String) result.get(1);
+        RefreshSession session = RefreshSession.builder()
+                .sessionId(sessionId)
+                .tokenId(newTokenId)
+                .userId(userId == null || userId.isEmpty() ? null : Long.valueOf(userId))
+                .email((String) result.get(2))
+                .role((String) result.get(3))
+                .build();
+        return new RefreshTokenRotation(status, session);
+    }
+
+
+    @Override
+    public void revokeSession(String sessionId) {
+        String sessionKey = SESSION_KEY_PREFIX + sessionId;
+        Object email = redisTemplate.opsForHash().get(sessionKey, "email");
+        redisTemplate.delete(sessionKey);
+        if (email != null) {
+            redisTemplate.opsForSet().remove(USER_KEY_PREFIX + email, sessionId);
+        }
+    }
+
+
+    @Override
+    public void revokeAllSessions(String email) {
+        String userKey = USER_KEY_PREFIX + email;
+        Set<String> sessionIds = redisTemplate.opsForSet().members(userKey);
+        List<String> keys = new ArrayList<>();
+        keys.add(userKey);
+        if (sessionIds != null) {
+            sessionIds.forEach(sessionId -> keys.add(SESSION_KEY_PREFIX + sessionId));
+        }
+        redisTemplate.delete(keys);
+    }
+}
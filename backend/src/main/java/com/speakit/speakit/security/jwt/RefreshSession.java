@@ -0,0 +1,16 @@
+package com.speakit.speakit.security.jwt;
+
+import lombok.*;
+
+// 로그인 세션(기기)별 refresh token 상태, tokenId는 현재 유효한 refresh token의 jti
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshSession {
+    private String sessionId;
+    private String tokenId;
+    private Long userId;
+    private String email;
+    private String role;
+}
@@ -0,0 +1,25 @@
+package com.speakit.speakit.security.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// RefreshTokenStore.rotate() 결과
+@Getter
+@AllArgsConstructor
+public class RefreshTokenRotation {
+
+    public enum Status {
+        ROTATED,    // 정상 교체됨
+        REUSED,     // 이미 교체된 이전 토큰이 다시 사용됨 (세션 폐기됨)
+        NOT_FOUND   // 세션이 없거나 만료/로그아웃됨
+    }
+
+    private final Status status;
+
+    // ROTATED인 경우에만 값이 있음 (새 tokenId가 반영된 세션)
+    private final RefreshSession session;
+
+    public static RefreshTokenRotation of(Status status) {
+        return new RefreshTokenRotation(status, null);
+    }
+}
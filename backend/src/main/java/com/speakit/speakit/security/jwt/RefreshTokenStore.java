@@ -0,0 +1,21 @@
+package com.speakit.speakit.security.jwt;
+
+import java.time.Duration;
+
+// refresh token 저장소 (운영: Redis, 테스트/로컬: 메모리), jwt.refreshTokenStore 값으로 선택
+// 세션 ID 하나에 현재 유효한 jti 하나만 저장하므로, 교체 후 이전 jti가 다시 제출되면 재사용으로 판단
+public interface RefreshTokenStore {
+
+    // 새 로그인 세션 저장
+    void save(RefreshSession session, Duration ttl);
+
+    // 제출된 jti가 세션의 현재 jti와 같으면 newTokenId로 교체, 다르면 재사용으로 보고 세션 전체를 폐기
+    // 교체 시 사용자(email)의 세션 목록 만료도 함께 연장하여, 로그인 후 교체만 반복하는 세션도 revokeAllSessions에서 찾을 수 있도록 함
+    RefreshTokenRotation rotate(String sessionId, String email, String presentedTokenId, String newTokenId, Duration ttl);
+
+    // 세션 하나 폐기 (기기 하나 로그아웃)
+    void revokeSession(String sessionId);
+
+    // 사용자의 모든 세션 폐기 (회원 탈퇴 등)
+    void revokeAllSessions(String email);
+}
@@ -0,0 +1,72 @@
+package com.speakit.speakit.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+// Access Token 폐기 목록 (jwt.revocation.enabled=true 일 때만 사용)
+// 사용자별 폐기 기준 시각과 개별 토큰 ID만 메모리에 보관하며, 항목은 Access Token 유효 기간이 지나면 자동으로 제거
+// 목록은 서버(프로세스)마다 따로 유지되므로, 다중 서버에서는 폐기를 처리한 서버에서만 토큰이 거절되고 다른 서버는 만료 전까지 허용
+@Component
+public class TokenRevocationList {
+
+    private final boolean enabled;
+
+    // 이메일 -> 이 시각(초 단위) 이전에 발급된 토큰은 모두 폐기
+    private final Cache<String, Instant> revokedBefore;
+
+    // 개별적으로 폐기된 토큰 ID (jti)
+    private final Cache<String, Boolean> revokedTokenIds;
+
+    public TokenRevocationList(@Value("${jwt.revocation.enabled:false}") boolean enabled,
+                               @Value("${jwt.accessTokenExpiration}") Duration accessTokenExpiration) {
+        this.enabled = enabled;
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(accessTokenExpiration)
+                .build();
+        this.revokedTokenIds = Caffeine.newBuilder()
+                .expireAfterWrite(accessTokenExpiration)
+                .build();
+    }
+
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+
+    // 로그아웃, 회원 탈퇴 시 해당 사용자에게 지금까지 발급된 Access Token을 모두 폐기
+    // JWT의 iat는 초 단위이므로 기준 시각도 초 단위로 자름 (밀리초로 비교하면 폐기 직후 같은 초에 다시 로그인한 토큰까지 거절됨)
+    public void revokeAllForUser(String email) {
+        if (enabled && email != null) {
+            revokedBefore.put(email, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+
+
+    // 특정 Access Token 하나만 폐기
+    public void revokeToken(String tokenId) {
+        if (enabled && tokenId != null) {
+            revokedTokenIds.put(tokenId, Boolean.TRUE);
+        }
+    }
+
+
+    // 토큰이 폐기되었는지 확인 (비활성화 상태에서는 항상 false)
+    // iat가 기준 시각과 같은 초인 토큰은 유효로 처리하므로, 폐기와 같은 초에 발급된 이전 토큰은 만료 전까지 허용될 수 있음
+    public boolean isRevoked(JwtClaims claims) {
+        if (!enabled) {
+            return false;
+        }
+        if (claims.getTokenId() != null && revokedTokenIds.getIfPresent(claims.getTokenId()) != null) {
+            return true;
+        }
+        Instant cutoff = revokedBefore.getIfPresent(claims.getUsername());
+        return cutoff != null && claims.getIssuedAt() != null && claims.getIssuedAt().isBefore(cutoff);
+    }
+}
@@ -6,25 +6,34 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
 
 import static com.speakit.speakit.util.Constants.*;
 
 // OAuth2AuthorizationRequest를 쿠키에 저장하고, 조회하며, 제거하는 역할을 수행합니다.
+// 쿠키에 담기는 값(서명된 인가 요청 또는 서버 저장소의 ID)은 OAuth2AuthorizationRequestStore 구현체가 결정합니다.
+@Component
 public class HttpCookieOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
 
     // 쿠키의 유효 기간을 초 단위로 설정 (180초 = 3분)
     private static final int COOKIE_EXPIRE_SECONDS = 180;
 
+    private final OAuth2AuthorizationRequestStore authorizationRequestStore;
 
-    // 요청에서 OAuth2AuthorizationRequest 쿠키를 읽어서 객체로 역직렬화합니다.
+    public HttpCookieOAuth2AuthorizationRequestRepository(OAuth2AuthorizationRequestStore authorizationRequestStore) {
+        this.authorizationRequestStore = authorizationRequestStore;
+    }
+
+
+    // 요청에서 OAuth2AuthorizationRequest 쿠키를 읽어서 저장소에서 객체로 복원합니다.
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
         // CookieUtils를 사용하여 "oauth2_auth_request" 이름의 쿠키를 검색
         Cookie cookie = CookieUtils.getCookie(request, OAUTH2_AUTH_REQUEST_COOKIE_NAME).orElse(null);
 
-        // 쿠키가 존재하면, 해당 쿠키 값을 역직렬화하여 OAuth2AuthorizationRequest 객체로 변환 후 반환
+        // 쿠키가 존재하면, 해당 쿠키 값으로 OAuth2AuthorizationRequest 객체를 복원하여 반환 (서명 검증 실패, 만료 시 null)
         if (cookie != null) {
-            return CookieUtils.deserialize(cookie, OAuth2AuthorizationRequest.class);
+            return authorizationRequestStore.load(cookie.getValue());
         }
 
         // 쿠키가 없으면 null 반환
@@ -43,11 +52,11 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
             return;
         }
 
-        // OAuth2AuthorizationRequest 객체를 직렬화하여 문자열로 변환
-        String serializedRequest = CookieUtils.serialize(authorizationRequest);
+        // OAuth2AuthorizationRequest 객체를 저장소에 저장하고, 쿠키에 담을 값(서명된 인가 요청 또는 ID)을 받음
+        String cookieValue = authorizationRequestStore.save(authorizationRequest);
 
-        // 직렬화된 값을 "oauth2_auth_request" 쿠키에 저장 (설정된 만료 시간 적용)
-        CookieUtils.addCookie(response, OAUTH2_AUTH_REQUEST_COOKIE_NAME, serializedRequest, COOKIE_EXPIRE_SECONDS);
+        // 해당 값을 "oauth2_auth_request" 쿠키에 저장 (설정된 만료 시간 적용)
+        CookieUtils.addCookie(response, OAUTH2_AUTH_REQUEST_COOKIE_NAME, cookieValue, COOKIE_EXPIRE_SECONDS);
 
         // 로그인 후 리다이렉트할 URL 값을 요청 파라미터에서 가져옴
         String redirectUriAfterLogin = request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
@@ -62,8 +71,9 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
     // 요청에서 OAuth2AuthorizationRequest를 불러온 후, 관련 쿠키들을 삭제하고 해당 객체를 반환
     @Override
     public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
-        // 현재 요청에서 저장된 OAuth2AuthorizationRequest를 불러옴
-        OAuth2AuthorizationRequest authRequest = loadAuthorizationRequest(request);
+        // 현재 요청에서 저장된 OAuth2AuthorizationRequest를 저장소에서 꺼냄 (서버 저장 방식은 이때 삭제되어 재사용 불가)
+        Cookie cookie = CookieUtils.getCookie(request, OAUTH2_AUTH_REQUEST_COOKIE_NAME).orElse(null);
+        OAuth2AuthorizationRequest authRequest = cookie != null ? authorizationRequestStore.remove(cookie.getValue()) : null;
 
         // 관련된 모든 쿠키들을 삭제
         deleteAuthorizationRequestCookies(request, response);
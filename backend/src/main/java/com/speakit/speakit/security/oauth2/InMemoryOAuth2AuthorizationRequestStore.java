@@ -0,0 +1,45 @@
+package com.speakit.speakit.security.oauth2;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 인가 요청을 메모리에 저장하고 쿠키에는 무작위 ID만 담는 저장소 (단일 서버 로컬 실행용, oauth2.authorizationRequest.store=memory)
+@Component
+@ConditionalOnProperty(name = "oauth2.authorizationRequest.store", havingValue = "memory")
+public class InMemoryOAuth2AuthorizationRequestStore implements OAuth2AuthorizationRequestStore {
+
+    private final Cache<String, OAuth2AuthorizationRequest> requests;
+
+    public InMemoryOAuth2AuthorizationRequestStore(@Value("${oauth2.authorizationRequest.maxAge:180s}") Duration maxAge) {
+        this.requests = Caffeine.newBuilder()
+                .expireAfterWrite(maxAge)
+                .maximumSize(100_000)
+                .build();
+    }
+
+
+    @Override
+    public String save(OAuth2AuthorizationRequest authorizationRequest) {
+        String id = OAuth2AuthorizationRequestIds.generate();
+        requests.put(id, authorizationRequest);
+        return id;
+    }
+
+
+    @Override
+    public OAuth2AuthorizationRequest load(String cookieValue) {
+        return OAuth2AuthorizationRequestIds.isValid(cookieValue) ? requests.getIfPresent(cookieValue) : null;
+    }
+
+
+    @Override
+    public OAuth2AuthorizationRequest remove(String cookieValue) {
+        return OAuth2AuthorizationRequestIds.isValid(cookieValue) ? requests.asMap().remove(cookieValue) : null;
+    }
+}
@@ -1,11 +1,16 @@
 package com.speakit.speakit.security.oauth2;
 
+import com.speakit.speakit.dto.user.TokenPairDTO;
+import com.speakit.speakit.dto.user.UserCacheDTO;
 import com.speakit.speakit.security.jwt.JwtTokenProvider;
+import com.speakit.speakit.service.user.TokenService;
+import com.speakit.speakit.service.user.UserCacheService;
 import com.speakit.speakit.util.CookieUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import java.io.IOException;
@@ -19,9 +24,15 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserCacheService userCacheService;
+
     // OAuth2 상태 정보를 담은 쿠키를 삭제하기 위해 사용
-    private final HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository =
-            new HttpCookieOAuth2AuthorizationRequestRepository();
+    @Autowired
+    private HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository;
 
     // JWT 토큰을 생성한 후 HttpOnly 쿠키에 저장하고, 클라이언트를 메인 페이지로 리다이렉트합니다.
     @Override
@@ -30,9 +41,15 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
                                         Authentication authentication) throws IOException {
 
 
-        // JWT 토큰 생성 (access token과 refresh token)
-        String accessToken = jwtTokenProvider.generateAccessToken(authentication);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
+        // CustomOAuth2UserService에서 저장한 사용자를 이메일 속성으로 조회
+        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
+        UserCacheDTO user = userCacheService.getByEmail(oAuth2User.getAttribute("email"));
+        if (user == null) {
+            throw new IllegalStateException("소셜 로그인 사용자 정보를 찾을 수 없습니다.");
+        }
+
+        // JWT 토큰 생성 (access token과 refresh token, refresh token은 새 세션으로 저장)
+        TokenPairDTO tokens = tokenService.issueTokens(user.getId(), user.getEmail(), user.getRole());
 
 
         // OAuth2 로그인 과정 중 사용했던 상태 쿠키 삭제
@@ -40,7 +57,7 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
 
         // CookieUtils.setAuthCookies()를 사용하여 HttpOnly 쿠키에 JWT 토큰을 저장
         CookieUtils.setAuthCookies(response,
-                accessToken, refreshToken,
+                tokens.getAccessToken(), tokens.getRefreshToken(),
                 jwtTokenProvider.getAccessTokenExpiration(), jwtTokenProvider.getRefreshTokenExpiration());
 
         // 클라이언트를 메인 페이지로 리다이렉트 (쿠키는 자동 전송됨)
@@ -0,0 +1,224 @@
+package com.speakit.speakit.security.oauth2;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// OAuth2AuthorizationRequest를 쿠키에 담을 수 있는 짧은 문자열로 변환하는 코덱 (Java 직렬화 대체)
+// 형식: <플래그><Base64URL(JSON 또는 Deflate(JSON))>.<Base64URL(HMAC-SHA256 앞 16바이트)>
+// - 필요한 필드만 짧은 키의 JSON으로 저장, authorizationRequestUri는 나머지 필드로 다시 계산되므로 저장하지 않음
+// - 압축이 켜져 있고 결과가 더 작을 때만 Deflate 적용 (플래그 'z', 미압축은 'j')
+// - 서명이 맞지 않거나, 발급 후 maxAge가 지났거나, 형식이 잘못된 값은 null로 처리
+@Component
+public class OAuth2AuthorizationRequestCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+    private static final char PLAIN = 'j';
+    private static final char DEFLATED = 'z';
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final Mac macPrototype;
+    private final boolean compress;
+    private final int maxEncodedLength;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    public OAuth2AuthorizationRequestCodec(ObjectMapper objectMapper,
+                                           @Value("${oauth2.authorizationRequest.signingKey:${jwt.secret}}") String signingKey,
+                                           @Value("${oauth2.authorizationRequest.compress:false}") boolean compress,
+                                           @Value("${oauth2.authorizationRequest.maxCookieBytes:3072}") int maxEncodedLength,
+                                           @Value("${oauth2.authorizationRequest.maxAge:180s}") Duration maxAge) {
+        this(objectMapper, signingKey, compress, maxEncodedLength, maxAge, Clock.systemUTC());
+    }
+
+    OAuth2AuthorizationRequestCodec(ObjectMapper objectMapper, String signingKey, boolean compress,
+                                    int maxEncodedLength, Duration maxAge, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.compress = compress;
+        this.maxEncodedLength = maxEncodedLength;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        try {
+            this.macPrototype = Mac.getInstance(HMAC_ALGORITHM);
+            this.macPrototype.init(new SecretKeySpec(signingKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth2 인증 요청 서명 키를 초기화할 수 없습니다.", e);
+        }
+    }
+
+
+    // 인가 요청을 서명된 문자열로 변환, 크기 제한을 넘으면 브라우저가 쿠키를 버리므로 예외 발생
+    public String encode(OAuth2AuthorizationRequest authorizationRequest) {
+        byte[] json = toJson(authorizationRequest);
+
+        char flag = PLAIN;
+        byte[] payload = json;
+        if (compress) {
+            byte[] deflated = deflate(json);
+            if (deflated.length < json.length) {
+                flag = DEFLATED;
+                payload = deflated;
+            }
+        }
+
+        String body = flag + ENCODER.encodeToString(payload);
+        String encoded = body + '.' + ENCODER.encodeToString(sign(body));
+        if (encoded.length() > maxEncodedLength) {
+            throw new IllegalStateException("OAuth2 인증 요청이 쿠키 크기 제한(" + maxEncodedLength + "바이트)을 초과했습니다: " + encoded.length());
+        }
+        return encoded;
+    }
+
+
+    // 서명과 만료 시간을 확인한 후 인가 요청으로 복원, 검증에 실패하면 null 반환
+    public OAuth2AuthorizationRequest decode(String encoded) {
+        if (!StringUtils.hasText(encoded) || encoded.length() > maxEncodedLength) {
+            return null;
+        }
+        int dot = encoded.lastIndexOf('.');
+        if (dot < 2) {
+            return null;
+        }
+        String body = encoded.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(encoded.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(body), signature)) {
+                return null;
+            }
+
+            byte[] payload = DECODER.decode(body.substring(1));
+            byte[] json = switch (body.charAt(0)) {
+                case PLAIN -> payload;
+                case DEFLATED -> inflate(payload);
+                default -> null;
+            };
+            return json != null ? fromJson(objectMapper.readTree(json)) : null;
+        } catch (IllegalArgumentException | IOException | DataFormatException e) {
+            return null;
+        }
+    }
+
+
+    private byte[] toJson(OAuth2AuthorizationRequest request) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("u", request.getAuthorizationUri());
+        node.put("c", request.getClientId());
+        node.put("r", request.getRedirectUri());
+        node.put("s", String.join(" ", request.getScopes()));
+        node.put("st", request.getState());
+        node.set("p", objectMapper.valueToTree(request.getAdditionalParameters()));
+        node.set("a", objectMapper.valueToTree(request.getAttributes()));
+        node.put("t", clock.instant().getEpochSecond());
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new IllegalStateException("OAuth2 인증 요청을 변환할 수 없습니다.", e);
+        }
+    }
+
+
+    private OAuth2AuthorizationRequest fromJson(JsonNode node) {
+        long issuedAt = node.path("t").asLong(0);
+        if (clock.instant().getEpochSecond() - issuedAt > maxAge.toSeconds()) {
+            return null;
+        }
+
+        String scopes = node.path("s").asText("");
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(node.path("u").asText())
+                .clientId(node.path("c").asText())
+                .redirectUri(node.path("r").isNull() ? null : node.path("r").asText(null))
+                .scopes(scopes.isEmpty() ? null : new LinkedHashSet<>(Arrays.asList(scopes.split(" "))))
+                .state(node.path("st").isNull() ? null : node.path("st").asText(null))
+                .additionalParameters(toMap(node.path("p")))
+                .attributes(toMap(node.path("a")))
+                .build();
+    }
+
+
+    // 값은 대부분 문자열(nonce, registration_id, code_challenge 등)이므로 문자열은 그대로, 그 외 값만 Jackson으로 변환
+    private Map<String, Object> toMap(JsonNode node) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        node.fields().forEachRemaining(field -> map.put(field.getKey(), field.getValue().isTextual()
+                ? field.getValue().textValue()
+                : objectMapper.convertValue(field.getValue(), Object.class)));
+        return map;
+    }
+
+
+    private byte[] sign(String body) {
+        try {
+            Mac mac = (Mac) macPrototype.clone();
+            return Arrays.copyOf(mac.doFinal(body.getBytes(StandardCharsets.US_ASCII)), SIGNATURE_BYTES);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+
+    // 서명을 통과한 값만 압축 해제하지만, 출력 크기에도 상한을 둠
+    private byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated");
+                }
+                out.write(buffer, 0, count);
+                if (out.size() > maxEncodedLength * 8) {
+                    throw new DataFormatException("too large");
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.speakit.speakit.security.oauth2;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+// 서버 저장 방식에서 쿠키에 담는 인가 요청 ID (128비트 난수, Base64URL 22자)
+final class OAuth2AuthorizationRequestIds {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Pattern ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{22}");
+
+    private OAuth2AuthorizationRequestIds() {
+    }
+
+
+    static String generate() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+
+    static boolean isValid(String id) {
+        return id != null && ID_PATTERN.matcher(id).matches();
+    }
+}
@@ -0,0 +1,17 @@
+package com.speakit.speakit.security.oauth2;
+
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+// OAuth2 인가 요청 저장소 (oauth2.authorizationRequest.store = cookie | redis | memory)
+// save가 반환한 값이 쿠키에 저장되며, cookie 방식은 인가 요청 자체를, 서버 저장 방식은 짧은 ID만 반환
+public interface OAuth2AuthorizationRequestStore {
+
+    // 인가 요청을 저장하고 쿠키에 담을 값을 반환
+    String save(OAuth2AuthorizationRequest authorizationRequest);
+
+    // 쿠키 값으로 인가 요청 조회, 없거나 만료/위조된 경우 null
+    OAuth2AuthorizationRequest load(String cookieValue);
+
+    // 쿠키 값으로 인가 요청을 조회하고 제거 (인가 요청은 한 번만 사용)
+    OAuth2AuthorizationRequest remove(String cookieValue);
+}
@@ -0,0 +1,231 @@
+package com.speakit.speakit.security.oauth2;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.HttpHostConnectException;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// 소셜 로그인 공급자(Google, Naver, Kakao) API 호출용 공유 HTTP 클라이언트
+// 공급자별로 별도의 커넥션 풀을 두어 한 공급자의 지연이 다른 공급자의 연결을 고갈시키지 않도록 하고,
+// 연결/응답 제한 시간, 지터가 적용된 재시도, 공급자별 지연 시간 메트릭(oauth.client.requests)을 제공
+@Component
+public class OAuthHttpClient implements DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxConnectionsPerProvider;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    // 공급자 이름 -> 전용 커넥션 풀을 사용하는 클라이언트
+    private final Map<String, ProviderClient> clients = new ConcurrentHashMap<>();
+
+    private record ProviderClient(CloseableHttpClient httpClient, RestTemplate restTemplate) {
+    }
+
+    public OAuthHttpClient(MeterRegistry meterRegistry,
+                           @Value("${oauth.http.maxConnectionsPerProvider:50}") int maxConnectionsPerProvider,
+                           @Value("${oauth.http.connectTimeout:2s}") Duration connectTimeout,
+                           @Value("${oauth.http.readTimeout:5s}") Duration readTimeout,
+                           @Value("${oauth.http.maxAttempts:3}") int maxAttempts,
+                           @Value("${oauth.http.retryBackoff:200ms}") Duration retryBackoff) {
+        this.meterRegistry = meterRegistry;
+        this.maxConnectionsPerProvider = maxConnectionsPerProvider;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+    }
+
+
+    // 인가 코드를 소셜 서비스 토큰 엔드포인트에 전송하여 access token을 받기
+    // 인가 코드는 한 번만 사용할 수 있으므로 요청이 전송되지 않은 연결 실패만 재시도
+    public String exchangeCodeForAccessToken(String provider, String tokenUrl, String clientId, String clientSecret,
+                                             String redirectUri, String code) {
+        HttpHeaders tokenHeaders = new HttpHeaders();
+        tokenHeaders.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        MultiValueMap<String, String> tokenParams = new LinkedMultiValueMap<>();
+        tokenParams.add("code", code);
+        tokenParams.add("client_id", clientId);
+        tokenParams.add("client_secret", clientSecret);
+        tokenParams.add("redirect_uri", redirectUri);
+        tokenParams.add("grant_type", "authorization_code");
+
+        HttpEntity<MultiValueMap<String, String>> tokenRequest = new HttpEntity<>(tokenParams, tokenHeaders);
+        ResponseEntity<JsonNode> tokenResponse = execute(provider, "token", false,
+                () -> restTemplate(provider).exchange(tokenUrl, HttpMethod.POST, tokenRequest, JsonNode.class));
+        if (!tokenResponse.getStatusCode().is2xxSuccessful() || tokenResponse.getBody() == null) {
+            throw new RuntimeException("Failed to retrieve access token from provider");
+        }
+        return tokenResponse.getBody().path("access_token").asText(null);
+    }
+
+
+    // 지정된 사용자 정보 엔드포인트에서 access token을 사용해 사용자 정보를 조회
+    // 응답은 JsonNode 트리로 받아 공급자별 SocialProfileExtractor가 필요한 필드만 추출
+    public JsonNode retrieveUserInfo(String provider, String userInfoUrl, String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        HttpEntity<String> requestEntity = new HttpEntity<>(headers);
+
+        ResponseEntity<JsonNode> response = execute(provider, "userinfo", true,
+                () -> restTemplate(provider).exchange(userInfoUrl, HttpMethod.GET, requestEntity, JsonNode.class));
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new RuntimeException("Failed to retrieve user info from provider");
+        }
+        return response.getBody();
+    }
+
+
+    // 연동 해제(토큰 폐기) API 호출 (GET 방식: Google, Naver)
+    public ResponseEntity<String> revoke(String provider, String revokeUrl) {
+        return execute(provider, "revoke", true,
+                () -> restTemplate(provider).getForEntity(revokeUrl, String.class));
+    }
+
+
+    // 연동 해제 API 호출 (Bearer 토큰 POST 방식: Kakao)
+    public ResponseEntity<String> revokeWithBearer(String provider, String revokeUrl, String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        HttpEntity<?> entity = new HttpEntity<>(headers);
+        return execute(provider, "revoke", true,
+                () -> restTemplate(provider).postForEntity(revokeUrl, entity, String.class));
+    }
+
+
+    @Override
+    public void destroy() throws IOException {
+        for (ProviderClient client : clients.values()) {
+            client.httpClient().close();
+        }
+    }
+
+
+    // 호출 시간을 공급자/작업/결과별로 기록하고, 재시도 가능한 실패는 지터가 적용된 지수 백오프 후 재시도
+    private <T> T execute(String provider, String operation, boolean idempotent, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                T result = call.get();
+                sample.stop(requestTimer(provider, operation, "SUCCESS"));
+                return result;
+            } catch (RestClientException e) {
+                sample.stop(requestTimer(provider, operation, outcome(e)));
+                if (attempt >= maxAttempts || !isRetryable(e, idempotent)) {
+                    throw e;
+                }
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+
+    // 연결 자체가 실패한 경우는 요청이 전송되지 않았으므로 항상 재시도,
+    // 응답 지연(읽기 제한 시간 초과)이나 5xx, 429는 같은 요청을 반복해도 안전한 경우에만 재시도
+    private boolean isRetryable(RestClientException e, boolean idempotent) {
+        if (e instanceof ResourceAccessException) {
+            Throwable cause = e.getCause();
+            boolean connectFailure = cause instanceof ConnectException
+                    || cause instanceof HttpHostConnectException
+                    || cause instanceof ConnectTimeoutException;
+            return connectFailure || idempotent;
+        }
+        if (e instanceof HttpServerErrorException) {
+            return idempotent;
+        }
+        if (e instanceof HttpClientErrorException clientError) {
+            return idempotent && clientError.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return false;
+    }
+
+
+    // Full jitter: 0 ~ (retryBackoff * 2^(attempt-1)) 사이의 임의 시간 대기
+    private void sleepBeforeRetry(int attempt) {
+        long maxDelay = retryBackoff.toMillis() << (attempt - 1);
+        long delay = ThreadLocalRandom.current().nextLong(maxDelay + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("재시도 대기 중 인터럽트가 발생했습니다.");
+        }
+    }
+
+
+    private String outcome(RestClientException e) {
+        if (e instanceof RestClientResponseException responseException) {
+            return String.valueOf(responseException.getStatusCode().value());
+        }
+        return e instanceof ResourceAccessException ? "IO_ERROR" : "ERROR";
+    }
+
+
+    private Timer requestTimer(String provider, String operation, String outcome) {
+        return Timer.builder("oauth.client.requests")
+                .tag("provider", provider)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+
+    private RestTemplate restTemplate(String provider) {
+        return clients.computeIfAbsent(provider, key -> createClient()).restTemplate();
+    }
+
+
+    // 공급자 전용 커넥션 풀 (keep-alive 연결 재사용, 유휴 연결 정리, 자체 재시도는 비활성화하고 execute()에서 처리)
+    private ProviderClient createClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnectionsPerProvider)
+                .setMaxConnPerRoute(maxConnectionsPerProvider)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableAutomaticRetries()
+                .build();
+
+        return new ProviderClient(httpClient, new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.speakit.speakit.security.oauth2;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 인가 요청을 Redis에 저장하고 쿠키에는 무작위 ID만 담는 저장소 (oauth2.authorizationRequest.store=redis)
+// 키: oauth2:authreq:{id}, TTL 적용, 제거는 GETDEL로 원자적으로 한 번만 성공
+@Component
+@ConditionalOnProperty(name = "oauth2.authorizationRequest.store", havingValue = "redis")
+public class RedisOAuth2AuthorizationRequestStore implements OAuth2AuthorizationRequestStore {
+
+    private static final String KEY_PREFIX = "oauth2:authreq:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final OAuth2AuthorizationRequestCodec codec;
+    private final Duration maxAge;
+
+    public RedisOAuth2AuthorizationRequestStore(StringRedisTemplate redisTemplate,
+                                                OAuth2AuthorizationRequestCodec codec,
+                                                @Value("${oauth2.authorizationRequest.maxAge:180s}") Duration maxAge) {
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.maxAge = maxAge;
+    }
+
+
+    @Override
+    public String save(OAuth2AuthorizationRequest authorizationRequest) {
+        String id = OAuth2AuthorizationRequestIds.generate();
+        redisTemplate.opsForValue().set(KEY_PREFIX + id, codec.encode(authorizationRequest), maxAge);
+        return id;
+    }
+
+
+    @Override
+    public OAuth2AuthorizationRequest load(String cookieValue) {
+        if (!OAuth2AuthorizationRequestIds.isValid(cookieValue)) {
+            return null;
+        }
+        return codec.decode(redisTemplate.opsForValue().get(KEY_PREFIX + cookieValue));
+    }
+
+
+    @Override
+    public OAuth2AuthorizationRequest remove(String cookieValue) {
+        if (!OAuth2AuthorizationRequestIds.isValid(cookieValue)) {
+            return null;
+        }
+        return codec.decode(redisTemplate.opsForValue().getAndDelete(KEY_PREFIX + cookieValue));
+    }
+}
@@ -0,0 +1,36 @@
+package com.speakit.speakit.security.oauth2;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+// 인가 요청 전체를 서명된 쿠키 값으로 저장하는 무상태 저장소 (기본값, oauth2.authorizationRequest.store=cookie)
+// 서버에 상태가 없으므로 쿠키 삭제가 곧 제거이며, 재사용은 서명에 포함된 발급 시각(maxAge)으로 제한
+@Component
+@ConditionalOnProperty(name = "oauth2.authorizationRequest.store", havingValue = "cookie", matchIfMissing = true)
+public class SignedCookieOAuth2AuthorizationRequestStore implements OAuth2AuthorizationRequestStore {
+
+    private final OAuth2AuthorizationRequestCodec codec;
+
+    public SignedCookieOAuth2AuthorizationRequestStore(OAuth2AuthorizationRequestCodec codec) {
+        this.codec = codec;
+    }
+
+
+    @Override
+    public String save(OAuth2AuthorizationRequest authorizationRequest) {
+        return codec.encode(authorizationRequest);
+    }
+
+
+    @Override
+    public OAuth2AuthorizationRequest load(String cookieValue) {
+        return codec.decode(cookieValue);
+    }
+
+
+    @Override
+    public OAuth2AuthorizationRequest remove(String cookieValue) {
+        return codec.decode(cookieValue);
+    }
+}
@@ -0,0 +1,67 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.speakit.speakit.security.oauth2.OAuthHttpClient;
+
+// 토큰 교환, 사용자 정보 조회, 프로필 추출의 공통 흐름을 구현한 SocialProvider 기본 클래스
+// 공급자별 구현은 엔드포인트, 프로필 추출기, 연동 해제 방식만 지정
+public abstract class AbstractSocialProvider implements SocialProvider {
+
+    protected final OAuthHttpClient oAuthHttpClient;
+    protected final String clientId;
+    protected final String clientSecret;
+
+    private final String registrationId;
+    private final String tokenUrl;
+    private final String userInfoUrl;
+    private final String redirectUri;
+    private final SocialProfileExtractor profileExtractor;
+
+    protected AbstractSocialProvider(String registrationId,
+                                     String tokenUrl,
+                                     String userInfoUrl,
+                                     SocialProfileExtractor profileExtractor,
+                                     OAuthHttpClient oAuthHttpClient,
+                                     String clientId,
+                                     String clientSecret,
+                                     String redirectUri) {
+        this.registrationId = registrationId;
+        this.tokenUrl = tokenUrl;
+        this.userInfoUrl = userInfoUrl;
+        this.profileExtractor = profileExtractor;
+        this.oAuthHttpClient = oAuthHttpClient;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.redirectUri = redirectUri;
+    }
+
+
+    @Override
+    public String getRegistrationId() {
+        return registrationId;
+    }
+
+
+    @Override
+    public String exchangeCodeForAccessToken(String code) {
+        return oAuthHttpClient.exchangeCodeForAccessToken(registrationId, tokenUrl, clientId, clientSecret, redirectUri, code);
+    }
+
+
+    @Override
+    public SocialUserProfile fetchUserProfile(String accessToken) {
+        return extractProfile(oAuthHttpClient.retrieveUserInfo(registrationId, userInfoUrl, accessToken));
+    }
+
+
+    @Override
+    public SocialUserProfile extractProfile(JsonNode userInfo) {
+        return profileExtractor.extract(userInfo);
+    }
+
+
+    // 연동 해제 실패 시 공통 예외
+    protected RuntimeException revokeFailed() {
+        return new RuntimeException(registrationId + " 연동 해제에 실패하였습니다.");
+    }
+}
@@ -0,0 +1,33 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import com.speakit.speakit.security.oauth2.OAuthHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+// Google 소셜 로그인 공급자 (사용자 정보: { "sub", "email", "name" })
+@Component
+public class GoogleSocialProvider extends AbstractSocialProvider {
+
+    private static final String TOKEN_URL = "https://oauth2.googleapis.com/token";
+    private static final String USER_INFO_URL = "https://www.googleapis.com/oauth2/v3/userinfo";
+    private static final String REVOKE_URL = "https://accounts.google.com/o/oauth2/revoke?token=";
+
+    public GoogleSocialProvider(OAuthHttpClient oAuthHttpClient,
+                                @Value("${spring.security.oauth2.client.registration.google.client-id}") String clientId,
+                                @Value("${spring.security.oauth2.client.registration.google.client-secret}") String clientSecret,
+                                @Value("${spring.security.oauth2.client.registration.google.redirect-uri}") String redirectUri) {
+        super("google", TOKEN_URL, USER_INFO_URL,
+                new SocialProfileExtractor("google", "/sub", "/email", "/name"),
+                oAuthHttpClient, clientId, clientSecret, redirectUri);
+    }
+
+
+    @Override
+    public void revoke(String socialAccessToken) {
+        ResponseEntity<String> response = oAuthHttpClient.revoke(getRegistrationId(), REVOKE_URL + socialAccessToken);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw revokeFailed();
+        }
+    }
+}
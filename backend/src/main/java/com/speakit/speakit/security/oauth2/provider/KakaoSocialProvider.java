@@ -0,0 +1,36 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import com.speakit.speakit.security.oauth2.OAuthHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Kakao 소셜 로그인 공급자 (사용자 정보: { "id", "kakao_account": { "email" }, "properties": { "nickname" } })
+@Component
+public class KakaoSocialProvider extends AbstractSocialProvider {
+
+    private static final String TOKEN_URL = "https://kauth.kakao.com/oauth/token";
+    private static final String USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+    private static final String UNLINK_URL = "https://kapi.kakao.com/v1/user/unlink";
+
+    public KakaoSocialProvider(OAuthHttpClient oAuthHttpClient,
+                               @Value("${spring.security.oauth2.client.registration.kakao.client-id}") String clientId,
+                               @Value("${spring.security.oauth2.client.registration.kakao.client-secret}") String clientSecret,
+                               @Value("${spring.security.oauth2.client.registration.kakao.redirect-uri}") String redirectUri) {
+        // 사용자 이름: 우선 최상위 profile_nickname, 없으면 properties.nickname
+        super("kakao", TOKEN_URL, USER_INFO_URL,
+                new SocialProfileExtractor("kakao", "/id", "/kakao_account/email",
+                        "/profile_nickname", "/properties/nickname"),
+                oAuthHttpClient, clientId, clientSecret, redirectUri);
+    }
+
+
+    // 카카오는 Bearer 토큰으로 unlink API를 호출하여 연동 해제
+    @Override
+    public void revoke(String socialAccessToken) {
+        try {
+            oAuthHttpClient.revokeWithBearer(getRegistrationId(), UNLINK_URL, socialAccessToken);
+        } catch (Exception e) {
+            throw revokeFailed();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import com.speakit.speakit.security.oauth2.OAuthHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+// Naver 소셜 로그인 공급자 (사용자 정보는 "response" 키 안에 있음: { "response": { "id", "email", "name" } })
+@Component
+public class NaverSocialProvider extends AbstractSocialProvider {
+
+    private static final String TOKEN_URL = "https://nid.naver.com/oauth2.0/token";
+    private static final String USER_INFO_URL = "https://openapi.naver.com/v1/nid/me";
+
+    public NaverSocialProvider(OAuthHttpClient oAuthHttpClient,
+                               @Value("${spring.security.oauth2.client.registration.naver.client-id}") String clientId,
+                               @Value("${spring.security.oauth2.client.registration.naver.client-secret}") String clientSecret,
+                               @Value("${spring.security.oauth2.client.registration.naver.redirect-uri}") String redirectUri) {
+        super("naver", TOKEN_URL, USER_INFO_URL,
+                new SocialProfileExtractor("naver", "/response/id", "/response/email", "/response/name"),
+                oAuthHttpClient, clientId, clientSecret, redirectUri);
+    }
+
+
+    // 네이버는 토큰 엔드포인트에 grant_type=delete로 요청하여 연동 해제
+    @Override
+    public void revoke(String socialAccessToken) {
+        String revokeUrl = TOKEN_URL + "?grant_type=delete"
+                + "&client_id=" + clientId
+                + "&client_secret=" + clientSecret
+                + "&access_token=" + socialAccessToken
+                + "&service_provider=NAVER";
+        ResponseEntity<String> response = oAuthHttpClient.revoke(getRegistrationId(), revokeUrl);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw revokeFailed();
+        }
+    }
+}
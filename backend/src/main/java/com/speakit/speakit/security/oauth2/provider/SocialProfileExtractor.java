@@ -0,0 +1,57 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+
+// 사용자 정보 응답에서 ID, 이메일, 이름을 꺼내는 추출기, 필드 경로는 생성 시 JsonPointer로 한 번만 컴파일하여 로그인마다 재사용
+// 이름은 여러 경로를 순서대로 시도하고, 모두 비어 있으면 "unknown" 사용
+public final class SocialProfileExtractor {
+
+    private static final String UNKNOWN_NAME = "unknown";
+
+    private final String registrationId;
+    private final JsonPointer idPointer;
+    private final JsonPointer emailPointer;
+    private final JsonPointer[] namePointers;
+
+    public SocialProfileExtractor(String registrationId, String idPath, String emailPath, String... namePaths) {
+        this.registrationId = registrationId;
+        this.idPointer = JsonPointer.compile(idPath);
+        this.emailPointer = JsonPointer.compile(emailPath);
+        this.namePointers = Arrays.stream(namePaths).map(JsonPointer::compile).toArray(JsonPointer[]::new);
+    }
+
+
+    public SocialUserProfile extract(JsonNode userInfo) {
+        String providerId = text(userInfo, idPointer);
+        if (providerId == null) {
+            throw new RuntimeException(registrationId + " 사용자 정보에 ID가 없습니다.");
+        }
+        String email = text(userInfo, emailPointer);
+        if (email == null) {
+            throw new RuntimeException(registrationId + " 사용자 정보에 이메일이 없습니다.");
+        }
+
+        String name = null;
+        for (JsonPointer namePointer : namePointers) {
+            name = text(userInfo, namePointer);
+            if (name != null) {
+                break;
+            }
+        }
+        return new SocialUserProfile(providerId, email, name != null ? name : UNKNOWN_NAME);
+    }
+
+
+    // 값이 없거나 비어 있으면 null, 숫자 ID(Kakao)는 문자열로 변환
+    private static String text(JsonNode root, JsonPointer pointer) {
+        JsonNode node = root.at(pointer);
+        if (node.isMissingNode() || node.isNull() || node.isContainerNode()) {
+            return null;
+        }
+        String value = node.asText();
+        return value.isBlank() ? null : value;
+    }
+}
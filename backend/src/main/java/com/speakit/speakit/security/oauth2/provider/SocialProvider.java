@@ -0,0 +1,22 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// 소셜 로그인 공급자 SPI, 공급자를 추가할 때는 이 인터페이스를 구현한 빈만 등록하면 SocialProviderRegistry에 자동으로 등록됨
+public interface SocialProvider {
+
+    // OAuth2 클라이언트 등록 ID (예: "google"), users.provider 컬럼 값과 동일
+    String getRegistrationId();
+
+    // 인가 코드를 공급자 access token으로 교환
+    String exchangeCodeForAccessToken(String code);
+
+    // 공급자 access token으로 사용자 정보를 조회하여 공통 프로필로 변환
+    SocialUserProfile fetchUserProfile(String accessToken);
+
+    // 사용자 정보 응답(JSON)에서 공통 프로필 추출
+    SocialUserProfile extractProfile(JsonNode userInfo);
+
+    // 공급자 측 연동 해제(토큰 폐기)
+    void revoke(String socialAccessToken);
+}
@@ -0,0 +1,31 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 등록된 SocialProvider 빈을 등록 ID로 조회하는 레지스트리, 공급자 분기 없이 해시 조회 한 번으로 공급자를 찾음
+@Component
+public class SocialProviderRegistry {
+
+    private final Map<String, SocialProvider> providers;
+
+    public SocialProviderRegistry(List<SocialProvider> providers) {
+        this.providers = Map.copyOf(providers.stream()
+                .collect(Collectors.toMap(provider -> provider.getRegistrationId().toLowerCase(Locale.ROOT), Function.identity())));
+    }
+
+
+    // 등록 ID(대소문자 무시)로 공급자 조회, 등록되지 않은 공급자면 예외
+    public SocialProvider get(String registrationId) {
+        SocialProvider provider = registrationId != null ? providers.get(registrationId.toLowerCase(Locale.ROOT)) : null;
+        if (provider == null) {
+            throw new RuntimeException("지원되지 않는 소셜 로그인입니다.");
+        }
+        return provider;
+    }
+}
@@ -0,0 +1,14 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 공급자별 사용자 정보 응답에서 추출한 공통 프로필
+@Getter
+@AllArgsConstructor
+public class SocialUserProfile {
+
+    private String providerId;
+    private String email;
+    private String name;
+}
@@ -0,0 +1,65 @@
+package com.speakit.speakit.security.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 저장된 해시의 비용 파라미터가 현재 설정과 "같지 않으면" 재해시하도록 upgradeEncoding을 바꾸는 PasswordEncoder 래퍼
+// 기본 구현은 비용이 올라간 경우만 재해시하므로, 비용을 낮추는 설정 변경도 로그인 시 반영되도록 동등 비교로 판단
+// encode/matches는 그대로 위임
+final class ParameterMatchingPasswordEncoder implements PasswordEncoder {
+
+    // $2a$10$... 형식에서 비용(log rounds) 추출
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
+    // $argon2id$v=19$m=19456,t=2,p=1$... 형식에서 메모리/반복 횟수/병렬도 추출
+    private static final Pattern ARGON2_PARAMETERS = Pattern.compile("\\$m=(\\d+),t=(\\d+),p=(\\d+)\\$");
+
+    private final PasswordEncoder delegate;
+    private final Predicate<String> differsFromConfiguration;
+
+    private ParameterMatchingPasswordEncoder(PasswordEncoder delegate, Predicate<String> differsFromConfiguration) {
+        this.delegate = delegate;
+        this.differsFromConfiguration = differsFromConfiguration;
+    }
+
+
+    static PasswordEncoder bcrypt(PasswordEncoder delegate, int strength) {
+        return new ParameterMatchingPasswordEncoder(delegate, encoded -> {
+            Matcher matcher = BCRYPT_COST.matcher(encoded);
+            return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+        });
+    }
+
+
+    static PasswordEncoder argon2(PasswordEncoder delegate, int memoryKiB, int iterations, int parallelism) {
+        return new ParameterMatchingPasswordEncoder(delegate, encoded -> {
+            Matcher matcher = ARGON2_PARAMETERS.matcher(encoded);
+            return matcher.find()
+                    && (Integer.parseInt(matcher.group(1)) != memoryKiB
+                    || Integer.parseInt(matcher.group(2)) != iterations
+                    || Integer.parseInt(matcher.group(3)) != parallelism);
+        });
+    }
+
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+
+    // 형식을 알 수 없는 해시는 matches에서 이미 실패하므로 재해시 대상으로 보지 않음
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword != null && differsFromConfiguration.test(encodedPassword);
+    }
+}
@@ -0,0 +1,62 @@
+package com.speakit.speakit.security.password;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 알고리즘과 비용(cost)을 설정값으로 조절할 수 있는 DelegatingPasswordEncoder 생성
+// 새 해시는 "{id}해시" 형식으로 저장되며, 접두사가 없는 기존 해시는 BCrypt로 검증
+// 알고리즘이 같더라도 저장된 비용 파라미터가 현재 설정과 다르면(높아지거나 낮아진 경우 모두) 로그인 시 재해시
+public class PasswordEncoderFactory {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    // Argon2 고정 파라미터 (salt 16바이트, hash 32바이트, 병렬도 1)
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+
+    // PBKDF2 salt 길이 (바이트)
+    private static final int PBKDF2_SALT_LENGTH = 16;
+
+
+    // encodingId: 새 비밀번호 해시에 사용할 알고리즘 (bcrypt, argon2, pbkdf2)
+    public static DelegatingPasswordEncoder create(String encodingId,
+                                                   int bcryptStrength,
+                                                   int argon2MemoryKiB,
+                                                   int argon2Iterations,
+                                                   int pbkdf2Iterations) {
+        PasswordEncoder bcrypt = ParameterMatchingPasswordEncoder.bcrypt(
+                new BCryptPasswordEncoder(bcryptStrength), bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, ParameterMatchingPasswordEncoder.argon2(
+                new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH,
+                        ARGON2_PARALLELISM, argon2MemoryKiB, argon2Iterations),
+                argon2MemoryKiB, argon2Iterations, ARGON2_PARALLELISM));
+        encoders.put(PBKDF2, new Pbkdf2IterationsPasswordEncoder(PBKDF2_SALT_LENGTH, pbkdf2Iterations));
+
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 알고리즘입니다: " + encodingId);
+        }
+
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+
+        // 접두사 없이 저장된 기존 BCrypt 해시도 검증할 수 있도록 기본 검증기로 지정 (로그인 성공 시 새 형식으로 재해시됨)
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegatingEncoder;
+    }
+
+
+    // 인스턴스화 방지
+    private PasswordEncoderFactory() {
+
+    }
+}
@@ -0,0 +1,82 @@
+package com.speakit.speakit.security.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// PBKDF2 해시 앞에 반복 횟수를 "{반복 횟수}$해시" 형식으로 함께 저장하는 PasswordEncoder
+// Pbkdf2PasswordEncoder는 반복 횟수를 해시에 남기지 않아, 설정을 바꾸면 기존 해시를 검증할 수 없고 재해시 여부도 판단할 수 없으므로
+// 저장된 반복 횟수로 검증하고, 설정값과 다르면(접두사가 없는 기존 해시 포함) upgradeEncoding이 true를 반환
+final class Pbkdf2IterationsPasswordEncoder implements PasswordEncoder {
+
+    private static final char SEPARATOR = '$';
+
+    private final int saltLength;
+    private final int iterations;
+    private final Pbkdf2PasswordEncoder configured;
+    private final Map<Integer, Pbkdf2PasswordEncoder> encodersByIterations = new ConcurrentHashMap<>();
+
+    Pbkdf2IterationsPasswordEncoder(int saltLength, int iterations) {
+        this.saltLength = saltLength;
+        this.iterations = iterations;
+        this.configured = newEncoder(iterations);
+        encodersByIterations.put(iterations, configured);
+    }
+
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return iterations + String.valueOf(SEPARATOR) + configured.encode(rawPassword);
+    }
+
+
+    // 접두사가 없는 기존 해시는 현재 설정의 반복 횟수로 검증
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return configured.matches(rawPassword, encodedPassword);
+        }
+        Integer storedIterations = parseIterations(encodedPassword, separator);
+        if (storedIterations == null) {
+            return false;
+        }
+        return encodersByIterations.computeIfAbsent(storedIterations, this::newEncoder)
+                .matches(rawPassword, encodedPassword.substring(separator + 1));
+    }
+
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return true;
+        }
+        Integer storedIterations = parseIterations(encodedPassword, separator);
+        return storedIterations != null && storedIterations != iterations;
+    }
+
+
+    private Integer parseIterations(String encodedPassword, int separator) {
+        try {
+            int parsed = Integer.parseInt(encodedPassword, 0, separator, 10);
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+
+    private Pbkdf2PasswordEncoder newEncoder(int iterations) {
+        return new Pbkdf2PasswordEncoder("", saltLength, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+}
@@ -0,0 +1,55 @@
+package com.speakit.speakit.service.ai;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+// 로컬/테스트용 LLM 클라이언트 (ai.llm.client=fake)
+// requestDelay(첫 조각까지의 대기) 후 요청 내용을 담은 고정 대본을 단어 단위 조각으로 tokenDelay 간격을 두고 보내 스트리밍 응답을 흉내 냄
+@Component
+@ConditionalOnProperty(name = "ai.llm.client", havingValue = "fake")
+public class FakeLlmClient implements LlmClient {
+
+    private final long requestDelayMillis;
+    private final long tokenDelayMillis;
+
+    public FakeLlmClient(@Value("${ai.llm.fake.requestDelay:0ms}") Duration requestDelay,
+                         @Value("${ai.llm.fake.tokenDelay:20ms}") Duration tokenDelay) {
+        this.requestDelayMillis = requestDelay.toMillis();
+        this.tokenDelayMillis = tokenDelay.toMillis();
+    }
+
+
+    @Override
+    public void stream(LlmRequest request, Predicate<String> onToken) {
+        String script = "Here is a practice script. " + request.userPrompt().replace('\n', ' ')
+                + " Thank you for listening.";
+        String[] words = script.split(" ");
+        if (!sleep(requestDelayMillis)) {
+            return;
+        }
+        for (int i = 0; i < words.length && i < request.maxTokens(); i++) {
+            if (!sleep(tokenDelayMillis) || !onToken.test(i == 0 ? words[i] : " " + words[i])) {
+                return;
+            }
+        }
+    }
+
+
+    // 중단(interrupt)되면 false
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
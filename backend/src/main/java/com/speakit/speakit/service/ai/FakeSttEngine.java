@@ -0,0 +1,40 @@
+package com.speakit.speakit.service.ai;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+// 로컬/테스트용 음성 인식 엔진 (stt.engine=fake)
+// delay만큼 기다린 뒤 파일 크기를 담은 고정 문장을 반환하여 실제 엔진의 처리 시간을 흉내 냄
+@Component
+@ConditionalOnProperty(name = "stt.engine", havingValue = "fake")
+public class FakeSttEngine implements SttEngine {
+
+    private final long delayMillis;
+
+    public FakeSttEngine(@Value("${stt.fake.delay:500ms}") Duration delay) {
+        this.delayMillis = delay.toMillis();
+    }
+
+
+    @Override
+    public String transcribe(Path audio, String contentType) {
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            return "I practiced speaking for " + Files.size(audio) + " bytes.";
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("음성 인식이 중단되었습니다.", e);
+        }
+    }
+}
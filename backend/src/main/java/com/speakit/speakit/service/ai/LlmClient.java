@@ -0,0 +1,15 @@
+package com.speakit.speakit.service.ai;
+
+import java.util.function.Predicate;
+
+// 대본 생성 등에 사용하는 LLM 클라이언트 (ai.llm.client=openai: OpenAI Chat Completions 스트리밍, fake: 로컬/테스트용)
+public interface LlmClient {
+
+    // 응답을 생성하며 조각(token)이 도착할 때마다 onToken을 호출하고, 생성이 끝나면 반환 (호출 스레드를 점유)
+    // onToken이 false를 반환하면(클라이언트 연결 종료 등) 생성을 중단하고 바로 반환
+    void stream(LlmRequest request, Predicate<String> onToken);
+
+
+    record LlmRequest(String systemPrompt, String userPrompt, int maxTokens) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.speakit.speakit.service.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+// OpenAI Chat Completions 스트리밍 클라이언트 (운영 기본값, ai.llm.client=openai)
+// stream=true 응답의 SSE "data:" 줄마다 delta.content를 onToken으로 전달
+// 응답 제한 시간(readTimeout)은 조각 사이의 대기 시간에 적용되므로 긴 대본도 끊기지 않으며,
+// 중단 요청 시 남은 응답을 읽지 않고 연결을 끊음
+@Component
+@ConditionalOnProperty(name = "ai.llm.client", havingValue = "openai", matchIfMissing = true)
+public class OpenAiLlmClient implements LlmClient, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CloseableHttpClient httpClient;
+    private final String url;
+    private final String apiKey;
+    private final String model;
+
+    public OpenAiLlmClient(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${ai.openai.baseUrl:https://api.openai.com/v1}") String baseUrl,
+                           @Value("${ai.openai.apiKey:}") String apiKey,
+                           @Value("${ai.openai.model:gpt-4o-mini}") String model,
+                           @Value("${ai.openai.maxConnections:50}") int maxConnections,
+                           @Value("${ai.openai.connectTimeout:2s}") Duration connectTimeout,
+                           @Value("${ai.openai.readTimeout:30s}") Duration readTimeout) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.url = baseUrl + "/chat/completions";
+        this.apiKey = apiKey;
+        this.model = model;
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(connectTimeout))
+                                .setSocketTimeout(Timeout.of(readTimeout))
+                                .build())
+                        .build())
+                .disableAutomaticRetries()
+                .build();
+    }
+
+
+    @Override
+    public void stream(LlmRequest request, Predicate<String> onToken) {
+        HttpPost post = new HttpPost(url);
+        post.setHeader("Authorization", "Bearer " + apiKey);
+        post.setHeader("Accept", "text/event-stream");
+        post.setEntity(new StringEntity(body(request), ContentType.APPLICATION_JSON));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        try {
+            httpClient.execute(post, response -> {
+                if (response.getCode() != 200) {
+                    throw new IllegalStateException("OpenAI request failed: status=" + response.getCode());
+                }
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith("data:")) {
+                        continue;
+                    }
+                    String data = line.substring(5).trim();
+                    if (data.equals("[DONE]")) {
+                        break;
+                    }
+                    JsonNode content = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+                    if (content.isTextual() && !content.asText().isEmpty() && !onToken.test(content.asText())) {
+                        // 남은 응답을 끝까지 읽지 않도록 연결을 끊음
+                        post.cancel();
+                        break;
+                    }
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            if (post.isCancelled()) {
+                // 중단 요청으로 연결을 끊은 경우
+                return;
+            }
+            outcome = "ERROR";
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("ai.llm.requests")
+                    .tag("client", "openai")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+
+
+    private String body(LlmRequest request) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("model", model);
+        body.put("stream", true);
+        body.put("max_tokens", request.maxTokens());
+        body.putArray("messages")
+                .add(objectMapper.createObjectNode().put("role", "system").put("content", request.systemPrompt()))
+                .add(objectMapper.createObjectNode().put("role", "user").put("content", request.userPrompt()));
+        return body.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.speakit.speakit.service.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+// OpenAI 음성 인식 API 클라이언트 (운영 기본값, stt.engine=openai)
+// 음성 파일을 multipart 본문으로 바로 보내므로 파일 전체를 메모리에 올리지 않음
+@Component
+@ConditionalOnProperty(name = "stt.engine", havingValue = "openai", matchIfMissing = true)
+public class OpenAiSttEngine implements SttEngine, DisposableBean {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CloseableHttpClient httpClient;
+    private final String url;
+    private final String apiKey;
+    private final String model;
+
+    public OpenAiSttEngine(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${ai.openai.baseUrl:https://api.openai.com/v1}") String baseUrl,
+                           @Value("${ai.openai.apiKey:}") String apiKey,
+                           @Value("${stt.openai.model:whisper-1}") String model,
+                           @Value("${stt.workers:4}") int maxConnections,
+                           @Value("${ai.openai.connectTimeout:2s}") Duration connectTimeout,
+                           @Value("${stt.openai.readTimeout:60s}") Duration readTimeout) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.url = baseUrl + "/audio/transcriptions";
+        this.apiKey = apiKey;
+        this.model = model;
+        // 동시 요청 수는 음성 인식 작업 스레드 수를 넘지 않음
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(connectTimeout))
+                                .setSocketTimeout(Timeout.of(readTimeout))
+                                .build())
+                        .build())
+                .disableAutomaticRetries()
+                .build();
+    }
+
+
+    @Override
+    public String transcribe(Path audio, String contentType) {
+        HttpPost post = new HttpPost(url);
+        post.setHeader("Authorization", "Bearer " + apiKey);
+        post.setEntity(MultipartEntityBuilder.create()
+                .addTextBody("model", model)
+                .addTextBody("language", "en")
+                .addBinaryBody("file", audio.toFile(), ContentType.create(contentType), audio.getFileName().toString())
+                .build());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        try {
+            return httpClient.execute(post, response -> {
+                if (response.getCode() != 200) {
+                    throw new IllegalStateException("OpenAI transcription failed: status=" + response.getCode());
+                }
+                JsonNode text = objectMapper.readTree(response.getEntity().getContent()).path("text");
+                if (!text.isTextual()) {
+                    throw new IllegalStateException("OpenAI transcription returned no text");
+                }
+                return text.asText().trim();
+            });
+        } catch (IOException e) {
+            outcome = "ERROR";
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("stt.engine.requests")
+                    .tag("engine", "openai")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,10 @@
+package com.speakit.speakit.service.ai;
+
+import java.nio.file.Path;
+
+// 음성 인식(STT) 엔진 (stt.engine=openai: OpenAI 음성 인식 API, fake: 로컬/테스트용)
+public interface SttEngine {
+
+    // 음성 파일을 텍스트로 변환 (호출 스레드를 점유하며, 실패 시 예외)
+    String transcribe(Path audio, String contentType);
+}
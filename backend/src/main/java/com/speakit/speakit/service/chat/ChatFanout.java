@@ -0,0 +1,167 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.dto.error.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.broker.OrderedMessageChannelDecorator;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지를 이 서버에 연결된 채팅방 구독자에게 전달하는 팬아웃
+// - 메시지는 한 번만 JSON으로 직렬화하고, 구독자마다 같은 payload로 STOMP MESSAGE 프레임 생성
+// - 전송은 clientOutboundChannel(스레드 풀)에 넘기기만 하므로 팬아웃 스레드는 소켓 쓰기를 기다리지 않음
+// - 세션별 전송 순서는 OrderedMessageChannelDecorator로 보장
+// - 전송 대기 메시지가 maxPendingPerSession에 도달한 느린 클라이언트는 연결을 끊어 메모리와 다른 구독자의 지연을 보호
+// - 전송에 실패한 메시지는 보낸 세션이 ERROR_DESTINATION을 구독한 경우 그 세션에만 ErrorResponse로 알림
+@Slf4j
+@Component
+public class ChatFanout {
+
+    public static final String ROOM_DESTINATION_PREFIX = "/topic/chat/rooms/";
+    public static final String ERROR_DESTINATION = "/user/queue/chat/errors";
+
+    // 팬아웃으로 생성한 메시지 표시용 헤더 (ChatOutboundInterceptor가 전송 완료 시 대기 수를 줄임)
+    static final String FANOUT_HEADER = "chatFanout";
+
+    // 세션별 순서 보장 채널(OrderedMessageChannelDecorator)이 요구하는 commons-logging 로거
+    private static final Log channelLogger = LogFactory.getLog(OrderedMessageChannelDecorator.class);
+
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final MessageChannel clientOutboundChannel;
+    private final ObjectMapper objectMapper;
+    private final int maxPendingPerSession;
+
+    private final Timer fanoutTimer;
+    private final Counter deliveredCounter;
+    private final Counter slowClosedCounter;
+
+    public ChatFanout(ChatSessionRegistry chatSessionRegistry,
+                      @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                      ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${chat.fanout.maxPendingPerSession:256}") int maxPendingPerSession) {
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.objectMapper = objectMapper;
+        this.maxPendingPerSession = maxPendingPerSession;
+
+        // 세션별 순서 보장 데코레이터가 다음 메시지를 보낼 수 있도록 콜백 인터셉터 등록
+        OrderedMessageChannelDecorator.configureInterceptor(clientOutboundChannel, true);
+
+        this.fanoutTimer = Timer.builder("chat.fanout")
+                .description("채팅 메시지 하나를 로컬 구독자 전체의 출력 큐에 넣는 데 걸린 시간")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("chat.fanout.deliveries")
+                .description("구독자에게 전달 요청한 메시지 수")
+                .register(meterRegistry);
+        this.slowClosedCounter = Counter.builder("chat.sessions.closed")
+                .tag("reason", "slow_consumer")
+                .description("전송 대기 한도를 넘어 연결을 끊은 세션 수")
+                .register(meterRegistry);
+    }
+
+
+    // 이 서버의 채팅방 구독자에게 메시지 전달, 전달 요청한 구독자 수 반환
+    public int deliver(ChatMessageDTO chatMessage) {
+        return deliver(chatMessage.getRoomId(), String.valueOf(chatMessage.getId()), serialize(chatMessage));
+    }
+
+
+    // 이미 JSON으로 직렬화된 메시지 전달 (다른 서버에서 Kafka로 전달받은 payload를 다시 변환하지 않고 그대로 사용)
+    public int deliver(Long roomId, String messageId, byte[] payload) {
+        String destination = ROOM_DESTINATION_PREFIX + roomId;
+
+        long started = System.nanoTime();
+        int delivered = 0;
+        for (ChatSessionRegistry.ChatSubscription subscription : chatSessionRegistry.subscribers(roomId)) {
+            ChatSession session = subscription.session();
+            if (!session.tryAcquire(maxPendingPerSession)) {
+                if (session.closeAsync(CloseStatus.SESSION_NOT_RELIABLE)) {
+                    slowClosedCounter.increment();
+                    log.warn("Closing slow chat session {} (pending={})", session.getSessionId(), session.getPending());
+                }
+                continue;
+            }
+
+            Message<byte[]> message = createMessage(payload, destination, messageId, session, subscription.subscriptionId());
+            try {
+                session.outboundChannel(() -> new OrderedMessageChannelDecorator(clientOutboundChannel, channelLogger)).send(message);
+                delivered++;
+            } catch (RuntimeException e) {
+                session.release();
+                log.debug("Failed to deliver chat message to session {}", session.getSessionId(), e);
+            }
+        }
+        fanoutTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        deliveredCounter.increment(delivered);
+        return delivered;
+    }
+
+
+    // 보낸 세션에 전송 실패 알림, 세션이 없거나 알림을 구독하지 않았으면 false
+    // 채팅방 메시지와 달리 드물게 보내므로 전송 대기 한도에 포함하지 않음
+    public boolean deliverError(String sessionId, ErrorResponse error) {
+        ChatSession session = chatSessionRegistry.get(sessionId);
+        String subscriptionId = session != null ? session.getErrorSubscriptionId() : null;
+        if (subscriptionId == null) {
+            return false;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(ERROR_DESTINATION);
+        accessor.setMessageId(UUID.randomUUID().toString());
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        try {
+            Message<byte[]> message = MessageBuilder.createMessage(objectMapper.writeValueAsBytes(error), accessor.getMessageHeaders());
+            return session.outboundChannel(() -> new OrderedMessageChannelDecorator(clientOutboundChannel, channelLogger)).send(message);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("Failed to deliver chat error to session {}", sessionId, e);
+            return false;
+        }
+    }
+
+
+    private static Message<byte[]> createMessage(byte[] payload, String destination, String messageId,
+                                                 ChatSession session, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setSessionId(session.getSessionId());
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setMessageId(messageId);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setHeader(FANOUT_HEADER, Boolean.TRUE);
+        // OrderedMessageChannelDecorator가 전송 완료 콜백 헤더를 추가할 수 있도록 변경 가능 상태 유지
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+
+    private byte[] serialize(ChatMessageDTO chatMessage) {
+        try {
+            return objectMapper.writeValueAsBytes(chatMessage);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 메시지를 변환할 수 없습니다.", e);
+        }
+    }
+}
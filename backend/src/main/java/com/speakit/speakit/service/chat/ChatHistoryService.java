@@ -0,0 +1,9 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatHistoryResponseDTO;
+
+// 채팅 기록 조회 서비스 인터페이스
+public interface ChatHistoryService {
+
+    ChatHistoryResponseDTO getMessages(Long userId, Long roomId, Long before, Integer size);
+}
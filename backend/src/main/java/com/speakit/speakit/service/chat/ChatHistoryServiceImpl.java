@@ -0,0 +1,99 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatHistoryResponseDTO;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.repository.chat.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 채팅 기록 조회 서비스 구현체
+// 최근 메시지는 채팅방 링 버퍼(ChatRecentMessageCache)에서, 링보다 오래된 메시지는 (chat_room_id, id) 키셋 조회로 DB에서 읽음
+@Service
+public class ChatHistoryServiceImpl implements ChatHistoryService {
+
+    private final ChatMembershipService chatMembershipService;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final long backfillSafetyLagMillis;
+
+    private final Counter memoryReads;
+    private final Counter databaseReads;
+
+    public ChatHistoryServiceImpl(ChatMembershipService chatMembershipService,
+                                  ChatMessageRepository chatMessageRepository,
+                                  ChatRecentMessageCache chatRecentMessageCache,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.history.defaultPageSize:30}") int defaultPageSize,
+                                  @Value("${chat.history.maxPageSize:100}") int maxPageSize,
+                                  @Value("${chat.history.backfillSafetyLag:5s}") Duration backfillSafetyLag) {
+        this.chatMembershipService = chatMembershipService;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatRecentMessageCache = chatRecentMessageCache;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.backfillSafetyLagMillis = backfillSafetyLag.toMillis();
+
+        this.memoryReads = Counter.builder("chat.history.reads")
+                .tag("source", "memory")
+                .description("링 버퍼만으로 응답한 채팅 기록 조회 수")
+                .register(meterRegistry);
+        this.databaseReads = Counter.builder("chat.history.reads")
+                .tag("source", "db")
+                .description("DB 조회가 필요했던 채팅 기록 조회 수")
+                .register(meterRegistry);
+    }
+
+
+    // before(메시지 ID) 이전 메시지를 최신순으로 조회, before가 없으면 가장 최근 메시지부터
+    @Override
+    public ChatHistoryResponseDTO getMessages(Long userId, Long roomId, Long before, Integer size) {
+        if (!chatMembershipService.isMember(roomId, userId)) {
+            throw new RuntimeException("참여하지 않은 채팅방입니다.");
+        }
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        long beforeId = before == null ? Long.MAX_VALUE : before;
+
+        List<ChatMessageDTO> messages = read(roomId, beforeId, limit);
+        Long nextCursor = messages.size() < limit ? null : messages.get(messages.size() - 1).getId();
+        return new ChatHistoryResponseDTO(messages, nextCursor);
+    }
+
+
+    private List<ChatMessageDTO> read(Long roomId, long beforeId, int limit) {
+        ChatRecentMessageCache.RecentPage recent = chatRecentMessageCache.read(roomId, beforeId, limit);
+        if (recent == null) {
+            databaseReads.increment();
+            return chatMessageRepository.findPageBefore(roomId, beforeId, Limit.of(limit));
+        }
+        if (recent.messages().size() == limit || recent.complete()) {
+            memoryReads.increment();
+            return recent.messages();
+        }
+
+        // 링에서 모자란 만큼만 링의 가장 오래된 메시지 이전부터 DB에서 이어서 읽음
+        databaseReads.increment();
+        int remaining = limit - recent.messages().size();
+        long cursor = Math.min(beforeId, recent.oldestId());
+        List<ChatMessageDTO> older = chatMessageRepository.findPageBefore(roomId, cursor, Limit.of(remaining));
+
+        // 지연 저장 중인 메시지가 빠진 채로 링에 채워지지 않도록, 링 시작 메시지가 충분히 오래된 경우에만 링 앞쪽을 채움
+        if (cursor == recent.oldestId()
+                && ChatMessageIdGenerator.epochMillisOf(cursor) < System.currentTimeMillis() - backfillSafetyLagMillis) {
+            chatRecentMessageCache.backfill(roomId, cursor, older, older.size() < remaining);
+        }
+
+        List<ChatMessageDTO> messages = new ArrayList<>(recent.messages().size() + older.size());
+        messages.addAll(recent.messages());
+        messages.addAll(older);
+        return messages;
+    }
+}
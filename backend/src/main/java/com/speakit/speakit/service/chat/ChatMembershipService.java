@@ -0,0 +1,75 @@
+package com.speakit.speakit.service.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.speakit.speakit.dto.chat.ChatParticipantDTO;
+import com.speakit.speakit.repository.chat.ChatRoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+// 채팅방 참여 여부 확인 (구독 권한, 기록/참여자 조회 권한)
+// 채팅방마다 연결 테이블(chat_room_participants)에서 참여자 ID만 읽어 만든 비트맵을 캐시하여 확인 시 DB와 ORM을 거치지 않음
+// 단체/개인 채팅방 모두 참여자로 등록된 사용자만 허용하며, 없는 채팅방은 빈 비트맵으로 캐시
+// 캐시된 비트맵은 수정하지 않고 통째로 교체하므로 잠금 없이 읽으며, 채팅방을 만들거나 참여자를 변경하는 곳에서 evict()를 호출하여 무효화
+@Service
+public class ChatMembershipService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Cache<Long, Roaring64Bitmap> rooms;
+
+    public ChatMembershipService(ChatRoomRepository chatRoomRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${chat.membership.maxRooms:100000}") long maxRooms,
+                                 @Value("${chat.membership.ttl:1m}") Duration ttl) {
+        this.chatRoomRepository = chatRoomRepository;
+
+        // 다른 서버에서 변경된 참여자는 ttl 이내에 반영됨
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rooms, "chat.membership");
+    }
+
+
+    // 참여자로 등록된 채팅방이면 true, 없는 채팅방이면 false
+    // 같은 채팅방에 대한 동시 미스는 Caffeine이 한 번만 로드
+    public boolean isMember(Long roomId, Long userId) {
+        if (roomId == null || userId == null) {
+            return false;
+        }
+        return rooms.get(roomId, this::load).contains(userId);
+    }
+
+
+    // 참여자 목록 (ID와 이름만 DTO로 조회), 참여하지 않은 채팅방이면 예외
+    public List<ChatParticipantDTO> getParticipants(Long userId, Long roomId) {
+        if (!isMember(roomId, userId)) {
+            throw new RuntimeException("참여하지 않은 채팅방입니다.");
+        }
+        return chatRoomRepository.findParticipants(roomId);
+    }
+
+
+    public void evict(Long roomId) {
+        rooms.invalidate(roomId);
+    }
+
+
+    // 없는 채팅방도 빈 비트맵으로 캐시하여 잘못된 ID로 반복 요청해도 DB를 조회하지 않음
+    private Roaring64Bitmap load(Long roomId) {
+        Roaring64Bitmap participants = new Roaring64Bitmap();
+        for (Long participantId : chatRoomRepository.findParticipantIds(roomId)) {
+            participants.addLong(participantId);
+        }
+        participants.runOptimize();
+        return participants;
+    }
+}
@@ -0,0 +1,197 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// 지연 저장 버퍼 앞단의 로컬 추가 전용 로그 (segment 파일 단위, 레코드 = 길이(4) + CRC32(4) + 메시지 JSON)
+// 배치마다 fsync한 후에 전송을 확인하므로 DB 저장 전에 서버가 종료되어도 재시작 시 남은 segment를 다시 저장
+// segment가 segmentSize를 넘으면 새 파일로 넘어가고, 닫힌 segment의 메시지가 모두 DB에 저장되면 파일을 삭제
+// 추가는 로그 스레드 하나, 저장 완료 표시는 저장 스레드 하나에서 호출
+@Slf4j
+class ChatMessageAppendLog implements Closeable {
+
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+
+    // segment 하나의 메시지 (재시작 시 다시 저장할 대상)
+    record Recovered(long segmentId, List<ChatMessageDTO> messages) {
+    }
+
+    private final Path dir;
+    private final long segmentSize;
+    private final ObjectMapper objectMapper;
+
+    // segment ID -> DB 저장을 기다리는 메시지 수 (현재 segment 포함)
+    private final Map<Long, Integer> outstanding = new HashMap<>();
+    private long currentId;
+    private FileChannel current;
+
+    ChatMessageAppendLog(Path dir, long segmentSize, ObjectMapper objectMapper) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.segmentSize = segmentSize;
+        this.objectMapper = objectMapper;
+    }
+
+
+    // 남아 있는 segment를 읽어 반환하고 새 segment를 연다 (추가 전에 한 번 호출)
+    synchronized List<Recovered> recover() throws IOException {
+        List<Recovered> recovered = new ArrayList<>();
+        long lastId = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path path : files.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList()) {
+                long segmentId = segmentId(path);
+                lastId = Math.max(lastId, segmentId);
+                List<ChatMessageDTO> messages = read(path);
+                if (messages.isEmpty()) {
+                    Files.delete(path);
+                    continue;
+                }
+                outstanding.put(segmentId, messages.size());
+                recovered.add(new Recovered(segmentId, messages));
+            }
+        }
+        open(lastId + 1);
+        return recovered;
+    }
+
+
+    // 메시지를 현재 segment 끝에 쓰고 fsync, 쓴 segment ID 반환
+    synchronized long append(List<ChatMessageDTO> messages) throws IOException {
+        if (current.size() >= segmentSize) {
+            roll();
+        }
+        List<byte[]> payloads = new ArrayList<>(messages.size());
+        int bytes = 0;
+        for (ChatMessageDTO message : messages) {
+            byte[] payload = objectMapper.writeValueAsBytes(message);
+            payloads.add(payload);
+            bytes += HEADER_BYTES + payload.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        CRC32 crc = new CRC32();
+        for (byte[] payload : payloads) {
+            crc.reset();
+            crc.update(payload);
+            buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        }
+        buffer.flip();
+        long start = current.size();
+        try {
+            while (buffer.hasRemaining()) {
+                current.write(buffer);
+            }
+            current.force(false);
+        } catch (IOException e) {
+            // 쓰다 만 레코드 뒤에 이어 쓰면 복구 시 그 뒤 레코드를 읽지 못하므로 되돌리고, 되돌릴 수 없으면 새 segment로 넘어감
+            try {
+                current.truncate(start);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+                roll();
+            }
+            throw e;
+        }
+        outstanding.merge(currentId, messages.size(), Integer::sum);
+        return currentId;
+    }
+
+
+    // segment의 메시지 count개가 DB에 저장됨, 닫힌 segment가 모두 저장되면 파일 삭제
+    synchronized void persisted(long segmentId, int count) {
+        Integer remaining = outstanding.merge(segmentId, -count, Integer::sum);
+        if (remaining != null && remaining <= 0 && segmentId != currentId) {
+            outstanding.remove(segmentId);
+            delete(segmentId);
+        }
+    }
+
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (current != null) {
+            current.close();
+        }
+    }
+
+
+    private void roll() throws IOException {
+        current.close();
+        long closedId = currentId;
+        open(closedId + 1);
+        if (outstanding.getOrDefault(closedId, 0) <= 0) {
+            outstanding.remove(closedId);
+            delete(closedId);
+        }
+    }
+
+    private void open(long segmentId) throws IOException {
+        currentId = segmentId;
+        current = FileChannel.open(path(segmentId),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void delete(long segmentId) {
+        try {
+            Files.deleteIfExists(path(segmentId));
+        } catch (IOException e) {
+            log.warn("Failed to delete chat message log segment {}", segmentId, e);
+        }
+    }
+
+    // 마지막 레코드가 쓰다 만 상태(비정상 종료)이면 그 앞까지만 읽음
+    private List<ChatMessageDTO> read(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 파일 끝까지 읽음
+            }
+        }
+        buffer.flip();
+
+        List<ChatMessageDTO> messages = new ArrayList<>();
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                log.warn("Truncated record in chat message log {}, ignoring the rest", path);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                log.warn("Corrupt record in chat message log {}, ignoring the rest", path);
+                break;
+            }
+            messages.add(objectMapper.readValue(payload, ChatMessageDTO.class));
+        }
+        return messages;
+    }
+
+    private Path path(long segmentId) {
+        return dir.resolve(String.format("%020d%s", segmentId, SUFFIX));
+    }
+
+    private static long segmentId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.repository.chat.ChatMessageBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지 배치 저장 (지연 저장 버퍼와 Kafka 저장 리스너가 공용으로 사용)
+// 다중 행 INSERT가 데이터 오류(없는 채팅방, 길이 초과 등)로 실패하면 한 행씩 다시 저장하고,
+// 그래도 실패한 행은 재시도해도 같은 오류이므로 dead-letter 로그(chat.deadletter)에 메시지 전체를 남기고 건너뜀
+// DB 연결 실패 등 그 밖의 오류는 호출한 쪽에서 같은 배치를 재시도하도록 그대로 던짐 (중복 ID는 저장소에서 무시되므로 재시도해도 안전)
+@Slf4j
+@Component
+public class ChatMessageBatchWriter {
+
+    private static final Logger deadLetterLog = LoggerFactory.getLogger("chat.deadletter");
+
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final ObjectMapper objectMapper;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter deadLetterCounter;
+
+    public ChatMessageBatchWriter(ChatMessageBatchRepository chatMessageBatchRepository,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.objectMapper = objectMapper;
+        this.batchSizeSummary = DistributionSummary.builder("chat.persistence.batch")
+                .description("한 번에 저장한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.persistence.flush")
+                .description("채팅 메시지 배치 하나를 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("chat.persistence.deadLetters")
+                .description("데이터 오류로 저장하지 못하고 dead-letter 로그에 남긴 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+
+    public void write(List<ChatMessageDTO> batch) {
+        long started = System.nanoTime();
+        try {
+            chatMessageBatchRepository.insertAll(batch);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Failed to write {} chat messages as one statement, writing one by one", batch.size(), e);
+            writeEach(batch);
+        }
+        flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+    }
+
+
+    private void writeEach(List<ChatMessageDTO> batch) {
+        for (ChatMessageDTO chatMessage : batch) {
+            try {
+                chatMessageBatchRepository.insertAll(List.of(chatMessage));
+            } catch (DataIntegrityViolationException e) {
+                deadLetter(chatMessage, e);
+            }
+        }
+    }
+
+    private void deadLetter(ChatMessageDTO chatMessage, DataIntegrityViolationException cause) {
+        deadLetterCounter.increment();
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(chatMessage);
+        } catch (JsonProcessingException e) {
+            payload = "id=" + chatMessage.getId() + ", roomId=" + chatMessage.getRoomId();
+        }
+        deadLetterLog.error("Dead-lettered chat message {}: {}", payload, cause.getMostSpecificCause().getMessage());
+    }
+}
@@ -0,0 +1,16 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+
+import java.util.concurrent.CompletableFuture;
+
+// 채팅 메시지를 저장 대기열에 넣고 채팅방 구독자에게 전파하는 방식
+// - local: 메모리 지연 저장 버퍼에 넣고 이 서버의 구독자에게 바로 전달 (단일 서버)
+// - kafka: 채팅방 ID로 파티셔닝된 토픽에 발행하고, 모든 서버가 구독하여 각자 연결된 구독자에게 전달 (다중 서버)
+//          토픽이 지속성 있는 저장 대기열 역할을 하며, 별도 consumer group이 배치로 DB에 저장
+public interface ChatMessageBroadcaster {
+
+    // 저장 대기열에 들어가면 완료되는 future 반환 (local은 반환 전에 완료, kafka는 브로커 기록 확인 시 완료)
+    // 바로 받을 수 없는 경우(local 대기열 초과 등)는 예외를 던지고, 나중에 실패하면 future가 예외로 완료됨
+    CompletableFuture<Void> broadcast(ChatMessageDTO chatMessage);
+}
@@ -0,0 +1,64 @@
+package com.speakit.speakit.service.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 채팅 메시지 ID 발급기 (DB IDENTITY 대신 서버에서 발급하여 저장 전에 ID를 확정하고 다건 INSERT가 가능하도록 함)
+// 64비트 = 기준 시각 이후 밀리초(41비트) + 서버 ID(10비트) + 같은 밀리초 내 순번(12비트)
+// 한 서버가 발급한 ID는 항상 증가하며, 여러 서버(chat.broadcast=kafka)에서는 chat.message.nodeId를 서버마다 다르게 설정해야 함
+// 서버 번호가 겹치면 같은 ID가 발급될 수 있으므로 kafka 모드에서 설정하지 않으면 시작을 중단 (임의 값은 단일 서버에서만 사용)
+@Slf4j
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1735689600000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastMillis = -1L;
+    private long sequence;
+
+    public ChatMessageIdGenerator(@Value("${chat.message.nodeId:-1}") long nodeId,
+                                  @Value("${chat.broadcast:local}") String broadcast) {
+        if (nodeId < 0 && "kafka".equals(broadcast)) {
+            throw new IllegalStateException("chat.broadcast=kafka에서는 chat.message.nodeId(SPEAKIT_CHAT_NODE_ID)를 서버마다 다르게 설정해야 합니다.");
+        }
+        if (nodeId < 0) {
+            nodeId = ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1);
+            log.info("chat.message.nodeId is not set, using random node id {}", nodeId);
+        }
+        if (nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("chat.message.nodeId는 0~" + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = nodeId;
+    }
+
+
+    public synchronized long nextId() {
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 밀리초의 순번을 모두 사용하면 다음 밀리초로 넘김 (시계가 뒤로 가도 ID는 감소하지 않음)
+                now = lastMillis + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+
+    // ID에 담긴 발급 시각(epoch 밀리초), ID만으로 메시지가 얼마나 오래되었는지 판단할 때 사용
+    public static long epochMillisOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
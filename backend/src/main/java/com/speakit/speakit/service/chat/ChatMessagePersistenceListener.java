@@ -0,0 +1,61 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 다중 서버(chat.broadcast=kafka)용 채팅 메시지 저장: 채팅 토픽을 모든 서버가 공유하는 consumer group으로 읽어 배치로 저장
+// 파티션마다 한 서버만 읽으므로 각 메시지는 한 번 저장되며, 저장에 성공한 후에 오프셋을 커밋
+// DB 장애 시 같은 배치를 재시도하고, 데이터 오류로 저장할 수 없는 메시지는 dead-letter 로그에 남기고 건너뜀 (ChatMessageBatchWriter)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broadcast", havingValue = "kafka")
+public class ChatMessagePersistenceListener {
+
+    private final ChatMessageBatchWriter chatMessageBatchWriter;
+    private final ObjectMapper objectMapper;
+
+    public ChatMessagePersistenceListener(ChatMessageBatchWriter chatMessageBatchWriter,
+                                          ObjectMapper objectMapper) {
+        this.chatMessageBatchWriter = chatMessageBatchWriter;
+        this.objectMapper = objectMapper;
+    }
+
+
+    @KafkaListener(id = "chatPersistenceListener", topics = "${chat.kafka.topic:chat.messages}",
+            groupId = "${chat.kafka.persistenceGroupId:speakit-chat-persistence}",
+            containerFactory = "chatPersistenceListenerContainerFactory")
+    public void onMessages(List<ConsumerRecord<String, byte[]>> records) {
+        List<ChatMessageDTO> batch = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            ChatMessageDTO chatMessage = deserialize(record);
+            if (chatMessage != null) {
+                batch.add(chatMessage);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        chatMessageBatchWriter.write(batch);
+    }
+
+
+    // 변환할 수 없는 레코드는 재시도해도 실패하므로 기록 후 건너뜀
+    private ChatMessageDTO deserialize(ConsumerRecord<String, byte[]> record) {
+        try {
+            return objectMapper.readValue(record.value(), ChatMessageDTO.class);
+        } catch (IOException e) {
+            log.error("Skipping malformed chat message at {}-{}@{}", record.topic(), record.partition(), record.offset(), e);
+            return null;
+        }
+    }
+}
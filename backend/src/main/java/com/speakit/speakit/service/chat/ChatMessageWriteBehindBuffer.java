@@ -0,0 +1,292 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 단일 서버(chat.broadcast=local)용 채팅 메시지 지연 저장 버퍼
+// 전송 스레드가 넣은 메시지를 로그 스레드 하나가 모아 로컬 추가 전용 로그(ChatMessageAppendLog)에 쓰고 fsync한 후에 전송을 확인 (group commit)
+// 저장 스레드 하나가 로그에 쓴 메시지를 batchSize개가 모이거나 첫 메시지 후 flushInterval이 지나면 다중 행 INSERT로 저장
+// 저장 스레드가 하나이므로 채팅방 내 메시지 순서가 유지되며, DB 장애 시 같은 배치를 재시도하고 저장 대기 메시지가 queueCapacity를 넘으면 전송을 거절
+// 데이터 오류로 저장할 수 없는 메시지는 배치 전체를 막지 않도록 dead-letter 로그에 남기고 건너뜀
+// 서버가 DB 저장 전에 종료되면 재시작 시 로그에 남은 메시지를 먼저 저장 (중복 ID는 저장소에서 무시)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broadcast", havingValue = "local", matchIfMissing = true)
+public class ChatMessageWriteBehindBuffer implements DisposableBean {
+
+    private static final long POLL_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    // 로그 기록을 기다리는 메시지와 기록 완료 신호
+    private record PendingMessage(ChatMessageDTO message, CompletableFuture<Void> synced) {
+    }
+
+    // 로그에 기록되어 DB 저장을 기다리는 메시지
+    private record LoggedMessage(long segmentId, ChatMessageDTO message) {
+    }
+
+    private final ChatMessageBatchWriter chatMessageBatchWriter;
+    private final ChatMessageAppendLog appendLog;
+    private final BlockingQueue<PendingMessage> appendQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<LoggedMessage> writeQueue = new LinkedBlockingQueue<>();
+    // 전송을 받은 후 아직 DB에 저장하지 않은 메시지 수 (로그 기록 대기 + 저장 대기)
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int queueCapacity;
+    private final Duration retryBackoff;
+    private final Duration syncTimeout;
+    private final Thread appender;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Timer syncTimer;
+
+    public ChatMessageWriteBehindBuffer(ChatMessageBatchWriter chatMessageBatchWriter,
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${chat.persistence.batchSize:500}") int batchSize,
+                                        @Value("${chat.persistence.flushInterval:200ms}") Duration flushInterval,
+                                        @Value("${chat.persistence.queueCapacity:10000}") int queueCapacity,
+                                        @Value("${chat.persistence.retryBackoff:1s}") Duration retryBackoff,
+                                        @Value("${chat.persistence.log.dir:./data/chat-log}") Path logDir,
+                                        @Value("${chat.persistence.log.segmentSize:64MB}") DataSize segmentSize,
+                                        @Value("${chat.persistence.log.syncTimeout:2s}") Duration syncTimeout) throws IOException {
+        this.chatMessageBatchWriter = chatMessageBatchWriter;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.queueCapacity = queueCapacity;
+        this.retryBackoff = retryBackoff;
+        this.syncTimeout = syncTimeout;
+
+        // 이전 실행에서 DB에 저장하지 못한 메시지를 새 메시지보다 먼저 저장
+        this.appendLog = new ChatMessageAppendLog(logDir, segmentSize.toBytes(), objectMapper);
+        for (ChatMessageAppendLog.Recovered recovered : appendLog.recover()) {
+            for (ChatMessageDTO message : recovered.messages()) {
+                writeQueue.add(new LoggedMessage(recovered.segmentId(), message));
+            }
+        }
+        if (!writeQueue.isEmpty()) {
+            log.info("Replaying {} chat messages from {}", writeQueue.size(), logDir);
+        }
+        backlog.set(writeQueue.size());
+
+        Gauge.builder("chat.persistence.queue", backlog, AtomicInteger::get)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.syncTimer = Timer.builder("chat.persistence.log.sync")
+                .description("채팅 메시지 배치 하나를 로컬 로그에 쓰고 fsync하는 데 걸린 시간")
+                .register(meterRegistry);
+
+        this.appender = Thread.ofPlatform().name("chat-message-log").daemon().start(this::runAppender);
+        this.writer = Thread.ofPlatform().name("chat-message-writer").daemon().start(this::runWriter);
+    }
+
+
+    // 로컬 로그에 기록될 때까지 대기 (저장 대기 메시지가 queueCapacity를 넘거나 기록하지 못하면 503)
+    // 기록 대기 시간이 syncTimeout을 넘으면 503 (이미 로그에 쓰는 중이었다면 저장될 수 있음)
+    public void enqueue(ChatMessageDTO chatMessage) {
+        if (!running) {
+            throw overloaded();
+        }
+        if (backlog.incrementAndGet() > queueCapacity) {
+            backlog.decrementAndGet();
+            throw overloaded();
+        }
+        PendingMessage pending = new PendingMessage(chatMessage, new CompletableFuture<>());
+        appendQueue.add(pending);
+        try {
+            pending.synced().get(syncTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.synced().cancel(false);
+            throw overloaded();
+        } catch (ExecutionException | TimeoutException e) {
+            pending.synced().cancel(false);
+            throw overloaded();
+        }
+    }
+
+
+    private void runAppender() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !appendQueue.isEmpty()) {
+            try {
+                PendingMessage first = appendQueue.poll(POLL_SLICE_NANOS, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    appendQueue.drainTo(batch, batchSize - 1);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+                appendQueue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                append(batch);
+                batch.clear();
+            }
+        }
+    }
+
+
+    // 모인 메시지를 한 번에 로그에 쓰고 fsync한 후 전송 스레드에 확인 (대기 시간이 지나 취소된 메시지는 제외)
+    private void append(List<PendingMessage> batch) {
+        List<PendingMessage> live = new ArrayList<>(batch.size());
+        for (PendingMessage pending : batch) {
+            if (pending.synced().isDone()) {
+                backlog.decrementAndGet();
+            } else {
+                live.add(pending);
+            }
+        }
+        if (live.isEmpty()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        long segmentId;
+        try {
+            segmentId = appendLog.append(live.stream().map(PendingMessage::message).toList());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to append {} chat messages to the local log", live.size(), e);
+            backlog.addAndGet(-live.size());
+            live.forEach(pending -> pending.synced().completeExceptionally(e));
+            return;
+        }
+        syncTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        for (PendingMessage pending : live) {
+            writeQueue.add(new LoggedMessage(segmentId, pending.message()));
+            pending.synced().complete(null);
+        }
+    }
+
+
+    private void runWriter() {
+        List<LoggedMessage> batch = new ArrayList<>(batchSize);
+        while (running || appender.isAlive() || !writeQueue.isEmpty()) {
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                running = false;
+                writeQueue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                if (!write(batch)) {
+                    return;
+                }
+                batch.clear();
+            }
+        }
+    }
+
+
+    // 첫 메시지를 기다린 후, batchSize개가 차거나 flushInterval이 지날 때까지 모음
+    // 종료 요청을 늦지 않게 확인하도록 대기는 POLL_SLICE 단위로 나눔
+    private void fill(List<LoggedMessage> batch) throws InterruptedException {
+        LoggedMessage first = writeQueue.poll(Math.min(flushIntervalNanos, POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize && running) {
+            if (writeQueue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            LoggedMessage next = writeQueue.poll(Math.min(remaining, POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+
+    // DB 장애가 끝날 때까지 같은 배치 재시도 (데이터 오류 행은 ChatMessageBatchWriter가 dead-letter 처리)
+    // 종료 중에 저장하지 못하면 로그에 남겨 재시작 시 저장하고 false 반환
+    private boolean write(List<LoggedMessage> batch) {
+        List<ChatMessageDTO> messages = batch.stream().map(LoggedMessage::message).toList();
+        while (true) {
+            try {
+                chatMessageBatchWriter.write(messages);
+                break;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.error("Leaving {} unsaved chat messages in the local log for replay on restart", backlog.get(), e);
+                    return false;
+                }
+                log.warn("Failed to write {} chat messages, retrying in {}", batch.size(), retryBackoff, e);
+                try {
+                    Thread.sleep(retryBackoff);
+                } catch (InterruptedException interrupted) {
+                    running = false;
+                }
+            }
+        }
+
+        // 저장한 메시지 수를 segment별로 알려 모두 저장된 segment 파일을 삭제
+        long segmentId = batch.getFirst().segmentId();
+        int count = 0;
+        for (LoggedMessage logged : batch) {
+            if (logged.segmentId() != segmentId) {
+                appendLog.persisted(segmentId, count);
+                segmentId = logged.segmentId();
+                count = 0;
+            }
+            count++;
+        }
+        appendLog.persisted(segmentId, count);
+        backlog.addAndGet(-batch.size());
+        return true;
+    }
+
+
+    private static ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("채팅 메시지를 저장할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+
+    // 종료 시 로그 기록을 마친 후 남은 메시지를 저장할 때까지 대기 (저장 중인 JDBC 호출을 인터럽트하지 않음)
+    // 시간 안에 저장하지 못한 메시지는 로그에 남아 재시작 시 저장
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        appender.join(TimeUnit.SECONDS.toMillis(5));
+        PendingMessage pending;
+        while ((pending = appendQueue.poll()) != null) {
+            pending.synced().cancel(false);
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        try {
+            appendLog.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the local chat message log", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.speakit.speakit.service.chat;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+// clientOutboundChannel 인터셉터: 팬아웃 메시지가 세션에 쓰이면(또는 실패하면) 해당 세션의 전송 대기 수를 줄임
+@Component
+public class ChatOutboundInterceptor implements ExecutorChannelInterceptor {
+
+    private final ChatSessionRegistry chatSessionRegistry;
+
+    public ChatOutboundInterceptor(ChatSessionRegistry chatSessionRegistry) {
+        this.chatSessionRegistry = chatSessionRegistry;
+    }
+
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (!Boolean.TRUE.equals(message.getHeaders().get(ChatFanout.FANOUT_HEADER))) {
+            return;
+        }
+        ChatSession session = chatSessionRegistry.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        if (session != null) {
+            session.release();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatPresenceDTO;
+import com.speakit.speakit.dto.chat.ChatPresenceEventDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 채팅방별 접속/입력 중 상태 (메모리, 모든 서버가 같은 상태를 유지)
+// 채팅방 ID로 나눈 stripe마다 잠금을 따로 두어, 서로 다른 채팅방의 갱신이 하나의 잠금을 두고 경쟁하지 않음
+// 사용자는 서버별 만료 시각으로 접속 상태를 유지하며, 하트비트가 끊긴 서버(비정상 종료 등)의 접속은 만료되어 사라짐
+// 조회는 이 메모리 상태만 사용하므로 chat_room_participants나 User 엔티티를 읽지 않음
+@Component
+public class ChatPresenceRegistry {
+
+    static final String ONLINE = "ONLINE";
+    static final String OFFLINE = "OFFLINE";
+    static final String HEARTBEAT = "HEARTBEAT";
+    static final String TYPING = "TYPING";
+
+    // 이 서버의 접속 상태 식별자 (프로세스마다 새로 발급하여 재시작 전의 접속과 구분)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    public ChatPresenceRegistry(MeterRegistry meterRegistry,
+                                @Value("${chat.presence.stripes:64}") int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = size - 1;
+
+        Gauge.builder("chat.presence.rooms", this, ChatPresenceRegistry::roomCount)
+                .description("접속 중인 사용자가 있는 채팅방 수 (전체 서버 기준)")
+                .register(meterRegistry);
+    }
+
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+
+    // 사용자의 nodeId 서버 접속을 expiresAt까지 유지 (접속 또는 하트비트)
+    public void online(Long roomId, Long userId, String username, String nodeId, long expiresAt) {
+        Stripe stripe = stripe(roomId);
+        synchronized (stripe) {
+            UserPresence presence = stripe.rooms.computeIfAbsent(roomId, id -> new HashMap<>())
+                    .computeIfAbsent(userId, id -> new UserPresence());
+            presence.username = username;
+            presence.nodes.merge(nodeId, expiresAt, Math::max);
+        }
+    }
+
+
+    // 사용자의 nodeId 서버 접속 종료 (다른 서버에 남은 접속은 유지)
+    public void offline(Long roomId, Long userId, String nodeId) {
+        Stripe stripe = stripe(roomId);
+        synchronized (stripe) {
+            Map<Long, UserPresence> users = stripe.rooms.get(roomId);
+            UserPresence presence = users != null ? users.get(userId) : null;
+            if (presence == null) {
+                return;
+            }
+            presence.nodes.remove(nodeId);
+            if (presence.nodes.isEmpty()) {
+                users.remove(userId);
+                if (users.isEmpty()) {
+                    stripe.rooms.remove(roomId);
+                }
+            }
+        }
+    }
+
+
+    // 입력 중 상태를 typingUntil까지 유지 (0이면 해제), 접속 중이 아닌 사용자는 무시
+    // 다른 서버에 알려야 하면(새로 입력을 시작했거나 만료가 절반 이상 지난 경우) true
+    public boolean typing(Long roomId, Long userId, long typingUntil, long now) {
+        Stripe stripe = stripe(roomId);
+        synchronized (stripe) {
+            Map<Long, UserPresence> users = stripe.rooms.get(roomId);
+            UserPresence presence = users != null ? users.get(userId) : null;
+            if (presence == null) {
+                return false;
+            }
+            boolean wasTyping = presence.typingUntil > now;
+            presence.typingUntil = typingUntil;
+            if (typingUntil == 0) {
+                presence.announcedTypingUntil = 0;
+                return wasTyping;
+            }
+            // 키 입력마다 오는 갱신은 다른 서버가 아는 만료 시각이 절반 이상 남아 있는 동안 알리지 않음
+            if (presence.announcedTypingUntil - now > (typingUntil - now) / 2) {
+                return false;
+            }
+            presence.announcedTypingUntil = typingUntil;
+            return true;
+        }
+    }
+
+
+    // 다른 서버에서 받은 이벤트 반영
+    public void apply(ChatPresenceEventDTO event, long now) {
+        if (event.getEntries() == null || nodeId.equals(event.getNodeId())) {
+            return;
+        }
+        long expiresAt = now + event.getTtlMillis();
+        for (ChatPresenceDTO entry : event.getEntries()) {
+            switch (event.getType()) {
+                case ONLINE, HEARTBEAT -> online(entry.getRoomId(), entry.getUserId(), entry.getUsername(), event.getNodeId(), expiresAt);
+                case OFFLINE -> offline(entry.getRoomId(), entry.getUserId(), event.getNodeId());
+                case TYPING -> typing(entry.getRoomId(), entry.getUserId(), entry.isTyping() ? expiresAt : 0, now);
+                default -> {
+                }
+            }
+        }
+    }
+
+
+    // 채팅방에 접속 중인 사용자 목록
+    public List<ChatPresenceDTO> snapshot(Long roomId, long now) {
+        Stripe stripe = stripe(roomId);
+        synchronized (stripe) {
+            Map<Long, UserPresence> users = stripe.rooms.get(roomId);
+            if (users == null) {
+                return List.of();
+            }
+            List<ChatPresenceDTO> result = new ArrayList<>(users.size());
+            users.forEach((userId, presence) -> {
+                if (presence.isOnline(now)) {
+                    result.add(new ChatPresenceDTO(roomId, userId, presence.username, presence.typingUntil > now));
+                }
+            });
+            return result;
+        }
+    }
+
+
+    public boolean isOnline(Long roomId, Long userId, long now) {
+        Stripe stripe = stripe(roomId);
+        synchronized (stripe) {
+            Map<Long, UserPresence> users = stripe.rooms.get(roomId);
+            UserPresence presence = users != null ? users.get(userId) : null;
+            return presence != null && presence.isOnline(now);
+        }
+    }
+
+
+    // 만료된 서버 접속과 빈 채팅방 정리 (stripe 하나씩 잠그므로 정리 중에도 다른 stripe는 계속 갱신 가능)
+    public void purgeExpired(long now) {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Map<Long, UserPresence>> rooms = stripe.rooms.values().iterator();
+                while (rooms.hasNext()) {
+                    Map<Long, UserPresence> users = rooms.next();
+                    users.values().removeIf(presence -> {
+                        presence.nodes.values().removeIf(expiresAt -> expiresAt <= now);
+                        return presence.nodes.isEmpty();
+                    });
+                    if (users.isEmpty()) {
+                        rooms.remove();
+                    }
+                }
+            }
+        }
+    }
+
+
+    private int roomCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.rooms.size();
+            }
+        }
+        return count;
+    }
+
+    private Stripe stripe(Long roomId) {
+        long h = roomId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h ^ (h >>> 32)) & stripeMask];
+    }
+
+
+    // 같은 stripe의 채팅방들은 이 객체의 잠금을 공유 (채팅방 ID → 사용자 ID → 접속 상태)
+    private static final class Stripe {
+        private final Map<Long, Map<Long, UserPresence>> rooms = new HashMap<>();
+    }
+
+    private static final class UserPresence {
+        // 서버 ID → 접속 만료 시각
+        private final Map<String, Long> nodes = new HashMap<>(2);
+        private String username;
+        private long typingUntil;
+        // 다른 서버에 마지막으로 알린 입력 중 만료 시각
+        private long announcedTypingUntil;
+
+        private boolean isOnline(long now) {
+            for (long expiresAt : nodes.values()) {
+                if (expiresAt > now) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatPresenceDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+// 채팅방 접속/입력 중 상태 서비스 인터페이스
+public interface ChatPresenceService {
+
+    // 세션이 채팅방을 구독함
+    void joined(ChatSession session, Long roomId);
+
+    // 세션이 채팅방 구독을 해제했거나 연결이 종료됨
+    void left(ChatSession session, Collection<Long> roomIds);
+
+    void typing(String sessionId, Long roomId, boolean typing);
+
+    List<ChatPresenceDTO> getPresence(Long userId, Long roomId);
+}
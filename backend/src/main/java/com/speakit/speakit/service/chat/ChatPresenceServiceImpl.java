@@ -0,0 +1,206 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatPresenceDTO;
+import com.speakit.speakit.dto.chat.ChatPresenceEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 채팅방 접속/입력 중 상태 서비스 구현체
+// - 접속: 사용자가 이 서버에서 채팅방을 처음 구독하면 ONLINE, 마지막 구독이 끝나면 OFFLINE을 알림
+// - 하트비트: heartbeatInterval마다 이 서버의 접속 목록 전체를 다시 알려 onlineTtl 만료를 연장 (놓친 이벤트 복구 겸용)
+// - 입력 중: typingTtl 동안 유지되며, 키 입력마다 오는 갱신은 ChatPresenceRegistry.typing()이 걸러 필요한 경우만 알림
+// 이벤트 발행은 전용 스레드 하나에서 순서대로 처리하여 Redis 지연이 STOMP 수신 스레드를 붙잡지 않도록 함
+@Slf4j
+@Service
+public class ChatPresenceServiceImpl implements ChatPresenceService, DisposableBean {
+
+    private final ChatPresenceRegistry chatPresenceRegistry;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatPresenceSync chatPresenceSync;
+    private final long onlineTtlMillis;
+    private final long typingTtlMillis;
+    private final int heartbeatBatchSize;
+    private final int maxPendingEvents;
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Counter droppedCounter;
+
+    public ChatPresenceServiceImpl(ChatPresenceRegistry chatPresenceRegistry,
+                                   ChatSessionRegistry chatSessionRegistry,
+                                   ChatPresenceSync chatPresenceSync,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${chat.presence.onlineTtl:30s}") Duration onlineTtl,
+                                   @Value("${chat.presence.heartbeatInterval:10s}") Duration heartbeatInterval,
+                                   @Value("${chat.presence.typingTtl:5s}") Duration typingTtl,
+                                   @Value("${chat.presence.heartbeatBatchSize:500}") int heartbeatBatchSize,
+                                   @Value("${chat.presence.maxPendingEvents:10000}") int maxPendingEvents) {
+        if (heartbeatInterval.compareTo(onlineTtl) >= 0) {
+            throw new IllegalArgumentException("chat.presence.heartbeatInterval은 chat.presence.onlineTtl보다 짧아야 합니다.");
+        }
+        this.chatPresenceRegistry = chatPresenceRegistry;
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.chatPresenceSync = chatPresenceSync;
+        this.onlineTtlMillis = onlineTtl.toMillis();
+        this.typingTtlMillis = typingTtl.toMillis();
+        this.heartbeatBatchSize = heartbeatBatchSize;
+        this.maxPendingEvents = maxPendingEvents;
+
+        this.droppedCounter = Counter.builder("chat.presence.events.dropped")
+                .description("발행 대기열이 가득 차 버린 접속 상태 이벤트 수 (하트비트로 복구됨)")
+                .register(meterRegistry);
+
+        this.executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("chat-presence").daemon().factory());
+        this.executor.scheduleWithFixedDelay(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+
+    @Override
+    public void joined(ChatSession session, Long roomId) {
+        if (!session.isAuthenticated()) {
+            return;
+        }
+        chatPresenceRegistry.online(roomId, session.getUserId(), session.getUsername(),
+                chatPresenceRegistry.getNodeId(), System.currentTimeMillis() + onlineTtlMillis);
+        publish(ChatPresenceRegistry.ONLINE, onlineTtlMillis, List.of(entry(roomId, session, false)));
+    }
+
+
+    // 같은 사용자의 다른 세션(다른 탭 등)이 이 서버에서 아직 채팅방을 구독 중이면 접속 상태 유지
+    @Override
+    public void left(ChatSession session, Collection<Long> roomIds) {
+        if (!session.isAuthenticated()) {
+            return;
+        }
+        List<ChatPresenceDTO> entries = new ArrayList<>();
+        for (Long roomId : new LinkedHashSet<>(roomIds)) {
+            if (!isSubscribedLocally(roomId, session.getUserId())) {
+                chatPresenceRegistry.offline(roomId, session.getUserId(), chatPresenceRegistry.getNodeId());
+                entries.add(entry(roomId, session, false));
+            }
+        }
+        if (!entries.isEmpty()) {
+            publish(ChatPresenceRegistry.OFFLINE, 0, entries);
+        }
+    }
+
+
+    @Override
+    public void typing(String sessionId, Long roomId, boolean typing) {
+        ChatSession session = chatSessionRegistry.get(sessionId);
+        if (session == null || !session.isAuthenticated()) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+        if (!session.isSubscribed(roomId)) {
+            throw new RuntimeException("참여하지 않은 채팅방입니다.");
+        }
+
+        long now = System.currentTimeMillis();
+        if (chatPresenceRegistry.typing(roomId, session.getUserId(), typing ? now + typingTtlMillis : 0, now)) {
+            publish(ChatPresenceRegistry.TYPING, typingTtlMillis, List.of(entry(roomId, session, typing)));
+        }
+    }
+
+
+    // 접속 목록은 채팅방에 접속 중인 사용자만 조회 가능 (구독 시 권한을 확인했으므로 DB를 다시 조회하지 않음)
+    @Override
+    public List<ChatPresenceDTO> getPresence(Long userId, Long roomId) {
+        long now = System.currentTimeMillis();
+        if (!chatPresenceRegistry.isOnline(roomId, userId, now)) {
+            throw new RuntimeException("참여하지 않은 채팅방입니다.");
+        }
+        return chatPresenceRegistry.snapshot(roomId, now);
+    }
+
+
+    // 종료 시 이 서버의 접속을 바로 내려 다른 서버가 onlineTtl 만료를 기다리지 않도록 함
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        List<ChatPresenceDTO> entries = localEntries();
+        for (int from = 0; from < entries.size(); from += heartbeatBatchSize) {
+            chatPresenceSync.publish(event(ChatPresenceRegistry.OFFLINE, 0,
+                    entries.subList(from, Math.min(from + heartbeatBatchSize, entries.size()))));
+        }
+    }
+
+
+    void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            List<ChatPresenceDTO> entries = localEntries();
+            for (ChatPresenceDTO entry : entries) {
+                chatPresenceRegistry.online(entry.getRoomId(), entry.getUserId(), entry.getUsername(),
+                        chatPresenceRegistry.getNodeId(), now + onlineTtlMillis);
+            }
+            for (int from = 0; from < entries.size(); from += heartbeatBatchSize) {
+                chatPresenceSync.publish(event(ChatPresenceRegistry.HEARTBEAT, onlineTtlMillis,
+                        entries.subList(from, Math.min(from + heartbeatBatchSize, entries.size()))));
+            }
+            chatPresenceRegistry.purgeExpired(now);
+        } catch (RuntimeException e) {
+            // 예외로 주기 작업이 중단되지 않도록 기록만 함
+            log.warn("Chat presence heartbeat failed", e);
+        }
+    }
+
+
+    // 이 서버의 채팅방 구독에서 (채팅방, 사용자) 목록을 중복 없이 수집
+    private List<ChatPresenceDTO> localEntries() {
+        List<ChatPresenceDTO> entries = new ArrayList<>();
+        for (Long roomId : chatSessionRegistry.activeRoomIds()) {
+            Set<Long> users = new HashSet<>();
+            for (ChatSessionRegistry.ChatSubscription subscription : chatSessionRegistry.subscribers(roomId)) {
+                ChatSession session = subscription.session();
+                if (session.isAuthenticated() && users.add(session.getUserId())) {
+                    entries.add(entry(roomId, session, false));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private boolean isSubscribedLocally(Long roomId, Long userId) {
+        for (ChatSessionRegistry.ChatSubscription subscription : chatSessionRegistry.subscribers(roomId)) {
+            if (userId.equals(subscription.session().getUserId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    // 대기열이 가득 차면(Redis 장애 등) 버리고, 빠진 접속은 다음 하트비트로 복구
+    private void publish(String type, long ttlMillis, List<ChatPresenceDTO> entries) {
+        if (executor.getQueue().size() >= maxPendingEvents || executor.isShutdown()) {
+            droppedCounter.increment();
+            return;
+        }
+        ChatPresenceEventDTO event = event(type, ttlMillis, entries);
+        executor.execute(() -> chatPresenceSync.publish(event));
+    }
+
+    private ChatPresenceEventDTO event(String type, long ttlMillis, List<ChatPresenceDTO> entries) {
+        return new ChatPresenceEventDTO(type, chatPresenceRegistry.getNodeId(), ttlMillis, List.copyOf(entries));
+    }
+
+    private static ChatPresenceDTO entry(Long roomId, ChatSession session, boolean typing) {
+        return new ChatPresenceDTO(roomId, session.getUserId(), session.getUsername(), typing);
+    }
+}
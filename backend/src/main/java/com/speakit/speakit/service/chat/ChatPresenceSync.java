@@ -0,0 +1,11 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatPresenceEventDTO;
+
+// 이 서버의 접속 상태 변경을 다른 서버에 알리는 방식, chat.presence.sync 값으로 선택
+// - local: 알리지 않음 (단일 서버)
+// - redis: Redis pub/sub 채널로 발행하고, 다른 서버가 받은 이벤트를 ChatPresenceRegistry에 반영 (다중 서버)
+public interface ChatPresenceSync {
+
+    void publish(ChatPresenceEventDTO event);
+}
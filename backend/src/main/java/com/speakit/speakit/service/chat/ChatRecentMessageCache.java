@@ -0,0 +1,154 @@
+package com.speakit.speakit.service.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 활동 중인 채팅방별 최근 메시지 링 버퍼 (채팅방 입장 시 "최근 메시지 불러오기"를 DB 없이 처리)
+// 링은 이 서버가 전파한 실시간 메시지로만 만들어지므로 가장 오래된 메시지 이후로는 빠진 메시지가 없음
+// 그 연속성을 보장할 수 없게 되면(메시지를 건너뛴 경우 등) invalidate()로 링을 버리고 다음 메시지부터 다시 쌓음
+@Component
+public class ChatRecentMessageCache {
+
+    private final Cache<Long, RecentMessages> rooms;
+    private final int recentSize;
+
+    public ChatRecentMessageCache(MeterRegistry meterRegistry,
+                                  @Value("${chat.history.recentSize:100}") int recentSize,
+                                  @Value("${chat.history.maxRooms:10000}") long maxRooms,
+                                  @Value("${chat.history.idleTtl:30m}") Duration idleTtl) {
+        if (recentSize < 1) {
+            throw new IllegalArgumentException("chat.history.recentSize는 1 이상이어야 합니다.");
+        }
+        this.recentSize = recentSize;
+
+        // 메모리 상한 = maxRooms * recentSize개 메시지, 한동안 조회/전송이 없는 채팅방은 링을 반납
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rooms, "chat.recent");
+    }
+
+
+    // 전파한 메시지를 채팅방 링에 추가 (링이 없으면 이 메시지부터 새로 시작)
+    public void append(ChatMessageDTO chatMessage) {
+        rooms.get(chatMessage.getRoomId(), roomId -> new RecentMessages(recentSize)).append(chatMessage);
+    }
+
+    // 이 서버가 채팅방의 메시지를 놓쳤을 때 호출하여, 빠진 메시지가 있는 링으로 응답하지 않도록 함
+    public void invalidate(Long roomId) {
+        rooms.invalidate(roomId);
+    }
+
+
+    // beforeId보다 오래된 메시지를 최신순으로 최대 limit개 반환, 링이 없으면 null
+    public RecentPage read(Long roomId, long beforeId, int limit) {
+        RecentMessages recent = rooms.getIfPresent(roomId);
+        return recent != null ? recent.read(beforeId, limit) : null;
+    }
+
+    // DB에서 읽은 oldestId 직전 메시지들(최신순)을 링 앞쪽에 채움
+    // 읽는 사이 링이 바뀌었으면(가장 오래된 메시지가 달라졌으면) 연속성을 확인할 수 없으므로 채우지 않음
+    // reachedStart는 DB에 더 오래된 메시지가 없다는 뜻이며, 모두 채운 경우 링이 채팅방 전체 기록이 됨
+    public void backfill(Long roomId, long oldestId, List<ChatMessageDTO> older, boolean reachedStart) {
+        RecentMessages recent = rooms.getIfPresent(roomId);
+        if (recent != null) {
+            recent.prepend(oldestId, older, reachedStart);
+        }
+    }
+
+
+    // 링 조회 결과: 메시지(최신순), 링의 가장 오래된 메시지 ID, 링이 채팅방 전체 기록인지 여부
+    public record RecentPage(List<ChatMessageDTO> messages, long oldestId, boolean complete) {
+    }
+
+
+    // 채팅방 하나의 링 버퍼 (ID 오름차순 유지, 가득 차면 가장 오래된 메시지부터 덮어씀)
+    static final class RecentMessages {
+
+        private final ChatMessageDTO[] ring;
+        private int head;
+        private int size;
+        private boolean complete;
+
+        RecentMessages(int capacity) {
+            this.ring = new ChatMessageDTO[capacity];
+        }
+
+
+        // 여러 서버가 발급한 ID는 도착 순서가 조금씩 어긋날 수 있으므로 뒤에서부터 자리를 찾아 삽입
+        synchronized void append(ChatMessageDTO chatMessage) {
+            long id = chatMessage.getId();
+            int pos = size;
+            while (pos > 0 && at(pos - 1).getId() > id) {
+                pos--;
+            }
+            if (pos > 0 && at(pos - 1).getId() == id) {
+                return;
+            }
+            if (pos == 0 && size > 0 && !complete) {
+                // 링 시작보다 오래된 메시지는 이미 DB 조회 범위이므로 링에 넣지 않음
+                return;
+            }
+            if (size == ring.length) {
+                if (pos == 0) {
+                    complete = false;
+                    return;
+                }
+                head = (head + 1) % ring.length;
+                size--;
+                pos--;
+                complete = false;
+            }
+            for (int i = size; i > pos; i--) {
+                set(i, at(i - 1));
+            }
+            set(pos, chatMessage);
+            size++;
+        }
+
+        synchronized void prepend(long oldestId, List<ChatMessageDTO> older, boolean reachedStart) {
+            if (size == 0 || at(0).getId() != oldestId) {
+                return;
+            }
+            int count = Math.min(older.size(), ring.length - size);
+            for (int i = 0; i < count; i++) {
+                head = (head - 1 + ring.length) % ring.length;
+                ring[head] = older.get(i);
+                size++;
+            }
+            if (reachedStart && count == older.size()) {
+                complete = true;
+            }
+        }
+
+        synchronized RecentPage read(long beforeId, int limit) {
+            List<ChatMessageDTO> messages = new ArrayList<>(Math.min(limit, size));
+            for (int i = size - 1; i >= 0 && messages.size() < limit; i--) {
+                ChatMessageDTO chatMessage = at(i);
+                if (chatMessage.getId() < beforeId) {
+                    messages.add(chatMessage);
+                }
+            }
+            return new RecentPage(messages, size > 0 ? at(0).getId() : Long.MAX_VALUE, complete);
+        }
+
+        private ChatMessageDTO at(int index) {
+            return ring[(head + index) % ring.length];
+        }
+
+        private void set(int index, ChatMessageDTO chatMessage) {
+            ring[(head + index) % ring.length] = chatMessage;
+        }
+    }
+}
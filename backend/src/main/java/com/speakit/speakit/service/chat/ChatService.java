@@ -0,0 +1,9 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+
+// 채팅 관련 서비스 인터페이스
+public interface ChatService {
+
+    ChatMessageDTO sendMessage(String sessionId, Long roomId, String message);
+}
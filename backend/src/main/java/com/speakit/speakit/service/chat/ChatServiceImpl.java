@@ -0,0 +1,59 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.dto.error.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+// ChatService 인터페이스에 정의된 채팅 비즈니스 로직 구현
+@Service
+public class ChatServiceImpl implements ChatService {
+
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageBroadcaster chatMessageBroadcaster;
+    private final ChatFanout chatFanout;
+
+    public ChatServiceImpl(ChatSessionRegistry chatSessionRegistry,
+                           ChatMessageIdGenerator chatMessageIdGenerator,
+                           ChatMessageBroadcaster chatMessageBroadcaster,
+                           ChatFanout chatFanout) {
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.chatMessageIdGenerator = chatMessageIdGenerator;
+        this.chatMessageBroadcaster = chatMessageBroadcaster;
+        this.chatFanout = chatFanout;
+    }
+
+
+    // 메시지 ID를 발급하고 저장 대기열에 넣은 후 채팅방 구독자에게 전파 (DB 저장은 배치로 나중에 수행)
+    // 전송 권한은 구독 시점에 확인했으므로, 메시지마다 DB를 조회하지 않고 세션의 구독 여부만 확인
+    // 저장 대기열에 넣지 못한 메시지는 저장도 전달도 되지 않으므로, 나중에 실패하면 보낸 세션에 알려 다시 보내도록 함
+    @Override
+    public ChatMessageDTO sendMessage(String sessionId, Long roomId, String message) {
+        ChatSession session = chatSessionRegistry.get(sessionId);
+        if (session == null || !session.isAuthenticated()) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+        if (!session.isSubscribed(roomId)) {
+            throw new RuntimeException("참여하지 않은 채팅방입니다.");
+        }
+
+        ChatMessageDTO chatMessageDTO = ChatMessageDTO.builder()
+                .id(chatMessageIdGenerator.nextId())
+                .roomId(roomId)
+                .senderId(session.getUserId())
+                .senderName(session.getUsername())
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .build();
+        chatMessageBroadcaster.broadcast(chatMessageDTO).whenComplete((ignored, error) -> {
+            if (error != null) {
+                chatFanout.deliverError(sessionId, new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        "메시지를 전송하지 못했습니다. 잠시 후 다시 보내 주세요."));
+            }
+        });
+        return chatMessageDTO;
+    }
+}
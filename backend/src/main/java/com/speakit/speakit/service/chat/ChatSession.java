@@ -0,0 +1,133 @@
+package com.speakit.speakit.service.chat;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 웹소켓 연결 하나의 채팅 상태 (사용자, 구독 목록, 전송 대기 중인 메시지 수)
+public class ChatSession {
+
+    private final String sessionId;
+    private final WebSocketSession webSocketSession;
+
+    // 구독 ID → 채팅방 ID
+    private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+
+    // 팬아웃으로 전송 요청했지만 아직 클라이언트 소켓에 쓰이지 않은 메시지 수
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean closing = new AtomicBoolean();
+
+    private volatile Long userId;
+    private volatile String email;
+    private volatile String username;
+    private volatile MessageChannel outboundChannel;
+
+    // 전송 실패 알림 구독 ID (ChatFanout.ERROR_DESTINATION 구독, 없으면 null)
+    private volatile String errorSubscriptionId;
+
+    public ChatSession(String sessionId, WebSocketSession webSocketSession) {
+        this.sessionId = sessionId;
+        this.webSocketSession = webSocketSession;
+    }
+
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    Map<String, Long> getSubscriptions() {
+        return subscriptions;
+    }
+
+    void authenticate(Long userId, String email, String username) {
+        this.userId = userId;
+        this.email = email;
+        this.username = username;
+    }
+
+    public boolean isAuthenticated() {
+        return userId != null;
+    }
+
+    public boolean isSubscribed(Long roomId) {
+        return subscriptions.containsValue(roomId);
+    }
+
+    String getErrorSubscriptionId() {
+        return errorSubscriptionId;
+    }
+
+    void setErrorSubscriptionId(String errorSubscriptionId) {
+        this.errorSubscriptionId = errorSubscriptionId;
+    }
+
+
+    // 세션 전용 출력 채널 (세션별 전송 순서 보장을 위한 데코레이터), 최초 전송 시 생성
+    MessageChannel outboundChannel(Supplier<MessageChannel> factory) {
+        MessageChannel channel = outboundChannel;
+        if (channel == null) {
+            synchronized (this) {
+                channel = outboundChannel;
+                if (channel == null) {
+                    channel = factory.get();
+                    outboundChannel = channel;
+                }
+            }
+        }
+        return channel;
+    }
+
+
+    // 전송 대기 수가 한도 미만이면 한 건 예약하고 true, 한도에 도달한 느린 클라이언트면 false
+    boolean tryAcquire(int maxPending) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void release() {
+        pending.decrementAndGet();
+    }
+
+    int getPending() {
+        return pending.get();
+    }
+
+
+    // 느린 클라이언트 연결 종료, 소켓 쓰기가 막혀 있을 수 있으므로 호출 스레드를 붙잡지 않도록 별도 가상 스레드에서 종료
+    // 여러 번 호출되어도 한 번만 종료
+    boolean closeAsync(CloseStatus status) {
+        if (!closing.compareAndSet(false, true) || webSocketSession == null) {
+            return false;
+        }
+        Thread.ofVirtual().name("chat-close-" + sessionId).start(() -> {
+            try {
+                webSocketSession.close(status);
+            } catch (IOException ignored) {
+                // 이미 끊긴 연결
+            }
+        });
+        return true;
+    }
+}
@@ -0,0 +1,152 @@
+package com.speakit.speakit.service.chat;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이 서버에 연결된 채팅 세션과 채팅방별 구독자 인덱스 (메모리)
+// 팬아웃 시 채팅방 ID로 구독자 목록을 바로 조회하며, 구독 목록의 변경은 채팅방 단위로 원자적으로 처리
+@Component
+public class ChatSessionRegistry {
+
+    // 채팅방 구독 정보 (세션, 클라이언트가 지정한 구독 ID)
+    public record ChatSubscription(ChatSession session, String subscriptionId) {
+    }
+
+    private final Map<String, ChatSession> sessions = new ConcurrentHashMap<>();
+
+    // 채팅방 ID → (세션 ID + 구독 ID → 구독)
+    private final Map<Long, Map<String, ChatSubscription>> rooms = new ConcurrentHashMap<>();
+
+    public ChatSessionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("chat.sessions", sessions, Map::size)
+                .description("이 서버에 연결된 채팅 웹소켓 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.rooms.active", rooms, Map::size)
+                .description("이 서버에 구독자가 있는 채팅방 수")
+                .register(meterRegistry);
+    }
+
+
+    // 웹소켓 연결 수립 시 세션 등록
+    public ChatSession open(WebSocketSession webSocketSession) {
+        ChatSession session = new ChatSession(webSocketSession.getId(), webSocketSession);
+        sessions.put(session.getSessionId(), session);
+        return session;
+    }
+
+
+    // STOMP CONNECT 시 세션에 사용자 정보 연결
+    public void authenticate(String sessionId, Long userId, String email, String username) {
+        ChatSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new RuntimeException("채팅 세션을 찾을 수 없습니다.");
+        }
+        session.authenticate(userId, email, username);
+    }
+
+
+    public ChatSession get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+
+    public void subscribe(String sessionId, String subscriptionId, Long roomId) {
+        ChatSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        session.getSubscriptions().put(subscriptionId, roomId);
+        rooms.compute(roomId, (id, subscribers) -> {
+            Map<String, ChatSubscription> updated = subscribers != null ? subscribers : new ConcurrentHashMap<>();
+            updated.put(key(sessionId, subscriptionId), new ChatSubscription(session, subscriptionId));
+            return updated;
+        });
+
+        // 구독 처리 중 연결이 종료된 경우 close()가 놓친 구독 정리
+        if (!sessions.containsKey(sessionId)) {
+            removeSubscriber(roomId, key(sessionId, subscriptionId));
+        }
+    }
+
+
+    // 전송 실패 알림 구독 (세션당 하나, 다시 구독하면 마지막 구독 ID 사용)
+    public void subscribeErrors(String sessionId, String subscriptionId) {
+        ChatSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.setErrorSubscriptionId(subscriptionId);
+        }
+    }
+
+
+    // 구독 해제한 채팅방 ID 반환 (없는 구독이거나 전송 실패 알림 구독이면 null)
+    public Long unsubscribe(String sessionId, String subscriptionId) {
+        ChatSession session = sessions.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        if (subscriptionId != null && subscriptionId.equals(session.getErrorSubscriptionId())) {
+            session.setErrorSubscriptionId(null);
+            return null;
+        }
+        Long roomId = session.getSubscriptions().remove(subscriptionId);
+        if (roomId != null) {
+            removeSubscriber(roomId, key(sessionId, subscriptionId));
+        }
+        return roomId;
+    }
+
+
+    // 연결 종료(DISCONNECT 또는 소켓 종료) 시 세션과 모든 구독 제거, 여러 번 호출되어도 안전
+    // 처음 종료할 때만 세션을 반환하며, 반환된 세션의 구독 목록은 종료 직전 구독하던 채팅방 (접속 상태 정리용)
+    public ChatSession close(String sessionId) {
+        ChatSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return null;
+        }
+        session.getSubscriptions().forEach((subscriptionId, roomId) -> removeSubscriber(roomId, key(sessionId, subscriptionId)));
+        return session;
+    }
+
+
+    // 채팅방의 현재 구독자 목록 (약한 일관성: 순회 중 추가/제거된 구독은 포함되지 않을 수 있음)
+    public Collection<ChatSubscription> subscribers(Long roomId) {
+        Map<String, ChatSubscription> subscribers = rooms.get(roomId);
+        return subscribers != null ? subscribers.values() : List.of();
+    }
+
+
+    public boolean hasSubscribers(Long roomId) {
+        return rooms.containsKey(roomId);
+    }
+
+
+    // 이 서버에 구독자가 있는 채팅방 ID 목록
+    public Set<Long> activeRoomIds() {
+        return rooms.keySet();
+    }
+
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+
+    private void removeSubscriber(Long roomId, String subscriptionKey) {
+        rooms.computeIfPresent(roomId, (id, subscribers) -> {
+            subscribers.remove(subscriptionKey);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static String key(String sessionId, String subscriptionId) {
+        return sessionId + '/' + subscriptionId;
+    }
+}
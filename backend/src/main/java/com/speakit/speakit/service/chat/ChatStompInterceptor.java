@@ -0,0 +1,133 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.user.UserCacheService;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+
+// clientInboundChannel 인터셉터: STOMP 프레임별로 인증, 구독 권한 확인, 구독자 인덱스 갱신을 처리
+// 웹소켓 핸드셰이크는 JwtAuthenticationFilter(accessToken 쿠키)로 인증되며, 여기서는 핸드셰이크에서 확정된 사용자를 세션에 연결
+@Component
+public class ChatStompInterceptor implements ChannelInterceptor {
+
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatMembershipService chatMembershipService;
+    private final UserCacheService userCacheService;
+    private final ChatPresenceService chatPresenceService;
+
+    public ChatStompInterceptor(ChatSessionRegistry chatSessionRegistry,
+                                ChatMembershipService chatMembershipService,
+                                UserCacheService userCacheService,
+                                ChatPresenceService chatPresenceService) {
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.chatMembershipService = chatMembershipService;
+        this.userCacheService = userCacheService;
+        this.chatPresenceService = chatPresenceService;
+    }
+
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        String sessionId = accessor.getSessionId();
+        switch (accessor.getCommand()) {
+            case CONNECT -> connect(sessionId, accessor.getUser());
+            case SUBSCRIBE -> subscribe(sessionId, accessor.getSubscriptionId(), accessor.getDestination());
+            case UNSUBSCRIBE -> unsubscribe(sessionId, accessor.getSubscriptionId());
+            case DISCONNECT -> disconnect(sessionId);
+            case SEND -> requireAuthenticated(sessionId);
+            default -> {
+            }
+        }
+        return message;
+    }
+
+
+    // 핸드셰이크 사용자(JWT 클레임 기반 주체)를 세션에 연결, 표시 이름은 연결 시 한 번만 사용자 캐시에서 조회
+    private void connect(String sessionId, Principal user) {
+        if (user == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+
+        UserCacheDTO cachedUser = userCacheService.getByEmail(user.getName());
+        if (cachedUser == null) {
+            throw new RuntimeException("사용자 정보를 찾을 수 없습니다.");
+        }
+        Long userId = user instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof JwtUserPrincipal jwtUser
+                ? jwtUser.getId() : cachedUser.getId();
+        chatSessionRegistry.authenticate(sessionId, userId, cachedUser.getEmail(), cachedUser.getUsername());
+    }
+
+
+    // 채팅방 목적지(/topic/chat/rooms/{roomId})는 참여 중인 채팅방만 구독 가능
+    // 전송 실패 알림(/user/queue/chat/errors)은 자기 세션의 알림만 받으므로 권한 확인 없이 허용
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        ChatSession session = requireAuthenticated(sessionId);
+        if (ChatFanout.ERROR_DESTINATION.equals(destination) && subscriptionId != null) {
+            chatSessionRegistry.subscribeErrors(sessionId, subscriptionId);
+            return;
+        }
+        Long roomId = parseRoomId(destination);
+        if (roomId == null || subscriptionId == null) {
+            throw new RuntimeException("구독할 수 없는 경로입니다.");
+        }
+        if (!chatMembershipService.isMember(roomId, session.getUserId())) {
+            throw new RuntimeException("채팅방에 접근할 수 없습니다.");
+        }
+        chatSessionRegistry.subscribe(sessionId, subscriptionId, roomId);
+        chatPresenceService.joined(session, roomId);
+    }
+
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        ChatSession session = chatSessionRegistry.get(sessionId);
+        Long roomId = chatSessionRegistry.unsubscribe(sessionId, subscriptionId);
+        if (session != null && roomId != null) {
+            chatPresenceService.left(session, List.of(roomId));
+        }
+    }
+
+
+    private void disconnect(String sessionId) {
+        ChatSession session = chatSessionRegistry.close(sessionId);
+        if (session != null) {
+            chatPresenceService.left(session, session.getSubscriptions().values());
+        }
+    }
+
+
+    private ChatSession requireAuthenticated(String sessionId) {
+        ChatSession session = chatSessionRegistry.get(sessionId);
+        if (session == null || !session.isAuthenticated()) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+        return session;
+    }
+
+
+    static Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ChatFanout.ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(ChatFanout.ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.speakit.speakit.service.chat;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+// 웹소켓 연결 수립/종료 시점에 ChatSessionRegistry에 세션을 등록/제거
+// (STOMP DISCONNECT 없이 소켓이 끊긴 경우에도 구독자 인덱스와 접속 상태에서 제거되도록 보장)
+public class ChatWebSocketHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatPresenceService chatPresenceService;
+
+    public ChatWebSocketHandlerDecorator(WebSocketHandler delegate,
+                                         ChatSessionRegistry chatSessionRegistry,
+                                         ChatPresenceService chatPresenceService) {
+        super(delegate);
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.chatPresenceService = chatPresenceService;
+    }
+
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        chatSessionRegistry.open(session);
+        super.afterConnectionEstablished(session);
+    }
+
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            ChatSession closed = chatSessionRegistry.close(session.getId());
+            if (closed != null) {
+                chatPresenceService.left(closed, closed.getSubscriptions().values());
+            }
+        }
+    }
+}
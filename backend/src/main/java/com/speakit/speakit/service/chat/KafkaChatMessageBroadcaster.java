@@ -0,0 +1,153 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 다중 서버용 전파: 채팅방 ID를 키로 Kafka 토픽에 발행하고, 모든 서버가 받아 각자 연결된 구독자에게만 전달
+// 같은 채팅방의 메시지는 같은 파티션으로 가므로 서버마다 채팅방 내 순서가 유지됨
+// 최근 메시지 링은 구독자가 있어 전달한 채팅방만 유지하고, 건너뛴 채팅방의 링은 연속성이 깨지므로 버림
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broadcast", havingValue = "kafka")
+public class KafkaChatMessageBroadcaster implements ChatMessageBroadcaster {
+
+    // 수신 서버의 STOMP message-id로 사용하는 채팅 메시지 ID 헤더
+    static final String MESSAGE_ID_HEADER = "chatMessageId";
+
+
+    private final KafkaTemplate<String, byte[]> chatKafkaTemplate;
+    private final ChatFanout chatFanout;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    private final Counter publishFailedCounter;
+    private final Counter deliveredCounter;
+    private final Counter skippedCounter;
+
+    public KafkaChatMessageBroadcaster(@Qualifier("chatKafkaTemplate") KafkaTemplate<String, byte[]> chatKafkaTemplate,
+                                       ChatFanout chatFanout,
+                                       ChatSessionRegistry chatSessionRegistry,
+                                       ChatRecentMessageCache chatRecentMessageCache,
+                                       ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${chat.kafka.topic:chat.messages}") String topic) {
+        this.chatKafkaTemplate = chatKafkaTemplate;
+        this.chatFanout = chatFanout;
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.chatRecentMessageCache = chatRecentMessageCache;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+
+        this.publishFailedCounter = Counter.builder("chat.broadcast.publish.failures")
+                .description("Kafka 발행에 실패한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("chat.broadcast.received")
+                .tag("result", "delivered")
+                .description("Kafka에서 받아 이 서버의 구독자에게 전달한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("chat.broadcast.received")
+                .tag("result", "skipped")
+                .description("이 서버에 구독자가 없어 건너뛴 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+
+    // 발행은 비동기로 처리하고, 실패하면 반환한 future를 예외로 완료 (ChatServiceImpl이 보낸 세션에 알림)
+    // 구독자(보낸 사람 포함)에게는 브로커에 기록된 후에만 전달되므로, 자기 메시지를 받은 것이 곧 저장 대기열에 들어갔다는 확인
+    @Override
+    public CompletableFuture<Void> broadcast(ChatMessageDTO chatMessage) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(
+                topic, String.valueOf(chatMessage.getRoomId()), serialize(chatMessage));
+        record.headers().add(MESSAGE_ID_HEADER, String.valueOf(chatMessage.getId()).getBytes(StandardCharsets.UTF_8));
+
+        CompletableFuture<Void> published;
+        try {
+            published = chatKafkaTemplate.send(record).thenApply(result -> null);
+        } catch (RuntimeException e) {
+            // 브로커 메타데이터를 받지 못해 전송 버퍼에 넣지도 못한 경우 등
+            published = CompletableFuture.failedFuture(e);
+        }
+        return published.whenComplete((result, ex) -> {
+            if (ex != null) {
+                publishFailedCounter.increment();
+                log.warn("Failed to publish chat message {} for room {}", chatMessage.getId(), chatMessage.getRoomId(), ex);
+            }
+        });
+    }
+
+
+    // 서버별 consumer group은 chatConsumerFactory에서 지정하므로 리스너 ID를 group으로 사용하지 않음
+    @KafkaListener(id = "chatFanoutListener", idIsGroup = false,
+            topics = "${chat.kafka.topic:chat.messages}", containerFactory = "chatKafkaListenerContainerFactory")
+    public void onMessages(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            Long roomId = parseRoomId(record.key());
+            if (roomId == null || !chatSessionRegistry.hasSubscribers(roomId)) {
+                if (roomId != null) {
+                    chatRecentMessageCache.invalidate(roomId);
+                }
+                skippedCounter.increment();
+                continue;
+            }
+            appendRecent(roomId, record.value());
+            chatFanout.deliver(roomId, messageId(record), record.value());
+            deliveredCounter.increment();
+        }
+    }
+
+
+    private byte[] serialize(ChatMessageDTO chatMessage) {
+        try {
+            return objectMapper.writeValueAsBytes(chatMessage);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 메시지를 변환할 수 없습니다.", e);
+        }
+    }
+
+    // 페이로드를 읽을 수 없으면 링에 빈 자리가 생기므로 링을 버림
+    private void appendRecent(Long roomId, byte[] payload) {
+        try {
+            ChatMessageDTO chatMessage = objectMapper.readValue(payload, ChatMessageDTO.class);
+            if (chatMessage.getId() != null && roomId.equals(chatMessage.getRoomId())) {
+                chatRecentMessageCache.append(chatMessage);
+                return;
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read chat message payload for room {}", roomId, e);
+        }
+        chatRecentMessageCache.invalidate(roomId);
+    }
+
+    private static Long parseRoomId(String key) {
+        try {
+            return key != null ? Long.valueOf(key) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String messageId(ConsumerRecord<String, byte[]> record) {
+        Header header = record.headers().lastHeader(MESSAGE_ID_HEADER);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : record.topic() + "-" + record.partition() + "-" + record.offset();
+    }
+}
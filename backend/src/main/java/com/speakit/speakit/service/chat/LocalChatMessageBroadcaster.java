@@ -0,0 +1,34 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+// 단일 서버용 전파: 지연 저장 버퍼에 넣은 후 최근 메시지 링에 추가하고 이 서버의 채팅방 구독자에게 바로 전달
+@Component
+@ConditionalOnProperty(name = "chat.broadcast", havingValue = "local", matchIfMissing = true)
+public class LocalChatMessageBroadcaster implements ChatMessageBroadcaster {
+
+    private final ChatMessageWriteBehindBuffer chatMessageWriteBehindBuffer;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ChatFanout chatFanout;
+
+    public LocalChatMessageBroadcaster(ChatMessageWriteBehindBuffer chatMessageWriteBehindBuffer,
+                                       ChatRecentMessageCache chatRecentMessageCache,
+                                       ChatFanout chatFanout) {
+        this.chatMessageWriteBehindBuffer = chatMessageWriteBehindBuffer;
+        this.chatRecentMessageCache = chatRecentMessageCache;
+        this.chatFanout = chatFanout;
+    }
+
+
+    @Override
+    public CompletableFuture<Void> broadcast(ChatMessageDTO chatMessage) {
+        chatMessageWriteBehindBuffer.enqueue(chatMessage);
+        chatRecentMessageCache.append(chatMessage);
+        chatFanout.deliver(chatMessage);
+        return CompletableFuture.completedFuture(null);
+    }
+}
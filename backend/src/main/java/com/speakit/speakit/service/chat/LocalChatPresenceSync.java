@@ -0,0 +1,15 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatPresenceEventDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 단일 서버용: 접속 상태는 이 서버의 ChatPresenceRegistry에만 있으므로 알릴 서버가 없음
+@Component
+@ConditionalOnProperty(name = "chat.presence.sync", havingValue = "local", matchIfMissing = true)
+public class LocalChatPresenceSync implements ChatPresenceSync {
+
+    @Override
+    public void publish(ChatPresenceEventDTO event) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatPresenceEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 다중 서버용: 접속 상태 이벤트를 Redis pub/sub 채널로 주고받음 (구독 등록은 ChatPresenceRedisConfig)
+// pub/sub은 전달을 보장하지 않지만, 놓친 접속은 다음 하트비트로, 놓친 종료는 만료로 복구됨
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.presence.sync", havingValue = "redis")
+public class RedisChatPresenceSync implements ChatPresenceSync, MessageListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatPresenceRegistry chatPresenceRegistry;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    private final Counter publishFailedCounter;
+
+    public RedisChatPresenceSync(StringRedisTemplate redisTemplate,
+                                 ChatPresenceRegistry chatPresenceRegistry,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${chat.presence.channel:chat:presence}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.chatPresenceRegistry = chatPresenceRegistry;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+
+        this.publishFailedCounter = Counter.builder("chat.presence.publish.failures")
+                .description("Redis 발행에 실패한 접속 상태 이벤트 수")
+                .register(meterRegistry);
+    }
+
+
+    public String getChannel() {
+        return channel;
+    }
+
+
+    // Redis 장애 시 기록만 하고 넘어감 (다른 서버의 상태는 만료로 정리되고, 복구 후 하트비트로 다시 채워짐)
+    @Override
+    public void publish(ChatPresenceEventDTO event) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | DataAccessException e) {
+            publishFailedCounter.increment();
+            log.warn("Failed to publish chat presence event {}", event.getType(), e);
+        }
+    }
+
+
+    // 자기 서버가 발행한 이벤트는 ChatPresenceRegistry.apply()에서 무시
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatPresenceEventDTO event = objectMapper.readValue(message.getBody(), ChatPresenceEventDTO.class);
+            chatPresenceRegistry.apply(event, System.currentTimeMillis());
+        } catch (IOException e) {
+            log.warn("Skipping malformed chat presence event", e);
+        }
+    }
+}
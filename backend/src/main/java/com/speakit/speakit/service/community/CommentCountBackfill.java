@@ -0,0 +1,82 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.repository.community.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 댓글 수 카운터(posts.comment_count) 보정 (시작 시 한 번)
+// 카운터 컬럼은 ddl-auto로 추가되어 이전에 작성된 게시글은 0으로 읽히고, 피드 요약은 0이면 미리보기 조회를 건너뛰므로
+// 카운터가 0인데 댓글이 있는 게시글의 카운터를 댓글을 세어 채움
+// 긴 잠금을 피하도록 게시글 ID를 batchSize개 구간으로 나눠 구간마다 짧은 트랜잭션으로 갱신하며,
+// 채운 뒤에는 해당 게시글이 없으므로 이후 시작 시에는 바뀌는 행 없이 끝남
+@Slf4j
+@Component
+public class CommentCountBackfill implements DisposableBean {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ScheduledThreadPoolExecutor executor;
+
+    public CommentCountBackfill(PostRepository postRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${community.comment.countBackfill.batchSize:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("comment-count-backfill").daemon().factory());
+    }
+
+
+    // 시작을 늦추지 않도록 애플리케이션 시작 후 별도 스레드에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.execute(this::backfillQuietly);
+    }
+
+
+    // 카운터를 채운 게시글 수 반환
+    int backfill() {
+        Long maxId = postRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+        int updated = 0;
+        for (long afterId = 0; afterId < maxId; afterId += batchSize) {
+            long from = afterId;
+            Integer count = transactionTemplate.execute(status ->
+                    postRepository.backfillCommentCounts(from, Math.min(from + batchSize, maxId)));
+            updated += count == null ? 0 : count;
+        }
+        if (updated > 0) {
+            log.info("Backfilled comment counts for {} posts", updated);
+        }
+        return updated;
+    }
+
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+
+    private void backfillQuietly() {
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            // 보정에 실패해도 서비스는 계속하며, 다음 시작 시 다시 시도
+            log.warn("Comment count backfill failed", e);
+        }
+    }
+}
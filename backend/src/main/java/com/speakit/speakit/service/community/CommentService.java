@@ -0,0 +1,17 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.dto.community.CommentDTO;
+import com.speakit.speakit.dto.community.CommentPageResponseDTO;
+import com.speakit.speakit.dto.community.PostCommentSummaryDTO;
+
+import java.util.List;
+
+// 커뮤니티 댓글 서비스
+public interface CommentService {
+
+    CommentDTO createComment(Long userId, String email, Long postId, String content);
+
+    CommentPageResponseDTO getComments(Long postId, Long before, Integer size);
+
+    List<PostCommentSummaryDTO> getSummaries(List<Long> postIds);
+}
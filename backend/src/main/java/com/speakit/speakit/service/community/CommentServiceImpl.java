@@ -0,0 +1,132 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.dto.community.CommentDTO;
+import com.speakit.speakit.dto.community.CommentPageResponseDTO;
+import com.speakit.speakit.dto.community.PostCommentSummaryDTO;
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.model.community.Comment;
+import com.speakit.speakit.repository.community.CommentRepository;
+import com.speakit.speakit.repository.community.PostRepository;
+import com.speakit.speakit.repository.user.UserRepository;
+import com.speakit.speakit.service.user.UserCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 커뮤니티 댓글 서비스 구현체
+// 피드 한 페이지의 댓글 요약은 게시글 수와 관계없이 쿼리 2번(댓글 수, 게시글별 최신 댓글)으로 조회
+// 댓글 수는 comments를 세지 않고 posts.comment_count 카운터를 읽으며, 카운터는 댓글 INSERT와 같은 트랜잭션에서 증가
+@Service
+public class CommentServiceImpl implements CommentService {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final int previewSize;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxSummaryPosts;
+
+    public CommentServiceImpl(CommentRepository commentRepository,
+                              PostRepository postRepository,
+                              UserRepository userRepository,
+                              UserCacheService userCacheService,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${community.comment.previewSize:3}") int previewSize,
+                              @Value("${community.comment.defaultPageSize:20}") int defaultPageSize,
+                              @Value("${community.comment.maxPageSize:50}") int maxPageSize,
+                              @Value("${community.feed.maxPageSize:50}") int maxSummaryPosts) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.userCacheService = userCacheService;
+        this.transactionTemplate = transactionTemplate;
+        this.previewSize = previewSize;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxSummaryPosts = maxSummaryPosts;
+    }
+
+
+    // 카운터를 먼저 증가시켜 게시글 존재 확인과 게시글 행 잠금을 겸함 (게시글이 없으면 댓글을 저장하지 않고 롤백)
+    @Override
+    public CommentDTO createComment(Long userId, String email, Long postId, String content) {
+        UserCacheDTO user = userCacheService.getByEmail(email);
+        if (user == null || !user.getId().equals(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        Comment comment = transactionTemplate.execute(status -> {
+            if (postRepository.incrementCommentCount(postId) == 0) {
+                throw new RuntimeException("게시글을 찾을 수 없습니다.");
+            }
+            return commentRepository.save(Comment.builder()
+                    .post(postRepository.getReferenceById(postId))
+                    .author(userRepository.getReferenceById(userId))
+                    .content(content)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        });
+        return new CommentDTO(comment.getId(), postId, userId, user.getUsername(), comment.getContent(), comment.getCreatedAt());
+    }
+
+
+    // before(댓글 ID) 이전 댓글을 최신순으로 조회, before가 없으면 가장 최근 댓글부터
+    @Override
+    public CommentPageResponseDTO getComments(Long postId, Long before, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        long beforeId = before == null ? Long.MAX_VALUE : before;
+
+        List<CommentDTO> comments = commentRepository.findPageBefore(postId, beforeId, Limit.of(limit));
+        Long nextCursor = comments.size() < limit ? null : comments.get(comments.size() - 1).getId();
+        return new CommentPageResponseDTO(comments, nextCursor);
+    }
+
+
+    // 요청한 게시글 순서대로 댓글 수와 최신 댓글 previewSize개를 반환 (없는 게시글은 제외)
+    @Override
+    public List<PostCommentSummaryDTO> getSummaries(List<Long> postIds) {
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > maxSummaryPosts) {
+            throw new RuntimeException("한 번에 조회할 수 있는 게시글은 " + maxSummaryPosts + "개까지입니다.");
+        }
+
+        Map<Long, PostCommentSummaryDTO> summaries = new HashMap<>();
+        for (PostCommentSummaryDTO summary : postRepository.findCommentSummaries(ids)) {
+            summary.setRecentComments(new ArrayList<>(previewSize));
+            summaries.put(summary.getPostId(), summary);
+        }
+        // 댓글이 없는 게시글은 미리보기 쿼리를 생략
+        List<Long> commented = summaries.values().stream()
+                .filter(summary -> summary.getCommentCount() > 0)
+                .map(PostCommentSummaryDTO::getPostId)
+                .toList();
+        if (!commented.isEmpty() && previewSize > 0) {
+            for (CommentDTO comment : commentRepository.findRecentByPostIds(commented, previewSize)) {
+                summaries.get(comment.getPostId()).getRecentComments().add(comment);
+            }
+        }
+
+        List<PostCommentSummaryDTO> result = new ArrayList<>(summaries.size());
+        for (Long id : ids) {
+            PostCommentSummaryDTO summary = summaries.get(id);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.dto.community.PostDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// 메모리 기반 타임라인 캐시 (단일 서버/테스트용, community.timeline.store=memory)
+// Redis 구현과 같은 규칙(용량, ttl 만료, 만료 중 추가, 합쳐서 채우기)을 따름
+@Component
+@ConditionalOnProperty(name = "community.timeline.store", havingValue = "memory")
+public class InMemoryPostTimelineStore implements PostTimelineStore {
+
+    // 게시글 ID → 게시글 (ID 역순 정렬)
+    private final NavigableMap<Long, PostDTO> timeline = new TreeMap<Long, PostDTO>().descendingMap();
+    private final int capacity;
+    private final long ttlMillis;
+
+    private long expiresAt;
+    private boolean complete;
+
+    public InMemoryPostTimelineStore(@Value("${community.timeline.size:500}") int capacity,
+                                     @Value("${community.timeline.ttl:10m}") Duration ttl) {
+        this.capacity = capacity;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+
+    @Override
+    public synchronized TimelinePage read(long beforeId, int limit) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        List<PostDTO> posts = new ArrayList<>(limit);
+        for (PostDTO post : timeline.tailMap(beforeId, false).values()) {
+            if (posts.size() == limit) {
+                break;
+            }
+            posts.add(post);
+        }
+        return new TimelinePage(posts, complete);
+    }
+
+
+    @Override
+    public synchronized void add(PostDTO post) {
+        timeline.put(post.getId(), post);
+        trim();
+    }
+
+
+    @Override
+    public synchronized void rebuild(List<PostDTO> posts, boolean complete) {
+        for (PostDTO post : posts) {
+            timeline.put(post.getId(), post);
+        }
+        this.complete = complete;
+        this.expiresAt = System.currentTimeMillis() + ttlMillis;
+        trim();
+    }
+
+
+    private void trim() {
+        while (timeline.size() > capacity) {
+            timeline.pollLastEntry();
+            complete = false;
+        }
+    }
+}
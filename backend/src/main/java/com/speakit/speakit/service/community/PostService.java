@@ -0,0 +1,12 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.dto.community.PostDTO;
+import com.speakit.speakit.dto.community.PostFeedResponseDTO;
+
+// 커뮤니티 게시글 서비스
+public interface PostService {
+
+    PostDTO createPost(Long userId, String email, String content);
+
+    PostFeedResponseDTO getFeed(Long before, Integer size);
+}
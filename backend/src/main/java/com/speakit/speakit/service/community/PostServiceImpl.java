@@ -0,0 +1,133 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.dto.community.PostDTO;
+import com.speakit.speakit.dto.community.PostFeedResponseDTO;
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.model.community.Post;
+import com.speakit.speakit.repository.community.PostRepository;
+import com.speakit.speakit.repository.user.UserRepository;
+import com.speakit.speakit.service.user.UserCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 커뮤니티 게시글 서비스 구현체
+// 피드는 게시글 ID 키셋(before)으로 페이지를 나누며, 최신 게시글은 타임라인 캐시(PostTimelineStore)에서, 그보다 오래된 게시글은 DB에서 읽음
+@Service
+public class PostServiceImpl implements PostService {
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final PostTimelineStore postTimelineStore;
+    private final int timelineSize;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    // 타임라인이 비었을 때 동시에 들어온 첫 페이지 요청이 모두 DB에서 타임라인 전체를 읽지 않도록 한 요청만 다시 채움
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final Counter memoryReads;
+    private final Counter databaseReads;
+
+    public PostServiceImpl(PostRepository postRepository,
+                           UserRepository userRepository,
+                           UserCacheService userCacheService,
+                           PostTimelineStore postTimelineStore,
+                           MeterRegistry meterRegistry,
+                           @Value("${community.timeline.size:500}") int timelineSize,
+                           @Value("${community.feed.defaultPageSize:20}") int defaultPageSize,
+                           @Value("${community.feed.maxPageSize:50}") int maxPageSize) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.userCacheService = userCacheService;
+        this.postTimelineStore = postTimelineStore;
+        this.timelineSize = timelineSize;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+
+        this.memoryReads = Counter.builder("community.feed.reads")
+                .tag("source", "memory")
+                .description("타임라인 캐시만으로 응답한 피드 조회 수")
+                .register(meterRegistry);
+        this.databaseReads = Counter.builder("community.feed.reads")
+                .tag("source", "db")
+                .description("DB 조회가 필요했던 피드 조회 수")
+                .register(meterRegistry);
+    }
+
+
+    // 작성자는 ID 참조만 연결하고(User 조회 없음), 이름은 사용자 캐시에서 읽음
+    @Override
+    public PostDTO createPost(Long userId, String email, String content) {
+        UserCacheDTO user = userCacheService.getByEmail(email);
+        if (user == null || !user.getId().equals(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        Post post = Post.builder()
+                .author(userRepository.getReferenceById(userId))
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .build();
+        postRepository.save(post);
+
+        PostDTO dto = new PostDTO(post.getId(), userId, user.getUsername(), post.getContent(), post.getCreatedAt());
+        postTimelineStore.add(dto);
+        return dto;
+    }
+
+
+    // before(게시글 ID) 이전 게시글을 최신순으로 조회, before가 없으면 가장 최근 게시글부터
+    @Override
+    public PostFeedResponseDTO getFeed(Long before, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        long beforeId = before == null ? Long.MAX_VALUE : before;
+
+        List<PostDTO> posts = read(beforeId, limit);
+        Long nextCursor = posts.size() < limit ? null : posts.get(posts.size() - 1).getId();
+        return new PostFeedResponseDTO(posts, nextCursor);
+    }
+
+
+    private List<PostDTO> read(long beforeId, int limit) {
+        PostTimelineStore.TimelinePage page = postTimelineStore.read(beforeId, limit);
+        if (page == null) {
+            databaseReads.increment();
+            return beforeId == Long.MAX_VALUE ? rebuild(limit) : postRepository.findFeedPage(beforeId, Limit.of(limit));
+        }
+        if (page.posts().size() == limit || page.complete()) {
+            memoryReads.increment();
+            return page.posts();
+        }
+
+        // 타임라인에서 모자란 만큼만 타임라인의 마지막 게시글 이전부터 DB에서 이어서 읽음
+        databaseReads.increment();
+        long cursor = page.posts().isEmpty() ? beforeId : page.posts().get(page.posts().size() - 1).getId();
+        List<PostDTO> older = postRepository.findFeedPage(cursor, Limit.of(limit - page.posts().size()));
+        List<PostDTO> posts = new ArrayList<>(page.posts().size() + older.size());
+        posts.addAll(page.posts());
+        posts.addAll(older);
+        return posts;
+    }
+
+    // 타임라인 크기만큼 최신 게시글을 읽어 타임라인을 채우고 첫 페이지를 반환
+    private List<PostDTO> rebuild(int limit) {
+        if (!rebuildLock.tryLock()) {
+            return postRepository.findFeedPage(Long.MAX_VALUE, Limit.of(limit));
+        }
+        try {
+            List<PostDTO> latest = postRepository.findFeedPage(Long.MAX_VALUE, Limit.of(Math.max(timelineSize, limit)));
+            postTimelineStore.rebuild(latest, latest.size() < timelineSize);
+            return latest.size() <= limit ? latest : latest.subList(0, limit);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.dto.community.PostDTO;
+
+import java.util.List;
+
+// 최신 게시글 타임라인 캐시 (게시글 ID 최신순 + 게시글 DTO, 최대 community.timeline.size개)
+// 피드 앞쪽 페이지는 이 캐시만으로 응답하고, 캐시보다 오래된 게시글만 DB에서 조회
+public interface PostTimelineStore {
+
+    // beforeId보다 오래된 게시글을 최신순으로 최대 limit개 조회
+    // 타임라인이 아직 만들어지지 않았거나 만료되었으면(또는 저장소 장애 시) null 반환
+    TimelinePage read(long beforeId, int limit);
+
+    // 새 게시글을 타임라인 앞에 추가하고 용량을 넘는 가장 오래된 게시글을 제거
+    void add(PostDTO post);
+
+    // DB에서 읽은 최신 게시글로 타임라인을 채우고 ttl 동안 유효하게 함 (ttl마다 다시 채워 놓친 추가를 복구)
+    // complete는 posts가 DB의 게시글 전부인지 여부
+    void rebuild(List<PostDTO> posts, boolean complete);
+
+
+    // complete가 true이면 타임라인보다 오래된 게시글이 없으므로, 모자란 만큼 DB를 조회할 필요가 없음
+    record TimelinePage(List<PostDTO> posts, boolean complete) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.speakit.speakit.service.community;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.community.PostDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Redis 기반 타임라인 캐시 (운영 기본값, community.timeline.store=redis)
+// community:timeline 정렬 셋(점수 = 게시글 ID)에 ID를, community:timeline:posts 해시에 게시글 JSON을 저장
+// community:timeline:state 키가 있어야 타임라인이 유효하며, 값은 complete 여부(1/0)이고 ttl이 지나면 만료되어 다시 채워짐
+// 조회는 Lua 스크립트로 ID 범위 조회와 본문 조회를 한 번의 왕복으로 처리
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "community.timeline.store", havingValue = "redis", matchIfMissing = true)
+public class RedisPostTimelineStore implements PostTimelineStore {
+
+    private static final String TIMELINE_KEY = "community:timeline";
+    private static final String POSTS_KEY = "community:timeline:posts";
+    private static final String STATE_KEY = "community:timeline:state";
+    private static final List<String> KEYS = List.of(TIMELINE_KEY, POSTS_KEY, STATE_KEY);
+
+    // 용량을 넘는 가장 오래된 게시글 제거 (제거하면 더 이상 DB의 게시글 전부가 아니므로 complete 해제)
+    private static final String TRIM =
+            "local excess = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[1]) " +
+            "if excess > 0 then " +
+            "  local oldest = redis.call('ZRANGE', KEYS[1], 0, excess - 1) " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, excess - 1) " +
+            "  redis.call('HDEL', KEYS[2], unpack(oldest)) " +
+            "  if redis.call('EXISTS', KEYS[3]) == 1 then redis.call('SET', KEYS[3], '0', 'KEEPTTL') end " +
+            "end ";
+
+    // 결과: {complete, 게시글 JSON...}, 타임라인이 없거나 본문이 빠진 경우 빈 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "local state = redis.call('GET', KEYS[3]) " +
+            "if not state then return {} end " +
+            "local ids = redis.call('ZREVRANGEBYSCORE', KEYS[1], '(' .. ARGV[1], '-inf', 'LIMIT', 0, ARGV[2]) " +
+            "local result = {state} " +
+            "if #ids > 0 then " +
+            "  local posts = redis.call('HMGET', KEYS[2], unpack(ids)) " +
+            "  for i = 1, #posts do " +
+            "    if not posts[i] then return {} end " +
+            "    result[i + 1] = posts[i] " +
+            "  end " +
+            "end " +
+            "return result",
+            List.class);
+
+    // 타임라인이 만료된 동안에도 추가하여, 다시 채우는 중에 작성된 게시글이 빠지지 않도록 함
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[2]) " +
+            "redis.call('HSET', KEYS[2], ARGV[2], ARGV[3]) " +
+            TRIM +
+            "return 1",
+            Long.class);
+
+    // 기존 항목에 합쳐서 채움 (게시글은 수정되지 않으므로 기존 항목을 지울 필요가 없음)
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "for i = 4, #ARGV, 2 do " +
+            "  redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i]) " +
+            "  redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1]) " +
+            "end " +
+            "redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3]) " +
+            TRIM +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Duration ttl;
+
+    public RedisPostTimelineStore(StringRedisTemplate redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${community.timeline.size:500}") int capacity,
+                                  @Value("${community.timeline.ttl:10m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.ttl = ttl;
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public TimelinePage read(long beforeId, int limit) {
+        try {
+            List<Object> result = redisTemplate.execute(READ_SCRIPT, KEYS,
+                    String.valueOf(beforeId), String.valueOf(limit));
+            if (result == null || result.isEmpty()) {
+                return null;
+            }
+            List<PostDTO> posts = new ArrayList<>(result.size() - 1);
+            for (int i = 1; i < result.size(); i++) {
+                posts.add(objectMapper.readValue((String) result.get(i), PostDTO.class));
+            }
+            return new TimelinePage(posts, "1".equals(result.get(0)));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // Redis 장애 시 DB 조회로 대체
+            log.warn("Post timeline read failed, falling back to DB", e);
+            return null;
+        }
+    }
+
+
+    @Override
+    public void add(PostDTO post) {
+        try {
+            redisTemplate.execute(ADD_SCRIPT, KEYS,
+                    String.valueOf(capacity), String.valueOf(post.getId()), objectMapper.writeValueAsString(post));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 빠진 게시글은 타임라인이 만료되어 다시 채워질 때 복구됨
+            log.warn("Post timeline add failed: postId={}", post.getId(), e);
+        }
+    }
+
+
+    @Override
+    public void rebuild(List<PostDTO> posts, boolean complete) {
+        try {
+            Object[] args = new Object[3 + posts.size() * 2];
+            args[0] = String.valueOf(capacity);
+            args[1] = complete ? "1" : "0";
+            args[2] = String.valueOf(ttl.toMillis());
+            int i = 3;
+            for (PostDTO post : posts) {
+                args[i++] = String.valueOf(post.getId());
+                args[i++] = objectMapper.writeValueAsString(post);
+            }
+            redisTemplate.execute(REBUILD_SCRIPT, KEYS, args);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Post timeline rebuild failed", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 참조되지 않는 음성 파일 정리 (interval마다)
+// 마지막 수정 시각이 grace보다 오래된 파일 중 어떤 대화 기록도 참조하지 않는 파일을 삭제
+// 업로드 직후 대화 기록이 아직 저장되지 않은 파일과 같은 내용으로 방금 재사용된 파일(수정 시각 갱신)은 유예 시간 동안 건드리지 않으며,
+// 삭제 직전에 파일을 격리한 뒤 다시 확인하므로 확인과 삭제 사이에 재사용된 파일도 지우지 않음 (AudioStorage.deleteIfUnreferenced)
+// 중단된 업로드의 임시 파일도 유예 시간이 지나면 삭제하고, 격리된 채 남은 음성 파일은 되돌림
+@Slf4j
+@Component
+public class AudioOrphanSweeper implements DisposableBean {
+
+    private final AudioStorage audioStorage;
+    private final DialogueRepository dialogueRepository;
+    private final Duration interval;
+    private final Duration grace;
+    private final ScheduledThreadPoolExecutor executor;
+
+    public AudioOrphanSweeper(AudioStorage audioStorage,
+                              DialogueRepository dialogueRepository,
+                              @Value("${audio.sweep.interval:1h}") Duration interval,
+                              @Value("${audio.sweep.grace:1h}") Duration grace) {
+        this.audioStorage = audioStorage;
+        this.dialogueRepository = dialogueRepository;
+        this.interval = interval;
+        this.grace = grace;
+        this.executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("audio-sweeper").daemon().factory());
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::sweepQuietly,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+
+    // 삭제한 음성 파일 수 반환
+    int sweep() throws IOException {
+        Instant cutoff = Instant.now().minus(grace);
+        int[] deleted = {0};
+        audioStorage.forEachModifiedBefore(cutoff, key -> {
+            if (audioStorage.deleteIfUnreferenced(key, cutoff, dialogueRepository::existsByAudioPath)) {
+                deleted[0]++;
+            }
+        });
+        int temporary = audioStorage.deleteTempFilesBefore(cutoff);
+        if (deleted[0] > 0 || temporary > 0) {
+            log.info("Audio sweep deleted {} unreferenced files and {} temporary files", deleted[0], temporary);
+        }
+        return deleted[0];
+    }
+
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (IOException | RuntimeException e) {
+            // 예외로 주기 작업이 중단되지 않도록 기록만 함 (다음 주기에 다시 시도)
+            log.warn("Audio sweep failed", e);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.speakit.speakit.service.learning;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+// 업로드된 음성 파일 저장소 (audio.storage.dir 아래 파일, 다중 서버는 공유 볼륨을 지정)
+// 내용의 SHA-256 해시를 키로 저장하므로(ab/cd/{해시}.{확장자}) 같은 음성을 여러 번 올려도 파일은 하나만 남음
+// 여러 대화 기록이 파일을 공유하므로 요청 처리 중에는 지우지 않고, 참조가 없는 파일은 AudioOrphanSweeper가 유예 시간 후 삭제
+// - 저장: 요청 본문을 직접 버퍼 하나로 읽으면서 해시를 계산하고 FileChannel로 임시 파일에 쓴 뒤, 같은 파일이 없을 때만 최종 경로로 원자적으로 이동
+// - 재생: Tomcat sendfile(커널이 파일을 소켓으로 바로 복사)을 사용하고, 지원하지 않으면 FileChannel.transferTo로 구간만 전송
+// 어느 쪽도 파일 내용을 힙에 올리지 않음
+@Component
+public class AudioStorage {
+
+    // 허용하는 음성 형식 → 파일 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "audio/webm", "webm",
+            "audio/ogg", "ogg",
+            "audio/wav", "wav",
+            "audio/x-wav", "wav",
+            "audio/mpeg", "mp3",
+            "audio/mp4", "m4a");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 정리 작업이 삭제 직전에 격리한 음성 파일의 확장자
+    private static final String QUARANTINE_SUFFIX = ".sweep";
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final Path root;
+    private final Path temp;
+    private final long maxSize;
+
+    public AudioStorage(@Value("${audio.storage.dir:./data/audio}") String dir,
+                        @Value("${audio.upload.maxSize:20MB}") DataSize maxSize) throws IOException {
+        this.root = Files.createDirectories(Path.of(dir)).toRealPath();
+        this.temp = Files.createDirectories(root.resolve("tmp"));
+        this.maxSize = maxSize.toBytes();
+    }
+
+
+    // 음성 본문을 저장하고 저장소 기준 키를 반환, 형식이 허용되지 않거나 최대 크기를 넘으면 예외
+    // 같은 내용의 파일이 이미 있으면 새로 쓰지 않고 기존 키를 반환 (created=false)
+    public StoredAudio store(InputStream body, String contentType) {
+        String normalizedType = normalize(contentType);
+        String extension = EXTENSIONS.get(normalizedType);
+        if (extension == null) {
+            throw new RuntimeException("지원하지 않는 음성 형식입니다.");
+        }
+
+        Path part = temp.resolve(UUID.randomUUID() + ".part");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            try (ReadableByteChannel source = Channels.newChannel(body);
+                 FileChannel target = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxSize) {
+                        throw new RuntimeException("음성 파일은 최대 " + DataSize.ofBytes(maxSize).toMegabytes() + "MB까지 업로드할 수 있습니다.");
+                    }
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+            if (size == 0) {
+                throw new RuntimeException("음성 파일이 비어 있습니다.");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String key = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + extension;
+            Path path = root.resolve(key);
+            if (touch(path)) {
+                Files.delete(part);
+                return new StoredAudio(key, normalizedType, size, false);
+            }
+            Files.createDirectories(path.getParent());
+            // 같은 내용을 동시에 올려 이동이 겹쳐도 내용이 같으므로 덮어써도 무방
+            Files.move(part, path, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredAudio(key, normalizedType, size, true);
+        } catch (IOException e) {
+            deleteQuietly(part);
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            deleteQuietly(part);
+            throw new IllegalStateException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(part);
+            throw e;
+        }
+    }
+
+
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid audio key: " + key);
+        }
+        return path;
+    }
+
+
+    // 재생할 파일 정보 (파일이 없으면 예외)
+    public AudioFile open(String key, String contentType) {
+        Path path = resolve(key);
+        try {
+            return new AudioFile(path, contentType, Files.size(path), etag(key));
+        } catch (NoSuchFileException e) {
+            throw new RuntimeException("음성 파일을 찾을 수 없습니다.");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // 파일의 start부터 length바이트를 응답 본문으로 전송 (상태 코드와 헤더는 호출하는 쪽에서 설정)
+    public void write(AudioFile file, long start, long length, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentLengthLong(length);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문을 쓰지 않고 요청 속성만 남기면 Tomcat이 요청 처리 후 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long end = start + length;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    // 전송 도중 파일이 짧아진 경우
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+
+    // 마지막 수정 시각이 cutoff 이전인 음성 파일의 키를 차례로 전달 (임시 폴더 제외)
+    public void forEachModifiedBefore(Instant cutoff, Consumer<String> action) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(path -> !path.startsWith(temp))
+                    .filter(path -> modifiedBefore(path, cutoff))
+                    .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                    .forEach(action);
+        }
+    }
+
+
+    // 마지막 수정 시각이 cutoff 이전인 임시 파일(중단된 업로드) 삭제, 삭제한 개수 반환
+    // 정리 중 격리된 채 남은 음성 파일(.sweep)은 지우지 않고 원래 경로로 되돌려 다음 정리에서 참조를 다시 확인
+    public int deleteTempFilesBefore(Instant cutoff) throws IOException {
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(temp)) {
+            for (Path path : files.filter(path -> modifiedBefore(path, cutoff)).toList()) {
+                String fileName = path.getFileName().toString();
+                if (fileName.endsWith(QUARANTINE_SUFFIX)) {
+                    restore(path, resolve(quarantinedKey(fileName)));
+                    continue;
+                }
+                deleteQuietly(path);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+
+    // 참조되지 않는 음성 파일 삭제 (정리 작업용), 삭제했으면 true
+    // 참조를 확인한 뒤 임시 폴더로 원자적으로 옮기고 다시 확인하여, 그 사이 같은 내용이 업로드되어(수정 시각 갱신) 재사용되었거나
+    // 참조가 생겼으면 되돌림 (옮긴 뒤 업로드는 파일이 없으므로 새로 씀)
+    // 다시 확인하는 중 예외가 나도 되돌린 뒤 예외를 전달하여, 참조 중인 파일이 격리된 채 남지 않도록 함
+    public boolean deleteIfUnreferenced(String key, Instant cutoff, Predicate<String> referenced) {
+        if (referenced.test(key)) {
+            return false;
+        }
+        Path path = resolve(key);
+        Path quarantined = temp.resolve(key.replace('/', '_') + "." + UUID.randomUUID() + QUARANTINE_SUFFIX);
+        try {
+            Files.move(path, quarantined, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        boolean unreferenced = false;
+        try {
+            unreferenced = modifiedBefore(quarantined, cutoff) && !referenced.test(key);
+        } finally {
+            if (!unreferenced) {
+                restore(quarantined, path);
+            }
+        }
+        if (!unreferenced) {
+            return false;
+        }
+        try {
+            Files.delete(quarantined);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // 격리한 파일을 원래 경로로 되돌림
+    // 되돌리는 사이 같은 내용으로 새로 쓴 파일이 있어도 내용이 같으므로 덮어써도 무방
+    private static void restore(Path quarantined, Path path) {
+        try {
+            Files.move(quarantined, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 격리 파일 이름({키의 /를 _로 바꾼 값}.{UUID}.sweep)에서 원래 키를 복원 (키는 16진수 해시와 확장자로만 구성)
+    private static String quarantinedKey(String fileName) {
+        String withoutSuffix = fileName.substring(0, fileName.length() - QUARANTINE_SUFFIX.length());
+        return withoutSuffix.substring(0, withoutSuffix.lastIndexOf('.')).replace('_', '/');
+    }
+
+    // 같은 내용의 기존 파일을 재사용할 때 수정 시각을 갱신하여 정리 작업이 지우지 않도록 함, 파일이 없으면 false
+    private static boolean touch(Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static boolean modifiedBefore(Path path, Instant cutoff) {
+        try {
+            return Files.isRegularFile(path) && Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            // 확인하는 사이 삭제된 파일
+            return false;
+        }
+    }
+
+    // 내용이 바뀌지 않는 키이므로 해시를 그대로 강한 ETag로 사용
+    private static String etag(String key) {
+        String fileName = key.substring(key.lastIndexOf('/') + 1);
+        int dot = fileName.indexOf('.');
+        return "\"" + (dot >= 0 ? fileName.substring(0, dot) : fileName) + "\"";
+    }
+
+    private static String normalize(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int parameters = contentType.indexOf(';');
+        return (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 남은 임시 파일은 정리 작업(AudioOrphanSweeper)이 삭제
+        }
+    }
+
+
+    // created: 이번 요청으로 새로 쓴 파일이면 true, 같은 내용의 기존 파일을 재사용했으면 false
+    public record StoredAudio(String key, String contentType, long size, boolean created) {
+    }
+
+    public record AudioFile(Path path, String contentType, long size, String etag) {
+    }
+}
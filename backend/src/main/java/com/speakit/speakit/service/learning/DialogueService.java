@@ -0,0 +1,16 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.DialogueDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.InputStream;
+
+// 학습 세션 대화 기록 서비스 (음성 답변 업로드, 음성 인식 결과 알림, 음성 재생)
+public interface DialogueService {
+
+    DialogueDTO uploadAudio(Long userId, Long sessionId, InputStream audio, String contentType);
+
+    SseEmitter subscribeTranscription(Long userId, Long dialogueId);
+
+    AudioStorage.AudioFile getAudio(Long userId, Long dialogueId);
+}
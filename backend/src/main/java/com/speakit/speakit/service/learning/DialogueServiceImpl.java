@@ -0,0 +1,135 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.DialogueAudioDTO;
+import com.speakit.speakit.dto.learning.DialogueDTO;
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.model.common.TranscriptionStatus;
+import com.speakit.speakit.model.learning.Dialogue;
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import com.speakit.speakit.repository.learning.PracticeSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 학습 세션 대화 기록 서비스 구현체
+// 음성 답변은 요청 스레드에서 디스크에 저장하고 대화 기록(PENDING)만 만든 뒤 바로 응답하며,
+// 음성 인식은 TranscriptionWorker 스레드 풀에서 처리하고 결과는 SSE 구독자에게 알림
+// 음성 파일은 내용 해시로 저장되어 여러 대화 기록이 같은 파일을 참조할 수 있음
+@Service
+public class DialogueServiceImpl implements DialogueService {
+
+    private static final String USER_SENDER = "USER";
+
+    private final PracticeSessionRepository practiceSessionRepository;
+    private final DialogueRepository dialogueRepository;
+    private final AudioStorage audioStorage;
+    private final TranscriptionWorker transcriptionWorker;
+    private final TranscriptionNotifier transcriptionNotifier;
+    private final long subscriptionTimeoutMillis;
+
+    public DialogueServiceImpl(PracticeSessionRepository practiceSessionRepository,
+                               DialogueRepository dialogueRepository,
+                               AudioStorage audioStorage,
+                               TranscriptionWorker transcriptionWorker,
+                               TranscriptionNotifier transcriptionNotifier,
+                               @Value("${stt.subscriptionTimeout:2m}") Duration subscriptionTimeout) {
+        this.practiceSessionRepository = practiceSessionRepository;
+        this.dialogueRepository = dialogueRepository;
+        this.audioStorage = audioStorage;
+        this.transcriptionWorker = transcriptionWorker;
+        this.transcriptionNotifier = transcriptionNotifier;
+        this.subscriptionTimeoutMillis = subscriptionTimeout.toMillis();
+    }
+
+
+    // 음성 저장 → 대화 기록 생성 → 음성 인식 작업 등록
+    // 대기열이 가득 차 있으면 본문을 받기 전에 503으로 거절
+    @Override
+    public DialogueDTO uploadAudio(Long userId, Long sessionId, InputStream audio, String contentType) {
+        checkSessionOwner(userId, sessionId);
+        if (transcriptionWorker.isFull()) {
+            throw new ServiceOverloadedException("음성 인식 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        // 대화 기록 저장이나 작업 등록에 실패해 참조 없이 남은 파일은 AudioOrphanSweeper가 유예 시간 후 삭제
+        // (같은 내용의 파일을 다른 요청이 동시에 재사용할 수 있으므로 여기서 지우지 않음)
+        AudioStorage.StoredAudio stored = audioStorage.store(audio, contentType);
+        Dialogue dialogue = dialogueRepository.save(Dialogue.builder()
+                .sender(USER_SENDER)
+                .timestamp(LocalDateTime.now())
+                .practiceSession(practiceSessionRepository.getReferenceById(sessionId))
+                .audioPath(stored.key())
+                .audioContentType(stored.contentType())
+                .transcriptionStatus(TranscriptionStatus.PENDING)
+                .build());
+
+        if (!transcriptionWorker.submit(dialogue.getId(), stored.key(), stored.contentType())) {
+            // 확인 이후 대기열이 가득 찬 경우
+            dialogueRepository.deleteById(dialogue.getId());
+            throw new ServiceOverloadedException("음성 인식 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return toDTO(dialogue, sessionId);
+    }
+
+
+    // 음성 인식/피드백 결과 구독, 이미 끝난 단계는 바로 보내고 피드백까지 끝났으면 종료
+    @Override
+    public SseEmitter subscribeTranscription(Long userId, Long dialogueId) {
+        Long ownerId = dialogueRepository.findOwnerId(dialogueId).orElse(null);
+        if (ownerId == null || !ownerId.equals(userId)) {
+            throw new RuntimeException("대화 기록을 찾을 수 없습니다.");
+        }
+        // 구독을 먼저 등록한 뒤 상태를 확인하여, 그 사이에 끝난 작업의 알림도 놓치지 않음
+        SseEmitter emitter = transcriptionNotifier.subscribe(dialogueId, subscriptionTimeoutMillis);
+        DialogueDTO dialogue = dialogueRepository.findDTOById(dialogueId).orElse(null);
+        if (dialogue == null || dialogue.getTranscriptionStatus() == TranscriptionStatus.PENDING) {
+            return emitter;
+        }
+        if (dialogue.getTranscriptionStatus() == TranscriptionStatus.FAILED) {
+            transcriptionNotifier.publish(TranscriptionNotifier.TRANSCRIPTION_EVENT, dialogue, true);
+        } else if (dialogue.getFeedback() != null) {
+            transcriptionNotifier.publish(TranscriptionNotifier.FEEDBACK_EVENT, dialogue, true);
+        } else {
+            // 음성 인식은 끝났고 피드백을 기다리는 중
+            transcriptionNotifier.send(emitter, TranscriptionNotifier.TRANSCRIPTION_EVENT, dialogue, false);
+        }
+        return emitter;
+    }
+
+
+    @Override
+    public AudioStorage.AudioFile getAudio(Long userId, Long dialogueId) {
+        DialogueAudioDTO audio = dialogueRepository.findAudioById(dialogueId)
+                .filter(found -> userId.equals(found.getOwnerId()))
+                .orElseThrow(() -> new RuntimeException("대화 기록을 찾을 수 없습니다."));
+        if (audio.getAudioPath() == null) {
+            throw new RuntimeException("음성 파일을 찾을 수 없습니다.");
+        }
+        return audioStorage.open(audio.getAudioPath(), audio.getAudioContentType());
+    }
+
+
+    private void checkSessionOwner(Long userId, Long sessionId) {
+        Long ownerId = practiceSessionRepository.findOwnerId(sessionId).orElse(null);
+        if (ownerId == null || !ownerId.equals(userId)) {
+            throw new RuntimeException("학습 세션을 찾을 수 없습니다.");
+        }
+    }
+
+    private static DialogueDTO toDTO(Dialogue dialogue, Long sessionId) {
+        return DialogueDTO.builder()
+                .id(dialogue.getId())
+                .sessionId(sessionId)
+                .sender(dialogue.getSender())
+                .message(dialogue.getMessage())
+                .transcription(dialogue.getTranscription())
+                .feedback(dialogue.getFeedback())
+                .transcriptionStatus(dialogue.getTranscriptionStatus())
+                .timestamp(dialogue.getTimestamp())
+                .build();
+    }
+}
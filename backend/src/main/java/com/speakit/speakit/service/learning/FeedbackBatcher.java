@@ -0,0 +1,243 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.service.ai.LlmClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 사용자 답변 AI 피드백 요청을 모아 LLM을 한 번만 호출하는 배처
+// - 요청은 대기열에 쌓이고, 배치 스레드가 첫 요청 후 window 동안(또는 maxBatchSize개가 찰 때까지) 세션과 무관하게 모아
+//   번호를 붙인 답변 목록 하나로 LLM에 보낸 뒤 응답의 "[번호] 피드백" 줄을 각 요청에 나눠 줌
+// - 같은 답변에 대한 요청이 처리 중이면 새로 대기열에 넣지 않고 처리 중인 요청의 결과를 함께 받음
+// - 동시에 호출하는 배치 수는 maxConcurrentBatches로 제한하며, 호출이 밀리는 동안 쌓인 요청은 다음 배치에 더 많이 담김
+// window가 길수록 LLM 호출 수는 줄고 한 요청의 지연은 늘어남 (FeedbackBatcherLoadTest로 비교)
+@Slf4j
+@Component
+public class FeedbackBatcher implements DisposableBean {
+
+    private static final String SYSTEM_PROMPT =
+            "You are an English speaking coach. For each numbered answer, give one short paragraph of feedback on "
+                    + "grammar, vocabulary and fluency. Reply with one line per answer in the form [n] feedback.";
+
+    private static final Pattern ITEM = Pattern.compile("\\[(\\d{1,4})]");
+
+    // dialogues.feedback 열 길이
+    private static final int MAX_FEEDBACK_LENGTH = 2000;
+
+    private final LlmClient llmClient;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final int maxTokensPerTurn;
+    private final BlockingQueue<PendingFeedback> queue;
+    private final Semaphore batchPermits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("feedback-batch-", 0).factory());
+    private final Thread dispatcher;
+
+    // 처리 중인 답변 → 결과 (같은 답변 요청 병합)
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter queuedCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+    private final Timer latencyTimer;
+
+    public FeedbackBatcher(LlmClient llmClient,
+                           MeterRegistry meterRegistry,
+                           @Value("${ai.feedback.window:50ms}") Duration window,
+                           @Value("${ai.feedback.maxBatchSize:16}") int maxBatchSize,
+                           @Value("${ai.feedback.maxConcurrentBatches:4}") int maxConcurrentBatches,
+                           @Value("${ai.feedback.queueCapacity:1000}") int queueCapacity,
+                           @Value("${ai.feedback.maxTokensPerTurn:150}") int maxTokensPerTurn) {
+        this.llmClient = llmClient;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.maxTokensPerTurn = maxTokensPerTurn;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchPermits = new Semaphore(maxConcurrentBatches);
+
+        this.queuedCounter = Counter.builder("ai.feedback.requests")
+                .tag("result", "queued")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("ai.feedback.requests")
+                .tag("result", "coalesced")
+                .description("처리 중인 같은 답변 요청에 병합된 요청 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ai.feedback.requests")
+                .tag("result", "rejected")
+                .description("대기열이 가득 차 거절한 요청 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("ai.feedback.batch.size")
+                .description("LLM 호출 한 번에 담긴 답변 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("ai.feedback.batch")
+                .description("배치 하나의 LLM 호출 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("ai.feedback.latency")
+                .description("요청부터 피드백을 받기까지 걸린 시간 (대기 포함)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("ai.feedback.queue.depth", queue, BlockingQueue::size)
+                .description("배치를 기다리는 피드백 요청 수")
+                .register(meterRegistry);
+
+        this.dispatcher = Thread.ofPlatform().name("feedback-batcher").daemon().start(this::dispatch);
+    }
+
+
+    // 답변에 대한 피드백 요청 (바로 반환하며 결과는 배치 처리 후 완료), 대기열이 가득 차면 ServiceOverloadedException으로 완료
+    public CompletableFuture<String> requestFeedback(String answer) {
+        String key = answer.strip();
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return existing;
+        }
+        long enqueuedAt = System.nanoTime();
+        created.whenComplete((feedback, error) -> {
+            inFlight.remove(key, created);
+            latencyTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        });
+        if (!queue.offer(new PendingFeedback(key, created, enqueuedAt))) {
+            rejectedCounter.increment();
+            created.completeExceptionally(new ServiceOverloadedException("피드백 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+            return created;
+        }
+        queuedCounter.increment();
+        return created;
+    }
+
+
+    @Override
+    public void destroy() throws InterruptedException {
+        dispatcher.interrupt();
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+
+    // 첫 요청이 들어온 뒤 window가 지나거나 maxBatchSize개가 모이면 배치 하나로 LLM 호출
+    private void dispatch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                PendingFeedback first = queue.take();
+                List<PendingFeedback> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = first.enqueuedAt() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingFeedback next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                batchPermits.acquire();
+                executor.execute(() -> {
+                    try {
+                        process(batch);
+                    } finally {
+                        batchPermits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // 종료 중 executor가 작업을 거절한 경우
+            log.debug("Feedback batcher stopped", e);
+        }
+    }
+
+
+    private void process(List<PendingFeedback> batch) {
+        batchSizeSummary.record(batch.size());
+        StringBuilder prompt = new StringBuilder("Answers:\n");
+        for (int i = 0; i < batch.size(); i++) {
+            // 답변 안의 대괄호와 줄바꿈이 번호 표시로 해석되지 않도록 바꿈
+            String answer = batch.get(i).answer().replace('[', '(').replace(']', ')').replaceAll("\\s+", " ");
+            prompt.append('[').append(i + 1).append("] ").append(answer).append('\n');
+        }
+
+        Map<Integer, String> feedbacks;
+        try {
+            StringBuilder response = new StringBuilder();
+            batchTimer.record(() -> llmClient.stream(
+                    new LlmClient.LlmRequest(SYSTEM_PROMPT, prompt.toString(), maxTokensPerTurn * batch.size()),
+                    token -> {
+                        response.append(token);
+                        return true;
+                    }));
+            feedbacks = parse(response);
+        } catch (RuntimeException e) {
+            log.warn("Feedback batch failed: size={}", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            String feedback = feedbacks.get(i + 1);
+            if (feedback == null || feedback.isEmpty()) {
+                batch.get(i).future().completeExceptionally(new IllegalStateException("No feedback for item " + (i + 1)));
+            } else {
+                batch.get(i).future().complete(feedback.length() > MAX_FEEDBACK_LENGTH
+                        ? feedback.substring(0, MAX_FEEDBACK_LENGTH) : feedback);
+            }
+        }
+    }
+
+
+    // "[번호] 피드백" 형식의 응답을 번호별 피드백으로 나눔 (번호 표시 사이의 글을 해당 번호의 피드백으로 사용)
+    private static Map<Integer, String> parse(CharSequence response) {
+        Map<Integer, String> feedbacks = new HashMap<>();
+        Matcher matcher = ITEM.matcher(response);
+        Integer number = null;
+        int start = 0;
+        while (matcher.find()) {
+            if (number != null) {
+                feedbacks.putIfAbsent(number, clean(response.subSequence(start, matcher.start())));
+            }
+            number = Integer.valueOf(matcher.group(1));
+            start = matcher.end();
+        }
+        if (number != null) {
+            feedbacks.putIfAbsent(number, clean(response.subSequence(start, response.length())));
+        }
+        return feedbacks;
+    }
+
+    private static String clean(CharSequence feedback) {
+        return feedback.toString().replaceAll("\\s+", " ").strip();
+    }
+
+
+    private record PendingFeedback(String answer, CompletableFuture<String> future, long enqueuedAt) {
+    }
+}
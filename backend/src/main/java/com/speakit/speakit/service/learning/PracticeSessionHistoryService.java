@@ -0,0 +1,9 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.PracticeSessionHistoryResponseDTO;
+
+// 학습 기록(사용자의 학습 세션 목록) 조회 서비스
+public interface PracticeSessionHistoryService {
+
+    PracticeSessionHistoryResponseDTO getHistory(Long userId, Long before, Integer size);
+}
@@ -0,0 +1,67 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.PracticeSessionDialogueCountDTO;
+import com.speakit.speakit.dto.learning.PracticeSessionHistoryDTO;
+import com.speakit.speakit.dto.learning.PracticeSessionHistoryResponseDTO;
+import com.speakit.speakit.dto.learning.PracticeSessionTopicDTO;
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import com.speakit.speakit.repository.learning.PracticeSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 학습 기록 조회 서비스 구현체
+// 세션 목록은 (user_id, id) 키셋 조회 DTO로 읽고, 주제와 대화 수는 페이지의 세션 ID로 한 번씩 더 조회하여 채움
+// 두 컬렉션(topics, dialogues)을 함께 fetch join하지 않으므로 카테시안 곱이나 MultipleBagFetchException이 없고,
+// 페이지 크기와 관계없이 쿼리는 최대 3번
+@Service
+public class PracticeSessionHistoryServiceImpl implements PracticeSessionHistoryService {
+
+    private final PracticeSessionRepository practiceSessionRepository;
+    private final DialogueRepository dialogueRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public PracticeSessionHistoryServiceImpl(PracticeSessionRepository practiceSessionRepository,
+                                             DialogueRepository dialogueRepository,
+                                             @Value("${practice.history.defaultPageSize:20}") int defaultPageSize,
+                                             @Value("${practice.history.maxPageSize:50}") int maxPageSize) {
+        this.practiceSessionRepository = practiceSessionRepository;
+        this.dialogueRepository = dialogueRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+
+    // before(세션 ID) 이전 세션을 최신순으로 조회, before가 없으면 가장 최근 세션부터
+    @Override
+    public PracticeSessionHistoryResponseDTO getHistory(Long userId, Long before, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        long beforeId = before == null ? Long.MAX_VALUE : before;
+
+        List<PracticeSessionHistoryDTO> sessions = practiceSessionRepository.findHistoryPage(userId, beforeId, Limit.of(limit));
+        if (sessions.isEmpty()) {
+            return new PracticeSessionHistoryResponseDTO(sessions, null);
+        }
+
+        Map<Long, PracticeSessionHistoryDTO> byId = new HashMap<>();
+        for (PracticeSessionHistoryDTO session : sessions) {
+            session.setTopics(new ArrayList<>(3));
+            byId.put(session.getId(), session);
+        }
+        for (PracticeSessionTopicDTO topic : practiceSessionRepository.findTopics(byId.keySet())) {
+            byId.get(topic.getSessionId()).getTopics().add(topic.getTopic());
+        }
+        for (PracticeSessionDialogueCountDTO count : dialogueRepository.countBySessionIds(byId.keySet())) {
+            byId.get(count.getSessionId()).setDialogueCount(count.getDialogueCount());
+        }
+
+        Long nextCursor = sessions.size() < limit ? null : sessions.get(sessions.size() - 1).getId();
+        return new PracticeSessionHistoryResponseDTO(sessions, nextCursor);
+    }
+}
@@ -0,0 +1,165 @@
+package com.speakit.speakit.service.learning;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.speakit.speakit.model.common.DifficultyLevel;
+import com.speakit.speakit.model.common.ExamType;
+import com.speakit.speakit.model.learning.PracticeSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 생성된 대본 캐시 (프로세스 내 Caffeine, 서버마다 따로 유지)
+// 키는 (시험 종류, 토익 문제 ID, 정규화·정렬한 주제 목록, 난이도)이며, 같은 조합의 세션은 LLM을 다시 호출하지 않고 저장된 대본을 재사용
+// - 크기 제한(maxSize)을 넘으면 최근에 덜 쓰인 키부터 제거하고, 키마다 ttl이 지나면 만료
+// - 다양성(maxVariants): 키마다 서로 다른 대본을 maxVariants개까지 생성해 모은 뒤 돌아가며 제공 (1이면 처음 대본만 재사용)
+// - 유사 재사용(nearDuplicate): 키가 없으면 같은 시험/문제/난이도에서 주제가 minSimilarity(자카드 유사도) 이상 겹치는 대본을 재사용
+@Component
+public class ScriptCache {
+
+    private final Cache<ScriptKey, Entry> scripts;
+    private final int maxVariants;
+    private final boolean nearDuplicateEnabled;
+    private final double minSimilarity;
+
+    private final Counter hitCounter;
+    private final Counter nearHitCounter;
+    private final Counter missCounter;
+    private final Counter savedTimeCounter;
+
+    public ScriptCache(MeterRegistry meterRegistry,
+                       @Value("${ai.script.cache.maxSize:10000}") long maxSize,
+                       @Value("${ai.script.cache.ttl:24h}") Duration ttl,
+                       @Value("${ai.script.cache.maxVariants:3}") int maxVariants,
+                       @Value("${ai.script.cache.nearDuplicate.enabled:false}") boolean nearDuplicateEnabled,
+                       @Value("${ai.script.cache.nearDuplicate.minSimilarity:0.5}") double minSimilarity) {
+        this.maxVariants = Math.max(1, maxVariants);
+        this.nearDuplicateEnabled = nearDuplicateEnabled;
+        this.minSimilarity = minSimilarity;
+        this.scripts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, scripts, "ai.script.cache");
+
+        this.hitCounter = Counter.builder("ai.script.cache.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.nearHitCounter = Counter.builder("ai.script.cache.lookups")
+                .tag("result", "near")
+                .description("주제가 비슷한 다른 키의 대본을 재사용한 조회 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("ai.script.cache.lookups")
+                .tag("result", "miss")
+                .description("LLM으로 새로 생성한 조회 수 (다양성을 위해 새 대본을 만든 경우 포함)")
+                .register(meterRegistry);
+        this.savedTimeCounter = Counter.builder("ai.script.cache.savedTime")
+                .baseUnit("seconds")
+                .description("재사용한 대본을 생성할 때 걸렸던 시간의 합 (절약한 LLM 생성 시간)")
+                .register(meterRegistry);
+    }
+
+
+    // 재사용할 대본, 새로 생성해야 하면 null
+    public String find(PracticeSession session) {
+        ScriptKey key = ScriptKey.of(session);
+        Entry entry = scripts.getIfPresent(key);
+        if (entry != null && entry.variants().size() >= maxVariants) {
+            return reuse(entry, hitCounter);
+        }
+        if (entry == null && nearDuplicateEnabled) {
+            Entry near = findNear(key);
+            if (near != null) {
+                return reuse(near, nearHitCounter);
+            }
+        }
+        missCounter.increment();
+        return null;
+    }
+
+
+    // 생성한 대본을 키의 대본 목록에 추가 (이미 maxVariants개이거나 같은 대본이 있으면 무시)
+    public void put(PracticeSession session, String script, long generationNanos) {
+        scripts.asMap().compute(ScriptKey.of(session), (key, entry) -> {
+            List<CachedScript> variants = entry == null ? List.of() : entry.variants();
+            if (variants.size() >= maxVariants || variants.stream().anyMatch(cached -> cached.script().equals(script))) {
+                return entry;
+            }
+            List<CachedScript> updated = new ArrayList<>(variants);
+            updated.add(new CachedScript(script, generationNanos));
+            // 목록은 교체만 하고 수정하지 않으므로 잠금 없이 읽음
+            return new Entry(List.copyOf(updated), entry == null ? new AtomicInteger() : entry.next());
+        });
+    }
+
+
+    // 대본 목록을 돌아가며 제공
+    private String reuse(Entry entry, Counter counter) {
+        counter.increment();
+        CachedScript cached = entry.variants().get(Math.floorMod(entry.next().getAndIncrement(), entry.variants().size()));
+        savedTimeCounter.increment(cached.generationNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+        return cached.script();
+    }
+
+    // 같은 시험/문제/난이도의 키 중 주제 유사도가 가장 높은 항목 (키 수에 비례하지만 LLM 호출보다 훨씬 짧음)
+    private Entry findNear(ScriptKey key) {
+        Entry best = null;
+        double bestSimilarity = minSimilarity;
+        for (Map.Entry<ScriptKey, Entry> candidate : scripts.asMap().entrySet()) {
+            ScriptKey other = candidate.getKey();
+            if (other.examType() != key.examType() || other.difficultyLevel() != key.difficultyLevel()
+                    || !Objects.equals(other.questionId(), key.questionId())) {
+                continue;
+            }
+            double similarity = jaccard(key.topics(), other.topics());
+            if (similarity >= bestSimilarity) {
+                best = candidate.getValue();
+                bestSimilarity = similarity;
+            }
+        }
+        return best;
+    }
+
+    private static double jaccard(List<String> a, List<String> b) {
+        if (a.isEmpty() && b.isEmpty()) {
+            return 1;
+        }
+        long common = a.stream().filter(b::contains).count();
+        return (double) common / (a.size() + b.size() - common);
+    }
+
+
+    // 주제는 대소문자와 공백을 정규화하고 중복을 제거해 정렬
+    record ScriptKey(ExamType examType, Long questionId, List<String> topics, DifficultyLevel difficultyLevel) {
+
+        static ScriptKey of(PracticeSession session) {
+            List<String> topics = session.getTopics() == null ? List.of() : session.getTopics().stream()
+                    .filter(Objects::nonNull)
+                    .map(topic -> topic.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT))
+                    .filter(topic -> !topic.isEmpty())
+                    .distinct()
+                    .sorted()
+                    .toList();
+            Long questionId = session.getToeicQuestion() != null ? session.getToeicQuestion().getId() : null;
+            return new ScriptKey(session.getExamType(), questionId, topics, session.getDifficultyLevel());
+        }
+    }
+
+    private record CachedScript(String script, long generationNanos) {
+    }
+
+    private record Entry(List<CachedScript> variants, AtomicInteger next) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.speakit.speakit.service.learning;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 학습 세션 대본 생성 서비스 (생성 중인 대본을 SSE로 스트리밍)
+public interface ScriptGenerationService {
+
+    SseEmitter streamScript(Long userId, Long sessionId);
+}
@@ -0,0 +1,233 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.model.common.ExamType;
+import com.speakit.speakit.model.learning.PracticeSession;
+import com.speakit.speakit.repository.learning.PracticeSessionRepository;
+import com.speakit.speakit.service.ai.LlmClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 학습 세션 대본 생성 서비스 구현체
+// LLM 응답 조각을 도착하는 대로 SSE token 이벤트로 보내고, 생성이 끝나면 대본을 한 번만 저장한 뒤 done 이벤트로 종료
+// - 동시 생성 수는 Semaphore(maxConcurrent)로 제한하며, 허용 수를 넘으면 기다리지 않고 503으로 거절
+// - 생성은 가상 스레드에서 실행하여 LLM 응답을 기다리는 동안 요청 스레드나 플랫폼 스레드를 점유하지 않음
+// - 클라이언트 연결이 끊기면 LLM 생성도 중단하고 부분 대본은 저장하지 않음
+// - 이미 대본이 있으면 LLM을 호출하지 않고 저장된 대본을 보냄
+// - 같은 시험 종류/주제/난이도의 대본이 ScriptCache에 있으면 LLM을 호출하지 않고 그 대본을 세션에 저장해 보냄
+@Slf4j
+@Service
+public class ScriptGenerationServiceImpl implements ScriptGenerationService, DisposableBean {
+
+    private static final String SYSTEM_PROMPT =
+            "You write English speaking-test practice scripts. Answer only with the script a test taker could say aloud.";
+
+    // practice_sessions.generated_script 열 길이
+    private static final int MAX_SCRIPT_LENGTH = 2000;
+
+    private final PracticeSessionRepository practiceSessionRepository;
+    private final LlmClient llmClient;
+    private final ScriptCache scriptCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore permits;
+    private final int maxTokens;
+    private final long emitterTimeoutMillis;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("script-generation-", 0).factory());
+
+    // 같은 세션의 대본을 동시에 두 번 생성하지 않도록 생성 중인 세션 ID를 기록
+    private final Set<Long> inFlightSessions = ConcurrentHashMap.newKeySet();
+
+    private final Counter rejectedCounter;
+    private final Timer firstTokenTimer;
+    private final Timer generationTimer;
+
+    public ScriptGenerationServiceImpl(PracticeSessionRepository practiceSessionRepository,
+                                       LlmClient llmClient,
+                                       ScriptCache scriptCache,
+                                       TransactionTemplate transactionTemplate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${ai.script.maxConcurrent:20}") int maxConcurrent,
+                                       @Value("${ai.script.maxTokens:500}") int maxTokens,
+                                       @Value("${ai.script.timeout:2m}") Duration timeout) {
+        this.practiceSessionRepository = practiceSessionRepository;
+        this.llmClient = llmClient;
+        this.scriptCache = scriptCache;
+        this.transactionTemplate = transactionTemplate;
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxTokens = maxTokens;
+        this.emitterTimeoutMillis = timeout.toMillis();
+
+        this.rejectedCounter = Counter.builder("ai.script.rejected")
+                .description("동시 생성 수 초과로 거절한 대본 생성 요청 수")
+                .register(meterRegistry);
+        this.firstTokenTimer = Timer.builder("ai.script.firstToken")
+                .description("생성 시작부터 첫 조각 전송까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.generationTimer = Timer.builder("ai.script.generation")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("ai.script.inflight", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("생성 중인 대본 수")
+                .register(meterRegistry);
+    }
+
+
+    // 권한 확인과 동시 생성 수 제한은 응답을 시작하기 전에 처리하여 일반 오류 응답(400/503)으로 반환
+    @Override
+    public SseEmitter streamScript(Long userId, Long sessionId) {
+        PracticeSession session = practiceSessionRepository.findForScript(sessionId)
+                .filter(found -> found.getUser() != null && found.getUser().getId().equals(userId))
+                .orElseThrow(() -> new RuntimeException("학습 세션을 찾을 수 없습니다."));
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        if (session.getGeneratedScript() != null) {
+            sendSavedScript(emitter, sessionId, session.getGeneratedScript());
+            return emitter;
+        }
+        String cachedScript = scriptCache.find(session);
+        if (cachedScript != null) {
+            transactionTemplate.executeWithoutResult(status ->
+                    practiceSessionRepository.saveGeneratedScript(sessionId, cachedScript));
+            sendSavedScript(emitter, sessionId, cachedScript);
+            return emitter;
+        }
+
+        if (!inFlightSessions.add(sessionId)) {
+            throw new RuntimeException("이미 대본을 생성 중입니다.");
+        }
+        if (!permits.tryAcquire()) {
+            inFlightSessions.remove(sessionId);
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("대본 생성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        AtomicBoolean disconnected = new AtomicBoolean();
+        emitter.onTimeout(() -> disconnected.set(true));
+        emitter.onError(error -> disconnected.set(true));
+        try {
+            LlmClient.LlmRequest request = new LlmClient.LlmRequest(SYSTEM_PROMPT, prompt(session), maxTokens);
+            executor.execute(() -> generate(emitter, session, request, disconnected));
+        } catch (RuntimeException e) {
+            release(sessionId);
+            throw e;
+        }
+        return emitter;
+    }
+
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+
+    private void generate(SseEmitter emitter, PracticeSession session, LlmClient.LlmRequest request, AtomicBoolean disconnected) {
+        Long sessionId = session.getId();
+        long startedAt = System.nanoTime();
+        StringBuilder script = new StringBuilder();
+        try {
+            llmClient.stream(request, token -> {
+                if (disconnected.get()) {
+                    return false;
+                }
+                if (script.isEmpty()) {
+                    firstTokenTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+                script.append(token);
+                try {
+                    emitter.send(SseEmitter.event().name("token").data(token));
+                    return script.length() < MAX_SCRIPT_LENGTH;
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트 연결 종료
+                    disconnected.set(true);
+                    return false;
+                }
+            });
+            if (disconnected.get()) {
+                return;
+            }
+
+            String finalScript = script.length() > MAX_SCRIPT_LENGTH ? script.substring(0, MAX_SCRIPT_LENGTH) : script.toString();
+            transactionTemplate.executeWithoutResult(status ->
+                    practiceSessionRepository.saveGeneratedScript(sessionId, finalScript));
+            if (!finalScript.isBlank()) {
+                scriptCache.put(session, finalScript, System.nanoTime() - startedAt);
+            }
+            emitter.send(SseEmitter.event().name("done").data(sessionId));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // done 이벤트 전송 전에 연결이 끊긴 경우 (대본은 이미 저장됨)
+            log.debug("Script stream closed before completion: sessionId={}", sessionId);
+        } catch (RuntimeException e) {
+            log.warn("Script generation failed: sessionId={}", sessionId, e);
+            sendError(emitter);
+        } finally {
+            generationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            release(sessionId);
+        }
+    }
+
+    private void release(Long sessionId) {
+        inFlightSessions.remove(sessionId);
+        permits.release();
+    }
+
+
+    private static void sendSavedScript(SseEmitter emitter, Long sessionId, String script) {
+        try {
+            emitter.send(SseEmitter.event().name("token").data(script));
+            emitter.send(SseEmitter.event().name("done").data(sessionId));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static void sendError(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data("대본 생성에 실패했습니다. 다시 시도해 주세요."));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+
+    // 세션의 시험 종류, 난이도, 주제(OPIc) 또는 기출문제(TOEIC)로 프롬프트 구성
+    private static String prompt(PracticeSession session) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("Exam: ").append(session.getExamType() == ExamType.OPIc ? "OPIc" : "TOEIC Speaking").append('\n');
+        if (session.getDifficultyLevel() != null) {
+            prompt.append("Target level: ").append(session.getDifficultyLevel().getLabel()).append('\n');
+        }
+        if (session.getToeicQuestion() != null && session.getToeicQuestion().getQuestionText() != null) {
+            prompt.append("Question: ").append(session.getToeicQuestion().getQuestionText()).append('\n');
+        }
+        if (session.getTopics() != null && !session.getTopics().isEmpty()) {
+            prompt.append("Topics: ").append(String.join(", ", session.getTopics())).append('\n');
+        }
+        prompt.append("Write a model answer script of about one minute.");
+        return prompt.toString();
+    }
+}
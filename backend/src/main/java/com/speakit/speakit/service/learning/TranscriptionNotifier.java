@@ -0,0 +1,61 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.DialogueDTO;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+// 음성 인식/피드백 결과 알림 (대화 기록 ID별 SSE 구독자에게 처리 단계마다 이벤트를 보내고, 마지막 단계에서 연결 종료)
+// 구독자는 이 서버에만 등록되므로, 결과를 놓치지 않도록 구독 직후 DB 상태를 다시 확인하여 이미 끝난 단계는 바로 보냄
+@Component
+public class TranscriptionNotifier {
+
+    public static final String TRANSCRIPTION_EVENT = "transcription";
+    public static final String FEEDBACK_EVENT = "feedback";
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long dialogueId, long timeoutMillis) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribers.computeIfAbsent(dialogueId, id -> new CopyOnWriteArraySet<>()).add(emitter);
+        Runnable remove = () -> subscribers.computeIfPresent(dialogueId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+
+    // 처리 결과를 구독자 모두에게 보내고, last이면 연결을 종료하고 구독자 목록에서 제거
+    public void publish(String event, DialogueDTO dialogue, boolean last) {
+        Set<SseEmitter> emitters = last ? subscribers.remove(dialogue.getId()) : subscribers.get(dialogue.getId());
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(emitter, event, dialogue, last);
+        }
+    }
+
+
+    // 구독자 한 명에게만 보냄 (구독 시점에 이미 끝난 단계)
+    public void send(SseEmitter emitter, String event, DialogueDTO dialogue, boolean last) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(dialogue));
+            if (last) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 또는 이미 종료된 연결
+            emitter.completeWithError(e);
+        }
+    }
+}
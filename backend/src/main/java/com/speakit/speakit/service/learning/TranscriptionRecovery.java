@@ -0,0 +1,110 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.PendingTranscriptionDTO;
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 잃어버린 음성 인식 작업 복구 (시작 시와 interval마다)
+// TranscriptionWorker 대기열은 메모리에만 있어 재시작하면 대기 중이던 작업이 사라지므로,
+// staleAfter보다 오래 PENDING인 대화 기록을 batchSize개씩 ID 순으로 읽어 다시 등록하고, 음성 파일이 없으면 FAILED로 기록
+// 다른 서버의 대기열에서 아직 기다리는 작업과 겹치지 않도록 staleAfter가 지난 기록만 다루며,
+// 겹치더라도 결과 저장은 PENDING인 기록만 갱신하므로 한 번만 반영됨
+// 대기열이 가득 차면 이번 주기를 멈추고 다음 주기에 이어서 등록
+@Slf4j
+@Component
+public class TranscriptionRecovery implements DisposableBean {
+
+    private final DialogueRepository dialogueRepository;
+    private final AudioStorage audioStorage;
+    private final TranscriptionWorker transcriptionWorker;
+    private final Duration interval;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final ScheduledThreadPoolExecutor executor;
+
+    public TranscriptionRecovery(DialogueRepository dialogueRepository,
+                                 AudioStorage audioStorage,
+                                 TranscriptionWorker transcriptionWorker,
+                                 @Value("${stt.recovery.interval:5m}") Duration interval,
+                                 @Value("${stt.recovery.staleAfter:10m}") Duration staleAfter,
+                                 @Value("${stt.recovery.batchSize:100}") int batchSize) {
+        this.dialogueRepository = dialogueRepository;
+        this.audioStorage = audioStorage;
+        this.transcriptionWorker = transcriptionWorker;
+        this.interval = interval;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+        this.executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("stt-recovery").daemon().factory());
+    }
+
+
+    // 애플리케이션 시작 직후 한 번 복구하고 이후 interval마다 반복
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::recoverQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+
+    // 다시 등록한 작업 수 반환
+    int recover() {
+        LocalDateTime before = LocalDateTime.now().minus(staleAfter);
+        long afterId = 0;
+        int submitted = 0;
+        int failed = 0;
+        while (true) {
+            List<PendingTranscriptionDTO> page =
+                    dialogueRepository.findPendingTranscriptions(before, afterId, Limit.of(batchSize));
+            for (PendingTranscriptionDTO pending : page) {
+                afterId = pending.getId();
+                if (pending.getAudioPath() == null || !Files.isRegularFile(audioStorage.resolve(pending.getAudioPath()))) {
+                    transcriptionWorker.fail(pending.getId());
+                    failed++;
+                    continue;
+                }
+                if (!transcriptionWorker.submit(pending.getId(), pending.getAudioPath(), pending.getAudioContentType())) {
+                    log.info("Transcription queue is full, resubmitted {} pending dialogues and continuing next run", submitted);
+                    return submitted;
+                }
+                submitted++;
+            }
+            if (page.size() < batchSize) {
+                break;
+            }
+        }
+        if (submitted > 0 || failed > 0) {
+            log.info("Transcription recovery resubmitted {} pending dialogues and failed {} without audio", submitted, failed);
+        }
+        return submitted;
+    }
+
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+
+    private void recoverQuietly() {
+        try {
+            recover();
+        } catch (RuntimeException e) {
+            // 예외로 주기 작업이 중단되지 않도록 기록만 함 (다음 주기에 다시 시도)
+            log.warn("Transcription recovery failed", e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import com.speakit.speakit.service.ai.SttEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 음성 인식 작업 스레드 풀 (workers개 스레드, 대기열 queueCapacity개)
+// 음성 파일이 업로드를 받은 서버의 디스크에 있으므로 Kafka 대신 서버 내 대기열을 사용하며,
+// 대기열이 가득 차면 작업을 받지 않아 업로드 요청을 바로 503으로 거절할 수 있게 함
+// 작업은 STT 엔진 결과를 대화 기록에 저장하고 TranscriptionNotifier로 구독자에게 알린 뒤,
+// FeedbackBatcher에 AI 피드백을 요청하여 (작업 스레드를 점유하지 않고) 결과가 오면 저장하고 다시 알림
+// 대기열은 메모리에만 있으므로 종료 시 남은 작업은 버리고, PENDING으로 남은 대화 기록은 TranscriptionRecovery가 다시 등록
+@Slf4j
+@Component
+public class TranscriptionWorker implements DisposableBean {
+
+    // dialogues.transcription 열 길이
+    private static final int MAX_TRANSCRIPTION_LENGTH = 2000;
+
+    private final SttEngine sttEngine;
+    private final DialogueRepository dialogueRepository;
+    private final AudioStorage audioStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final TranscriptionNotifier transcriptionNotifier;
+    private final FeedbackBatcher feedbackBatcher;
+    private final ThreadPoolExecutor executor;
+
+    // 대기 중이거나 처리 중인 대화 기록 ID (복구 작업이 같은 기록을 다시 등록하지 않도록 함)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Timer queueWaitTimer;
+    private final Timer processingTimer;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public TranscriptionWorker(SttEngine sttEngine,
+                               DialogueRepository dialogueRepository,
+                               AudioStorage audioStorage,
+                               TransactionTemplate transactionTemplate,
+                               TranscriptionNotifier transcriptionNotifier,
+                               FeedbackBatcher feedbackBatcher,
+                               MeterRegistry meterRegistry,
+                               @Value("${stt.workers:4}") int workers,
+                               @Value("${stt.queueCapacity:100}") int queueCapacity) {
+        this.sttEngine = sttEngine;
+        this.dialogueRepository = dialogueRepository;
+        this.audioStorage = audioStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.transcriptionNotifier = transcriptionNotifier;
+        this.feedbackBatcher = feedbackBatcher;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("stt-worker-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("stt.queue.depth", executor, e -> e.getQueue().size())
+                .description("처리를 기다리는 음성 인식 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("stt.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("처리 중인 음성 인식 작업 수")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("stt.queue.wait")
+                .description("작업이 대기열에서 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("stt.processing")
+                .description("음성 인식과 결과 저장에 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.completedCounter = Counter.builder("stt.jobs")
+                .tag("result", "completed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("stt.jobs")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("stt.jobs")
+                .tag("result", "rejected")
+                .description("대기열이 가득 차 거절한 음성 인식 작업 수")
+                .register(meterRegistry);
+    }
+
+
+    // 대기열이 가득 차 있으면 true (업로드를 받기 전에 확인)
+    public boolean isFull() {
+        return executor.getQueue().remainingCapacity() == 0;
+    }
+
+
+    // 음성 인식 작업 등록 (이미 대기 중이거나 처리 중이면 그대로 true), 대기열이 가득 차 받지 못하면 false
+    public boolean submit(Long dialogueId, String audioKey, String contentType) {
+        if (!inFlight.add(dialogueId)) {
+            return true;
+        }
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                try {
+                    queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                    processingTimer.record(() -> transcribe(dialogueId, audioKey, contentType));
+                } finally {
+                    inFlight.remove(dialogueId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(dialogueId);
+            rejectedCounter.increment();
+            return false;
+        }
+    }
+
+
+    // 처리할 수 없는 대화 기록을 실패로 기록하고 구독자에게 알림 (음성 파일이 없어진 복구 대상 등)
+    void fail(Long dialogueId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> dialogueRepository.failTranscription(dialogueId));
+        } catch (RuntimeException saveError) {
+            log.warn("Failed to record transcription failure: dialogueId={}", dialogueId, saveError);
+        }
+        notify(dialogueId, TranscriptionNotifier.TRANSCRIPTION_EVENT, true);
+    }
+
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+
+    private void transcribe(Long dialogueId, String audioKey, String contentType) {
+        String transcription;
+        try {
+            String text = sttEngine.transcribe(audioStorage.resolve(audioKey), contentType);
+            transcription = text.length() > MAX_TRANSCRIPTION_LENGTH ? text.substring(0, MAX_TRANSCRIPTION_LENGTH) : text;
+            transactionTemplate.executeWithoutResult(status ->
+                    dialogueRepository.completeTranscription(dialogueId, transcription));
+            completedCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("Transcription failed: dialogueId={}", dialogueId, e);
+            failedCounter.increment();
+            fail(dialogueId);
+            return;
+        }
+        notify(dialogueId, TranscriptionNotifier.TRANSCRIPTION_EVENT, false);
+
+        // 피드백이 없는 음성(무음 등)은 요청하지 않고 알림을 마침
+        if (transcription.isBlank()) {
+            notify(dialogueId, TranscriptionNotifier.FEEDBACK_EVENT, true);
+            return;
+        }
+        feedbackBatcher.requestFeedback(transcription).whenComplete((feedback, error) -> {
+            if (error != null) {
+                log.warn("Feedback failed: dialogueId={}", dialogueId, error);
+            } else {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> dialogueRepository.saveFeedback(dialogueId, feedback));
+                } catch (RuntimeException saveError) {
+                    log.warn("Failed to save feedback: dialogueId={}", dialogueId, saveError);
+                }
+            }
+            notify(dialogueId, TranscriptionNotifier.FEEDBACK_EVENT, true);
+        });
+    }
+
+
+    // 저장된 상태를 다시 읽어 알림 (다른 작업이 먼저 끝낸 경우에도 최종 상태를 보냄)
+    private void notify(Long dialogueId, String event, boolean last) {
+        try {
+            dialogueRepository.findDTOById(dialogueId)
+                    .ifPresent(dialogue -> transcriptionNotifier.publish(event, dialogue, last));
+        } catch (RuntimeException e) {
+            log.warn("Failed to notify transcription subscribers: dialogueId={}", dialogueId, e);
+        }
+    }
+}
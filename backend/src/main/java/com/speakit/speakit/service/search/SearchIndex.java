@@ -0,0 +1,276 @@
+package com.speakit.speakit.service.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 게시글/댓글/토익 문제 본문의 Lucene 역색인 (프로세스 내장)
+// 본문을 한국어(nori 형태소 분석)와 영어(어간 추출) 필드로 각각 색인하여 두 언어가 섞인 글도 검색되며, 관련도(BM25)순으로 정렬
+// 쓰기는 IndexWriter 메모리 버퍼에 쌓이고, refreshInterval마다 검색에 반영(near-real-time), commitInterval마다 디스크에 기록
+// search.index.path가 비어 있으면 메모리 색인을 사용 (재시작 시 SearchIndexer가 DB에서 다시 만듦)
+@Slf4j
+@Component
+public class SearchIndex implements DisposableBean {
+
+    private static final String KEY = "key";
+    private static final String TARGET = "target";
+    private static final String ID = "id";
+    private static final String PARENT_ID = "parentId";
+    private static final String CONTENT = "content";
+    private static final String KOREAN = "ko";
+    private static final String ENGLISH = "en";
+    private static final String GENERATION = "generation";
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ScheduledThreadPoolExecutor executor;
+
+    public SearchIndex(MeterRegistry meterRegistry,
+                       @Value("${search.index.path:}") String path,
+                       @Value("${search.index.refreshInterval:1s}") Duration refreshInterval,
+                       @Value("${search.index.commitInterval:30s}") Duration commitInterval) throws IOException {
+        this.directory = path.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(path));
+        this.analyzer = new PerFieldAnalyzerWrapper(new StandardAnalyzer(),
+                Map.of(KOREAN, new KoreanAnalyzer(), ENGLISH, new EnglishAnalyzer()));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+
+        Gauge.builder("search.index.docs", writer, w -> w.getDocStats().numDocs)
+                .description("검색 색인 문서 수")
+                .register(meterRegistry);
+
+        this.executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("search-index").daemon().factory());
+        this.executor.scheduleWithFixedDelay(this::refreshQuietly,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        this.executor.scheduleWithFixedDelay(this::commitQuietly,
+                commitInterval.toMillis(), commitInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+
+    // 문서 추가 또는 교체 (대상 종류와 ID가 같은 문서를 원자적으로 교체), 본문이 없으면 삭제
+    // generation은 색인 재구성 시 이번 재구성에서 다시 쓰이지 않은(DB에서 사라진) 문서를 지우는 데 사용
+    public void upsert(SearchTarget target, long id, Long parentId, String content, long generation) {
+        if (content == null || content.isBlank()) {
+            delete(target, id);
+            return;
+        }
+        Document document = new Document();
+        document.add(new StringField(KEY, key(target, id), Field.Store.NO));
+        document.add(new StringField(TARGET, target.name(), Field.Store.YES));
+        document.add(new StoredField(ID, id));
+        document.add(new NumericDocValuesField(ID, id));
+        if (parentId != null) {
+            document.add(new StoredField(PARENT_ID, parentId));
+        }
+        document.add(new StoredField(CONTENT, content));
+        document.add(new TextField(KOREAN, content, Field.Store.NO));
+        document.add(new TextField(ENGLISH, content, Field.Store.NO));
+        document.add(new LongPoint(GENERATION, generation));
+        try {
+            writer.updateDocument(new Term(KEY, key(target, id)), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    public void delete(SearchTarget target, long id) {
+        try {
+            writer.deleteDocuments(new Term(KEY, key(target, id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // generation보다 이전 재구성/갱신에서 쓰인 문서 삭제
+    public void deleteOlderThan(long generation) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, generation - 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // text를 두 언어 필드로 분석하여 어느 한쪽이라도 일치하는 문서를 관련도순으로 offset부터 size개 조회
+    // target이 null이면 모든 대상에서 검색
+    public SearchResult search(String text, SearchTarget target, int offset, int size) {
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        Query korean = queryBuilder.createBooleanQuery(KOREAN, text);
+        Query english = queryBuilder.createBooleanQuery(ENGLISH, text);
+        if (korean == null && english == null) {
+            // 불용어만 있는 검색어
+            return new SearchResult(0, List.of());
+        }
+
+        BooleanQuery.Builder textQuery = new BooleanQuery.Builder();
+        if (korean != null) {
+            textQuery.add(korean, BooleanClause.Occur.SHOULD);
+        }
+        if (english != null) {
+            // 영어 어간 일치는 형태소 일치보다 느슨하므로 가중치를 낮춤
+            textQuery.add(new BoostQuery(english, 0.5f), BooleanClause.Occur.SHOULD);
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(textQuery.build(), BooleanClause.Occur.MUST);
+        if (target != null) {
+            query.add(new TermQuery(new Term(TARGET, target.name())), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), offset + size);
+                StoredFields storedFields = searcher.storedFields();
+                List<Hit> hits = new ArrayList<>(size);
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    Document document = storedFields.document(scoreDoc.doc);
+                    hits.add(new Hit(SearchTarget.valueOf(document.get(TARGET)),
+                            document.getField(ID).numericValue().longValue(),
+                            document.getField(PARENT_ID) != null ? document.getField(PARENT_ID).numericValue().longValue() : null,
+                            document.get(CONTENT),
+                            scoreDoc.score));
+                }
+                return new SearchResult(topDocs.totalHits.value, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // 대상 종류별로 색인된 가장 큰 ID (없으면 0), 마지막으로 반영된 검색 결과 기준
+    public long maxId(SearchTarget target) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(new TermQuery(new Term(TARGET, target.name())), 1,
+                        new Sort(new SortField(ID, SortField.Type.LONG, true)));
+                if (topDocs.scoreDocs.length == 0) {
+                    return 0;
+                }
+                return searcher.storedFields().document(topDocs.scoreDocs[0].doc).getField(ID).numericValue().longValue();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+
+    // 지금까지의 쓰기를 검색에 바로 반영 (재구성 직후, 테스트)
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    public void commit() {
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    @Override
+    public void destroy() throws IOException, InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+
+    private void refreshQuietly() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            // 예외로 주기 작업이 중단되지 않도록 기록만 함
+            log.warn("Search index refresh failed", e);
+        }
+    }
+
+    private void commitQuietly() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Search index commit failed", e);
+        }
+    }
+
+    private static String key(SearchTarget target, long id) {
+        return target.name() + ":" + id;
+    }
+
+
+    public record Hit(SearchTarget target, long id, Long parentId, String content, float score) {
+    }
+
+    public record SearchResult(long totalHits, List<Hit> hits) {
+    }
+}
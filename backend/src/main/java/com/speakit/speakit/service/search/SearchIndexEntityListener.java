@@ -0,0 +1,82 @@
+package com.speakit.speakit.service.search;
+
+import com.speakit.speakit.model.community.Comment;
+import com.speakit.speakit.model.community.Post;
+import com.speakit.speakit.model.learning.TOEICQuestion;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+// 검색 대상 엔티티(게시글, 댓글, 토익 문제)의 저장/삭제를 검색 색인에 반영하는 JPA 엔티티 리스너
+// 트랜잭션 안에서 변경되면 커밋된 후에만 반영하여 롤백된 글이 검색되지 않도록 함
+// 반영에 실패해도 요청은 실패시키지 않으며, 빠진 글은 SearchIndexer의 따라잡기/재구성으로 복구됨
+// Hibernate가 Spring 빈으로 생성하며, 색인 빈이 없는 컨텍스트(저장소 테스트 등)에서는 아무것도 하지 않음
+@Slf4j
+public class SearchIndexEntityListener {
+
+    private final ObjectProvider<SearchIndexer> searchIndexer;
+
+    public SearchIndexEntityListener(ObjectProvider<SearchIndexer> searchIndexer) {
+        this.searchIndexer = searchIndexer;
+    }
+
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Object entity) {
+        switch (entity) {
+            case Post post -> afterCommit(indexer -> indexer.saved(SearchTarget.POST, post.getId(), null, post.getContent()));
+            case Comment comment -> {
+                Long postId = comment.getPost() != null ? comment.getPost().getId() : null;
+                afterCommit(indexer -> indexer.saved(SearchTarget.COMMENT, comment.getId(), postId, comment.getContent()));
+            }
+            case TOEICQuestion question ->
+                    afterCommit(indexer -> indexer.saved(SearchTarget.QUESTION, question.getId(), null, question.getQuestionText()));
+            default -> {
+            }
+        }
+    }
+
+
+    @PostRemove
+    public void removed(Object entity) {
+        switch (entity) {
+            case Post post -> afterCommit(indexer -> indexer.removed(SearchTarget.POST, post.getId()));
+            case Comment comment -> afterCommit(indexer -> indexer.removed(SearchTarget.COMMENT, comment.getId()));
+            case TOEICQuestion question -> afterCommit(indexer -> indexer.removed(SearchTarget.QUESTION, question.getId()));
+            default -> {
+            }
+        }
+    }
+
+
+    private void afterCommit(Consumer<SearchIndexer> task) {
+        SearchIndexer indexer = searchIndexer.getIfAvailable();
+        if (indexer == null) {
+            return;
+        }
+        Runnable apply = () -> {
+            try {
+                task.accept(indexer);
+            } catch (RuntimeException e) {
+                log.warn("Search index update failed", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
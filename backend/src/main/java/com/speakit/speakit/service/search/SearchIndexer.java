@@ -0,0 +1,199 @@
+package com.speakit.speakit.service.search;
+
+import com.speakit.speakit.dto.search.SearchSourceDTO;
+import com.speakit.speakit.repository.community.CommentRepository;
+import com.speakit.speakit.repository.community.PostRepository;
+import com.speakit.speakit.repository.learning.TOEICQuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 검색 색인을 DB와 맞추는 작업
+// - 엔티티 저장/삭제: SearchIndexEntityListener가 커밋 후 바로 반영
+// - 따라잡기(syncInterval): 대상별로 마지막으로 읽은 ID에서 syncOverlap개 앞부터 다시 읽어 반영 (다른 서버에서 작성된 글)
+//   IDENTITY ID는 발급 순서와 커밋 순서가 다를 수 있어, 더 큰 ID보다 늦게 커밋된 행을 겹쳐 읽는 구간에서 다시 잡음
+//   겹쳐 읽는 구간보다 더 늦게 커밋된 행과 다른 서버에서 삭제된 행은 다음 재구성에서 반영됨
+// - 재구성(시작 시 색인이 비어 있으면, 이후 rebuildInterval마다): 모든 행을 batchSize개씩 ID 키셋으로 나눠 읽어 다시 쓰고,
+//   이번 재구성에서 다시 쓰이지 않은 문서(DB에서 삭제된 행)를 지움
+// DB 읽기는 DTO 배치로만 하므로 전체 행이나 엔티티를 메모리에 올리지 않으며, 재구성 중에도 기존 색인으로 검색 가능
+@Slf4j
+@Component
+public class SearchIndexer implements DisposableBean {
+
+    private final SearchIndex searchIndex;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TOEICQuestionRepository toeicQuestionRepository;
+    private final int batchSize;
+    private final Duration syncInterval;
+    private final int syncOverlap;
+    private final Duration rebuildInterval;
+    private final ScheduledThreadPoolExecutor executor;
+
+    // 엔티티 변경 반영과 재구성 세대 전환이 겹치지 않도록 함 (이전 세대로 쓴 문서가 재구성 후 지워지는 것을 방지)
+    private final ReadWriteLock generationLock = new ReentrantReadWriteLock();
+    private long generation = System.currentTimeMillis();
+
+    // 대상별로 따라잡기가 읽은 마지막 ID (색인 작업 스레드에서만 사용)
+    private final Map<SearchTarget, Long> syncedIds = new EnumMap<>(SearchTarget.class);
+
+    public SearchIndexer(SearchIndex searchIndex,
+                         PostRepository postRepository,
+                         CommentRepository commentRepository,
+                         TOEICQuestionRepository toeicQuestionRepository,
+                         @Value("${search.indexer.batchSize:1000}") int batchSize,
+                         @Value("${search.indexer.syncInterval:10s}") Duration syncInterval,
+                         @Value("${search.indexer.syncOverlap:100}") int syncOverlap,
+                         @Value("${search.indexer.rebuildInterval:24h}") Duration rebuildInterval) {
+        this.searchIndex = searchIndex;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.toeicQuestionRepository = toeicQuestionRepository;
+        this.batchSize = batchSize;
+        this.syncInterval = syncInterval;
+        this.syncOverlap = syncOverlap;
+        this.rebuildInterval = rebuildInterval;
+        this.executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("search-indexer").daemon().factory());
+    }
+
+
+    // 애플리케이션 시작 후 색인 작업 스레드에서 재구성(색인이 비어 있는 경우)과 주기 작업을 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (searchIndex.isEmpty()) {
+            executor.execute(this::rebuildQuietly);
+        }
+        executor.scheduleWithFixedDelay(this::syncQuietly,
+                syncInterval.toMillis(), syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (!rebuildInterval.isZero()) {
+            executor.scheduleWithFixedDelay(this::rebuildQuietly,
+                    rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    public void saved(SearchTarget target, long id, Long parentId, String content) {
+        generationLock.readLock().lock();
+        try {
+            searchIndex.upsert(target, id, parentId, content, generation);
+        } finally {
+            generationLock.readLock().unlock();
+        }
+    }
+
+
+    public void removed(SearchTarget target, long id) {
+        searchIndex.delete(target, id);
+    }
+
+
+    // 색인 작업 스레드에서 재구성 (진행 중인 다른 작업이 끝난 뒤 실행)
+    public Future<?> requestRebuild() {
+        return executor.submit(this::rebuild);
+    }
+
+
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        long rebuildGeneration;
+        generationLock.writeLock().lock();
+        try {
+            rebuildGeneration = Math.max(started, generation + 1);
+            generation = rebuildGeneration;
+        } finally {
+            generationLock.writeLock().unlock();
+        }
+
+        long documents = 0;
+        for (SearchTarget target : SearchTarget.values()) {
+            documents += copy(target, 0, rebuildGeneration);
+        }
+        searchIndex.deleteOlderThan(rebuildGeneration);
+        searchIndex.commit();
+        searchIndex.refresh();
+        log.info("Search index rebuilt: documents={}, elapsed={}ms", documents, System.currentTimeMillis() - started);
+    }
+
+
+    // 마지막으로 읽은 ID보다 syncOverlap개 앞부터 반영 (늦게 커밋된 작은 ID를 다시 잡음, 이미 색인된 문서는 같은 내용으로 교체)
+    void sync() {
+        boolean changed = false;
+        for (SearchTarget target : SearchTarget.values()) {
+            long afterId = Math.max(0, syncedIds.computeIfAbsent(target, searchIndex::maxId) - syncOverlap);
+            generationLock.readLock().lock();
+            try {
+                changed |= copy(target, afterId, generation) > 0;
+            } finally {
+                generationLock.readLock().unlock();
+            }
+        }
+        if (changed) {
+            searchIndex.refresh();
+        }
+    }
+
+
+    // afterId 이후 행을 batchSize개씩 읽어 색인에 쓰고 쓴 개수를 반환
+    private long copy(SearchTarget target, long afterId, long generation) {
+        long count = 0;
+        List<SearchSourceDTO> batch;
+        do {
+            batch = read(target, afterId);
+            for (SearchSourceDTO source : batch) {
+                searchIndex.upsert(target, source.getId(), source.getParentId(), source.getContent(), generation);
+                afterId = source.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == batchSize);
+        syncedIds.merge(target, afterId, Math::max);
+        return count;
+    }
+
+    private List<SearchSourceDTO> read(SearchTarget target, long afterId) {
+        return switch (target) {
+            case POST -> postRepository.findSearchSources(afterId, Limit.of(batchSize));
+            case COMMENT -> commentRepository.findSearchSources(afterId, Limit.of(batchSize));
+            case QUESTION -> toeicQuestionRepository.findSearchSources(afterId, Limit.of(batchSize));
+        };
+    }
+
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 예외로 주기 작업이 중단되지 않도록 기록만 함 (다음 주기에 다시 시도)
+            log.warn("Search index rebuild failed", e);
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Search index sync failed", e);
+        }
+    }
+}
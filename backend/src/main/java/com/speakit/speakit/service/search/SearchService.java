@@ -0,0 +1,9 @@
+package com.speakit.speakit.service.search;
+
+import com.speakit.speakit.dto.search.SearchResponseDTO;
+
+// 전문 검색 서비스
+public interface SearchService {
+
+    SearchResponseDTO search(String query, String type, Integer page, Integer size);
+}
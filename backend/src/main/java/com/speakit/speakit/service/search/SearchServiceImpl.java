@@ -0,0 +1,83 @@
+package com.speakit.speakit.service.search;
+
+import com.speakit.speakit.dto.search.SearchHitDTO;
+import com.speakit.speakit.dto.search.SearchResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+// 전문 검색 서비스 구현체
+// 색인에 본문을 함께 저장하므로 검색 결과를 DB 조회 없이 반환
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private final SearchIndex searchIndex;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxResults;
+    private final int maxQueryLength;
+
+    private final Timer searchTimer;
+
+    public SearchServiceImpl(SearchIndex searchIndex,
+                             MeterRegistry meterRegistry,
+                             @Value("${search.defaultPageSize:20}") int defaultPageSize,
+                             @Value("${search.maxPageSize:50}") int maxPageSize,
+                             @Value("${search.maxResults:1000}") int maxResults,
+                             @Value("${search.maxQueryLength:100}") int maxQueryLength) {
+        this.searchIndex = searchIndex;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxResults = maxResults;
+        this.maxQueryLength = maxQueryLength;
+
+        this.searchTimer = Timer.builder("search.query")
+                .description("전문 검색 처리 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+
+    // type(post, comment, question)이 없으면 모든 대상에서 검색, page는 0부터 시작
+    // 관련도순 결과는 앞에서부터 세어야 하므로 maxResults번째 결과까지만 페이지로 제공
+    @Override
+    public SearchResponseDTO search(String query, String type, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > maxQueryLength) {
+            throw new RuntimeException("검색어는 " + maxQueryLength + "자 이하로 입력해 주세요.");
+        }
+        SearchTarget target = parseTarget(type);
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        int pageNumber = page == null ? 0 : Math.max(0, page);
+        int offset = (int) Math.min((long) pageNumber * limit, maxResults);
+        int count = Math.min(limit, maxResults - offset);
+        if (count <= 0) {
+            return new SearchResponseDTO(List.of(), 0, null);
+        }
+
+        SearchIndex.SearchResult result = searchTimer.record(() -> searchIndex.search(query, target, offset, count));
+        List<SearchHitDTO> hits = result.hits().stream()
+                .map(hit -> new SearchHitDTO(hit.target().name(), hit.id(), hit.parentId(), hit.content(), hit.score()))
+                .toList();
+        boolean hasNext = offset + hits.size() < Math.min(result.totalHits(), maxResults);
+        return new SearchResponseDTO(hits, result.totalHits(), hasNext ? pageNumber + 1 : null);
+    }
+
+
+    private static SearchTarget parseTarget(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return SearchTarget.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("지원하지 않는 검색 대상입니다.");
+        }
+    }
+}
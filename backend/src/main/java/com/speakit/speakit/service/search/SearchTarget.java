@@ -0,0 +1,8 @@
+package com.speakit.speakit.service.search;
+
+// 검색 대상 종류
+public enum SearchTarget {
+    POST,
+    COMMENT,
+    QUESTION
+}
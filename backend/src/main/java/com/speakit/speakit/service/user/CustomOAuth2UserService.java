@@ -1,7 +1,10 @@
 package com.speakit.speakit.service.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.speakit.speakit.model.user.User;
 import com.speakit.speakit.repository.user.UserRepository;
+import com.speakit.speakit.security.oauth2.provider.SocialProviderRegistry;
+import com.speakit.speakit.security.oauth2.provider.SocialUserProfile;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.*;
 import org.springframework.security.oauth2.core.*;
@@ -9,6 +12,7 @@ import org.springframework.security.oauth2.core.user.*;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 // DefaultOAuth2UserService를 확장하여, OAuth2 공급자로부터 받은 사용자 정보를 기반으로 애플리케이션 내 사용자 정보를 조회하거나 저장
@@ -16,9 +20,18 @@ import java.util.Map;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final SocialProviderRegistry socialProviderRegistry;
+    private final ObjectMapper objectMapper;
 
-    public CustomOAuth2UserService(UserRepository userRepository) {
+    public CustomOAuth2UserService(UserRepository userRepository,
+                                   UserCacheService userCacheService,
+                                   SocialProviderRegistry socialProviderRegistry,
+                                   ObjectMapper objectMapper) {
         this.userRepository = userRepository;
+        this.userCacheService = userCacheService;
+        this.socialProviderRegistry = socialProviderRegistry;
+        this.objectMapper = objectMapper;
     }
 
     // OAuth2 공급자로부터 사용자 정보를 로드한 후, 공급자별로 필요한 사용자 속성을 추출하고, 이를 바탕으로 DB에 사용자 정보를 저장하거나 갱신
@@ -28,17 +41,15 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         // 기본 구현을 호출하여 사용자 정보를 로드
         OAuth2User oAuth2User = super.loadUser(userRequest);
 
-        // 공급자별 사용자 속성을 가져옴 (예: Google의 경우 'sub', 'email', 'name' 등)
+        // 공급자별 사용자 속성을 가져옴 (Google: 'sub', 'email', 'name' / Naver: 'response' 안에 중첩 / Kakao: 'kakao_account' 안에 이메일)
         Map<String, Object> attributes = oAuth2User.getAttributes();
 
-        // 공급자 식별자 (예: "google")
+        // 공급자 식별자 (예: "google")로 SocialProvider를 조회하여 공급자별 형식에 맞게 ID, 이메일, 이름 추출
         String provider = userRequest.getClientRegistration().getRegistrationId();
-        // 공급자에서 제공하는 고유 식별자 ("sub"는 Google에서 사용자 ID로 사용)
-        String providerId = attributes.get("sub").toString();
-
-        // 이메일과 이름 추출 (공급자 API에 따라 키가 다를 수 있으니 필요 시 수정)
-        String email = attributes.get("email").toString();
-        String username = attributes.get("name").toString();
+        SocialUserProfile profile = socialProviderRegistry.get(provider).extractProfile(objectMapper.valueToTree(attributes));
+        String providerId = profile.getProviderId();
+        String email = profile.getEmail();
+        String username = profile.getName();
 
         // DB에서 이메일로 사용자 조회
         User user = userRepository.findByEmail(email);
@@ -61,15 +72,22 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             user.setProviderId(providerId);
             userRepository.save(user);
         }
+        userCacheService.evict(email);
 
         // DB에 저장된 role을 GrantedAuthority로 변환하여 DefaultOAuth2User에 포함
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority(user.getRole());
 
-        // DefaultOAuth2User를 생성하여 반환. 여기서 "sub"를 사용자 식별 키로 사용
+        // 성공 핸들러가 공급자와 관계없이 이메일로 사용자를 조회할 수 있도록 최상위 "email" 속성을 보장
+        Map<String, Object> userAttributes = new LinkedHashMap<>(attributes);
+        userAttributes.putIfAbsent("email", email);
+
+        // DefaultOAuth2User를 생성하여 반환. 공급자 설정의 user-name-attribute를 사용자 식별 키로 사용
+        String userNameAttributeName = userRequest.getClientRegistration()
+                .getProviderDetails().getUserInfoEndpoint().getUserNameAttributeName();
         return new DefaultOAuth2User(
                 oAuth2User.getAuthorities(),
-                attributes,
-                "sub"
+                userAttributes,
+                userNameAttributeName
         );
     }
 }
@@ -1,5 +1,6 @@
 package com.speakit.speakit.service.user;
 
+import com.speakit.speakit.dto.user.UserCacheDTO;
 import com.speakit.speakit.model.user.User;
 import com.speakit.speakit.repository.user.UserRepository;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -9,19 +10,23 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 
 // Spring Security의 UserDetailsService 인터페이스를 구현, 이 클래스는 인증 과정에만 관여하며, 주로 AuthenticationManager에 의해 호출
+// UserDetailsPasswordService도 구현하여, 로그인 성공 시 이전 알고리즘/비용으로 저장된 비밀번호 해시를 현재 설정으로 교체
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserCacheService userCacheService;
     private final UserRepository userRepository;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserCacheService userCacheService, UserRepository userRepository) {
+        this.userCacheService = userCacheService;
         this.userRepository = userRepository;
     }
 
-    // 인증 과정에서 사용자의 이메일(혹은 username)을 기반으로 DB에서 사용자 정보를 조회하여, Spring Security가 사용할 수 있는 UserDetails 객체로 변환
+    // 인증 과정에서 사용자의 이메일(혹은 username)을 기반으로 사용자 정보를 조회(L1 캐시 우선)하여, Spring Security가 사용할 수 있는 UserDetails 객체로 변환
+    // 비밀번호 해시는 Redis 캐시에 없으므로 L1 또는 DB에서 조회
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email);
+        UserCacheDTO user = userCacheService.getCredentials(email);
         if(user == null) {
             throw new UsernameNotFoundException("User not found with email: " + email);
         }
@@ -32,4 +37,23 @@ public class CustomUserDetailsService implements UserDetailsService {
                 List.of(new SimpleGrantedAuthority(user.getRole()))
         );
     }
+
+
+    // 로그인 성공 후 PasswordEncoder.upgradeEncoding()이 true인 경우 DaoAuthenticationProvider가 호출 (새 해시로 교체)
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername());
+        if (user == null) {
+            return userDetails;
+        }
+        user.setPassword(newEncodedPassword);
+        userRepository.save(user);
+        userCacheService.evict(user.getEmail());
+
+        return new org.springframework.security.core.userdetails.User(
+                user.getEmail(),
+                newEncodedPassword,
+                userDetails.getAuthorities()
+        );
+    }
 }
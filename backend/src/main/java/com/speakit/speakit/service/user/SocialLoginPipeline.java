@@ -0,0 +1,137 @@
+package com.speakit.speakit.service.user;
+
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 소셜 로그인 처리를 요청 스레드가 아닌 공급자별 전용 스레드 풀에서 비동기로 실행하는 파이프라인
+// 공급자별 스레드 풀, 벌크헤드(동시 처리 수 제한), 서킷 브레이커를 두어 한 공급자의 장애나 지연이 다른 공급자의 로그인 처리에 영향을 주지 않도록 함
+// 서킷이 열려 있거나 벌크헤드가 가득 찬 경우 즉시 ServiceOverloadedException(503)으로 실패
+@Component
+public class SocialLoginPipeline implements DisposableBean {
+
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+    private final int maxConcurrentCalls;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public SocialLoginPipeline(MeterRegistry meterRegistry,
+                               @Value("${social.login.bulkhead.maxConcurrentCalls:50}") int maxConcurrentCalls,
+                               @Value("${social.login.circuitBreaker.failureRateThreshold:50}") float failureRateThreshold,
+                               @Value("${social.login.circuitBreaker.slowCallDurationThreshold:3s}") Duration slowCallDurationThreshold,
+                               @Value("${social.login.circuitBreaker.slidingWindowSize:20}") int slidingWindowSize,
+                               @Value("${social.login.circuitBreaker.waitDurationInOpenState:30s}") Duration waitDurationInOpenState) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+
+        // 공급자 API 장애(연결 실패, 제한 시간 초과, 5xx)만 실패로 기록, 사용자의 잘못된 인가 코드(4xx)나 DB 오류는 제외
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.max(1, slidingWindowSize / 2))
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .recordException(SocialLoginPipeline::isProviderFailure)
+                .build();
+
+        // 대기 없이 즉시 거절하여 요청이 쌓이지 않도록 함
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        this.bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig);
+
+        // resilience4j.circuitbreaker.*, resilience4j.bulkhead.* 메트릭 (name 태그 = 공급자)
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+
+    // 공급자(provider)의 서킷 브레이커와 벌크헤드를 거쳐 로그인 작업을 공급자 전용 스레드 풀에서 실행
+    public <T> CompletableFuture<T> execute(String provider, Supplier<T> task) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(provider);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(provider);
+        ExecutorService executor = executors.computeIfAbsent(provider, this::createExecutor);
+
+        Supplier<CompletionStage<T>> call = () -> CompletableFuture.supplyAsync(task, executor);
+        call = Bulkhead.decorateCompletionStage(bulkhead, call);
+        call = CircuitBreaker.decorateCompletionStage(circuitBreaker, call);
+
+        return call.get()
+                .toCompletableFuture()
+                .exceptionally(ex -> {
+                    throw translate(provider, ex);
+                });
+    }
+
+
+    // 공급자별 서킷 브레이커 상태 조회 (모니터링, 테스트 용도)
+    public CircuitBreaker.State getCircuitState(String provider) {
+        return circuitBreakerRegistry.circuitBreaker(provider).getState();
+    }
+
+
+    @Override
+    public void destroy() {
+        executors.values().forEach(ExecutorService::shutdown);
+    }
+
+
+    // 벌크헤드가 동시 실행 수를 제한하므로 작업 큐는 쌓이지 않음
+    // 공유 캐리어 스레드를 쓰는 가상 스레드 대신 공급자별 플랫폼 스레드를 두어, 블로킹 HTTP 호출이 다른 공급자의 실행에 영향을 주지 않도록 함
+    private ExecutorService createExecutor(String provider) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxConcurrentCalls, runnable -> {
+            Thread thread = new Thread(runnable, "social-login-" + provider + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    private static boolean isProviderFailure(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return cause instanceof ResourceAccessException || cause instanceof HttpServerErrorException;
+    }
+
+
+    private static RuntimeException translate(String provider, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException) {
+            return new ServiceOverloadedException(provider + " 로그인 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new CompletionException(cause);
+    }
+}
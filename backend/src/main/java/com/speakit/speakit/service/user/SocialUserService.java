@@ -2,18 +2,15 @@ package com.speakit.speakit.service.user;
 
 import com.speakit.speakit.dto.user.SignInResponseDTO;
 
+import java.util.concurrent.CompletableFuture;
+
 // 소셜 로그인 관련 서비스 인터페이스
 public interface SocialUserService {
 
-    SignInResponseDTO processGoogleSocialLogin(String code);
-    void disconnectGoogleSocialAccount(String email);
+    CompletableFuture<SignInResponseDTO> processSocialLoginAsync(String provider, String code);
+
+    SignInResponseDTO processSocialLogin(String provider, String code);
 
-    SignInResponseDTO processNaverSocialLogin(String code);
-    void disconnectNaverSocialAccount(String email);
-    
-    SignInResponseDTO processKakaoSocialLogin(String code);
-    void disconnectKakaoSocialAccount(String email);
 
-    
     void disconnectSocialAccountByToken(String token);
 }
@@ -0,0 +1,13 @@
+package com.speakit.speakit.service.user;
+
+import com.speakit.speakit.dto.user.TokenPairDTO;
+
+// JWT 발급, refresh token 교체(rotation) 및 세션 폐기 서비스 인터페이스
+public interface TokenService {
+
+    TokenPairDTO issueTokens(Long userId, String email, String role);
+    TokenPairDTO refreshTokens(String refreshToken);
+
+    void revokeSession(String refreshToken);
+    void revokeAllSessions(String email);
+}
@@ -0,0 +1,104 @@
+package com.speakit.speakit.service.user;
+
+import com.speakit.speakit.dto.user.TokenPairDTO;
+import com.speakit.speakit.exception.InvalidTokenException;
+import com.speakit.speakit.security.jwt.*;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+// TokenService 인터페이스 구현, refresh token 상태는 users 테이블이 아닌 RefreshTokenStore에 저장
+@Service
+public class TokenServiceImpl implements TokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserCacheService userCacheService;
+
+    public TokenServiceImpl(JwtTokenProvider jwtTokenProvider,
+                            RefreshTokenStore refreshTokenStore,
+                            TokenRevocationList tokenRevocationList,
+                            UserCacheService userCacheService) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenRevocationList = tokenRevocationList;
+        this.userCacheService = userCacheService;
+    }
+
+
+    // 로그인 시 새 세션(기기)을 만들고 access token과 refresh token을 발급
+    @Override
+    public TokenPairDTO issueTokens(Long userId, String email, String role) {
+        RefreshSession session = RefreshSession.builder()
+                .sessionId(UUID.randomUUID().toString())
+                .tokenId(UUID.randomUUID().toString())
+                .userId(userId)
+                .email(email)
+                .role(role)
+                .build();
+        refreshTokenStore.save(session, jwtTokenProvider.getRefreshTokenExpiration());
+        return createTokenPair(session);
+    }
+
+
+    // refresh token 교체: 제출된 토큰이 세션의 현재 토큰이면 새 토큰 쌍을 발급하고,
+    // 이미 교체된 이전 토큰이면 탈취로 보고 세션을 폐기
+    // 탈퇴한 사용자의 세션이 폐기 과정에서 남았더라도 재발급하지 않도록 사용자 존재 여부를 확인 (사용자 캐시 사용)
+    @Override
+    public TokenPairDTO refreshTokens(String refreshToken) {
+        JwtClaims claims = resolveRefreshClaims(refreshToken);
+        if (userCacheService.getByEmail(claims.getUsername()) == null) {
+            refreshTokenStore.revokeAllSessions(claims.getUsername());
+            throw new InvalidTokenException("탈퇴했거나 존재하지 않는 사용자입니다. 다시 로그인해 주세요.");
+        }
+
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(claims.getSessionId(), claims.getUsername(),
+                claims.getTokenId(), UUID.randomUUID().toString(), jwtTokenProvider.getRefreshTokenExpiration());
+
+        switch (rotation.getStatus()) {
+            case ROTATED:
+                return createTokenPair(rotation.getSession());
+            case REUSED:
+                // 세션은 저장소에서 이미 폐기됨, 해당 사용자의 access token도 폐기 (폐기 목록 활성화 시)
+                tokenRevocationList.revokeAllForUser(claims.getUsername());
+                throw new InvalidTokenException("이미 사용된 refresh token 입니다. 다시 로그인해 주세요.");
+            default:
+                throw new InvalidTokenException("만료되었거나 로그아웃된 세션입니다. 다시 로그인해 주세요.");
+        }
+    }
+
+
+    // 로그아웃: refresh token의 세션 하나만 폐기 (users 테이블 접근 없음)
+    @Override
+    public void revokeSession(String refreshToken) {
+        jwtTokenProvider.resolveClaims(refreshToken)
+                .filter(JwtClaims::isRefreshToken)
+                .ifPresent(claims -> refreshTokenStore.revokeSession(claims.getSessionId()));
+    }
+
+
+    // 회원 탈퇴 등: 사용자의 모든 세션 폐기
+    @Override
+    public void revokeAllSessions(String email) {
+        refreshTokenStore.revokeAllSessions(email);
+    }
+
+
+    private JwtClaims resolveRefreshClaims(String refreshToken) {
+        return jwtTokenProvider.resolveClaims(refreshToken)
+                .filter(JwtClaims::isRefreshToken)
+                .filter(claims -> claims.getSessionId() != null && claims.getTokenId() != null)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 refresh token 입니다."));
+    }
+
+
+    private TokenPairDTO createTokenPair(RefreshSession session) {
+        String accessToken = jwtTokenProvider.generateAccessToken(session.getEmail(), session.getUserId(), session.getRole());
+        String refreshToken = jwtTokenProvider.generateRefreshToken(session.getEmail(), session.getTokenId(), session.getSessionId());
+        return TokenPairDTO.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.speakit.speakit.service.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.repository.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+// 이메일 기준 사용자 조회 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis, 둘 다 없으면 DB 조회)
+// 엔티티 대신 읽기 전용 스냅샷(UserCacheDTO)만 보관하며, 사용자 정보를 수정/삭제하는 곳에서 evict()를 호출하여 무효화
+// 비밀번호 해시는 L2에 저장하지 않으므로 L2에서 읽은 스냅샷에는 없음, 해시가 필요한 곳은 getCredentials()로 L1 또는 DB에서 조회
+// evict()는 이 서버의 L1만 비우므로, 비밀번호 변경 후 다른 서버의 L1에 남은 이전 해시는 user.cache.l1.ttl 동안 유효할 수 있음
+@Slf4j
+@Service
+public class UserCacheService {
+
+    private static final String REDIS_KEY_PREFIX = "user:cache:";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, UserCacheDTO> localCache;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public UserCacheService(UserRepository userRepository,
+                            StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.cache.l1.maxSize:10000}") long localMaxSize,
+                            @Value("${user.cache.l1.ttl:30s}") Duration localTtl,
+                            @Value("${user.cache.l2.enabled:true}") boolean redisEnabled,
+                            @Value("${user.cache.l2.ttl:10m}") Duration redisTtl) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+
+        // L1은 다른 서버에서 발생한 변경을 바로 알 수 없으므로 짧은 TTL로 유지
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        // L1 적중/미스는 Caffeine 통계로, L2 적중/미스는 같은 이름(cache.gets)의 카운터로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "user.l1");
+        this.redisHits = Counter.builder("cache.gets")
+                .tag("cache", "user.l2")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("cache.gets")
+                .tag("cache", "user.l2")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+
+    // 이메일로 사용자 스냅샷 조회 (L1 -> L2 -> DB 순), 사용자가 없으면 null 반환
+    // 같은 이메일에 대한 동시 미스는 Caffeine이 한 번만 로드하도록 묶어 로그인 폭주 시 DB 중복 조회를 방지
+    public UserCacheDTO getByEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        return localCache.get(email, this::loadFromRedisOrDatabase);
+    }
+
+
+    // 비밀번호 해시를 포함한 사용자 스냅샷 조회 (비밀번호 로그인, 해시 확인용)
+    // L1에 DB에서 읽은 스냅샷이 있으면 사용하고, 없거나 L2에서 읽은 스냅샷(해시 없음)이면 DB에서 읽어 L1을 교체
+    public UserCacheDTO getCredentials(String email) {
+        if (email == null) {
+            return null;
+        }
+        UserCacheDTO cached = localCache.getIfPresent(email);
+        if (cached != null && cached.getPassword() != null) {
+            return cached;
+        }
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            return null;
+        }
+        UserCacheDTO loaded = toCacheDTO(user);
+        localCache.put(email, loaded);
+        return loaded;
+    }
+
+
+    // 사용자 정보 변경/삭제 후 호출하여 L1, L2 캐시 항목을 모두 제거
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        localCache.invalidate(email);
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(REDIS_KEY_PREFIX + email);
+            } catch (DataAccessException e) {
+                log.warn("Redis user cache eviction failed for {}: {}", email, e.getMessage());
+            }
+        }
+    }
+
+
+    // L2 미스 시 DB에서 읽은 스냅샷은 해시를 포함한 채 L1에 보관 (L2에는 해시를 제외하고 저장)
+    private UserCacheDTO loadFromRedisOrDatabase(String email) {
+        UserCacheDTO cached = readFromRedis(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            return null;
+        }
+        UserCacheDTO loaded = toCacheDTO(user);
+        writeToRedis(loaded);
+        return loaded;
+    }
+
+
+    // Redis 장애 시에는 캐시 미스로 처리하고 DB 조회로 진행
+    private UserCacheDTO readFromRedis(String email) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + email);
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, UserCacheDTO.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Redis user cache read failed for {}: {}", email, e.getMessage());
+            redisMisses.increment();
+            return null;
+        }
+    }
+
+
+    private void writeToRedis(UserCacheDTO user) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + user.getEmail(),
+                    objectMapper.writeValueAsString(user), redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Redis user cache write failed for {}: {}", user.getEmail(), e.getMessage());
+        }
+    }
+
+
+    private UserCacheDTO toCacheDTO(User user) {
+        return UserCacheDTO.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .provider(user.getProvider())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
@@ -13,7 +13,7 @@ public interface UserService {
     ProfileResponseDTO updateProfile(String email, ProfileUpdateRequestDTO updateRequestDTO);
 
     void deleteAccount(String email, DeleteAccountRequestDTO deleteAccountRequestDTO);
-    void logout(String email);
+    void logout(String email, String refreshToken);
 
     boolean isAuthenticated(Authentication authentication);
 }
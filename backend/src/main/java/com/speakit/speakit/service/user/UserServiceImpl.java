@@ -5,7 +5,7 @@ import com.speakit.speakit.exception.MultiErrorException;
 import com.speakit.speakit.exception.SocialLoginUpdateException;
 import com.speakit.speakit.model.user.User;
 import com.speakit.speakit.repository.user.UserRepository;
-import com.speakit.speakit.security.jwt.JwtTokenProvider;
+import com.speakit.speakit.security.jwt.TokenRevocationList;
 import com.speakit.speakit.util.PasswordPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -26,17 +26,23 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenService tokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserCacheService userCacheService;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository,
                            PasswordEncoder passwordEncoder,
                            AuthenticationManager authenticationManager,
-                           JwtTokenProvider jwtTokenProvider) {
+                           TokenService tokenService,
+                           TokenRevocationList tokenRevocationList,
+                           UserCacheService userCacheService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenService = tokenService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.userCacheService = userCacheService;
     }
 
 
@@ -82,33 +88,30 @@ public class UserServiceImpl implements UserService {
                 new UsernamePasswordAuthenticationToken(signInRequestDTO.getEmail(), signInRequestDTO.getPassword());
         Authentication authentication = authenticationManager.authenticate(authToken);
 
-        // JWT 토큰 생성 (access token과 refresh token)
-        String accessToken = jwtTokenProvider.generateAccessToken(authentication);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(authentication);
-
-        // DB에서 사용자 정보 조회 및 refresh token 저장
-        User user = userRepository.findByEmail(signInRequestDTO.getEmail());
+        // 사용자 정보 조회 (인증 과정에서 캐시에 적재된 값을 사용하므로 추가 DB 조회 없음)
+        UserCacheDTO user = userCacheService.getByEmail(authentication.getName());
         if (user == null) {
             throw new RuntimeException("User not found");
         }
-        user.setRefreshToken(refreshToken);
-        userRepository.save(user);
+
+        // JWT 토큰 생성 (access token에는 사용자 ID와 권한 포함), refresh token은 RefreshTokenStore에 새 세션으로 저장
+        TokenPairDTO tokens = tokenService.issueTokens(user.getId(), user.getEmail(), user.getRole());
 
         return SignInResponseDTO.builder()
                 .id(user.getId())
                 .username(user.getUsername())
                 .email(user.getEmail())
                 .createdAt(user.getCreatedAt())
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
+                .accessToken(tokens.getAccessToken())
+                .refreshToken(tokens.getRefreshToken())
                 .build();
     }
 
 
-    // 회원정보 조회: 이메일 기반으로 사용자 정보를 조회하며, 가입일은 'yyyy-MM-dd' 형식으로 포맷하여 반환
+    // 회원정보 조회: 이메일 기반으로 사용자 정보를 조회(L1 캐시 우선, 응답에 비밀번호 해시가 포함되어 L2는 사용하지 않음)하며, 가입일은 'yyyy-MM-dd' 형식으로 포맷하여 반환
     @Override
     public ProfileResponseDTO getProfileByEmail(String email) {
-        User user = userRepository.findByEmail(email);
+        UserCacheDTO user = userCacheService.getCredentials(email);
         if (user == null) {
             throw new RuntimeException("회원 정보를 찾을 수 없습니다.");
         }
@@ -147,6 +150,7 @@ public class UserServiceImpl implements UserService {
 
         if (updated) {
             userRepository.save(user);
+            userCacheService.evict(email);
         }
         return getProfileByEmail(email);
     }
@@ -165,18 +169,22 @@ public class UserServiceImpl implements UserService {
             throw new RuntimeException("현재 비밀번호가 올바르지 않습니다.");
         }
         userRepository.delete(user);
+        userCacheService.evict(email);
+
+        // 탈퇴한 사용자의 모든 세션을 폐기하고, Access Token이 만료 전까지 사용되지 않도록 폐기
+        tokenService.revokeAllSessions(email);
+        tokenRevocationList.revokeAllForUser(email);
     }
 
 
-    // 로그아웃: refresh token 제거로 재발급 방지
+    // 로그아웃: 현재 기기의 refresh token 세션을 폐기하여 재발급 방지 (users 테이블 접근 없음)
+    // 폐기 목록이 활성화된 경우 발급된 access token도 폐기 (다른 기기는 refresh token으로 재발급)
     @Override
-    public void logout(String email) {
-        User user = userRepository.findByEmail(email);
-        if (user != null) {
-
-            user.setRefreshToken(null);
-            userRepository.save(user);
+    public void logout(String email, String refreshToken) {
+        if (refreshToken != null) {
+            tokenService.revokeSession(refreshToken);
         }
+        tokenRevocationList.revokeAllForUser(email);
     }
 
 
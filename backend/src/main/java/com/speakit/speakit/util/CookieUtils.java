@@ -3,13 +3,13 @@ package com.speakit.speakit.util;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.util.SerializationUtils;
+import org.springframework.http.ResponseCookie;
 
 import java.time.Duration;
-import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
-// 쿠키 추가, 조회, 삭제 및 객체의 직렬화/역직렬화 담당 클래스
+// 쿠키 추가, 조회, 삭제 담당 클래스
 public class CookieUtils {
 
     // 개발 환경: HTTP 사용 시 false, 운영 환경(HTTPS)에서는 true로 설정
@@ -63,6 +63,24 @@ public class CookieUtils {
     }
 
 
+    // setAuthCookies와 동일한 속성의 인증 쿠키를 Set-Cookie 헤더 값으로 생성 (HttpServletResponse 없이 ResponseEntity로 응답하는 비동기 핸들러용)
+    public static List<String> authCookieHeaders(String accessToken, String refreshToken,
+                                                 Duration accessTokenExp, Duration refreshTokenExp) {
+        return List.of(
+                authCookie("accessToken", accessToken, accessTokenExp).toString(),
+                authCookie("refreshToken", refreshToken, refreshTokenExp).toString());
+    }
+
+    private static ResponseCookie authCookie(String name, String value, Duration maxAge) {
+        return ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .path("/")
+                .maxAge(maxAge)
+                .secure(IS_SECURE)
+                .build();
+    }
+
+
     // 지정한 이름의 쿠키를 삭제
     public static void deleteCookie(HttpServletRequest request, HttpServletResponse response, String name) {
         getCookie(request, name).ifPresent(cookie -> {
@@ -84,15 +102,4 @@ public class CookieUtils {
             response.addCookie(cookie);
         }
     }
-
-
-    // 객체를 직렬화하여 Base64 URL 인코딩된 문자열로 변환
-    public static String serialize(Object object) {
-        return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(object));
-    }
-
-    // 쿠키의 값을 역직렬화하여 지정된 타입의 객체로 변환
-    public static <T> T deserialize(Cookie cookie, Class<T> cls) {
-        return cls.cast(SerializationUtils.deserialize(Base64.getUrlDecoder().decode(cookie.getValue())));
-    }
 }
@@ -0,0 +1,81 @@
+package com.speakit.speakit.repository.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 다중 행 INSERT 저장소: 문장 크기 제한을 넘는 배치 분할, 재전송된 메시지의 중복 무시, 데이터 오류 전달을 H2(MySQL 모드)로 검증
+class ChatMessageBatchRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ChatMessageBatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE chat_messages (id BIGINT PRIMARY KEY, chat_room_id BIGINT, "
+                + "sender_id BIGINT, message VARCHAR(2000), `timestamp` TIMESTAMP(6))");
+        repository = new ChatMessageBatchRepository(jdbcTemplate);
+    }
+
+
+    @Test
+    void insertsBatchesLargerThanOneStatement() {
+        int rows = ChatMessageBatchRepository.MAX_ROWS_PER_STATEMENT * 2 + 17;
+        List<ChatMessageDTO> batch = messages(1, rows);
+
+        assertThat(repository.insertAll(batch)).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Integer.class)).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject("SELECT message FROM chat_messages WHERE id = 2017", String.class))
+                .isEqualTo("hello 2017");
+    }
+
+
+    @Test
+    void ignoresMessagesThatWereAlreadyWritten() {
+        repository.insertAll(messages(1, 10));
+
+        // 저장 후 오프셋 커밋 전에 재시작되어 같은 메시지가 다시 전달된 경우
+        repository.insertAll(messages(6, 15));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Integer.class)).isEqualTo(15);
+        assertThat(jdbcTemplate.queryForObject("SELECT message FROM chat_messages WHERE id = 15", String.class))
+                .isEqualTo("hello 15");
+    }
+
+
+    @Test
+    void reportsRowsThatCannotBeWritten() {
+        ChatMessageDTO tooLong = ChatMessageDTO.builder()
+                .id(100L).roomId(1L).senderId(1L).senderName("user1")
+                .message("a".repeat(2001)).timestamp(LocalDateTime.now())
+                .build();
+
+        // INSERT IGNORE처럼 조용히 잘라 저장하거나 건너뛰지 않고 예외로 알림
+        assertThatThrownBy(() -> repository.insertAll(List.of(tooLong)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages", Integer.class)).isZero();
+    }
+
+
+    private static List<ChatMessageDTO> messages(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> ChatMessageDTO.builder()
+                        .id(id).roomId(id % 3).senderId(1L).senderName("user1")
+                        .message("hello " + id).timestamp(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.speakit.speakit.repository.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.model.chat.ChatMessage;
+import com.speakit.speakit.model.chat.ChatRoom;
+import com.speakit.speakit.model.common.ChatRoomType;
+import com.speakit.speakit.model.user.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 채팅 기록 키셋 조회: 커서 이전 메시지만 최신순으로, 다른 채팅방 메시지 없이 조회되는지 H2로 검증
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class ChatMessageRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        User sender = User.builder().username("user1").email("user1@speakit.com").password("pw").role("ROLE_USER").build();
+        room = ChatRoom.builder().roomName("room").roomType(ChatRoomType.GROUP).build();
+        ChatRoom otherRoom = ChatRoom.builder().roomName("other").roomType(ChatRoomType.GROUP).build();
+        entityManager.persist(sender);
+        entityManager.persist(room);
+        entityManager.persist(otherRoom);
+        for (long id = 1; id <= 20; id++) {
+            entityManager.persist(ChatMessage.builder()
+                    .id(id).chatRoom(id % 2 == 0 ? room : otherRoom).sender(sender)
+                    .message("hello " + id).timestamp(LocalDateTime.now())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    @Test
+    void pagesBackwardsFromCursor() {
+        List<ChatMessageDTO> first = chatMessageRepository.findPageBefore(room.getId(), Long.MAX_VALUE, Limit.of(4));
+        assertThat(first).extracting(ChatMessageDTO::getId).containsExactly(20L, 18L, 16L, 14L);
+        assertThat(first.get(0).getSenderName()).isEqualTo("user1");
+        assertThat(first.get(0).getRoomId()).isEqualTo(room.getId());
+
+        List<ChatMessageDTO> last = chatMessageRepository.findPageBefore(room.getId(), 6L, Limit.of(4));
+        assertThat(last).extracting(ChatMessageDTO::getId).containsExactly(4L, 2L);
+    }
+}
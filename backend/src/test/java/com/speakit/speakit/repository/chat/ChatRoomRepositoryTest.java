@@ -0,0 +1,71 @@
+package com.speakit.speakit.repository.chat;
+
+import com.speakit.speakit.dto.chat.ChatParticipantDTO;
+import com.speakit.speakit.model.chat.ChatRoom;
+import com.speakit.speakit.model.common.ChatRoomType;
+import com.speakit.speakit.model.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 채팅방 참여자 조회: 종류/참여자 ID/참여자 이름을 User 엔티티 로드 없이 조회하는지 Hibernate 통계로 검증
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class ChatRoomRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    private ChatRoom privateRoom;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = User.builder().username("alice").email("alice@speakit.com").password("pw").role("ROLE_USER").build();
+        bob = User.builder().username("bob").email("bob@speakit.com").password("pw").role("ROLE_USER").build();
+        User carol = User.builder().username("carol").email("carol@speakit.com").password("pw").role("ROLE_USER").build();
+        entityManager.persist(alice);
+        entityManager.persist(bob);
+        entityManager.persist(carol);
+        privateRoom = ChatRoom.builder().roomName("private").roomType(ChatRoomType.PRIVATE)
+                .participants(Set.of(alice, bob)).build();
+        entityManager.persist(privateRoom);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    @Test
+    void readsMembershipWithoutLoadingUsers() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(chatRoomRepository.findParticipantIds(-1L)).isEmpty();
+        assertThat(chatRoomRepository.findParticipantIds(privateRoom.getId()))
+                .containsExactlyInAnyOrder(alice.getId(), bob.getId());
+        assertThat(chatRoomRepository.findParticipants(privateRoom.getId()))
+                .extracting(ChatParticipantDTO::getUsername).containsExactly("alice", "bob");
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+}
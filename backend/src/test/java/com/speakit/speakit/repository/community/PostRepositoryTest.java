@@ -0,0 +1,107 @@
+package com.speakit.speakit.repository.community;
+
+import com.speakit.speakit.dto.community.PostCommentSummaryDTO;
+import com.speakit.speakit.dto.community.PostDTO;
+import com.speakit.speakit.model.community.Comment;
+import com.speakit.speakit.model.community.Post;
+import com.speakit.speakit.model.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 피드 페이지 조회: 작성자가 여러 명이어도 쿼리 한 번으로 작성자 이름까지 읽고 User 엔티티를 로드하지 않는지 Hibernate 통계로 검증
+// 댓글 수 보정: 카운터가 0인데 댓글이 있는 게시글만 지정한 ID 구간 안에서 댓글 수로 채우는지 검증
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class PostRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Long newestId;
+
+    @BeforeEach
+    void setUp() {
+        User[] authors = new User[3];
+        for (int i = 0; i < authors.length; i++) {
+            authors[i] = User.builder().username("user" + i).email("user" + i + "@speakit.com")
+                    .password("pw").role("ROLE_USER").build();
+            entityManager.persist(authors[i]);
+        }
+        for (int i = 0; i < 7; i++) {
+            Post post = Post.builder().author(authors[i % authors.length]).content("post " + i)
+                    .createdAt(LocalDateTime.now()).build();
+            entityManager.persist(post);
+            newestId = post.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    @Test
+    void readsPagesByCursorWithAuthorsInOneQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<PostDTO> first = postRepository.findFeedPage(Long.MAX_VALUE, Limit.of(4));
+        List<PostDTO> second = postRepository.findFeedPage(first.get(first.size() - 1).getId(), Limit.of(4));
+
+        assertThat(first).extracting(PostDTO::getId)
+                .containsExactly(newestId, newestId - 1, newestId - 2, newestId - 3);
+        assertThat(first).extracting(PostDTO::getAuthorName).containsExactly("user0", "user2", "user1", "user0");
+        assertThat(second).extracting(PostDTO::getContent).containsExactly("post 2", "post 1", "post 0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+
+    @Test
+    void backfillsOnlyUncountedPostsWithinTheRange() {
+        List<Post> posts = entityManager.createQuery("select p from Post p order by p.id", Post.class).getResultList();
+        User author = posts.get(0).getAuthor();
+        // 카운터 추가 전 댓글: posts[0]에 2개, posts[1]에 1개, 범위 밖 posts[5]에 1개 / posts[2]는 이미 카운터가 반영됨
+        for (int postIndex : new int[]{0, 0, 1, 5, 2}) {
+            entityManager.persist(Comment.builder().post(posts.get(postIndex)).author(author).content("comment")
+                    .createdAt(LocalDateTime.now()).build());
+        }
+        posts.get(2).setCommentCount(1);
+        entityManager.flush();
+        entityManager.clear();
+        Long firstId = posts.get(0).getId();
+
+        int updated = postRepository.backfillCommentCounts(firstId - 1, posts.get(3).getId());
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(postRepository.findCommentSummaries(posts.stream().map(Post::getId).toList()))
+                .extracting(PostCommentSummaryDTO::getPostId, PostCommentSummaryDTO::getCommentCount)
+                .containsExactlyInAnyOrder(
+                        tuple(posts.get(0).getId(), 2), tuple(posts.get(1).getId(), 1), tuple(posts.get(2).getId(), 1),
+                        tuple(posts.get(3).getId(), 0), tuple(posts.get(4).getId(), 0), tuple(posts.get(5).getId(), 0),
+                        tuple(posts.get(6).getId(), 0));
+        assertThat(postRepository.backfillCommentCounts(firstId - 1, posts.get(3).getId())).isZero();
+        assertThat(postRepository.findMaxId()).isEqualTo(newestId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.speakit.speakit.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사용자 세션 목록 만료: 로그인 후 교체만 반복한 세션도 목록의 최초 만료가 지난 뒤 revokeAllSessions로 폐기되는지 검증
+class InMemoryRefreshTokenStoreTest {
+
+    private static final String EMAIL = "user7@speakit.com";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-25T10:00:00Z"));
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(clock);
+
+
+    @Test
+    void revokeAllSessionsFindsSessionKeptAliveByRotationPastTheLoginTtl() {
+        store.save(new RefreshSession("session-1", "jti-1", 7L, EMAIL, "ROLE_USER"), TTL);
+
+        clock.advance(Duration.ofDays(5));
+        assertThat(store.rotate("session-1", EMAIL, "jti-1", "jti-2", TTL).getStatus())
+                .isEqualTo(RefreshTokenRotation.Status.ROTATED);
+
+        // 로그인 시 설정한 사용자 목록 만료(7일)는 지났지만, 교체로 연장된 세션(12일)은 아직 유효한 시점
+        clock.advance(Duration.ofDays(5));
+        store.revokeAllSessions(EMAIL);
+
+        assertThat(store.rotate("session-1", EMAIL, "jti-2", "jti-3", TTL).getStatus())
+                .isEqualTo(RefreshTokenRotation.Status.NOT_FOUND);
+    }
+
+
+    @Test
+    void reusedSessionIsRemovedFromTheUserSessions() {
+        store.save(new RefreshSession("session-1", "jti-1", 7L, EMAIL, "ROLE_USER"), TTL);
+        store.save(new RefreshSession("session-2", "jti-1", 7L, EMAIL, "ROLE_USER"), TTL);
+        store.rotate("session-1", EMAIL, "jti-1", "jti-2", TTL);
+
+        assertThat(store.rotate("session-1", EMAIL, "jti-1", "jti-3", TTL).getStatus())
+                .isEqualTo(RefreshTokenRotation.Status.REUSED);
+
+        store.revokeAllSessions(EMAIL);
+        assertThat(store.rotate("session-2", EMAIL, "jti-1", "jti-2", TTL).getStatus())
+                .isEqualTo(RefreshTokenRotation.Status.NOT_FOUND);
+    }
+
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.speakit.speakit.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JWT 검증: 같은 토큰은 캐시된 클레임으로 응답하고, 만료/서명 불일치/만료 시각이 없는 토큰은 예외 없이 거절하는지 검증
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "speakit-test-secret-key-which-is-long-enough-for-hs512-signing";
+    private static final String OTHER_SECRET = "another-secret-key-which-is-also-long-enough-for-hs512-signing";
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(SECRET, Duration.ofHours(1), Duration.ofDays(7), 100);
+
+
+    @Test
+    void returnsCachedClaimsForTheSameToken() {
+        String token = jwtTokenProvider.generateAccessToken("user7@speakit.com", 7L, "ROLE_USER");
+
+        JwtClaims first = jwtTokenProvider.resolveClaims(token).orElseThrow();
+        JwtClaims second = jwtTokenProvider.resolveClaims(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getUsername()).isEqualTo("user7@speakit.com");
+        assertThat(first.getUserId()).isEqualTo(7L);
+        assertThat(first.getRole()).isEqualTo("ROLE_USER");
+    }
+
+
+    @Test
+    void rejectsTokenOnceItExpiresEvenAfterBeingCached() throws InterruptedException {
+        // exp는 초 단위로 잘리므로 발급 직후에도 최소 1초는 유효
+        JwtTokenProvider shortLived = new JwtTokenProvider(SECRET, Duration.ofSeconds(2), Duration.ofDays(7), 100);
+        String token = shortLived.generateAccessToken("user7@speakit.com", 7L, "ROLE_USER");
+        assertThat(shortLived.resolveClaims(token)).isPresent();
+
+        Thread.sleep(2100);
+
+        assertThat(shortLived.resolveClaims(token)).isEmpty();
+    }
+
+
+    @Test
+    void rejectsTokenWithInvalidSignature() {
+        String forged = Jwts.builder()
+                .setSubject("user7@speakit.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(OTHER_SECRET.getBytes()))
+                .compact();
+
+        assertThat(jwtTokenProvider.resolveClaims(forged)).isEmpty();
+        assertThat(jwtTokenProvider.validateToken(forged)).isFalse();
+    }
+
+
+    @Test
+    void rejectsTokenWithoutExpiration() {
+        String noExpiry = Jwts.builder()
+                .setSubject("user7@speakit.com")
+                .setIssuedAt(new Date())
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        assertThat(jwtTokenProvider.resolveClaims(noExpiry)).isEmpty();
+        assertThat(jwtTokenProvider.validateToken(noExpiry)).isFalse();
+    }
+}
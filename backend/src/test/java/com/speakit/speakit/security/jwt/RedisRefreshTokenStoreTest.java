@@ -0,0 +1,42 @@
+package com.speakit.speakit.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// Redis 교체 스크립트: 세션 해시와 함께 사용자 셋 키를 넘겨, 교체 시 셋 만료를 연장하고 재사용/미발견 시 셋에서 제거하는지 검증
+class RedisRefreshTokenStoreTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisRefreshTokenStore store = new RedisRefreshTokenStore(redisTemplate);
+
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void rotatePassesTheUserSetKeyToTheScript() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("ROTATED", "7", "user7@speakit.com", "ROLE_USER"));
+
+        RefreshTokenRotation rotation = store.rotate("session-1", "user7@speakit.com", "jti-1", "jti-2",
+                Duration.ofDays(7));
+
+        assertThat(rotation.getStatus()).isEqualTo(RefreshTokenRotation.Status.ROTATED);
+        assertThat(rotation.getSession().getUserId()).isEqualTo(7L);
+        verify(redisTemplate).execute(argThat((RedisScript script) -> {
+                    String lua = script.getScriptAsString();
+                    return lua.contains("redis.call('SADD', KEYS[2], ARGV[4])")
+                            && lua.contains("redis.call('PEXPIRE', KEYS[2], ARGV[3])")
+                            && lua.contains("redis.call('SREM', KEYS[2], ARGV[4])");
+                }),
+                eq(List.of("refresh:session:session-1", "refresh:user:user7@speakit.com")),
+                eq("jti-1"), eq("jti-2"), eq(String.valueOf(Duration.ofDays(7).toMillis())), eq("session-1"));
+    }
+}
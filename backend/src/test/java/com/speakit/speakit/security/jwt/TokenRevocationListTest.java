@@ -0,0 +1,47 @@
+package com.speakit.speakit.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 폐기 목록: 초 단위 iat를 초 단위로 자른 기준 시각과 비교하여, 폐기 이전 초에 발급된 토큰만 거절하는지 검증
+class TokenRevocationListTest {
+
+    private static final String EMAIL = "user7@speakit.com";
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(true, Duration.ofHours(1));
+
+
+    @Test
+    void revokesTokensIssuedBeforeTheCutoffSecondOnly() {
+        // 폐기 시점이 초 경계를 넘지 않은 경우의 기준 초
+        Instant now;
+        do {
+            now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            revocationList.revokeAllForUser(EMAIL);
+        } while (!now.equals(Instant.now().truncatedTo(ChronoUnit.SECONDS)));
+
+        assertThat(revocationList.isRevoked(claims(now.minusSeconds(1)))).isTrue();
+        // 폐기 직후 같은 초에 다시 로그인하여 발급된 토큰 (iat는 초 단위로 잘림)
+        assertThat(revocationList.isRevoked(claims(now))).isFalse();
+        assertThat(revocationList.isRevoked(claims(now.plusSeconds(1)))).isFalse();
+    }
+
+
+    @Test
+    void revokesSingleTokenById() {
+        revocationList.revokeToken("jti-1");
+
+        assertThat(revocationList.isRevoked(JwtClaims.builder().username(EMAIL).tokenId("jti-1").build())).isTrue();
+        assertThat(revocationList.isRevoked(JwtClaims.builder().username(EMAIL).tokenId("jti-2").build())).isFalse();
+    }
+
+
+    private static JwtClaims claims(Instant issuedAt) {
+        return JwtClaims.builder().username(EMAIL).tokenId("jti-" + issuedAt).issuedAt(issuedAt).build();
+    }
+}
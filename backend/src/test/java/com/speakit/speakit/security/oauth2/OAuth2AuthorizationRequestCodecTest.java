@@ -0,0 +1,92 @@
+package com.speakit.speakit.security.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 서명된 인가 요청 쿠키의 복원, 위조/만료 거부, 크기 제한을 검증
+class OAuth2AuthorizationRequestCodecTest {
+
+    private static final String SECRET = "speakit-test-secret-key-which-is-long-enough-for-hs512-signing";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OAuth2AuthorizationRequestCodec codec = codecAt(NOW, true, 3072);
+
+    @Test
+    void roundTripsAuthorizationRequest() {
+        OAuth2AuthorizationRequest original = authorizationRequest();
+
+        OAuth2AuthorizationRequest decoded = codec.decode(codec.encode(original));
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getAuthorizationUri()).isEqualTo(original.getAuthorizationUri());
+        assertThat(decoded.getClientId()).isEqualTo(original.getClientId());
+        assertThat(decoded.getRedirectUri()).isEqualTo(original.getRedirectUri());
+        assertThat(decoded.getScopes()).isEqualTo(original.getScopes());
+        assertThat(decoded.getState()).isEqualTo(original.getState());
+        assertThat(decoded.getAdditionalParameters()).isEqualTo(original.getAdditionalParameters());
+        assertThat(decoded.getAttributes()).isEqualTo(original.getAttributes());
+        assertThat(decoded.getAuthorizationRequestUri()).isEqualTo(original.getAuthorizationRequestUri());
+    }
+
+    @Test
+    void rejectsTamperedAndForeignSignatures() {
+        String encoded = codec.encode(authorizationRequest());
+        String tampered = encoded.charAt(0) + "A" + encoded.substring(2);
+        OAuth2AuthorizationRequestCodec otherKey = new OAuth2AuthorizationRequestCodec(objectMapper,
+                SECRET + "-other", true, 3072, Duration.ofMinutes(3), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(codec.decode(tampered)).isNull();
+        assertThat(otherKey.decode(encoded)).isNull();
+        assertThat(codec.decode("not-a-cookie")).isNull();
+    }
+
+    @Test
+    void rejectsExpiredRequest() {
+        String encoded = codec.encode(authorizationRequest());
+
+        assertThat(codecAt(NOW.plusSeconds(179), true, 3072).decode(encoded)).isNotNull();
+        assertThat(codecAt(NOW.plusSeconds(181), true, 3072).decode(encoded)).isNull();
+    }
+
+    @Test
+    void isSmallerThanJavaSerializationAndEnforcesBudget() {
+        OAuth2AuthorizationRequest request = authorizationRequest();
+        String legacy = Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(request));
+
+        assertThat(codec.encode(request).length()).isLessThan(legacy.length() / 2);
+        assertThatThrownBy(() -> codecAt(NOW, true, 64).encode(request))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+
+    private OAuth2AuthorizationRequestCodec codecAt(Instant now, boolean compress, int maxBytes) {
+        return new OAuth2AuthorizationRequestCodec(objectMapper, SECRET, compress, maxBytes,
+                Duration.ofMinutes(3), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("123456789012-abcdefghijklmnopqrstuvwxyz123456.apps.googleusercontent.com")
+                .redirectUri("http://localhost:8080/login/oauth2/callback/google")
+                .scopes(Set.of("openid", "email", "profile"))
+                .state("Jx1uMaGz0vTOd3cMfOdSPyWJ6k2tb7bV9T8XfYpVJ2s=")
+                .additionalParameters(Map.of("nonce", "Ur1mzTwpmY8aZ4nHhK5x2VjHqXNyP4dCq0sE7bWgL3k"))
+                .attributes(Map.of("registration_id", "google", "nonce", "q2n8gOw5v0tP9Ykc3B4lZ7mRj1xHs6AeF"))
+                .build();
+    }
+}
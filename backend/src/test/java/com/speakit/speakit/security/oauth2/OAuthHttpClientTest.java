@@ -0,0 +1,96 @@
+package com.speakit.speakit.security.oauth2;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 스텁 HTTP 서버를 공급자 엔드포인트로 사용하여 OAuthHttpClient의 재시도와 메트릭 동작을 검증
+class OAuthHttpClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private SimpleMeterRegistry meterRegistry;
+    private OAuthHttpClient client;
+
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicInteger userInfoCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+
+        // 토큰 엔드포인트: 항상 503
+        server.createContext("/token", exchange -> {
+            tokenCalls.incrementAndGet();
+            respond(exchange, 503, "{\"error\":\"unavailable\"}");
+        });
+
+        // 사용자 정보 엔드포인트: 첫 호출만 503, 이후 정상 응답
+        server.createContext("/userinfo", exchange -> {
+            if (userInfoCalls.incrementAndGet() == 1) {
+                respond(exchange, 503, "{\"error\":\"unavailable\"}");
+            } else {
+                respond(exchange, 200, "{\"sub\":\"42\",\"email\":\"user@speakit.com\"}");
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new OAuthHttpClient(meterRegistry, 4, Duration.ofSeconds(1), Duration.ofSeconds(1), 3, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void userInfoIsRetriedAfterServerError() {
+        JsonNode userInfo = client.retrieveUserInfo("google", baseUrl + "/userinfo", "access-token");
+
+        assertThat(userInfo.path("email").asText()).isEqualTo("user@speakit.com");
+        assertThat(userInfoCalls).hasValue(2);
+        assertThat(meterRegistry.get("oauth.client.requests")
+                .tags("provider", "google", "operation", "userinfo", "outcome", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("oauth.client.requests")
+                .tags("provider", "google", "operation", "userinfo", "outcome", "503")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenExchangeIsNotRetriedAfterServerError() {
+        assertThatThrownBy(() -> client.exchangeCodeForAccessToken("naver", baseUrl + "/token",
+                "client-id", "client-secret", "http://localhost/callback", "code"))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        // 인가 코드는 일회용이므로 응답을 받은 뒤에는 재시도하지 않음
+        assertThat(tokenCalls).hasValue(1);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.speakit.speakit.security.oauth2.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 공급자별 사용자 정보 응답 형식에서 공통 프로필이 추출되는지, 레지스트리가 등록 ID로 공급자를 찾는지 검증
+class SocialProviderRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SocialProviderRegistry registry = new SocialProviderRegistry(List.of(
+            new GoogleSocialProvider(null, "id", "secret", "uri"),
+            new NaverSocialProvider(null, "id", "secret", "uri"),
+            new KakaoSocialProvider(null, "id", "secret", "uri")));
+
+    @Test
+    void extractsGoogleProfile() throws Exception {
+        SocialUserProfile profile = extract("GOOGLE",
+                "{\"sub\":\"g-1\",\"email\":\"g@speakit.com\",\"name\":\"Google User\"}");
+
+        assertThat(profile.getProviderId()).isEqualTo("g-1");
+        assertThat(profile.getEmail()).isEqualTo("g@speakit.com");
+        assertThat(profile.getName()).isEqualTo("Google User");
+    }
+
+    @Test
+    void extractsNestedNaverProfile() throws Exception {
+        SocialUserProfile profile = extract("naver",
+                "{\"resultcode\":\"00\",\"response\":{\"id\":\"n-1\",\"email\":\"n@speakit.com\",\"name\":\"Naver User\"}}");
+
+        assertThat(profile.getProviderId()).isEqualTo("n-1");
+        assertThat(profile.getEmail()).isEqualTo("n@speakit.com");
+        assertThat(profile.getName()).isEqualTo("Naver User");
+    }
+
+    @Test
+    void extractsKakaoProfileWithNumericIdAndNicknameFallback() throws Exception {
+        SocialUserProfile profile = extract("kakao",
+                "{\"id\":12345,\"kakao_account\":{\"email\":\"k@speakit.com\"},\"properties\":{\"nickname\":\"Kakao User\"}}");
+
+        assertThat(profile.getProviderId()).isEqualTo("12345");
+        assertThat(profile.getEmail()).isEqualTo("k@speakit.com");
+        assertThat(profile.getName()).isEqualTo("Kakao User");
+
+        SocialUserProfile withoutNickname = extract("kakao",
+                "{\"id\":12345,\"kakao_account\":{\"email\":\"k@speakit.com\"}}");
+        assertThat(withoutNickname.getName()).isEqualTo("unknown");
+    }
+
+    @Test
+    void rejectsMissingEmailAndUnknownProvider() {
+        assertThatThrownBy(() -> extract("kakao", "{\"id\":12345,\"kakao_account\":{}}"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("이메일");
+        assertThatThrownBy(() -> registry.get("github"))
+                .hasMessage("지원되지 않는 소셜 로그인입니다.");
+    }
+
+
+    private SocialUserProfile extract(String registrationId, String json) throws Exception {
+        JsonNode userInfo = objectMapper.readTree(json);
+        return registry.get(registrationId).extractProfile(userInfo);
+    }
+}
@@ -0,0 +1,137 @@
+package com.speakit.speakit.security.password;
+
+import com.speakit.speakit.dto.error.ErrorResponse;
+import com.speakit.speakit.exception.GlobalExceptionHandler;
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+// 비밀번호 해시 스레드 풀: 실행 중인 작업과 대기열이 모두 차면 즉시 503으로 거절하고,
+// 제한 시간을 넘긴 요청은 실행 중이든 대기 중이든 차지하던 자리를 반환하는지 검증
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        encoder.close();
+    }
+
+
+    @Test
+    void rejectsWithServiceUnavailableWhenThePoolAndTheQueueAreFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(true), 1, 1, Duration.ofSeconds(5), meterRegistry);
+        Future<Boolean> running = callers.submit(() -> encoder.matches("password", "hash"));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Boolean> queued = callers.submit(() -> encoder.matches("password", "hash"));
+        awaitQueueSize(1);
+
+        ServiceOverloadedException rejected = catchThrowableOfType(ServiceOverloadedException.class,
+                () -> encoder.matches("password", "hash"));
+
+        assertThat(rejected).isNotNull();
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+        ResponseEntity<ErrorResponse> response = handle(rejected);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().getStatus()).isEqualTo(503);
+
+        // 이미 받아들인 요청은 거절과 관계없이 끝까지 처리
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+
+    @Test
+    void timedOutRunningCallReleasesItsThread() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(true), 1, 1, Duration.ofMillis(200), meterRegistry);
+
+        ServiceOverloadedException timedOut = catchThrowableOfType(ServiceOverloadedException.class,
+                () -> encoder.matches("password", "hash"));
+
+        // 실행 중이던 해시 연산은 인터럽트되어 스레드를 반환하므로 다음 요청은 제한 시간 안에 처리됨
+        assertThat(timedOut).isNotNull();
+        assertThat(started.getCount()).isZero();
+        assertThat(encoder.encode("password")).isEqualTo("encoded");
+    }
+
+
+    @Test
+    void timedOutQueuedCallReleasesItsQueueSlot() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(false), 1, 1, Duration.ofMillis(200), meterRegistry);
+        callers.submit(() -> encoder.matches("password", "hash"));
+        started.await(5, TimeUnit.SECONDS);
+
+        ServiceOverloadedException timedOut = catchThrowableOfType(ServiceOverloadedException.class,
+                () -> encoder.matches("password", "hash"));
+
+        // 인터럽트를 무시하는 연산이 스레드를 계속 쓰더라도, 대기열에서 기다리던 요청은 바로 자리를 비움
+        assertThat(timedOut).isNotNull();
+        assertThat(meterRegistry.get("password.hashing.queue.size").gauge().value()).isZero();
+        Future<String> next = callers.submit(() -> encoder.encode("password"));
+        awaitQueueSize(1);
+        release.countDown();
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+    }
+
+
+    // matches는 release 전까지 멈추고(interruptible이면 인터럽트 시 중단), encode는 바로 반환하는 인코더
+    private PasswordEncoder blockingEncoder(boolean interruptible) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                while (true) {
+                    try {
+                        release.await();
+                        return true;
+                    } catch (InterruptedException e) {
+                        if (interruptible) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("interrupted", e);
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    private void awaitQueueSize(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    // 전역 예외 처리기에서 Spring MVC가 고르는 것과 같은 방식으로 처리 메서드를 찾아 호출
+    @SuppressWarnings("unchecked")
+    private static ResponseEntity<ErrorResponse> handle(Exception exception) throws Exception {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        Method method = new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class).resolveMethod(exception);
+        return (ResponseEntity<ErrorResponse>) method.invoke(handler, exception);
+    }
+}
@@ -0,0 +1,61 @@
+package com.speakit.speakit.security.password;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 비밀번호 인코더: 저장된 비용 파라미터가 현재 설정과 다를 때만(높아지거나 낮아진 경우 모두) 재해시 대상으로 판단하고,
+// PBKDF2는 반복 횟수를 바꾼 뒤에도 기존 해시를 검증할 수 있는지 검증
+class PasswordEncoderFactoryTest {
+
+    private static final String PASSWORD = "password123!";
+
+
+    @Test
+    void upgradesArgon2HashWhenAnyParameterDiffers() {
+        String stored = encoder(PasswordEncoderFactory.ARGON2, 2048, 2, 1000).encode(PASSWORD);
+
+        assertThat(encoder(PasswordEncoderFactory.ARGON2, 2048, 2, 1000).upgradeEncoding(stored)).isFalse();
+        assertThat(encoder(PasswordEncoderFactory.ARGON2, 1024, 2, 1000).upgradeEncoding(stored)).isTrue();
+        assertThat(encoder(PasswordEncoderFactory.ARGON2, 2048, 1, 1000).upgradeEncoding(stored)).isTrue();
+        assertThat(encoder(PasswordEncoderFactory.ARGON2, 1024, 1, 1000).matches(PASSWORD, stored)).isTrue();
+    }
+
+
+    @Test
+    void verifiesAndUpgradesPbkdf2HashAfterTheIterationsChange() {
+        String stored = encoder(PasswordEncoderFactory.PBKDF2, 1024, 1, 2000).encode(PASSWORD);
+        PasswordEncoder lowered = encoder(PasswordEncoderFactory.PBKDF2, 1024, 1, 1000);
+
+        assertThat(stored).startsWith("{pbkdf2}2000$");
+        assertThat(encoder(PasswordEncoderFactory.PBKDF2, 1024, 1, 2000).upgradeEncoding(stored)).isFalse();
+        assertThat(lowered.matches(PASSWORD, stored)).isTrue();
+        assertThat(lowered.matches("wrong", stored)).isFalse();
+        assertThat(lowered.upgradeEncoding(stored)).isTrue();
+    }
+
+
+    @Test
+    void upgradesLegacyHashWithoutIterationsOrPrefix() {
+        PasswordEncoder pbkdf2 = new Pbkdf2IterationsPasswordEncoder(16, 1000);
+        String legacyPbkdf2 = new Pbkdf2PasswordEncoder("", 16, 1000,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256)
+                .encode(PASSWORD);
+
+        assertThat(pbkdf2.matches(PASSWORD, legacyPbkdf2)).isTrue();
+        assertThat(pbkdf2.upgradeEncoding(legacyPbkdf2)).isTrue();
+        // 접두사 없이 저장된 BCrypt 해시는 비용이 같아도 "{bcrypt}" 형식으로 재해시
+        String legacyBcrypt = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        PasswordEncoder bcrypt = encoder(PasswordEncoderFactory.BCRYPT, 1024, 1, 1000);
+        assertThat(bcrypt.matches(PASSWORD, legacyBcrypt)).isTrue();
+        assertThat(bcrypt.upgradeEncoding(legacyBcrypt)).isTrue();
+    }
+
+
+    private static PasswordEncoder encoder(String encodingId, int argon2MemoryKiB, int argon2Iterations, int pbkdf2Iterations) {
+        return PasswordEncoderFactory.create(encodingId, 4, argon2MemoryKiB, argon2Iterations, pbkdf2Iterations);
+    }
+}
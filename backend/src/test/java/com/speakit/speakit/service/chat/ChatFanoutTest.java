@@ -0,0 +1,158 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 채팅방 구독자 팬아웃: 구독자별 전달, 세션별 순서 유지, 느린 클라이언트 연결 종료를 검증
+class ChatFanoutTest {
+
+    private static final int MAX_PENDING = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final CountDownLatch slowClientBlocked = new CountDownLatch(1);
+    private final List<Message<?>> written = new CopyOnWriteArrayList<>();
+
+    private ChatSessionRegistry registry;
+    private ChatFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        registry = new ChatSessionRegistry(meterRegistry);
+
+        // clientOutboundChannel 대역: "slow" 세션에 대한 소켓 쓰기는 끝나지 않음
+        ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel(executor);
+        outbound.addInterceptor(new ChatOutboundInterceptor(registry));
+        outbound.subscribe(message -> {
+            if ("slow".equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+                awaitQuietly(slowClientBlocked);
+                return;
+            }
+            written.add(message);
+        });
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        fanout = new ChatFanout(registry, outbound, objectMapper, meterRegistry, MAX_PENDING);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowClientBlocked.countDown();
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    void deliversToEverySubscriberOfTheRoomInOrder() throws Exception {
+        open("a", 1L, 10L);
+        open("b", 2L, 10L);
+        open("c", 3L, 20L);
+
+        for (long id = 1; id <= 20; id++) {
+            assertThat(fanout.deliver(message(id, 10L))).isEqualTo(2);
+            awaitWritten((int) id * 2);
+        }
+
+        assertThat(messageIds("a")).containsExactlyElementsOf(range(1, 20));
+        assertThat(messageIds("b")).containsExactlyElementsOf(range(1, 20));
+        assertThat(messageIds("c")).isEmpty();
+    }
+
+
+    @Test
+    void closesSlowConsumerWithoutAffectingOthers() throws Exception {
+        WebSocketSession slow = open("slow", 1L, 10L);
+        WebSocketSession fast = open("fast", 2L, 10L);
+
+        // 빠른 클라이언트는 매 메시지를 바로 처리, 느린 클라이언트는 첫 메시지에서 막힘
+        for (long id = 1; id <= 20; id++) {
+            fanout.deliver(message(id, 10L));
+            awaitWritten((int) id);
+        }
+
+        verify(slow, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(fast, never()).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(messageIds("fast")).containsExactlyElementsOf(range(1, 20));
+    }
+
+
+    @Test
+    void removesSubscriptionsWhenSessionCloses() {
+        open("a", 1L, 10L);
+        registry.close("a");
+
+        assertThat(fanout.deliver(message(1L, 10L))).isZero();
+        assertThat(registry.activeRoomIds()).isEmpty();
+    }
+
+
+    private WebSocketSession open(String sessionId, Long userId, Long roomId) {
+        WebSocketSession webSocketSession = mock(WebSocketSession.class);
+        when(webSocketSession.getId()).thenReturn(sessionId);
+        registry.open(webSocketSession);
+        registry.authenticate(sessionId, userId, "user" + userId + "@speakit.com", "user" + userId);
+        registry.subscribe(sessionId, "sub-0", roomId);
+        return webSocketSession;
+    }
+
+    private static ChatMessageDTO message(Long id, Long roomId) {
+        return ChatMessageDTO.builder()
+                .id(id).roomId(roomId).senderId(1L).senderName("user1")
+                .message("hello " + id).timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private List<Long> messageIds(String sessionId) {
+        return written.stream()
+                .filter(m -> sessionId.equals(SimpMessageHeaderAccessor.getSessionId(m.getHeaders())))
+                .map(m -> StompHeaderAccessor.wrap(m).getMessageId())
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private void awaitWritten(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (written.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
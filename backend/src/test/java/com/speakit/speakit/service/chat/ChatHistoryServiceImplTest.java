@@ -0,0 +1,126 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatHistoryResponseDTO;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.repository.chat.ChatMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 채팅 기록 조회: 최근 페이지는 링에서 DB 없이, 링을 넘는 페이지는 DB에서 이어 읽고, 오래된 구간만 링에 채우는지 검증
+class ChatHistoryServiceImplTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final long USER_ID = 7L;
+
+    private final ChatMembershipService chatMembershipService = mock(ChatMembershipService.class);
+    private final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+    private final ChatRecentMessageCache cache =
+            new ChatRecentMessageCache(new SimpleMeterRegistry(), 10, 100, Duration.ofMinutes(1));
+    private final ChatHistoryServiceImpl service = new ChatHistoryServiceImpl(
+            chatMembershipService, chatMessageRepository, cache, new SimpleMeterRegistry(), 5, 20, Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() {
+        when(chatMembershipService.isMember(ROOM_ID, USER_ID)).thenReturn(true);
+    }
+
+
+    @Test
+    void servesRecentPageFromRingWithoutDatabase() {
+        long[] ids = ids(0, 8);
+        for (long id : ids) {
+            cache.append(message(id));
+        }
+
+        ChatHistoryResponseDTO page = service.getMessages(USER_ID, ROOM_ID, null, null);
+
+        assertThat(page.getMessages()).extracting(ChatMessageDTO::getId)
+                .containsExactly(ids[7], ids[6], ids[5], ids[4], ids[3]);
+        assertThat(page.getNextCursor()).isEqualTo(ids[3]);
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+
+    @Test
+    void continuesFromDatabaseAndBackfillsOnlyOldRingStart() {
+        long[] old = ids(60_000, 3);
+        long[] recent = ids(0, 3);
+        for (long id : recent) {
+            cache.append(message(id));
+        }
+        when(chatMessageRepository.findPageBefore(eq(ROOM_ID), eq(recent[0]), any(Limit.class)))
+                .thenReturn(List.of(message(old[2]), message(old[1])));
+
+        // 링 시작 메시지가 방금 전송된 것이면 그 직전 메시지가 아직 저장 중일 수 있으므로 링에 채우지 않음
+        ChatHistoryResponseDTO page = service.getMessages(USER_ID, ROOM_ID, null, 5);
+        assertThat(page.getMessages()).extracting(ChatMessageDTO::getId)
+                .containsExactly(recent[2], recent[1], recent[0], old[2], old[1]);
+        service.getMessages(USER_ID, ROOM_ID, null, 5);
+        verify(chatMessageRepository, times(2)).findPageBefore(eq(ROOM_ID), anyLong(), any(Limit.class));
+    }
+
+
+    @Test
+    void marksRingCompleteWhenDatabaseHasNoOlderMessages() {
+        long[] ids = ids(60_000, 4);
+        cache.append(message(ids[2]));
+        cache.append(message(ids[3]));
+        when(chatMessageRepository.findPageBefore(eq(ROOM_ID), eq(ids[2]), any(Limit.class)))
+                .thenReturn(List.of(message(ids[1]), message(ids[0])));
+
+        ChatHistoryResponseDTO first = service.getMessages(USER_ID, ROOM_ID, null, 5);
+        ChatHistoryResponseDTO second = service.getMessages(USER_ID, ROOM_ID, null, 5);
+
+        assertThat(first.getMessages()).extracting(ChatMessageDTO::getId).containsExactly(ids[3], ids[2], ids[1], ids[0]);
+        assertThat(second.getMessages()).extracting(ChatMessageDTO::getId).containsExactly(ids[3], ids[2], ids[1], ids[0]);
+        assertThat(second.getNextCursor()).isNull();
+        verify(chatMessageRepository, times(1)).findPageBefore(eq(ROOM_ID), anyLong(), any(Limit.class));
+    }
+
+
+    @Test
+    void readsDatabaseForRoomsWithoutRingAndCapsPageSize() {
+        when(chatMessageRepository.findPageBefore(eq(ROOM_ID), eq(100L), any(Limit.class))).thenReturn(List.of());
+
+        ChatHistoryResponseDTO page = service.getMessages(USER_ID, ROOM_ID, 100L, 1000);
+
+        assertThat(page.getMessages()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verify(chatMessageRepository).findPageBefore(ROOM_ID, 100L, Limit.of(20));
+    }
+
+
+    @Test
+    void rejectsRoomsTheUserCannotAccess() {
+        assertThatThrownBy(() -> service.getMessages(USER_ID, 2L, null, null))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("참여하지 않은 채팅방입니다.");
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+
+    // millisAgo 전에 발급된 것과 같은 시간순 메시지 ID count개
+    private static long[] ids(long millisAgo, int count) {
+        long epoch = ChatMessageIdGenerator.epochMillisOf(0);
+        long base = (System.currentTimeMillis() - millisAgo - epoch) << 22;
+        return LongStream.range(0, count).map(seq -> base | seq).toArray();
+    }
+
+    private static ChatMessageDTO message(long id) {
+        return new ChatMessageDTO(id, ROOM_ID, USER_ID, "user7", "hello " + id, LocalDateTime.now());
+    }
+}
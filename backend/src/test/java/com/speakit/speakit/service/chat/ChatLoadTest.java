@@ -0,0 +1,307 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.config.WebSocketConfig;
+import com.speakit.speakit.controller.chat.ChatController;
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.repository.chat.ChatMessageBatchRepository;
+import com.speakit.speakit.repository.chat.ChatRoomRepository;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.user.UserCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 한 JVM에서 다수의 STOMP 클라이언트를 채팅방에 나눠 연결하고, 방마다 한 명이 일정 간격으로 메시지를 보내
+// 서버 전달 처리량(deliveries/s)과 전송→수신 지연(p50/p99)을 측정하는 부하 테스트 하네스
+// DB와 사용자 캐시는 스텁으로 대체하며, 규모는 -Dload.chat.clients=5000 -Dload.chat.rooms=50 등으로 조정
+@Tag("load")
+@SpringBootTest(classes = ChatLoadTest.ChatLoadTestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"chat.broadcast=local", "chat.presence.sync=local",
+                "chat.persistence.log.dir=build/chat-load-test-log"})
+class ChatLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.chat.clients", 1000);
+    private static final int ROOMS = Integer.getInteger("load.chat.rooms", 10);
+    private static final int MESSAGES_PER_ROOM = Integer.getInteger("load.chat.messagesPerRoom", 50);
+    private static final long SEND_INTERVAL_MS = Long.getLong("load.chat.sendIntervalMs", 100);
+
+    private static final String LATENCY_MARKER = "\"message\":\"t=";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChatSessionRegistry chatSessionRegistry;
+
+    private WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+
+
+    @AfterEach
+    void tearDown() {
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+
+    @Test
+    void fansOutRoomMessagesToThousandsOfSubscribers() throws Exception {
+        int expectedDeliveries = 0;
+        for (int room = 0; room < ROOMS; room++) {
+            expectedDeliveries += subscribersOf(room) * MESSAGES_PER_ROOM;
+        }
+        AtomicLongArray latencies = new AtomicLongArray(expectedDeliveries);
+        AtomicInteger received = new AtomicInteger();
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        connectAll(latencies, received);
+        awaitSubscribed();
+        System.out.printf("connected %d clients in %d rooms%n", chatSessionRegistry.sessionCount(), ROOMS);
+
+        // 방마다 첫 번째 클라이언트가 보낸 시각(nanoTime)을 메시지 본문에 담아 전송
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(1);
+        AtomicInteger sent = new AtomicInteger();
+        long started = System.nanoTime();
+        senders.scheduleAtFixedRate(() -> {
+            if (sent.get() >= ROOMS * MESSAGES_PER_ROOM) {
+                return;
+            }
+            for (int room = 0; room < ROOMS; room++) {
+                StompHeaders headers = new StompHeaders();
+                headers.setDestination("/app/chat/rooms/" + roomId(room));
+                headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                String body = "{\"message\":\"t=" + System.nanoTime() + "\"}";
+                sessions.get(room).send(headers, body.getBytes(StandardCharsets.UTF_8));
+                sent.incrementAndGet();
+            }
+        }, 0, SEND_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(
+                60 + MESSAGES_PER_ROOM * SEND_INTERVAL_MS / 1000);
+        while (received.get() < expectedDeliveries && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        long elapsed = System.nanoTime() - started;
+        senders.shutdownNow();
+
+        long[] sorted = new long[Math.min(received.get(), expectedDeliveries)];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        System.out.printf("sent=%d delivered=%d/%d in %.1fs (%.0f deliveries/s), latency p50=%.1fms p99=%.1fms max=%.1fms%n",
+                sent.get(), received.get(), expectedDeliveries, elapsed / 1e9, received.get() / (elapsed / 1e9),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+
+        assertThat(received.get()).isEqualTo(expectedDeliveries);
+        assertThat(chatSessionRegistry.sessionCount()).isEqualTo(CLIENTS);
+    }
+
+
+    // 연결 수립은 동시에 최대 64개씩 진행
+    private void connectAll(AtomicLongArray latencies, AtomicInteger received) throws Exception {
+        Semaphore inFlight = new Semaphore(64);
+        List<CompletableFuture<StompSession>> futures = new ArrayList<>();
+        for (int client = 0; client < CLIENTS; client++) {
+            long roomId = roomId(client % ROOMS);
+            inFlight.acquire();
+            CompletableFuture<StompSession> future = stompClient.connectAsync(
+                    "ws://localhost:" + port + "/ws/chat?uid=" + (client + 1),
+                    new WebSocketHttpHeaders(),
+                    new StompSessionHandlerAdapter() {
+                        @Override
+                        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+                            session.subscribe(ChatFanout.ROOM_DESTINATION_PREFIX + roomId,
+                                    new LatencyRecorder(latencies, received));
+                        }
+                    });
+            future.whenComplete((session, ex) -> inFlight.release());
+            futures.add(future);
+        }
+        for (CompletableFuture<StompSession> future : futures) {
+            sessions.add(future.get(30, TimeUnit.SECONDS));
+        }
+    }
+
+    private void awaitSubscribed() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            int subscribed = 0;
+            for (int room = 0; room < ROOMS; room++) {
+                subscribed += chatSessionRegistry.subscribers(roomId(room)).size();
+            }
+            if (subscribed == CLIENTS) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("구독이 완료되지 않았습니다.");
+    }
+
+    private static int subscribersOf(int room) {
+        return CLIENTS / ROOMS + (room < CLIENTS % ROOMS ? 1 : 0);
+    }
+
+    private static long roomId(int room) {
+        return room + 1L;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+
+    // 수신한 메시지 본문의 전송 시각으로 지연 기록 (JSON 전체를 파싱하지 않아 클라이언트 측 비용 최소화)
+    private record LatencyRecorder(AtomicLongArray latencies, AtomicInteger received) implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            String json = new String((byte[]) payload, StandardCharsets.UTF_8);
+            int start = json.indexOf(LATENCY_MARKER) + LATENCY_MARKER.length();
+            long sentAt = Long.parseLong(json, start, json.indexOf('"', start), 10);
+            int index = received.getAndIncrement();
+            if (index < latencies.length()) {
+                latencies.set(index, now - sentAt);
+            }
+        }
+    }
+
+
+    // 채팅 STOMP 구성요소만 올린 최소 서블릿 애플리케이션 (DB, Redis, 보안 필터 체인 없음)
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            ValidationAutoConfiguration.class
+    })
+    @Import({WebSocketConfig.class, ChatController.class, ChatServiceImpl.class, ChatSessionRegistry.class,
+            ChatFanout.class, LocalChatMessageBroadcaster.class, ChatMessageWriteBehindBuffer.class, ChatMessageBatchWriter.class,
+            ChatMessageIdGenerator.class, ChatRecentMessageCache.class, ChatStompInterceptor.class, ChatOutboundInterceptor.class,
+            ChatPresenceRegistry.class, ChatPresenceServiceImpl.class, LocalChatPresenceSync.class, ChatMembershipService.class})
+    static class ChatLoadTestApplication {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ChatMessageBatchRepository chatMessageBatchRepository() {
+            ChatMessageBatchRepository repository = mock(ChatMessageBatchRepository.class);
+            when(repository.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+            return repository;
+        }
+
+        @Bean
+        ChatRoomRepository chatRoomRepository() {
+            ChatRoomRepository repository = mock(ChatRoomRepository.class);
+            // 모든 채팅방에 모든 클라이언트(uid 1..CLIENTS)가 참여
+            when(repository.findParticipantIds(anyLong())).thenReturn(LongStream.rangeClosed(1, CLIENTS).boxed().toList());
+            return repository;
+        }
+
+        @Bean
+        UserCacheService userCacheService() {
+            UserCacheService userCacheService = mock(UserCacheService.class);
+            when(userCacheService.getByEmail(anyString())).thenAnswer(invocation -> {
+                String email = invocation.getArgument(0);
+                Long id = Long.valueOf(email.substring(4, email.indexOf('@')));
+                return UserCacheDTO.builder().id(id).email(email).username("user" + id).role("ROLE_USER").build();
+            });
+            return userCacheService;
+        }
+
+        // JwtAuthenticationFilter 대역: ?uid=N 으로 핸드셰이크 사용자를 지정
+        @Bean
+        FilterRegistrationBean<Filter> handshakeUserFilter() {
+            Filter filter = (request, response, chain) -> {
+                HttpServletRequest httpRequest = (HttpServletRequest) request;
+                String uid = httpRequest.getParameter("uid");
+                if (uid == null) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                Long id = Long.valueOf(uid);
+                Principal user = new UsernamePasswordAuthenticationToken(
+                        new JwtUserPrincipal(id, "user" + id + "@speakit.com", "ROLE_USER"), null, List.of());
+                chain.doFilter(new HttpServletRequestWrapper(httpRequest) {
+                    @Override
+                    public Principal getUserPrincipal() {
+                        return user;
+                    }
+                }, response);
+            };
+            return new FilterRegistrationBean<>(filter);
+        }
+    }
+}
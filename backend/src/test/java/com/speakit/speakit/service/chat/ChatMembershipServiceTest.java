@@ -0,0 +1,62 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.repository.chat.ChatRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+// 채팅방 참여 여부: 단체/개인 채팅방 모두 한 번 읽은 참여자 ID 비트맵으로, 없는 채팅방은 캐시된 거절로 응답하는지 검증
+class ChatMembershipServiceTest {
+
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatMembershipService service =
+            new ChatMembershipService(chatRoomRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+
+    @Test
+    void groupRoomsAdmitOnlyRegisteredParticipants() {
+        when(chatRoomRepository.findParticipantIds(1L)).thenReturn(LongStream.rangeClosed(1, 1000).boxed().toList());
+
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertThat(service.isMember(1L, userId)).isTrue();
+        }
+        assertThat(service.isMember(1L, 1001L)).isFalse();
+        verify(chatRoomRepository, times(1)).findParticipantIds(1L);
+    }
+
+
+    @Test
+    void privateRoomsAnswerFromParticipantBitmapLoadedOnce() {
+        when(chatRoomRepository.findParticipantIds(2L)).thenReturn(List.of(10L, 20L, 3_000_000_000L));
+
+        assertThat(service.isMember(2L, 10L)).isTrue();
+        assertThat(service.isMember(2L, 3_000_000_000L)).isTrue();
+        assertThat(service.isMember(2L, 11L)).isFalse();
+        verify(chatRoomRepository, times(1)).findParticipantIds(2L);
+
+        // 참여자 변경 후 무효화하면 다시 읽음
+        when(chatRoomRepository.findParticipantIds(2L)).thenReturn(List.of(10L, 20L, 11L));
+        service.evict(2L);
+        assertThat(service.isMember(2L, 11L)).isTrue();
+    }
+
+
+    @Test
+    void unknownRoomsAreRejectedFromCache() {
+        when(chatRoomRepository.findParticipantIds(3L)).thenReturn(List.of());
+
+        assertThat(service.isMember(3L, 10L)).isFalse();
+        assertThat(service.isMember(3L, 10L)).isFalse();
+        verify(chatRoomRepository, times(1)).findParticipantIds(3L);
+        assertThatThrownBy(() -> service.getParticipants(10L, 3L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("참여하지 않은 채팅방입니다.");
+    }
+}
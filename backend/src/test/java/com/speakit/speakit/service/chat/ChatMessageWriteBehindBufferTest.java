@@ -0,0 +1,233 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.repository.chat.ChatMessageBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 지연 저장 버퍼: 크기/시간 기준 배치, 순서 유지, 실패 배치 재시도, 데이터 오류 행 dead-letter, 대기열 초과 시 거절, 종료 시 남은 메시지 저장,
+// 재시작 시 로컬 로그에 남은 메시지 재저장을 검증
+class ChatMessageWriteBehindBufferTest {
+
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+    private ChatMessageWriteBehindBuffer buffer;
+
+    @TempDir
+    Path logDir;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (buffer != null) {
+            buffer.destroy();
+        }
+    }
+
+
+    @Test
+    void writesFullBatchesInOrderAndFlushesRemainderAfterInterval() throws Exception {
+        buffer = newBuffer(recordingRepository(), 10, Duration.ofMillis(300), 100);
+
+        for (long id = 1; id <= 25; id++) {
+            buffer.enqueue(message(id));
+        }
+        awaitWritten(25);
+
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(0)).hasSize(10);
+        assertThat(batches.get(1)).hasSize(10);
+        assertThat(batches.stream().flatMap(List::stream).toList())
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 25).boxed().toList());
+    }
+
+
+    @Test
+    void retriesFailedBatchUntilItIsWritten() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        ChatMessageBatchRepository flakyRepository = new ChatMessageBatchRepository(null) {
+            @Override
+            public int insertAll(List<ChatMessageDTO> chatMessages) {
+                if (attempts.incrementAndGet() <= 2) {
+                    throw new IllegalStateException("DB unavailable");
+                }
+                batches.add(chatMessages.stream().map(ChatMessageDTO::getId).toList());
+                return chatMessages.size();
+            }
+        };
+        buffer = newBuffer(flakyRepository, 10, Duration.ofMillis(50), 100);
+
+        buffer.enqueue(message(1L));
+        buffer.enqueue(message(2L));
+        awaitWritten(2);
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(batches).containsExactly(List.of(1L, 2L));
+    }
+
+
+    @Test
+    void deadLettersRowsThatCannotBeWrittenWithoutBlockingTheBatch() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        ChatMessageBatchRepository strictRepository = new ChatMessageBatchRepository(null) {
+            @Override
+            public int insertAll(List<ChatMessageDTO> chatMessages) {
+                attempts.incrementAndGet();
+                if (chatMessages.stream().anyMatch(chatMessage -> chatMessage.getId() == 2L)) {
+                    throw new DataIntegrityViolationException("chat_room_id foreign key");
+                }
+                batches.add(chatMessages.stream().map(ChatMessageDTO::getId).toList());
+                return chatMessages.size();
+            }
+        };
+        buffer = newBuffer(strictRepository, 3, Duration.ofMillis(50), 100);
+
+        buffer.enqueue(message(1L));
+        buffer.enqueue(message(2L));
+        buffer.enqueue(message(3L));
+        awaitWritten(2);
+
+        // 배치 1회 + 한 행씩 3회, 실패한 행은 재시도하지 않음
+        assertThat(batches).containsExactly(List.of(1L), List.of(3L));
+        assertThat(attempts.get()).isEqualTo(4);
+    }
+
+
+    @Test
+    void rejectsMessagesWhenQueueIsFull() throws Exception {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChatMessageBatchRepository blockingRepository = new ChatMessageBatchRepository(null) {
+            @Override
+            public int insertAll(List<ChatMessageDTO> chatMessages) {
+                writerBlocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                batches.add(chatMessages.stream().map(ChatMessageDTO::getId).toList());
+                return chatMessages.size();
+            }
+        };
+        buffer = newBuffer(blockingRepository, 1, Duration.ofMillis(10), 2);
+
+        // 저장 중인 메시지도 저장 대기 메시지 수에 포함
+        buffer.enqueue(message(1L));
+        assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.enqueue(message(2L));
+
+        assertThatThrownBy(() -> buffer.enqueue(message(3L))).isInstanceOf(ServiceOverloadedException.class);
+        release.countDown();
+        awaitWritten(2);
+    }
+
+
+    @Test
+    void writesPendingMessagesOnShutdown() throws Exception {
+        buffer = newBuffer(recordingRepository(), 100, Duration.ofSeconds(30), 100);
+
+        for (long id = 1; id <= 5; id++) {
+            buffer.enqueue(message(id));
+        }
+        buffer.destroy();
+
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThatThrownBy(() -> buffer.enqueue(message(6L))).isInstanceOf(ServiceOverloadedException.class);
+    }
+
+
+    @Test
+    void replaysMessagesLeftInTheLogAfterRestart() throws Exception {
+        ChatMessageBatchRepository unavailableRepository = new ChatMessageBatchRepository(null) {
+            @Override
+            public int insertAll(List<ChatMessageDTO> chatMessages) {
+                throw new IllegalStateException("DB unavailable");
+            }
+        };
+        buffer = newBuffer(unavailableRepository, 10, Duration.ofMillis(10), 100);
+        for (long id = 1; id <= 3; id++) {
+            buffer.enqueue(message(id));
+        }
+        // DB가 복구되기 전에 종료 (전송은 이미 확인됨)
+        buffer.destroy();
+        assertThat(batches).isEmpty();
+
+        buffer = newBuffer(recordingRepository(), 10, Duration.ofMillis(10), 100);
+        awaitWritten(3);
+
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactly(1L, 2L, 3L);
+        awaitLogSegments(1);
+    }
+
+
+    private ChatMessageWriteBehindBuffer newBuffer(ChatMessageBatchRepository repository, int batchSize,
+                                                   Duration flushInterval, int queueCapacity) throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ChatMessageBatchWriter writer = new ChatMessageBatchWriter(repository, objectMapper, meterRegistry);
+        return new ChatMessageWriteBehindBuffer(writer, objectMapper, meterRegistry,
+                batchSize, flushInterval, queueCapacity, Duration.ofMillis(10),
+                logDir, DataSize.ofMegabytes(1), Duration.ofSeconds(2));
+    }
+
+    private ChatMessageBatchRepository recordingRepository() {
+        return new ChatMessageBatchRepository(null) {
+            @Override
+            public int insertAll(List<ChatMessageDTO> chatMessages) {
+                batches.add(chatMessages.stream().map(ChatMessageDTO::getId).toList());
+                return chatMessages.size();
+            }
+        };
+    }
+
+    private static ChatMessageDTO message(Long id) {
+        return ChatMessageDTO.builder()
+                .id(id).roomId(1L).senderId(1L).senderName("user1")
+                .message("hello " + id).timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    // 저장이 끝난 segment 파일이 삭제되고 새로 연 segment만 남을 때까지 대기
+    private void awaitLogSegments(int expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (logSegments() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(logSegments()).isEqualTo(expected);
+    }
+
+    private long logSegments() throws IOException {
+        try (Stream<Path> files = Files.list(logDir)) {
+            return files.count();
+        }
+    }
+
+    private void awaitWritten(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batches.stream().mapToInt(List::size).sum() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,182 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.chat.ChatPresenceDTO;
+import com.speakit.speakit.dto.chat.ChatPresenceEventDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 접속 상태: 두 서버를 JSON 이벤트로 연결하여 접속/종료/입력 중 전파, 같은 사용자의 다중 세션, 하트비트 복구, 만료를 검증
+class ChatPresenceServiceImplTest {
+
+    private static final long ROOM_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Node nodeA = new Node();
+    private final Node nodeB = new Node();
+
+    {
+        nodeA.peer = nodeB;
+        nodeB.peer = nodeA;
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.service.destroy();
+        nodeB.service.destroy();
+    }
+
+
+    @Test
+    void userStaysOnlineUntilLastLocalSessionLeaves() {
+        ChatSession tab1 = nodeA.connect("a1", 10L, "user10");
+        ChatSession tab2 = nodeA.connect("a2", 10L, "user10");
+        nodeA.subscribe(tab1, ROOM_ID);
+        nodeA.subscribe(tab2, ROOM_ID);
+        ChatSession other = nodeB.connect("b1", 20L, "user20");
+        nodeB.subscribe(other, ROOM_ID);
+
+        awaitUntil(() -> nodeB.online().contains(10L) && nodeA.online().contains(20L));
+        assertThat(nodeB.service.getPresence(20L, ROOM_ID))
+                .extracting(ChatPresenceDTO::getUsername).containsExactlyInAnyOrder("user10", "user20");
+
+        // 다른 탭이 남아 있으므로 OFFLINE을 알리지 않음
+        nodeA.close(tab1);
+        assertThat(nodeA.published).noneMatch(event -> event.getType().equals(ChatPresenceRegistry.OFFLINE));
+        assertThat(nodeB.online()).contains(10L);
+
+        nodeA.close(tab2);
+        awaitUntil(() -> !nodeB.online().contains(10L));
+        assertThat(nodeA.online()).containsExactly(20L);
+    }
+
+
+    @Test
+    void typingIsSharedAndRepeatedKeystrokesAreNotRebroadcast() {
+        ChatSession writer = nodeA.connect("a1", 10L, "user10");
+        nodeA.subscribe(writer, ROOM_ID);
+        awaitUntil(() -> nodeB.online().contains(10L));
+
+        for (int i = 0; i < 5; i++) {
+            nodeA.service.typing("a1", ROOM_ID, true);
+        }
+        awaitUntil(() -> nodeB.typing().contains(10L));
+        assertThat(nodeA.published).filteredOn(event -> event.getType().equals(ChatPresenceRegistry.TYPING)).hasSize(1);
+
+        nodeA.service.typing("a1", ROOM_ID, false);
+        awaitUntil(() -> nodeB.typing().isEmpty());
+    }
+
+
+    @Test
+    void heartbeatRestoresMissedEventsAndSilentNodesExpire() {
+        nodeA.connected = false;
+        ChatSession session = nodeA.connect("a1", 10L, "user10");
+        nodeA.subscribe(session, ROOM_ID);
+        awaitUntil(() -> nodeA.published.size() == 1);
+        nodeA.connected = true;
+        assertThat(nodeB.online()).isEmpty();
+
+        nodeA.service.heartbeat();
+        assertThat(nodeB.online()).containsExactly(10L);
+
+        // 노드 A가 하트비트 없이 사라지면 onlineTtl 이후 만료
+        long afterTtl = System.currentTimeMillis() + Duration.ofSeconds(31).toMillis();
+        assertThat(nodeB.presenceRegistry.snapshot(ROOM_ID, afterTtl)).isEmpty();
+        nodeB.presenceRegistry.purgeExpired(afterTtl);
+        assertThat(nodeB.online()).isEmpty();
+    }
+
+
+    @Test
+    void onlyUsersInTheRoomCanReadPresence() {
+        ChatSession session = nodeA.connect("a1", 10L, "user10");
+        nodeA.subscribe(session, ROOM_ID);
+
+        assertThatThrownBy(() -> nodeA.service.getPresence(99L, ROOM_ID))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("참여하지 않은 채팅방입니다.");
+        assertThatThrownBy(() -> nodeA.service.typing("a1", 2L, true))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("참여하지 않은 채팅방입니다.");
+    }
+
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met in time");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+
+    // 서버 하나 (상대 서버로 가는 이벤트는 Redis 대신 JSON으로 변환하여 직접 전달)
+    private final class Node implements ChatPresenceSync {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final ChatSessionRegistry sessionRegistry = new ChatSessionRegistry(meterRegistry);
+        private final ChatPresenceRegistry presenceRegistry = new ChatPresenceRegistry(meterRegistry, 4);
+        private final ChatPresenceServiceImpl service = new ChatPresenceServiceImpl(presenceRegistry, sessionRegistry, this,
+                meterRegistry, Duration.ofSeconds(30), Duration.ofSeconds(20), Duration.ofSeconds(5), 500, 1000);
+        private final List<ChatPresenceEventDTO> published = new CopyOnWriteArrayList<>();
+        private Node peer;
+        private volatile boolean connected = true;
+
+        @Override
+        public void publish(ChatPresenceEventDTO event) {
+            published.add(event);
+            if (!connected) {
+                return;
+            }
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(event);
+                peer.presenceRegistry.apply(objectMapper.readValue(json, ChatPresenceEventDTO.class), System.currentTimeMillis());
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        ChatSession connect(String sessionId, Long userId, String username) {
+            WebSocketSession webSocketSession = mock(WebSocketSession.class);
+            when(webSocketSession.getId()).thenReturn(sessionId);
+            ChatSession session = sessionRegistry.open(webSocketSession);
+            sessionRegistry.authenticate(sessionId, userId, username + "@speakit.com", username);
+            return session;
+        }
+
+        void subscribe(ChatSession session, Long roomId) {
+            sessionRegistry.subscribe(session.getSessionId(), "sub-" + roomId, roomId);
+            service.joined(session, roomId);
+        }
+
+        void close(ChatSession session) {
+            ChatSession closed = sessionRegistry.close(session.getSessionId());
+            service.left(closed, closed.getSubscriptions().values());
+        }
+
+        List<Long> online() {
+            return presenceRegistry.snapshot(ROOM_ID, System.currentTimeMillis()).stream()
+                    .map(ChatPresenceDTO::getUserId).toList();
+        }
+
+        List<Long> typing() {
+            return presenceRegistry.snapshot(ROOM_ID, System.currentTimeMillis()).stream()
+                    .filter(ChatPresenceDTO::isTyping).map(ChatPresenceDTO::getUserId).toList();
+        }
+    }
+}
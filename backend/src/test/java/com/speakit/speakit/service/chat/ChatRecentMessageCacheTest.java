@@ -0,0 +1,85 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 최근 메시지 링: ID 순서 유지, 용량 초과 시 오래된 메시지 제거, 중복/범위 밖 메시지 무시, 앞쪽 채우기 조건을 검증
+class ChatRecentMessageCacheTest {
+
+    private static final long ROOM_ID = 1L;
+
+    private final ChatRecentMessageCache cache =
+            new ChatRecentMessageCache(new SimpleMeterRegistry(), 5, 100, Duration.ofMinutes(1));
+
+
+    @Test
+    void keepsNewestMessagesInIdOrder() {
+        for (long id : new long[]{1, 2, 4, 3, 3, 5, 6, 7}) {
+            cache.append(message(id));
+        }
+
+        ChatRecentMessageCache.RecentPage page = cache.read(ROOM_ID, Long.MAX_VALUE, 10);
+        assertThat(ids(page.messages())).containsExactly(7L, 6L, 5L, 4L, 3L);
+        assertThat(page.oldestId()).isEqualTo(3L);
+        assertThat(ids(cache.read(ROOM_ID, 5L, 10).messages())).containsExactly(4L, 3L);
+        assertThat(cache.read(2L, Long.MAX_VALUE, 10)).isNull();
+    }
+
+
+    @Test
+    void ignoresMessagesOlderThanRingStart() {
+        cache.append(message(10));
+        cache.append(message(11));
+
+        // 링 시작 이전 구간은 DB 조회 범위이므로 늦게 도착한 메시지가 링에 끼어들지 않음
+        cache.append(message(9));
+        assertThat(ids(cache.read(ROOM_ID, Long.MAX_VALUE, 10).messages())).containsExactly(11L, 10L);
+    }
+
+
+    @Test
+    void backfillsOnlyWhenRingStartIsUnchanged() {
+        cache.append(message(10));
+        cache.append(message(11));
+
+        cache.backfill(ROOM_ID, 9L, List.of(message(8)), true);
+        assertThat(ids(cache.read(ROOM_ID, Long.MAX_VALUE, 10).messages())).containsExactly(11L, 10L);
+
+        cache.backfill(ROOM_ID, 10L, List.of(message(9), message(8)), true);
+        ChatRecentMessageCache.RecentPage page = cache.read(ROOM_ID, Long.MAX_VALUE, 10);
+        assertThat(ids(page.messages())).containsExactly(11L, 10L, 9L, 8L);
+        assertThat(page.complete()).isTrue();
+
+        // 전체 기록이 된 링은 용량을 넘어 오래된 메시지를 밀어내면 다시 일부 기록으로 돌아감
+        cache.append(message(12));
+        cache.append(message(13));
+        page = cache.read(ROOM_ID, Long.MAX_VALUE, 10);
+        assertThat(ids(page.messages())).containsExactly(13L, 12L, 11L, 10L, 9L);
+        assertThat(page.complete()).isFalse();
+    }
+
+
+    @Test
+    void invalidateDropsRing() {
+        cache.append(message(1));
+        cache.invalidate(ROOM_ID);
+
+        assertThat(cache.read(ROOM_ID, Long.MAX_VALUE, 10)).isNull();
+    }
+
+
+    private static ChatMessageDTO message(long id) {
+        return new ChatMessageDTO(id, ROOM_ID, 1L, "user1", "hello " + id, LocalDateTime.now());
+    }
+
+    private static List<Long> ids(List<ChatMessageDTO> messages) {
+        return messages.stream().map(ChatMessageDTO::getId).toList();
+    }
+}
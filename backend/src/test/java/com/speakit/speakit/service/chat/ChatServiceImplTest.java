@@ -0,0 +1,99 @@
+package com.speakit.speakit.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 채팅 메시지 전송: Kafka 발행에 실패하면 메시지가 사라지지 않도록 보낸 세션의 오류 구독으로만 503을 알리는지 검증
+class ChatServiceImplTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final List<Message<?>> written = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+
+    private ChatSessionRegistry registry;
+    private ChatService chatService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChatSessionRegistry(meterRegistry);
+        ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel(executor);
+        outbound.addInterceptor(new ChatOutboundInterceptor(registry));
+        outbound.subscribe(written::add);
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ChatFanout fanout = new ChatFanout(registry, outbound, objectMapper, meterRegistry, 8);
+        KafkaChatMessageBroadcaster broadcaster = new KafkaChatMessageBroadcaster(kafkaTemplate, fanout, registry,
+                mock(ChatRecentMessageCache.class), objectMapper, meterRegistry, "chat.messages");
+        chatService = new ChatServiceImpl(registry, new ChatMessageIdGenerator(1, "kafka"), broadcaster, fanout);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    void notifiesOnlyTheSenderWhenPublishFails() throws Exception {
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker unavailable")));
+        open("sender", 1L);
+        open("other", 2L);
+        registry.subscribeErrors("sender", "errors-0");
+        registry.subscribeErrors("other", "errors-0");
+
+        chatService.sendMessage("sender", 10L, "hello");
+
+        awaitWritten(1);
+        assertThat(written).singleElement().satisfies(message -> {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            assertThat(accessor.getSessionId()).isEqualTo("sender");
+            assertThat(accessor.getSubscriptionId()).isEqualTo("errors-0");
+            assertThat(accessor.getDestination()).isEqualTo(ChatFanout.ERROR_DESTINATION);
+            assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8)).contains("\"status\":503");
+        });
+        assertThat(meterRegistry.get("chat.broadcast.publish.failures").counter().count()).isEqualTo(1.0);
+    }
+
+
+    private void open(String sessionId, Long userId) {
+        WebSocketSession webSocketSession = mock(WebSocketSession.class);
+        when(webSocketSession.getId()).thenReturn(sessionId);
+        registry.open(webSocketSession);
+        registry.authenticate(sessionId, userId, "user" + userId + "@speakit.com", "user" + userId);
+        registry.subscribe(sessionId, "sub-0", 10L);
+    }
+
+    private void awaitWritten(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (written.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.speakit.speakit.service.chat;
+
+import com.speakit.speakit.config.ChatKafkaConfig;
+import com.speakit.speakit.dto.chat.ChatMessageDTO;
+import com.speakit.speakit.repository.chat.ChatMessageBatchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.condition.EmbeddedKafkaCondition;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 임베디드 Kafka에 두 서버(애플리케이션 컨텍스트)를 띄워, 각 서버가 자기 구독자에게만 전달하고 채팅방 내 순서가 서버 간에 같은지,
+// 공유 consumer group으로 각 메시지가 한 번만 DB에 저장되는지 검증
+@EmbeddedKafka(kraft = true)
+class KafkaChatMessageBroadcasterTest {
+
+    private static final int PARTITIONS = 4;
+
+    // 두 서버가 함께 쓰는 DB
+    private static final String DATABASE_URL = "jdbc:h2:mem:chat-kafka-test;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private JdbcTemplate jdbcTemplate;
+    private ChatNode nodeA;
+    private ChatNode nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(DATABASE_URL));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS chat_messages (id BIGINT PRIMARY KEY, chat_room_id BIGINT, "
+                + "sender_id BIGINT, message VARCHAR(2000), `timestamp` TIMESTAMP(6))");
+
+        // 테스트마다 새 저장용 group을 사용 (두 서버는 공유)
+        EmbeddedKafkaBroker broker = EmbeddedKafkaCondition.getBroker();
+        String persistenceGroupId = "chat-persistence-" + UUID.randomUUID();
+        nodeA = ChatNode.start(broker, persistenceGroupId);
+        nodeB = ChatNode.start(broker, persistenceGroupId);
+        nodeA.awaitAssignment();
+        nodeB.awaitAssignment();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+
+    @Test
+    void deliversOnlyToSubscribersConnectedToEachNode() throws Exception {
+        nodeA.connect("a-1", 1L, 100L);
+        nodeB.connect("b-1", 2L, 200L);
+
+        // 발행한 서버와 구독자가 연결된 서버가 달라도 전달됨
+        nodeB.broadcaster().broadcast(message(1L, 100L));
+        nodeA.broadcaster().broadcast(message(2L, 200L));
+
+        nodeA.awaitReceived(1);
+        nodeB.awaitReceived(1);
+        assertThat(nodeA.received()).containsExactly("100:1");
+        assertThat(nodeB.received()).containsExactly("200:2");
+
+        // 다른 서버의 채팅방 메시지는 payload를 읽지 않고 건너뜀
+        assertThat(nodeA.meterRegistry().get("chat.broadcast.received").tag("result", "skipped").counter().count())
+                .isEqualTo(1.0);
+    }
+
+
+    @Test
+    void keepsRoomOrderIdenticalAcrossNodes() throws Exception {
+        nodeA.connect("a-1", 1L, 7L);
+        nodeB.connect("b-1", 2L, 7L);
+
+        // 두 서버가 같은 채팅방에 번갈아 발행
+        for (long id = 1; id <= 200; id++) {
+            ChatNode publisher = id % 2 == 0 ? nodeA : nodeB;
+            publisher.broadcaster().broadcast(message(id, 7L));
+        }
+
+        nodeA.awaitReceived(200);
+        nodeB.awaitReceived(200);
+        assertThat(nodeA.received()).hasSize(200).containsExactlyElementsOf(nodeB.received());
+        assertThat(messageIds(nodeA.received(), 0)).isSorted();
+        assertThat(messageIds(nodeA.received(), 1)).isSorted();
+    }
+
+
+    @Test
+    void persistsEachMessageOnceThroughSharedConsumerGroup() throws Exception {
+        for (long id = 1; id <= 100; id++) {
+            ChatNode publisher = id % 2 == 0 ? nodeA : nodeB;
+            publisher.broadcaster().broadcast(message(1_000 + id, 9L));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (persistedCount(9L) < 100 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(persistedCount(9L)).isEqualTo(100);
+        double written = nodeA.meterRegistry().get("chat.persistence.batch").summary().totalAmount()
+                + nodeB.meterRegistry().get("chat.persistence.batch").summary().totalAmount();
+        assertThat(written).isGreaterThanOrEqualTo(100.0);
+    }
+
+
+    private int persistedCount(Long roomId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_messages WHERE chat_room_id = ?", Integer.class, roomId);
+    }
+
+    private static ChatMessageDTO message(Long id, Long roomId) {
+        return ChatMessageDTO.builder()
+                .id(id).roomId(roomId).senderId(1L).senderName("user1")
+                .message("hello " + id).timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    // 같은 서버에서 발행한 메시지(ID 홀짝)만 골라 발행 순서 확인
+    private static List<Long> messageIds(List<String> received, int parity) {
+        return received.stream()
+                .map(entry -> Long.valueOf(entry.substring(entry.indexOf(':') + 1)))
+                .filter(id -> id % 2 == parity)
+                .toList();
+    }
+
+
+    // 채팅 전파에 필요한 구성요소만 올린 서버 한 대
+    private record ChatNode(ConfigurableApplicationContext context) {
+
+        static ChatNode start(EmbeddedKafkaBroker broker, String persistenceGroupId) {
+            return new ChatNode(new SpringApplicationBuilder(ChatNodeApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                            "--chat.broadcast=kafka",
+                            "--chat.kafka.partitions=" + PARTITIONS,
+                            "--chat.kafka.listenerConcurrency=2",
+                            "--chat.kafka.producer.linger=0ms",
+                            "--chat.kafka.persistenceGroupId=" + persistenceGroupId,
+                            "--chat.persistence.flushInterval=50ms"));
+        }
+
+        // 전달용 리스너가 모든 파티션을 할당받을 때까지 대기 (최신 메시지부터 읽으므로 할당 전 발행한 메시지는 받지 못함)
+        void awaitAssignment() {
+            MessageListenerContainer container = context.getBean(KafkaListenerEndpointRegistry.class)
+                    .getListenerContainer("chatFanoutListener");
+            try {
+                ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void connect(String sessionId, Long userId, Long roomId) {
+            WebSocketSession webSocketSession = mock(WebSocketSession.class);
+            when(webSocketSession.getId()).thenReturn(sessionId);
+            ChatSessionRegistry registry = context.getBean(ChatSessionRegistry.class);
+            registry.open(webSocketSession);
+            registry.authenticate(sessionId, userId, "user" + userId + "@speakit.com", "user" + userId);
+            registry.subscribe(sessionId, "sub-0", roomId);
+        }
+
+        ChatMessageBroadcaster broadcaster() {
+            return context.getBean(ChatMessageBroadcaster.class);
+        }
+
+        MeterRegistry meterRegistry() {
+            return context.getBean(MeterRegistry.class);
+        }
+
+        // "채팅방 ID:메시지 ID" 형식의 수신 기록
+        @SuppressWarnings("unchecked")
+        List<String> received() {
+            return (List<String>) context.getBean("received", List.class);
+        }
+
+        void awaitReceived(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received().size() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+        }
+
+        void close() {
+            context.close();
+        }
+    }
+
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            KafkaAutoConfiguration.class
+    })
+    @Import({ChatKafkaConfig.class, KafkaChatMessageBroadcaster.class, ChatMessagePersistenceListener.class,
+            ChatMessageBatchWriter.class, ChatMessageBatchRepository.class, ChatFanout.class, ChatSessionRegistry.class,
+            ChatRecentMessageCache.class})
+    static class ChatNodeApplication {
+
+        @Bean
+        JdbcTemplate jdbcTemplate() {
+            return new JdbcTemplate(new DriverManagerDataSource(DATABASE_URL));
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        List<String> received() {
+            return new CopyOnWriteArrayList<>();
+        }
+
+        // clientOutboundChannel 대역: 세션에 쓰는 대신 수신 기록에 추가
+        @Bean
+        ExecutorSubscribableChannel clientOutboundChannel(ChatSessionRegistry chatSessionRegistry, List<String> received) {
+            ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+            channel.addInterceptor(new ChatOutboundInterceptor(chatSessionRegistry));
+            channel.subscribe((Message<?> message) -> {
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+                Long roomId = ChatStompInterceptor.parseRoomId(accessor.getDestination());
+                received.add(roomId + ":" + accessor.getMessageId());
+            });
+            return channel;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.dto.community.CommentDTO;
+import com.speakit.speakit.dto.community.PostCommentSummaryDTO;
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.model.community.Post;
+import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.repository.community.CommentRepository;
+import com.speakit.speakit.repository.community.PostRepository;
+import com.speakit.speakit.repository.user.UserRepository;
+import com.speakit.speakit.service.user.UserCacheService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 댓글 요약: 게시글 수와 관계없이 쿼리 2번으로 댓글 수와 게시글별 최신 댓글을 읽고, 카운터가 댓글 작성과 함께 증가하는지 Hibernate 통계로 검증
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class CommentServiceImplTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UserCacheService userCacheService = mock(UserCacheService.class);
+    private final List<User> authors = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+    private CommentServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CommentServiceImpl(commentRepository, postRepository, userRepository, userCacheService,
+                new TransactionTemplate(transactionManager), 2, 20, 50, 50);
+
+        for (int i = 0; i < 3; i++) {
+            User author = User.builder().username("user" + i).email("user" + i + "@speakit.com")
+                    .password("pw").role("ROLE_USER").build();
+            entityManager.persist(author);
+            authors.add(author);
+            when(userCacheService.getByEmail(author.getEmail()))
+                    .thenReturn(UserCacheDTO.builder().id(author.getId()).username(author.getUsername()).build());
+        }
+        // 게시글 i에는 댓글 i개 (작성자를 번갈아 가며)
+        for (int i = 0; i < 6; i++) {
+            Post post = Post.builder().author(authors.get(0)).content("post " + i).createdAt(LocalDateTime.now()).build();
+            entityManager.persist(post);
+            postIds.add(post.getId());
+        }
+        entityManager.flush();
+        for (int i = 0; i < postIds.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                User author = authors.get(j % authors.size());
+                service.createComment(author.getId(), author.getEmail(), postIds.get(i), "comment " + i + "-" + j);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    @Test
+    void loadsCountsAndPreviewsForAPageInTwoQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<PostCommentSummaryDTO> summaries = service.getSummaries(postIds.reversed());
+
+        assertThat(summaries).extracting(PostCommentSummaryDTO::getPostId).containsExactlyElementsOf(postIds.reversed());
+        assertThat(summaries).extracting(PostCommentSummaryDTO::getCommentCount).containsExactly(5, 4, 3, 2, 1, 0);
+        assertThat(summaries.get(0).getRecentComments()).extracting(CommentDTO::getContent)
+                .containsExactly("comment 5-4", "comment 5-3");
+        assertThat(summaries.get(0).getRecentComments()).extracting(CommentDTO::getAuthorName)
+                .containsExactly("user1", "user0");
+        assertThat(summaries.get(4).getRecentComments()).hasSize(1);
+        assertThat(summaries.get(5).getRecentComments()).isEmpty();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+
+    @Test
+    void counterMatchesCommentsAndRejectsMissingPost() {
+        User author = authors.get(0);
+        assertThatThrownBy(() -> service.createComment(author.getId(), author.getEmail(), -1L, "orphan"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("게시글을 찾을 수 없습니다.");
+
+        Long postId = postIds.get(5);
+        assertThat(commentRepository.count()).isEqualTo(15);
+        assertThat(service.getComments(postId, null, 10).getComments()).hasSize(5);
+        assertThat(postRepository.findCommentSummaries(List.of(postId)).get(0).getCommentCount()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,95 @@
+package com.speakit.speakit.service.community;
+
+import com.speakit.speakit.dto.community.PostDTO;
+import com.speakit.speakit.dto.community.PostFeedResponseDTO;
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.model.community.Post;
+import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.repository.community.PostRepository;
+import com.speakit.speakit.repository.user.UserRepository;
+import com.speakit.speakit.service.user.UserCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 피드 조회: 빈 타임라인은 한 번만 DB에서 채우고, 이후 첫 페이지와 새 게시글은 DB 없이, 타임라인을 넘는 페이지는 DB에서 이어 읽는지 검증
+class PostServiceImplTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCacheService userCacheService = mock(UserCacheService.class);
+    private final InMemoryPostTimelineStore timeline = new InMemoryPostTimelineStore(10, Duration.ofMinutes(10));
+    private final PostServiceImpl service = new PostServiceImpl(postRepository, userRepository, userCacheService,
+            timeline, new SimpleMeterRegistry(), 10, 5, 20);
+
+
+    @Test
+    void rebuildsEmptyTimelineOnceThenServesFirstPagesWithoutDatabase() {
+        when(postRepository.findFeedPage(Long.MAX_VALUE, Limit.of(10))).thenReturn(posts(100, 10));
+
+        PostFeedResponseDTO first = service.getFeed(null, null);
+        assertThat(first.getPosts()).extracting(PostDTO::getId).containsExactly(100L, 99L, 98L, 97L, 96L);
+        assertThat(first.getNextCursor()).isEqualTo(96L);
+
+        PostFeedResponseDTO again = service.getFeed(null, null);
+        PostFeedResponseDTO second = service.getFeed(first.getNextCursor(), null);
+        assertThat(again.getPosts()).extracting(PostDTO::getId).containsExactly(100L, 99L, 98L, 97L, 96L);
+        assertThat(second.getPosts()).extracting(PostDTO::getId).containsExactly(95L, 94L, 93L, 92L, 91L);
+        verify(postRepository, times(1)).findFeedPage(anyLong(), any(Limit.class));
+    }
+
+
+    @Test
+    void newPostsAppearAtTheHeadOfTheTimeline() {
+        timeline.rebuild(posts(5, 5), true);
+        when(userCacheService.getByEmail("user7@speakit.com"))
+                .thenReturn(UserCacheDTO.builder().id(7L).username("user7").build());
+        when(userRepository.getReferenceById(7L)).thenReturn(User.builder().id(7L).build());
+        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            post.setId(6L);
+            return post;
+        });
+
+        PostDTO created = service.createPost(7L, "user7@speakit.com", "hello");
+
+        assertThat(created.getAuthorName()).isEqualTo("user7");
+        assertThat(service.getFeed(null, 3).getPosts()).extracting(PostDTO::getId).containsExactly(6L, 5L, 4L);
+        // 타임라인이 DB의 게시글 전부이므로 마지막 페이지도 DB 없이 끝남
+        PostFeedResponseDTO last = service.getFeed(2L, 3);
+        assertThat(last.getPosts()).extracting(PostDTO::getId).containsExactly(1L);
+        assertThat(last.getNextCursor()).isNull();
+        verify(postRepository, never()).findFeedPage(anyLong(), any(Limit.class));
+    }
+
+
+    @Test
+    void continuesFromDatabaseBeyondTheTimeline() {
+        timeline.rebuild(posts(100, 10), false);
+        when(postRepository.findFeedPage(eq(91L), any(Limit.class))).thenReturn(posts(90, 2));
+
+        PostFeedResponseDTO page = service.getFeed(94L, 5);
+
+        assertThat(page.getPosts()).extracting(PostDTO::getId).containsExactly(93L, 92L, 91L, 90L, 89L);
+        verify(postRepository).findFeedPage(91L, Limit.of(2));
+    }
+
+
+    // newestId부터 count개 (최신순)
+    private static List<PostDTO> posts(long newestId, int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> new PostDTO(newestId - i, 1L, "user1", "post " + (newestId - i), LocalDateTime.now()))
+                .toList();
+    }
+}
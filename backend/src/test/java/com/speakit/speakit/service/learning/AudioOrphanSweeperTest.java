@@ -0,0 +1,123 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 음성 파일 정리: 유예 시간이 지난 미참조 파일과 임시 파일만 지우고, 참조 중이거나 방금 재사용된 파일과 격리 중 확인에 실패한 파일은 남기는지 검증
+class AudioOrphanSweeperTest {
+
+    private static final FileTime LONG_AGO = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+
+    @TempDir
+    Path audioDir;
+
+    private final DialogueRepository dialogueRepository = mock(DialogueRepository.class);
+    private AudioStorage audioStorage;
+    private AudioOrphanSweeper sweeper;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        audioStorage = new AudioStorage(audioDir.toString(), DataSize.ofMegabytes(1));
+        sweeper = new AudioOrphanSweeper(audioStorage, dialogueRepository, Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+
+    @Test
+    void deletesOnlyOldUnreferencedFiles() throws Exception {
+        String referenced = storeOld("referenced");
+        String orphan = storeOld("orphan");
+        String fresh = audioStorage.store(new ByteArrayInputStream("fresh".getBytes()), "audio/webm").key();
+        when(dialogueRepository.existsByAudioPath(referenced)).thenReturn(true);
+        Path abandoned = Files.writeString(audioDir.resolve("tmp").resolve("abandoned.part"), "partial");
+        Files.setLastModifiedTime(abandoned, LONG_AGO);
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+
+        assertThat(audioStorage.resolve(orphan)).doesNotExist();
+        assertThat(audioStorage.resolve(referenced)).exists();
+        assertThat(audioStorage.resolve(fresh)).exists();
+        assertThat(audioDir.resolve("tmp")).isEmptyDirectory();
+    }
+
+
+    @Test
+    void keepsFileReusedByANewUploadOfTheSameContent() throws Exception {
+        String key = storeOld("shared");
+
+        // 같은 내용을 다시 올리면 기존 파일을 재사용하면서 수정 시각을 갱신 (대화 기록은 아직 저장 전)
+        AudioStorage.StoredAudio reused = audioStorage.store(new ByteArrayInputStream("shared".getBytes()), "audio/webm");
+
+        assertThat(reused.created()).isFalse();
+        assertThat(sweeper.sweep()).isZero();
+        assertThat(audioStorage.resolve(key)).exists();
+    }
+
+
+    @Test
+    void restoresQuarantinedFileWhenItBecameReferenced() throws Exception {
+        String key = storeOld("racing");
+
+        // 미참조로 확인한 뒤 격리하는 사이 같은 파일을 참조하는 대화 기록이 저장된 경우
+        int[] checks = {0};
+        boolean deleted = audioStorage.deleteIfUnreferenced(key, Instant.now(), ignored -> checks[0]++ > 0);
+
+        assertThat(deleted).isFalse();
+        assertThat(audioStorage.resolve(key)).hasContent("racing");
+        assertThat(audioDir.resolve("tmp")).isEmptyDirectory();
+    }
+
+
+    @Test
+    void restoresQuarantinedFileWhenTheReferenceCheckFails() throws Exception {
+        String key = storeOld("failing");
+        int[] checks = {0};
+
+        // 격리 후 다시 확인하는 중 DB 조회가 실패한 경우
+        assertThatThrownBy(() -> audioStorage.deleteIfUnreferenced(key, Instant.now(), ignored -> {
+            if (checks[0]++ > 0) {
+                throw new QueryTimeoutException("timeout");
+            }
+            return false;
+        })).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(audioStorage.resolve(key)).hasContent("failing");
+        assertThat(audioDir.resolve("tmp")).isEmptyDirectory();
+    }
+
+
+    @Test
+    void sweepRestoresLeftoverQuarantinedFileInsteadOfDeletingIt() throws Exception {
+        String key = storeOld("leftover");
+        when(dialogueRepository.existsByAudioPath(key)).thenReturn(true);
+        Path leftover = audioDir.resolve("tmp").resolve(key.replace('/', '_') + ".0f8fad5b-d9cb-469f-a165-70867728950e.sweep");
+        Files.move(audioStorage.resolve(key), leftover);
+
+        assertThat(sweeper.sweep()).isZero();
+
+        assertThat(audioStorage.resolve(key)).hasContent("leftover");
+        assertThat(audioDir.resolve("tmp")).isEmptyDirectory();
+    }
+
+
+    private String storeOld(String content) throws Exception {
+        String key = audioStorage.store(new ByteArrayInputStream(content.getBytes()), "audio/webm").key();
+        Files.setLastModifiedTime(audioStorage.resolve(key), LONG_AGO);
+        return key;
+    }
+}
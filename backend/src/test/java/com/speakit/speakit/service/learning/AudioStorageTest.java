@@ -0,0 +1,115 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.controller.learning.DialogueController;
+import com.speakit.speakit.exception.GlobalExceptionHandler;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 음성 저장소: 같은 내용은 해시 키 하나로 저장되는지, 재생 API가 Range 요청에 맞는 구간만 보내는지 검증
+class AudioStorageTest {
+
+    private static final long USER_ID = 7L;
+    private static final long DIALOGUE_ID = 11L;
+    private static final byte[] AUDIO = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path audioDir;
+
+    private AudioStorage audioStorage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        audioStorage = new AudioStorage(audioDir.toString(), DataSize.ofMegabytes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+
+    @Test
+    void deduplicatesIdenticalUploadsByContentHash() {
+        AudioStorage.StoredAudio first = audioStorage.store(new ByteArrayInputStream(AUDIO), "audio/webm");
+        AudioStorage.StoredAudio second = audioStorage.store(new ByteArrayInputStream(AUDIO), "audio/webm");
+        AudioStorage.StoredAudio other = audioStorage.store(new ByteArrayInputStream("other".getBytes()), "audio/webm");
+
+        assertThat(first.created()).isTrue();
+        assertThat(second.created()).isFalse();
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(other.key()).isNotEqualTo(first.key());
+        assertThat(first.key()).matches("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.webm");
+        assertThat(audioStorage.resolve(first.key())).hasBinaryContent(AUDIO);
+        assertThat(audioDir.resolve("tmp")).isEmptyDirectory();
+    }
+
+
+    @Test
+    void servesSingleByteRangesFromTheStoredFile() throws Exception {
+        AudioStorage.StoredAudio stored = audioStorage.store(new ByteArrayInputStream(AUDIO), "audio/webm");
+        MockMvc mockMvc = playback(stored);
+
+        mockMvc.perform(get("/practice/dialogues/{id}/audio", DIALOGUE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().longValue("Content-Length", AUDIO.length))
+                .andExpect(content().bytes(AUDIO));
+
+        mockMvc.perform(get("/practice/dialogues/{id}/audio", DIALOGUE_ID)
+                        .header("Range", "bytes=10-14"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 10-14/20"))
+                .andExpect(content().bytes("abcde".getBytes(StandardCharsets.US_ASCII)));
+
+        mockMvc.perform(get("/practice/dialogues/{id}/audio", DIALOGUE_ID)
+                        .header("Range", "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 17-19/20"))
+                .andExpect(content().bytes("hij".getBytes(StandardCharsets.US_ASCII)));
+
+        mockMvc.perform(get("/practice/dialogues/{id}/audio", DIALOGUE_ID)
+                        .header("Range", "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */20"));
+    }
+
+
+    private MockMvc playback(AudioStorage.StoredAudio stored) {
+        DialogueService dialogueService = mock(DialogueService.class);
+        when(dialogueService.getAudio(USER_ID, DIALOGUE_ID))
+                .thenReturn(audioStorage.open(stored.key(), stored.contentType()));
+        // @AuthenticationPrincipal은 보안 필터가 채운 SecurityContext에서 읽으므로 직접 설정
+        SecurityContextHolder.getContext().setAuthentication(principal());
+        return MockMvcBuilders.standaloneSetup(new DialogueController(dialogueService, audioStorage))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    private static UsernamePasswordAuthenticationToken principal() {
+        JwtUserPrincipal principal = new JwtUserPrincipal(USER_ID, "user7@speakit.com", "ROLE_USER");
+        return new UsernamePasswordAuthenticationToken(principal, null, List.of());
+    }
+}
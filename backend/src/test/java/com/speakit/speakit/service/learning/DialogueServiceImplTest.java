@@ -0,0 +1,152 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.DialogueDTO;
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.model.common.TranscriptionStatus;
+import com.speakit.speakit.model.learning.Dialogue;
+import com.speakit.speakit.model.learning.PracticeSession;
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import com.speakit.speakit.repository.learning.PracticeSessionRepository;
+import com.speakit.speakit.service.ai.FakeLlmClient;
+import com.speakit.speakit.service.ai.FakeSttEngine;
+import com.speakit.speakit.service.ai.SttEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 음성 답변 업로드: 본문을 파일로 저장하고 바로 응답한 뒤 작업 스레드에서 인식 결과와 피드백을 저장하는지,
+// 형식/크기 제한 시 파일을, 대기열 초과 시 대화 기록을 남기지 않는지 검증 (참조 없이 남은 파일은 AudioOrphanSweeper가 정리)
+class DialogueServiceImplTest {
+
+    private static final long USER_ID = 7L;
+    private static final long SESSION_ID = 1L;
+    private static final long DIALOGUE_ID = 11L;
+
+    @TempDir
+    Path audioDir;
+
+    private final PracticeSessionRepository practiceSessionRepository = mock(PracticeSessionRepository.class);
+    private final DialogueRepository dialogueRepository = mock(DialogueRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private TranscriptionWorker worker;
+    private FeedbackBatcher feedbackBatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.destroy();
+        feedbackBatcher.destroy();
+    }
+
+
+    @Test
+    void storesAudioAndWritesTranscriptionInTheBackground() throws Exception {
+        DialogueServiceImpl service = newService(new FakeSttEngine(Duration.ZERO), 1);
+        CountDownLatch feedbackSaved = new CountDownLatch(1);
+        when(dialogueRepository.saveFeedback(eq(DIALOGUE_ID), any())).thenAnswer(invocation -> {
+            feedbackSaved.countDown();
+            return 1;
+        });
+
+        DialogueDTO dialogue = service.uploadAudio(USER_ID, SESSION_ID, new ByteArrayInputStream(new byte[100_000]), "audio/webm;codecs=opus");
+
+        assertThat(dialogue.getId()).isEqualTo(DIALOGUE_ID);
+        assertThat(dialogue.getTranscriptionStatus()).isEqualTo(TranscriptionStatus.PENDING);
+        assertThat(feedbackSaved.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(dialogueRepository).completeTranscription(DIALOGUE_ID, "I practiced speaking for 100000 bytes.");
+        // FakeLlmClient는 요청을 그대로 되돌려 주므로 배치의 [1] 항목이 피드백이 됨
+        verify(dialogueRepository).saveFeedback(DIALOGUE_ID, "I practiced speaking for 100000 bytes. Thank you for listening.");
+        assertThat(storedFiles()).singleElement()
+                .satisfies(path -> assertThat(path.getFileName().toString()).endsWith(".webm"));
+    }
+
+
+    @Test
+    void rejectsUnsupportedOrOversizedAudioWithoutLeavingFiles() throws Exception {
+        DialogueServiceImpl service = newService(new FakeSttEngine(Duration.ZERO), 1);
+
+        assertThatThrownBy(() -> service.uploadAudio(USER_ID, SESSION_ID, new ByteArrayInputStream(new byte[10]), "text/plain"))
+                .hasMessage("지원하지 않는 음성 형식입니다.");
+        assertThatThrownBy(() -> service.uploadAudio(USER_ID, SESSION_ID, new ByteArrayInputStream(new byte[300_000]), "audio/wav"))
+                .hasMessageContaining("음성 파일은 최대");
+
+        verify(dialogueRepository, never()).save(any());
+        assertThat(storedFiles()).isEmpty();
+    }
+
+
+    @Test
+    void rejectsUploadsWhenTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SttEngine blockingEngine = (audio, contentType) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        };
+        DialogueServiceImpl service = newService(blockingEngine, 1);
+
+        // 작업 스레드 1개 + 대기열 1개
+        service.uploadAudio(USER_ID, SESSION_ID, new ByteArrayInputStream(new byte[10]), "audio/webm");
+        service.uploadAudio(USER_ID, SESSION_ID, new ByteArrayInputStream(new byte[10]), "audio/webm");
+        assertThatThrownBy(() -> service.uploadAudio(USER_ID, SESSION_ID, new ByteArrayInputStream(new byte[10]), "audio/webm"))
+                .isInstanceOf(ServiceOverloadedException.class);
+        release.countDown();
+
+        verify(dialogueRepository, times(2)).save(any());
+        // 같은 내용이므로 파일은 하나만 저장되고, 거절된 요청은 공유 파일을 지우지 않음
+        assertThat(storedFiles()).hasSize(1);
+    }
+
+
+    // 임시 파일을 제외한 저장된 음성 파일
+    private List<Path> storedFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(audioDir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(path -> !path.getParent().getFileName().toString().equals("tmp"))
+                    .toList();
+        }
+    }
+
+    private DialogueServiceImpl newService(SttEngine sttEngine, int queueCapacity) throws Exception {
+        when(practiceSessionRepository.findOwnerId(SESSION_ID)).thenReturn(Optional.of(USER_ID));
+        when(practiceSessionRepository.getReferenceById(SESSION_ID)).thenReturn(new PracticeSession());
+        // 업로드마다 다른 대화 기록 ID (첫 업로드는 DIALOGUE_ID)
+        AtomicLong nextId = new AtomicLong(DIALOGUE_ID);
+        when(dialogueRepository.save(any(Dialogue.class))).thenAnswer(invocation -> {
+            Dialogue dialogue = invocation.getArgument(0);
+            dialogue.setId(nextId.getAndIncrement());
+            return dialogue;
+        });
+        AudioStorage audioStorage = new AudioStorage(audioDir.toString(), DataSize.ofKilobytes(200));
+        TranscriptionNotifier notifier = new TranscriptionNotifier();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        feedbackBatcher = new FeedbackBatcher(new FakeLlmClient(Duration.ZERO, Duration.ZERO), meterRegistry,
+                Duration.ofMillis(10), 16, 1, 100, 150);
+        worker = new TranscriptionWorker(sttEngine, dialogueRepository, audioStorage, transactionTemplate,
+                notifier, feedbackBatcher, meterRegistry, 1, queueCapacity);
+        return new DialogueServiceImpl(practiceSessionRepository, dialogueRepository, audioStorage, worker, notifier,
+                Duration.ofMinutes(1));
+    }
+}
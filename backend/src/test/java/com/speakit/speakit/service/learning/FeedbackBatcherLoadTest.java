@@ -0,0 +1,100 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.service.ai.FakeLlmClient;
+import com.speakit.speakit.service.ai.LlmClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 피드백 배처의 처리량과 지연의 교환 관계를 측정하는 부하 테스트 하네스
+// 호출마다 고정 지연(requestDelay)과 출력 단어당 지연(tokenDelay)이 있는 FakeLlmClient에 일정한 속도로 서로 다른 답변을 보내고,
+// 설정(maxBatchSize=1은 배치 없이 답변마다 호출)별로 LLM 호출 수, 처리량, 요청→피드백 지연(p50/p99)을 출력
+// 규모는 -Dload.feedback.requests=5000 -Dload.feedback.rate=500 등으로 조정
+@Tag("load")
+class FeedbackBatcherLoadTest {
+
+    private static final int REQUESTS = Integer.getInteger("load.feedback.requests", 600);
+    private static final int RATE_PER_SECOND = Integer.getInteger("load.feedback.rate", 100);
+    private static final long LLM_REQUEST_DELAY_MS = Long.getLong("load.feedback.llmRequestDelayMs", 300);
+    private static final long LLM_TOKEN_DELAY_MS = Long.getLong("load.feedback.llmTokenDelayMs", 1);
+    private static final int MAX_CONCURRENT_BATCHES = 4;
+
+
+    @Test
+    void comparesThroughputAndLatencyAcrossBatchWindows() throws Exception {
+        System.out.printf("requests=%d rate=%d/s llm=%dms+%dms/word concurrentCalls=%d%n",
+                REQUESTS, RATE_PER_SECOND, LLM_REQUEST_DELAY_MS, LLM_TOKEN_DELAY_MS, MAX_CONCURRENT_BATCHES);
+
+        Result unbatched = run(Duration.ZERO, 1);
+        Result small = run(Duration.ofMillis(10), 16);
+        Result medium = run(Duration.ofMillis(50), 16);
+        Result large = run(Duration.ofMillis(200), 32);
+
+        // 배치 없이는 동시 호출 수 제한에 막혀 대기열이 쌓이므로, 배치가 호출 수와 지연을 함께 줄임
+        assertThat(medium.llmCalls()).isLessThan(unbatched.llmCalls() / 4);
+        assertThat(medium.p99Ms()).isLessThan(unbatched.p99Ms());
+        // window를 늘리면 호출 수는 줄지만 한 요청이 모이기를 기다리는 시간이 늘어남
+        assertThat(large.llmCalls()).isLessThanOrEqualTo(small.llmCalls());
+    }
+
+
+    private Result run(Duration window, int maxBatchSize) throws Exception {
+        AtomicInteger llmCalls = new AtomicInteger();
+        FakeLlmClient fake = new FakeLlmClient(Duration.ofMillis(LLM_REQUEST_DELAY_MS), Duration.ofMillis(LLM_TOKEN_DELAY_MS));
+        LlmClient llmClient = (request, onToken) -> {
+            llmCalls.incrementAndGet();
+            fake.stream(request, onToken);
+        };
+        FeedbackBatcher batcher = new FeedbackBatcher(llmClient, new SimpleMeterRegistry(), window, maxBatchSize,
+                MAX_CONCURRENT_BATCHES, REQUESTS, 150);
+        try {
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>(REQUESTS));
+            List<CompletableFuture<String>> futures = new ArrayList<>(REQUESTS);
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE_PER_SECOND;
+            long started = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                // 일정한 속도로 요청 (앞선 요청이 늦어져도 다음 요청 시각은 유지)
+                long sendAt = started + i * intervalNanos;
+                LockSupport.parkNanos(sendAt - System.nanoTime());
+                long requestedAt = System.nanoTime();
+                futures.add(batcher.requestFeedback("My answer number " + i + " is about travel.")
+                        .whenComplete((feedback, error) -> latencies.add(System.nanoTime() - requestedAt)));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+            long elapsedNanos = System.nanoTime() - started;
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            Result result = new Result(llmCalls.get(), REQUESTS * 1e9 / elapsedNanos,
+                    percentileMs(sorted, 0.50), percentileMs(sorted, 0.99));
+            System.out.printf("window=%dms maxBatch=%d: llmCalls=%d throughput=%.0f/s p50=%dms p99=%dms%n",
+                    window.toMillis(), maxBatchSize, result.llmCalls(), result.throughput(), result.p50Ms(), result.p99Ms());
+            return result;
+        } finally {
+            batcher.destroy();
+        }
+    }
+
+    private static long percentileMs(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos.get(Math.max(0, index)));
+    }
+
+
+    private record Result(int llmCalls, double throughput, long p50Ms, long p99Ms) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.service.ai.FakeLlmClient;
+import com.speakit.speakit.service.ai.LlmClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 피드백 배처: window 안의 요청을 LLM 호출 한 번으로 처리해 번호별로 나눠 주는지, 같은 답변 요청을 병합하는지, 대기열 초과를 거절하는지 검증
+class FeedbackBatcherTest {
+
+    private FeedbackBatcher batcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.destroy();
+    }
+
+
+    @Test
+    void answersRequestsWithinTheWindowWithOneModelCall() throws Exception {
+        LlmClient llmClient = spy(new FakeLlmClient(Duration.ZERO, Duration.ZERO));
+        batcher = new FeedbackBatcher(llmClient, new SimpleMeterRegistry(), Duration.ofMillis(200), 16, 1, 100, 150);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(batcher.requestFeedback("answer number " + i));
+        }
+
+        // FakeLlmClient는 "[n] 답변" 목록을 그대로 되돌려 주므로 각 요청은 자기 답변을 피드백으로 받음
+        for (int i = 0; i < 4; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("answer number " + i);
+        }
+        assertThat(futures.get(4).get(5, TimeUnit.SECONDS)).isEqualTo("answer number 4 Thank you for listening.");
+        verify(llmClient, times(1)).stream(any(), any());
+    }
+
+
+    @Test
+    void coalescesIdenticalInFlightAnswers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        LlmClient llmClient = spy(new FakeLlmClient(Duration.ZERO, Duration.ZERO));
+        doAnswer(invocation -> {
+            release.await();
+            return invocation.callRealMethod();
+        }).when(llmClient).stream(any(), any());
+        batcher = new FeedbackBatcher(llmClient, new SimpleMeterRegistry(), Duration.ZERO, 16, 1, 100, 150);
+
+        CompletableFuture<String> first = batcher.requestFeedback("I like travel.");
+        CompletableFuture<String> second = batcher.requestFeedback("  I like travel. ");
+        release.countDown();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("I like travel. Thank you for listening.");
+        verify(llmClient, times(1)).stream(any(), any());
+    }
+
+
+    @Test
+    void rejectsRequestsWhenTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        LlmClient blocking = (request, onToken) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            onToken.test("[1] ok");
+        };
+        // 배치 1개씩, 동시 호출 1개, 대기열 1개
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        batcher = new FeedbackBatcher(blocking, meterRegistry, Duration.ZERO, 1, 1, 1, 150);
+
+        CompletableFuture<String> running = batcher.requestFeedback("first");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // 배치 스레드가 두 번째 요청을 꺼내 호출 허용을 기다리는 동안 세 번째가 대기열을 채움
+        CompletableFuture<String> waiting = batcher.requestFeedback("second");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("ai.feedback.queue.depth").gauge().value() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        CompletableFuture<String> queued = batcher.requestFeedback("third");
+        CompletableFuture<String> rejected = batcher.requestFeedback("fourth");
+        release.countDown();
+
+        assertThatThrownBy(() -> rejected.join()).hasCauseInstanceOf(ServiceOverloadedException.class);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,140 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.PracticeSessionHistoryDTO;
+import com.speakit.speakit.dto.learning.PracticeSessionHistoryResponseDTO;
+import com.speakit.speakit.model.common.DifficultyLevel;
+import com.speakit.speakit.model.common.ExamType;
+import com.speakit.speakit.model.learning.Dialogue;
+import com.speakit.speakit.model.learning.PracticeSession;
+import com.speakit.speakit.model.learning.TOEICQuestion;
+import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import com.speakit.speakit.repository.learning.PracticeSessionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 학습 기록: 페이지 크기와 관계없이 세션/주제/대화 수를 쿼리 3번으로 읽고 엔티티나 컬렉션을 로드하지 않는지 Hibernate 통계로 검증
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class PracticeSessionHistoryServiceImplTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PracticeSessionRepository practiceSessionRepository;
+
+    @Autowired
+    private DialogueRepository dialogueRepository;
+
+    private final List<Long> sessionIds = new ArrayList<>();
+    private PracticeSessionHistoryServiceImpl service;
+    private User user;
+    private TOEICQuestion question;
+
+    @BeforeEach
+    void setUp() {
+        service = new PracticeSessionHistoryServiceImpl(practiceSessionRepository, dialogueRepository, 20, 50);
+
+        user = persistUser("learner");
+        User other = persistUser("other");
+        question = TOEICQuestion.builder().questionText("Describe the picture.").build();
+        entityManager.persist(question);
+
+        // 세션 i: 짝수는 OPIc(주제 2개), 홀수는 TOEIC, 대화 i개
+        for (int i = 0; i < 8; i++) {
+            PracticeSession session = new PracticeSession();
+            session.setUser(user);
+            session.setStartTime(LocalDateTime.now().minusDays(8 - i));
+            session.setDifficultyLevel(DifficultyLevel.INTERMEDIATE_MID);
+            if (i % 2 == 0) {
+                session.setExamType(ExamType.OPIc);
+                session.setTopics(new ArrayList<>(List.of("travel", "topic " + i)));
+                session.setGeneratedScript("script " + i);
+            } else {
+                session.setExamType(ExamType.TOEIC_SPEAKING);
+                session.setToeicQuestion(question);
+            }
+            entityManager.persist(session);
+            sessionIds.add(session.getId());
+            for (int j = 0; j < i; j++) {
+                entityManager.persist(Dialogue.builder().practiceSession(session).sender("USER")
+                        .message("turn " + j).timestamp(LocalDateTime.now()).build());
+            }
+        }
+        PracticeSession othersSession = new PracticeSession();
+        othersSession.setUser(other);
+        othersSession.setExamType(ExamType.OPIc);
+        entityManager.persist(othersSession);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    @Test
+    void loadsAPageWithTopicsAndDialogueCountsInThreeQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PracticeSessionHistoryResponseDTO page = service.getHistory(user.getId(), null, 5);
+
+        List<PracticeSessionHistoryDTO> sessions = page.getSessions();
+        assertThat(sessions).extracting(PracticeSessionHistoryDTO::getId)
+                .containsExactlyElementsOf(sessionIds.reversed().subList(0, 5));
+        assertThat(sessions).extracting(PracticeSessionHistoryDTO::getDialogueCount).containsExactly(7L, 6L, 5L, 4L, 3L);
+        assertThat(sessions.get(0).getExamType()).isEqualTo(ExamType.TOEIC_SPEAKING);
+        assertThat(sessions.get(0).getToeicQuestionId()).isEqualTo(question.getId());
+        assertThat(sessions.get(0).getTopics()).isEmpty();
+        assertThat(sessions.get(0).isHasScript()).isFalse();
+        assertThat(sessions.get(1).getTopics()).containsExactlyInAnyOrder("travel", "topic 6");
+        assertThat(sessions.get(1).getToeicQuestionId()).isNull();
+        assertThat(sessions.get(1).isHasScript()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(sessionIds.get(3));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+
+    @Test
+    void followsTheCursorToTheLastPage() {
+        PracticeSessionHistoryResponseDTO last = service.getHistory(user.getId(), sessionIds.get(3), 5);
+
+        assertThat(last.getSessions()).extracting(PracticeSessionHistoryDTO::getId)
+                .containsExactlyElementsOf(sessionIds.subList(0, 3).reversed());
+        assertThat(last.getSessions()).extracting(PracticeSessionHistoryDTO::getDialogueCount).containsExactly(2L, 1L, 0L);
+        assertThat(last.getNextCursor()).isNull();
+
+        // 빈 페이지는 세션 쿼리 한 번으로 끝남
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(service.getHistory(user.getId(), sessionIds.get(0), 5).getSessions()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+
+    private User persistUser(String name) {
+        User created = User.builder().username(name).email(name + "@speakit.com").password("pw").role("ROLE_USER").build();
+        entityManager.persist(created);
+        return created;
+    }
+}
@@ -0,0 +1,69 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.model.common.DifficultyLevel;
+import com.speakit.speakit.model.common.ExamType;
+import com.speakit.speakit.model.learning.PracticeSession;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대본 캐시: 대본 종류 수(다양성)만큼 생성을 허용한 뒤 돌아가며 재사용하는지, 유사 재사용이 같은 시험/난이도에서 주제 유사도로만 동작하는지 검증
+class ScriptCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+
+    @Test
+    void collectsVariantsBeforeRotatingThem() {
+        ScriptCache cache = new ScriptCache(meterRegistry, 100, Duration.ofHours(1), 2, false, 0.5);
+        PracticeSession session = session(DifficultyLevel.INTERMEDIATE_MID, "travel", "music");
+
+        assertThat(cache.find(session)).isNull();
+        cache.put(session, "script A", TimeUnit.SECONDS.toNanos(3));
+        // 대본이 maxVariants개 모이기 전에는 새로 생성하도록 null 반환
+        assertThat(cache.find(session)).isNull();
+        cache.put(session, "script B", TimeUnit.SECONDS.toNanos(5));
+
+        assertThat(List.of(cache.find(session), cache.find(session), cache.find(session)))
+                .containsExactly("script A", "script B", "script A");
+        assertThat(meterRegistry.get("ai.script.cache.lookups").tag("result", "hit").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("ai.script.cache.lookups").tag("result", "miss").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("ai.script.cache.savedTime").counter().count()).isEqualTo(11);
+    }
+
+
+    @Test
+    void reusesNearDuplicateTopicsOnlyWhenEnabled() {
+        PracticeSession cached = session(DifficultyLevel.INTERMEDIATE_MID, "travel", "music", "movies");
+        PracticeSession similar = session(DifficultyLevel.INTERMEDIATE_MID, "travel", "music", "cooking");
+        PracticeSession otherLevel = session(DifficultyLevel.ADVANCED_LOW, "travel", "music", "movies");
+        PracticeSession unrelated = session(DifficultyLevel.INTERMEDIATE_MID, "travel", "sports", "cooking");
+
+        ScriptCache exactOnly = new ScriptCache(meterRegistry, 100, Duration.ofHours(1), 1, false, 0.5);
+        exactOnly.put(cached, "script", 0);
+        assertThat(exactOnly.find(similar)).isNull();
+
+        ScriptCache nearDuplicate = new ScriptCache(new SimpleMeterRegistry(), 100, Duration.ofHours(1), 1, true, 0.5);
+        nearDuplicate.put(cached, "script", 0);
+        // 주제 2개 공통 / 합집합 4개 = 0.5
+        assertThat(nearDuplicate.find(similar)).isEqualTo("script");
+        assertThat(nearDuplicate.find(otherLevel)).isNull();
+        // 주제 1개 공통 / 합집합 5개 = 0.2
+        assertThat(nearDuplicate.find(unrelated)).isNull();
+    }
+
+
+    private static PracticeSession session(DifficultyLevel difficultyLevel, String... topics) {
+        PracticeSession session = new PracticeSession();
+        session.setExamType(ExamType.OPIc);
+        session.setDifficultyLevel(difficultyLevel);
+        session.setTopics(List.of(topics));
+        return session;
+    }
+}
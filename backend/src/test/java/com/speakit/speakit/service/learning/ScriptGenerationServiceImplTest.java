@@ -0,0 +1,190 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.controller.learning.PracticeScriptController;
+import com.speakit.speakit.exception.GlobalExceptionHandler;
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.model.common.ExamType;
+import com.speakit.speakit.model.learning.PracticeSession;
+import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.repository.learning.PracticeSessionRepository;
+import com.speakit.speakit.security.jwt.JwtUserPrincipal;
+import com.speakit.speakit.service.ai.FakeLlmClient;
+import com.speakit.speakit.service.ai.LlmClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 대본 생성: 조각을 SSE로 순서대로 보내고 끝난 뒤 한 번만 저장하는지, 저장된/캐시된 대본은 LLM 없이 보내는지, 동시 생성 수 제한을 검증
+class ScriptGenerationServiceImplTest {
+
+    private static final long USER_ID = 7L;
+    private static final long SESSION_ID = 1L;
+
+    private final PracticeSessionRepository repository = mock(PracticeSessionRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private ScriptGenerationServiceImpl service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        SecurityContextHolder.clearContext();
+        service.destroy();
+    }
+
+
+    @Test
+    void streamsTokensAndPersistsTheScriptOnce() throws Exception {
+        when(repository.findForScript(SESSION_ID)).thenReturn(Optional.of(session(null)));
+        LlmClient llmClient = spy(new FakeLlmClient(Duration.ZERO, Duration.ZERO));
+        service = newService(llmClient, 2);
+
+        String body = stream();
+
+        assertThat(body).startsWith("event:token\ndata:Here\n\nevent:token\ndata: is\n\n");
+        assertThat(body).endsWith("event:done\ndata:1\n\n");
+        verify(repository, times(1)).saveGeneratedScript(SESSION_ID,
+                "Here is a practice script. Exam: OPIc Topics: travel Write a model answer script of about one minute."
+                        + " Thank you for listening.");
+    }
+
+
+    @Test
+    void replaysSavedScriptWithoutCallingTheModel() throws Exception {
+        when(repository.findForScript(SESSION_ID)).thenReturn(Optional.of(session("saved script")));
+        LlmClient llmClient = mock(LlmClient.class);
+        service = newService(llmClient, 2);
+
+        assertThat(stream()).isEqualTo("event:token\ndata:saved script\n\nevent:done\ndata:1\n\n");
+        verifyNoInteractions(llmClient);
+        verify(repository, never()).saveGeneratedScript(anyLong(), anyString());
+    }
+
+
+    @Test
+    void reusesTheCachedScriptForTheSameExamTopicsAndLevel() throws Exception {
+        PracticeSession first = session(null);
+        first.setTopics(List.of("Travel ", "music"));
+        PracticeSession second = session(null);
+        second.setId(2L);
+        second.setTopics(List.of("music", "travel"));
+        when(repository.findForScript(SESSION_ID)).thenReturn(Optional.of(first));
+        when(repository.findForScript(2L)).thenReturn(Optional.of(second));
+        LlmClient llmClient = spy(new FakeLlmClient(Duration.ZERO, Duration.ZERO));
+        service = newService(llmClient, 2, 1);
+
+        stream();
+        String script = "Here is a practice script. Exam: OPIc Topics: Travel , music Write a model answer script of about one minute."
+                + " Thank you for listening.";
+        verify(repository, timeout(5000)).saveGeneratedScript(SESSION_ID, script);
+
+        // 주제 순서와 대소문자/공백이 달라도 같은 키이므로 LLM을 호출하지 않고 같은 대본을 저장해 보냄
+        service.streamScript(USER_ID, 2L);
+        verify(repository).saveGeneratedScript(2L, script);
+        verify(llmClient, times(1)).stream(any(), any());
+    }
+
+
+    @Test
+    void rejectsGenerationsBeyondTheLimitWithoutQueueing() throws Exception {
+        when(repository.findForScript(anyLong())).thenAnswer(invocation -> Optional.of(session(null)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LlmClient blocking = (request, onToken) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            onToken.test("done");
+        };
+        service = newService(blocking, 1);
+
+        service.streamScript(USER_ID, 1L);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> service.streamScript(USER_ID, 2L)).isInstanceOf(ServiceOverloadedException.class);
+        assertThatThrownBy(() -> service.streamScript(USER_ID, 1L)).hasMessage("이미 대본을 생성 중입니다.");
+        assertThatThrownBy(() -> service.streamScript(99L, 3L)).hasMessage("학습 세션을 찾을 수 없습니다.");
+
+        release.countDown();
+        verify(repository, timeout(5000)).saveGeneratedScript(1L, "done");
+        // 생성이 끝나면 허가가 반환되어 다음 생성을 시작할 수 있음
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                service.streamScript(USER_ID, 2L);
+                break;
+            } catch (ServiceOverloadedException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+
+    // 캐시 동작을 검증하지 않는 테스트는 대본을 재사용하지 않는 캐시(대본 종류 수 제한 없음)를 사용
+    private ScriptGenerationServiceImpl newService(LlmClient llmClient, int maxConcurrent) {
+        return newService(llmClient, maxConcurrent, Integer.MAX_VALUE);
+    }
+
+    private ScriptGenerationServiceImpl newService(LlmClient llmClient, int maxConcurrent, int cachedVariants) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ScriptCache scriptCache = new ScriptCache(meterRegistry, 100, Duration.ofHours(1), cachedVariants, false, 0.5);
+        return new ScriptGenerationServiceImpl(repository, llmClient, scriptCache, transactionTemplate, meterRegistry,
+                maxConcurrent, 500, Duration.ofSeconds(30));
+    }
+
+    // 컨트롤러를 거쳐 SSE 응답 본문을 읽음
+    private String stream() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PracticeScriptController(service))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        // @AuthenticationPrincipal은 보안 필터가 채운 SecurityContext에서 읽으므로 직접 설정
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new JwtUserPrincipal(USER_ID, "user7@speakit.com", "ROLE_USER"), null, List.of()));
+        MvcResult started = mockMvc.perform(post("/practice/sessions/{sessionId}/script", SESSION_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5000);
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static PracticeSession session(String script) {
+        PracticeSession session = new PracticeSession();
+        session.setId(SESSION_ID);
+        session.setUser(User.builder().id(USER_ID).build());
+        session.setExamType(ExamType.OPIc);
+        session.setTopics(List.of("travel"));
+        session.setGeneratedScript(script);
+        return session;
+    }
+}
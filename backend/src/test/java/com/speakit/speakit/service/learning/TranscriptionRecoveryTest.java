@@ -0,0 +1,122 @@
+package com.speakit.speakit.service.learning;
+
+import com.speakit.speakit.dto.learning.PendingTranscriptionDTO;
+import com.speakit.speakit.repository.learning.DialogueRepository;
+import com.speakit.speakit.service.ai.FakeLlmClient;
+import com.speakit.speakit.service.ai.FakeSttEngine;
+import com.speakit.speakit.service.ai.SttEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 음성 인식 작업 복구: 재시작으로 대기열의 작업을 잃은 PENDING 기록을 새 작업 스레드 풀에 다시 등록하고,
+// 음성 파일이 없는 기록은 FAILED로 기록하는지 검증
+class TranscriptionRecoveryTest {
+
+    @TempDir
+    Path audioDir;
+
+    private final DialogueRepository dialogueRepository = mock(DialogueRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AudioStorage audioStorage;
+    private FeedbackBatcher feedbackBatcher;
+    private TranscriptionWorker worker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        audioStorage = new AudioStorage(audioDir.toString(), DataSize.ofKilobytes(200));
+        feedbackBatcher = new FeedbackBatcher(new FakeLlmClient(Duration.ZERO, Duration.ZERO), meterRegistry,
+                Duration.ofMillis(10), 16, 1, 100, 150);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.destroy();
+        feedbackBatcher.destroy();
+    }
+
+
+    @Test
+    void resubmitsPendingDialoguesLostOnRestart() throws Exception {
+        String key = audioStorage.store(new ByteArrayInputStream(new byte[300]), "audio/webm").key();
+
+        // 재시작 전: 작업 스레드가 막혀 있는 동안 대기열에 들어간 작업은 종료 시 버려짐
+        CountDownLatch never = new CountDownLatch(1);
+        TranscriptionWorker beforeRestart = newWorker((audio, contentType) -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("interrupted");
+        });
+        beforeRestart.submit(1L, key, "audio/webm");
+        beforeRestart.submit(2L, key, "audio/webm");
+        beforeRestart.destroy();
+        verify(dialogueRepository, never()).completeTranscription(eq(2L), any());
+
+        // 재시작 후: 2번은 다시 등록하고, 음성 파일이 없어진 3번은 실패로 기록
+        worker = newWorker(new FakeSttEngine(Duration.ZERO));
+        when(dialogueRepository.findPendingTranscriptions(any(), eq(0L), any())).thenReturn(List.of(
+                new PendingTranscriptionDTO(2L, key, "audio/webm"),
+                new PendingTranscriptionDTO(3L, "ab/cd/missing.webm", "audio/webm")));
+        TranscriptionRecovery recovery = new TranscriptionRecovery(dialogueRepository, audioStorage, worker,
+                Duration.ofMinutes(5), Duration.ofMinutes(10), 100);
+
+        assertThat(recovery.recover()).isEqualTo(1);
+
+        verify(dialogueRepository, timeout(5000)).completeTranscription(2L, "I practiced speaking for 300 bytes.");
+        verify(dialogueRepository).failTranscription(3L);
+        verify(dialogueRepository, never()).failTranscription(2L);
+    }
+
+
+    @Test
+    void doesNotResubmitDialogueThatIsStillQueued() throws Exception {
+        String key = audioStorage.store(new ByteArrayInputStream(new byte[300]), "audio/webm").key();
+        CountDownLatch release = new CountDownLatch(1);
+        worker = newWorker((audio, contentType) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        });
+        worker.submit(1L, key, "audio/webm");
+        worker.submit(2L, key, "audio/webm");
+        when(dialogueRepository.findPendingTranscriptions(any(), eq(0L), any())).thenReturn(List.of(
+                new PendingTranscriptionDTO(2L, key, "audio/webm")));
+        TranscriptionRecovery recovery = new TranscriptionRecovery(dialogueRepository, audioStorage, worker,
+                Duration.ofMinutes(5), Duration.ofMinutes(10), 100);
+
+        // 대기열(1개)이 이미 2번으로 차 있어도, 이미 등록된 기록이므로 거절되지 않음
+        assertThat(recovery.recover()).isEqualTo(1);
+        release.countDown();
+
+        verify(dialogueRepository, timeout(5000)).completeTranscription(2L, "done");
+        verify(dialogueRepository, times(1)).completeTranscription(2L, "done");
+    }
+
+
+    private TranscriptionWorker newWorker(SttEngine sttEngine) {
+        return new TranscriptionWorker(sttEngine, dialogueRepository, audioStorage, transactionTemplate,
+                new TranscriptionNotifier(), feedbackBatcher, meterRegistry, 1, 1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.speakit.speakit.service.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색 색인: 한국어 형태소/영어 어간 일치, 관련도순 정렬, 대상 필터, 페이지, 교체와 세대별 삭제를 검증
+class SearchIndexTest {
+
+    private final SearchIndex index = newIndex();
+
+    @AfterEach
+    void tearDown() throws IOException, InterruptedException {
+        index.destroy();
+    }
+
+
+    @Test
+    void matchesKoreanMorphemesAndEnglishStems() {
+        index.upsert(SearchTarget.POST, 1, null, "오늘 영어 회화를 연습했어요", 1);
+        index.upsert(SearchTarget.POST, 2, null, "I am practicing my speaking every day", 1);
+        index.upsert(SearchTarget.POST, 3, null, "맛있는 점심", 1);
+        index.refresh();
+
+        assertThat(index.search("회화", null, 0, 10).hits()).extracting(SearchIndex.Hit::id).containsExactly(1L);
+        assertThat(index.search("practice", null, 0, 10).hits()).extracting(SearchIndex.Hit::id).containsExactly(2L);
+        assertThat(index.search("영어 회화 speaking", null, 0, 10).hits()).extracting(SearchIndex.Hit::id)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+
+    @Test
+    void ranksByRelevanceAndPagesWithinTarget() {
+        index.upsert(SearchTarget.POST, 1, null, "토익 스피킹 준비", 1);
+        index.upsert(SearchTarget.COMMENT, 2, 1L, "토익 스피킹 토익 스피킹 공부법", 1);
+        index.upsert(SearchTarget.QUESTION, 3, null, "Describe the picture. 토익", 1);
+        index.upsert(SearchTarget.COMMENT, 4, 1L, "스피킹", 1);
+        index.refresh();
+
+        SearchIndex.SearchResult all = index.search("토익 스피킹", null, 0, 2);
+        assertThat(all.totalHits()).isEqualTo(4);
+        assertThat(all.hits()).extracting(SearchIndex.Hit::id).startsWith(2L);
+
+        SearchIndex.SearchResult comments = index.search("토익 스피킹", SearchTarget.COMMENT, 1, 1);
+        assertThat(comments.totalHits()).isEqualTo(2);
+        assertThat(comments.hits()).extracting(SearchIndex.Hit::id).containsExactly(4L);
+        assertThat(comments.hits().get(0).parentId()).isEqualTo(1L);
+        assertThat(comments.hits().get(0).content()).isEqualTo("스피킹");
+    }
+
+
+    @Test
+    void replacesDocumentsAndDropsOlderGenerations() {
+        index.upsert(SearchTarget.POST, 1, null, "first draft", 1);
+        index.upsert(SearchTarget.POST, 2, null, "draft to be removed", 1);
+        index.upsert(SearchTarget.POST, 1, null, "final version", 2);
+        index.deleteOlderThan(2);
+        index.refresh();
+
+        assertThat(index.search("draft", null, 0, 10).hits()).isEmpty();
+        assertThat(index.search("final", null, 0, 10).hits()).extracting(SearchIndex.Hit::id).containsExactly(1L);
+        assertThat(index.maxId(SearchTarget.POST)).isEqualTo(1L);
+        assertThat(index.maxId(SearchTarget.COMMENT)).isZero();
+    }
+
+
+    private static SearchIndex newIndex() {
+        try {
+            return new SearchIndex(new SimpleMeterRegistry(), "", Duration.ofMinutes(1), Duration.ofMinutes(1));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
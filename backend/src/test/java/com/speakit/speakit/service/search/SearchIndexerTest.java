@@ -0,0 +1,128 @@
+package com.speakit.speakit.service.search;
+
+import com.speakit.speakit.model.community.Comment;
+import com.speakit.speakit.model.community.Post;
+import com.speakit.speakit.model.learning.TOEICQuestion;
+import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.repository.community.CommentRepository;
+import com.speakit.speakit.repository.community.PostRepository;
+import com.speakit.speakit.repository.learning.TOEICQuestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색 색인 작업: DB에서 배치로 읽어 재구성하고, 삭제된 행은 지우며, 새 행만 따라잡는지 검증
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+class SearchIndexerTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TOEICQuestionRepository toeicQuestionRepository;
+
+    private SearchIndex index;
+    private SearchIndexer indexer;
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new SearchIndex(new SimpleMeterRegistry(), "", Duration.ofMinutes(1), Duration.ofMinutes(1));
+        // 배치 크기를 작게 하여 여러 배치에 걸친 키셋 읽기를 확인
+        indexer = new SearchIndexer(index, postRepository, commentRepository, toeicQuestionRepository,
+                2, Duration.ofMinutes(1), 2, Duration.ZERO);
+
+        author = User.builder().username("alice").email("alice@speakit.com").password("pw").role("ROLE_USER").build();
+        entityManager.persist(author);
+        post = persistPost("영어 발표 준비");
+        for (int i = 0; i < 4; i++) {
+            persistPost("post number " + i);
+        }
+        entityManager.persist(Comment.builder().post(post).author(author).content("발표 화이팅")
+                .createdAt(LocalDateTime.now()).build());
+        entityManager.persist(TOEICQuestion.builder().questionText("Describe your favorite presentation").build());
+        entityManager.flush();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException, InterruptedException {
+        indexer.destroy();
+        index.destroy();
+    }
+
+
+    @Test
+    void rebuildsAllTargetsAndDropsDeletedRows() {
+        indexer.rebuild();
+
+        assertThat(index.search("발표", null, 0, 10).hits()).extracting(SearchIndex.Hit::target)
+                .containsExactlyInAnyOrder(SearchTarget.POST, SearchTarget.COMMENT);
+        assertThat(index.search("presentations", SearchTarget.QUESTION, 0, 10).totalHits()).isEqualTo(1);
+        assertThat(index.search("post", SearchTarget.POST, 0, 10).totalHits()).isEqualTo(4);
+
+        entityManager.createQuery("delete from Post p where p.content = 'post number 0'").executeUpdate();
+        indexer.rebuild();
+        assertThat(index.search("post", SearchTarget.POST, 0, 10).totalHits()).isEqualTo(3);
+    }
+
+
+    @Test
+    void syncIndexesOnlyRowsAddedSinceLastRead() {
+        indexer.rebuild();
+        Post added = persistPost("새로운 스터디 모집");
+        entityManager.flush();
+
+        indexer.sync();
+
+        assertThat(index.search("스터디", null, 0, 10).hits()).extracting(SearchIndex.Hit::id).containsExactly(added.getId());
+        assertThat(index.maxId(SearchTarget.POST)).isEqualTo(added.getId());
+    }
+
+
+    @Test
+    void syncRereadsOverlapToCatchRowsCommittedOutOfOrder() {
+        indexer.rebuild();
+        Post earlier = persistPost("늦게 커밋된 스터디 공지");
+        Post later = persistPost("먼저 커밋된 글");
+        entityManager.flush();
+        indexer.sync();
+
+        // 더 큰 ID가 먼저 읽힌 뒤에 커밋되어 색인에 없는 행
+        index.delete(SearchTarget.POST, earlier.getId());
+        index.refresh();
+        assertThat(index.search("스터디", null, 0, 10).totalHits()).isZero();
+
+        indexer.sync();
+
+        assertThat(index.search("스터디", null, 0, 10).hits()).extracting(SearchIndex.Hit::id).containsExactly(earlier.getId());
+        assertThat(index.maxId(SearchTarget.POST)).isEqualTo(later.getId());
+    }
+
+
+    private Post persistPost(String content) {
+        Post saved = Post.builder().author(author).content(content).createdAt(LocalDateTime.now()).build();
+        entityManager.persist(saved);
+        return saved;
+    }
+}
@@ -0,0 +1,76 @@
+package com.speakit.speakit.service.user;
+
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.repository.user.UserRepository;
+import com.speakit.speakit.security.password.PasswordEncoderFactory;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 로그인 시 재해시: 저장된 BCrypt 비용이 현재 설정보다 높거나 낮으면 updatePassword로 새 해시를 저장하고,
+// 같으면 그대로 두는지 검증 (DaoAuthenticationProvider 경로)
+class CustomUserDetailsServiceTest {
+
+    private static final String EMAIL = "user7@speakit.com";
+    private static final String PASSWORD = "password123!";
+
+    private final UserCacheService userCacheService = mock(UserCacheService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CustomUserDetailsService userDetailsService =
+            new CustomUserDetailsService(userCacheService, userRepository);
+
+
+    @Test
+    void rehashesOnSignInWhenTheCostWasLowered() {
+        String stored = encoder(5).encode(PASSWORD);
+        givenStoredPassword(stored);
+
+        signIn(encoder(4));
+
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertThat(saved.getValue().getPassword()).startsWith("{bcrypt}$2a$04$");
+        assertThat(encoder(4).matches(PASSWORD, saved.getValue().getPassword())).isTrue();
+        verify(userCacheService).evict(EMAIL);
+    }
+
+
+    @Test
+    void keepsTheHashWhenTheCostIsUnchanged() {
+        givenStoredPassword(encoder(4).encode(PASSWORD));
+
+        signIn(encoder(4));
+
+        verify(userRepository, never()).save(any());
+        verify(userCacheService, never()).evict(any());
+    }
+
+
+    private void givenStoredPassword(String encoded) {
+        when(userCacheService.getCredentials(EMAIL)).thenReturn(UserCacheDTO.builder()
+                .id(7L).username("user7").email(EMAIL).password(encoded).role("ROLE_USER")
+                .build());
+        when(userRepository.findByEmail(EMAIL)).thenReturn(User.builder()
+                .id(7L).username("user7").email(EMAIL).password(encoded).role("ROLE_USER")
+                .build());
+    }
+
+    private void signIn(PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(userDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        assertThat(provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD))
+                .isAuthenticated()).isTrue();
+    }
+
+    private static PasswordEncoder encoder(int bcryptStrength) {
+        return PasswordEncoderFactory.create(PasswordEncoderFactory.BCRYPT, bcryptStrength, 1024, 1, 1000);
+    }
+}
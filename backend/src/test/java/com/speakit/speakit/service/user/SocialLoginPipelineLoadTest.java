@@ -0,0 +1,216 @@
+package com.speakit.speakit.service.user;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.speakit.speakit.exception.ServiceOverloadedException;
+import com.speakit.speakit.security.oauth2.OAuthHttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 스텁 공급자(느리고 실패하는 공급자, 정상 공급자)를 대상으로 SocialLoginPipeline의 공급자 간 격리를 검증하는 부하 테스트 하네스
+// @Tag("load") 테스트는 기본 test 태스크에서 제외되며 ./gradlew loadTest 로 실행
+@Tag("load")
+class SocialLoginPipelineLoadTest {
+
+    private static final int MAX_CONCURRENT_CALLS = 20;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private OAuthHttpClient oAuthHttpClient;
+    private SocialLoginPipeline pipeline;
+
+    private final AtomicInteger slowProviderCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(serverExecutor);
+
+        // 장애 공급자: 읽기 제한 시간보다 오래 응답하지 않음
+        server.createContext("/slow/token", exchange -> {
+            slowProviderCalls.incrementAndGet();
+            sleep(2_000);
+            respond(exchange, 503, "{\"error\":\"unavailable\"}");
+        });
+
+        // 정상 공급자: 약간의 네트워크 지연 후 정상 응답
+        server.createContext("/fast/token", exchange -> {
+            sleep(20);
+            respond(exchange, 200, "{\"access_token\":\"social-access-token\"}");
+        });
+        server.createContext("/fast/userinfo", exchange -> {
+            sleep(20);
+            respond(exchange, 200, "{\"id\":\"42\",\"email\":\"user@speakit.com\"}");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        oAuthHttpClient = new OAuthHttpClient(meterRegistry, MAX_CONCURRENT_CALLS,
+                Duration.ofMillis(500), Duration.ofMillis(300), 2, Duration.ofMillis(10));
+        pipeline = new SocialLoginPipeline(meterRegistry, MAX_CONCURRENT_CALLS,
+                50, Duration.ofSeconds(1), 10, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pipeline.destroy();
+        oAuthHttpClient.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+
+    // 공급자 장애(타임아웃)가 누적되면 서킷이 열리고, 이후 요청은 공급자를 호출하지 않고 즉시 503으로 실패
+    @Test
+    void opensCircuitAfterProviderFailures() {
+        for (int i = 0; i < 10; i++) {
+            CompletableFuture<JsonNode> login = pipeline.execute("naver", this::slowLogin);
+            assertThatThrownBy(login::join).isInstanceOf(CompletionException.class);
+        }
+        assertThat(pipeline.getCircuitState("naver")).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int callsBefore = slowProviderCalls.get();
+        assertThatThrownBy(() -> pipeline.execute("naver", this::slowLogin).join())
+                .hasCauseInstanceOf(ServiceOverloadedException.class);
+        assertThat(slowProviderCalls.get()).isEqualTo(callsBefore);
+
+        // 다른 공급자의 서킷에는 영향 없음
+        assertThat(pipeline.getCircuitState("kakao")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+
+    // 장애 공급자로 로그인이 몰리는 동안 정상 공급자의 로그인이 모두 성공하고 지연이 유지되는지 측정
+    // 공급자별로 동시 사용자 수만큼의 클라이언트가 로그인을 연속으로 요청하는 closed-loop 방식
+    @Test
+    @Tag("load")
+    void isolatesHealthyProviderWhileAnotherProviderIsDown() throws InterruptedException {
+        int clientsPerProvider = MAX_CONCURRENT_CALLS / 2;
+        int loginsPerClient = 50;
+
+        AtomicInteger slowRejected = new AtomicInteger();
+        AtomicInteger slowFailed = new AtomicInteger();
+        AtomicInteger fastFailed = new AtomicInteger();
+        List<Long> fastLatencies = Collections.synchronizedList(new ArrayList<>());
+
+        // 클래스 로딩, 커넥션 생성 등 초기 비용이 측정과 서킷 판단에 섞이지 않도록 정상 공급자를 먼저 호출
+        for (int i = 0; i < 5; i++) {
+            fastLogin();
+        }
+
+        long started = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clientsPerProvider; c++) {
+                clients.submit(() -> {
+                    for (int i = 0; i < loginsPerClient; i++) {
+                        try {
+                            pipeline.execute("naver", this::slowLogin).join();
+                        } catch (CompletionException e) {
+                            if (e.getCause() instanceof ServiceOverloadedException) {
+                                slowRejected.incrementAndGet();
+                            } else {
+                                slowFailed.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+                clients.submit(() -> {
+                    for (int i = 0; i < loginsPerClient; i++) {
+                        long submitted = System.nanoTime();
+                        try {
+                            pipeline.execute("kakao", this::fastLogin).join();
+                            fastLatencies.add(System.nanoTime() - submitted);
+                        } catch (CompletionException e) {
+                            fastFailed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        List<Long> sorted = new ArrayList<>(fastLatencies);
+        Collections.sort(sorted);
+        System.out.printf("slow provider: calls=%d failed=%d rejected(503)=%d circuit=%s%n",
+                slowProviderCalls.get(), slowFailed.get(), slowRejected.get(), pipeline.getCircuitState("naver"));
+        System.out.printf("fast provider: ok=%d failed=%d p50=%dms p99=%dms, elapsed=%dms%n",
+                sorted.size(), fastFailed.get(), percentileMs(sorted, 0.50), percentileMs(sorted, 0.99), elapsedMs);
+
+        int totalLogins = clientsPerProvider * loginsPerClient;
+
+        // 장애 공급자는 서킷이 열린 뒤 공급자를 호출하지 않고 즉시 거절됨
+        assertThat(pipeline.getCircuitState("naver")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(slowRejected.get()).isGreaterThan(totalLogins / 2);
+        assertThat(slowProviderCalls.get()).isLessThan(totalLogins / 10);
+
+        // 정상 공급자는 장애 공급자의 영향 없이 모든 로그인이 성공
+        assertThat(pipeline.getCircuitState("kakao")).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(fastFailed.get()).isZero();
+        assertThat(sorted).hasSize(totalLogins);
+    }
+
+
+    // 토큰 교환 단계에서 타임아웃이 발생하는 로그인
+    private JsonNode slowLogin() {
+        oAuthHttpClient.exchangeCodeForAccessToken("naver", baseUrl + "/slow/token",
+                "client-id", "client-secret", "http://localhost/callback", "code");
+        return null;
+    }
+
+    // 토큰 교환 → 사용자 정보 조회까지 정상 처리되는 로그인
+    private JsonNode fastLogin() {
+        String accessToken = oAuthHttpClient.exchangeCodeForAccessToken("kakao", baseUrl + "/fast/token",
+                "client-id", "client-secret", "http://localhost/callback", "code");
+        return oAuthHttpClient.retrieveUserInfo("kakao", baseUrl + "/fast/userinfo", accessToken);
+    }
+
+    private static long percentileMs(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos.get(Math.max(0, index)));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
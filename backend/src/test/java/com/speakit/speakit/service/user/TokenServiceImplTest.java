@@ -0,0 +1,92 @@
+package com.speakit.speakit.service.user;
+
+import com.speakit.speakit.dto.user.TokenPairDTO;
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.exception.InvalidTokenException;
+import com.speakit.speakit.security.jwt.InMemoryRefreshTokenStore;
+import com.speakit.speakit.security.jwt.JwtTokenProvider;
+import com.speakit.speakit.security.jwt.TokenRevocationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenServiceImplTest {
+
+    private static final String SECRET = "speakit-test-secret-key-which-is-long-enough-for-hs512-signing";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private final UserCacheService userCacheService = mock(UserCacheService.class);
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, Duration.ofHours(1), Duration.ofDays(7), 100);
+        tokenService = new TokenServiceImpl(jwtTokenProvider, new InMemoryRefreshTokenStore(),
+                new TokenRevocationList(true, Duration.ofHours(1)), userCacheService);
+        when(userCacheService.getByEmail("user@speakit.com"))
+                .thenReturn(UserCacheDTO.builder().id(1L).email("user@speakit.com").role("ROLE_USER").build());
+    }
+
+    @Test
+    void refreshRotatesTokenAndKeepsUserClaims() {
+        TokenPairDTO issued = tokenService.issueTokens(1L, "user@speakit.com", "ROLE_USER");
+
+        TokenPairDTO rotated = tokenService.refreshTokens(issued.getRefreshToken());
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+        assertThat(jwtTokenProvider.resolveClaims(rotated.getAccessToken())).hasValueSatisfying(claims -> {
+            assertThat(claims.getUsername()).isEqualTo("user@speakit.com");
+            assertThat(claims.getUserId()).isEqualTo(1L);
+            assertThat(claims.getRole()).isEqualTo("ROLE_USER");
+            assertThat(claims.isRefreshToken()).isFalse();
+        });
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesSession() {
+        TokenPairDTO issued = tokenService.issueTokens(1L, "user@speakit.com", "ROLE_USER");
+        TokenPairDTO rotated = tokenService.refreshTokens(issued.getRefreshToken());
+
+        assertThatThrownBy(() -> tokenService.refreshTokens(issued.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+
+        // 재사용 감지 후에는 정상적으로 교체된 최신 토큰도 더 이상 사용할 수 없음
+        assertThatThrownBy(() -> tokenService.refreshTokens(rotated.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void logoutRevokesOnlyThatSession() {
+        TokenPairDTO laptop = tokenService.issueTokens(1L, "user@speakit.com", "ROLE_USER");
+        TokenPairDTO phone = tokenService.issueTokens(1L, "user@speakit.com", "ROLE_USER");
+
+        tokenService.revokeSession(laptop.getRefreshToken());
+
+        assertThatThrownBy(() -> tokenService.refreshTokens(laptop.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThat(tokenService.refreshTokens(phone.getRefreshToken()).getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    void accessTokenCannotBeUsedAsRefreshToken() {
+        TokenPairDTO issued = tokenService.issueTokens(1L, "user@speakit.com", "ROLE_USER");
+
+        assertThatThrownBy(() -> tokenService.refreshTokens(issued.getAccessToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void refreshIsRejectedOnceTheUserNoLongerExists() {
+        TokenPairDTO issued = tokenService.issueTokens(1L, "user@speakit.com", "ROLE_USER");
+        when(userCacheService.getByEmail("user@speakit.com")).thenReturn(null);
+
+        assertThatThrownBy(() -> tokenService.refreshTokens(issued.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.speakit.speakit.service.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speakit.speakit.dto.user.UserCacheDTO;
+import com.speakit.speakit.model.user.User;
+import com.speakit.speakit.repository.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 사용자 캐시: 비밀번호 해시를 Redis(L2)에 저장하지 않고, 해시가 필요한 조회는 L1 또는 DB에서 읽는지 검증
+class UserCacheServiceTest {
+
+    private static final String EMAIL = "user7@speakit.com";
+    private static final String HASH = "{bcrypt}$2a$10$hash";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(User.builder()
+                .id(7L).username("user7").email(EMAIL).password(HASH).role("ROLE_USER")
+                .createdAt(LocalDateTime.of(2025, 3, 25, 10, 0))
+                .build());
+    }
+
+
+    @Test
+    void doesNotWritePasswordHashToRedis() throws Exception {
+        UserCacheService userCacheService = newService();
+
+        UserCacheDTO user = userCacheService.getByEmail(EMAIL);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("user:cache:" + EMAIL), json.capture(), any(Duration.class));
+        assertThat(json.getValue()).doesNotContain(HASH).doesNotContain("password");
+        assertThat(objectMapper.readValue(json.getValue(), UserCacheDTO.class).getEmail()).isEqualTo(EMAIL);
+        // DB에서 읽은 L1 항목에는 해시가 남아 있어 로그인 시 DB를 다시 읽지 않음
+        assertThat(user.getPassword()).isEqualTo(HASH);
+        assertThat(userCacheService.getCredentials(EMAIL).getPassword()).isEqualTo(HASH);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+
+    @Test
+    void loadsPasswordHashFromDatabaseWhenSnapshotCameFromRedis() throws Exception {
+        UserCacheDTO withoutHash = UserCacheDTO.builder()
+                .id(7L).username("user7").email(EMAIL).role("ROLE_USER")
+                .createdAt(LocalDateTime.of(2025, 3, 25, 10, 0))
+                .build();
+        when(valueOperations.get("user:cache:" + EMAIL)).thenReturn(objectMapper.writeValueAsString(withoutHash));
+        UserCacheService userCacheService = newService();
+
+        assertThat(userCacheService.getByEmail(EMAIL).getPassword()).isNull();
+        verifyNoInteractions(userRepository);
+
+        assertThat(userCacheService.getCredentials(EMAIL).getPassword()).isEqualTo(HASH);
+        assertThat(userCacheService.getCredentials(EMAIL).getPassword()).isEqualTo(HASH);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+
+    private UserCacheService newService() {
+        return new UserCacheService(userRepository, redisTemplate, objectMapper, new SimpleMeterRegistry(),
+                100, Duration.ofSeconds(30), true, Duration.ofMinutes(10));
+    }
+}